@@ -0,0 +1,110 @@
+package hockey.mask.json.simd;
+
+import hockey.mask.json.parser.JsonScanner;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The JsonVectorScanner class finds the characters, which the parsers look for, by comparing
+ * 32 or 64 bytes at once with the incubating vector API.
+ *
+ * <p>Only byte arrays are scanned with vectors. Character arrays and the remainder of a range,
+ * which does not fill a whole vector, are scanned by the scalar scanner. The scanner cannot be
+ * created if the platform does not support vectors of at least 32 bytes, so the parsers fall
+ * back to the scalar scanner instead of emulating the vectors.</p>
+ *
+ * @author Planters
+ *
+ */
+public class JsonVectorScanner extends JsonScanner {
+
+	private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+	/**
+	 * Create a vector scanner.
+	 *
+	 * @throws UnsupportedOperationException if the platform does not support vectors of at least
+	 * 32 bytes
+	 */
+	public JsonVectorScanner() {
+		int length = JsonVectorScanner.SPECIES.length();
+		if (length < 32 || length > JsonScanner.BLOCK_SIZE) {
+			throw new UnsupportedOperationException(String.format("Vectors of %s bytes are not supported.",
+					length));
+		}
+	}
+
+	@Override
+	public int skipWhitespace(byte[] data, int from, int to) {
+		int i = from;
+		for (int bound = to - JsonVectorScanner.SPECIES.length(); i <= bound; i += JsonVectorScanner.SPECIES.length()) {
+			ByteVector vector = ByteVector.fromArray(JsonVectorScanner.SPECIES, data, i);
+			int first = JsonVectorScanner.whitespace(vector).not().firstTrue();
+			if (first < JsonVectorScanner.SPECIES.length()) {
+				return i + first;
+			}
+		}
+		return super.skipWhitespace(data, i, to);
+	}
+
+	@Override
+	public int indexOf(byte[] data, int from, int to, byte first, byte second) {
+		int i = from;
+		for (int bound = to - JsonVectorScanner.SPECIES.length(); i <= bound; i += JsonVectorScanner.SPECIES.length()) {
+			ByteVector vector = ByteVector.fromArray(JsonVectorScanner.SPECIES, data, i);
+			int match = vector.eq(first).or(vector.eq(second)).firstTrue();
+			if (match < JsonVectorScanner.SPECIES.length()) {
+				return i + match;
+			}
+		}
+		return super.indexOf(data, i, to, first, second);
+	}
+
+	@Override
+	public int skipAscii(byte[] data, int from, int to) {
+		int i = from;
+		for (int bound = to - JsonVectorScanner.SPECIES.length(); i <= bound; i += JsonVectorScanner.SPECIES.length()) {
+			ByteVector vector = ByteVector.fromArray(JsonVectorScanner.SPECIES, data, i);
+			int nonAscii = vector.compare(VectorOperators.LT, (byte) 0).firstTrue();
+			if (nonAscii < JsonVectorScanner.SPECIES.length()) {
+				return i + nonAscii;
+			}
+		}
+		return super.skipAscii(data, i, to);
+	}
+
+	@Override
+	public void classify(byte[] data, int offset, long[] masks) {
+		long quotes = 0;
+		long backslashes = 0;
+		long structurals = 0;
+		long whitespace = 0;
+		for (int shift = 0; shift < JsonScanner.BLOCK_SIZE; shift += JsonVectorScanner.SPECIES.length()) {
+			ByteVector vector = ByteVector.fromArray(JsonVectorScanner.SPECIES, data, offset + shift);
+			quotes |= vector.eq((byte) '"').toLong() << shift;
+			backslashes |= vector.eq((byte) '\\').toLong() << shift;
+			structurals |= vector.eq((byte) '{').or(vector.eq((byte) '}')).or(vector.eq((byte) '['))
+					.or(vector.eq((byte) ']')).or(vector.eq((byte) ':')).or(vector.eq((byte) ','))
+					.toLong() << shift;
+			whitespace |= JsonVectorScanner.whitespace(vector).toLong() << shift;
+		}
+		masks[JsonScanner.QUOTES] = quotes;
+		masks[JsonScanner.BACKSLASHES] = backslashes;
+		masks[JsonScanner.STRUCTURALS] = structurals;
+		masks[JsonScanner.WHITESPACE] = whitespace;
+	}
+
+	/**
+	 * Get the lanes of the vector, which hold JSON whitespace.
+	 *
+	 * @param vector - the bytes to check
+	 * @return the mask of the spaces, tabs, line feeds and carriage returns
+	 */
+	private static VectorMask<Byte> whitespace(ByteVector vector) {
+		return vector.eq((byte) ' ').or(vector.eq((byte) '\t')).or(vector.eq((byte) '\n'))
+				.or(vector.eq((byte) '\r'));
+	}
+
+}
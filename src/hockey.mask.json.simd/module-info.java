@@ -0,0 +1,17 @@
+/**
+ * 
+ * Provides a scanner for the module hockey.mask.json, which classifies many bytes at once using
+ * the incubating vector API. The module is optional and needs to be resolved together with the
+ * module jdk.incubator.vector, for example by adding it to the module path. Without it, the
+ * parsers fall back to the scalar scanner.
+ * 
+ * @author Planters
+ */
+module hockey.mask.json.simd {
+	
+	requires hockey.mask.json;
+	requires jdk.incubator.vector;
+	
+	provides hockey.mask.json.parser.JsonScanner with hockey.mask.json.simd.JsonVectorScanner;
+	
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+package hockey.mask.json;
+
+import java.util.Objects;
+
+/**
+ * The UncheckedJsonStandardException class wraps a JsonStandardException, so it can be thrown
+ * where checked exceptions are not allowed, for example while processing a stream of values.
+ * 
+ * @author Planters
+ * 
+ */
+public class UncheckedJsonStandardException extends RuntimeException {
+	
+	/**
+	 * Default serialisation.
+	 */
+	private static final long serialVersionUID = 1L;
+	
+	/**
+	 * Create a new exception wrapping the specified exception.
+	 * 
+	 * @param message - the detail message
+	 * @param cause - the wrapped exception
+	 * @throws NullPointerException if the cause is null
+	 */
+	public UncheckedJsonStandardException(String message, JsonStandardException cause) {
+		super(message, Objects.requireNonNull(cause, "The wrapped exception may not be null."));
+	}
+	
+	/**
+	 * Create a new exception wrapping the specified exception.
+	 * 
+	 * @param cause - the wrapped exception
+	 * @throws NullPointerException if the cause is null
+	 */
+	public UncheckedJsonStandardException(JsonStandardException cause) {
+		super(Objects.requireNonNull(cause, "The wrapped exception may not be null."));
+	}
+	
+	/**
+	 * Get the wrapped exception.
+	 * 
+	 * @return the wrapped exception
+	 */
+	@Override
+	public JsonStandardException getCause() {
+		return (JsonStandardException) super.getCause();
+	}
+
+}
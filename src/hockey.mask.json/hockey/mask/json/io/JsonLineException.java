@@ -0,0 +1,42 @@
+package hockey.mask.json.io;
+
+import hockey.mask.json.JsonStandardException;
+
+/**
+ * The JsonLineException class will be thrown if a line of JSON Lines data does not hold a 
+ * JSON formatted value. The violation inside of the line is described by the cause.
+ * 
+ * @author Planters
+ * 
+ */
+public class JsonLineException extends JsonStandardException {
+	
+	/**
+	 * Default serialisation.
+	 */
+	private static final long serialVersionUID = 1L;
+	
+	private final long lineNumber;
+	
+	/**
+	 * Create a new exception for the specified line.
+	 * 
+	 * @param lineNumber - the number of the malformed line, starting at one
+	 * @param cause - the violation inside of the line
+	 */
+	public JsonLineException(long lineNumber, JsonStandardException cause) {
+		super(String.format("The line %s does not hold a JSON formatted value: %s", lineNumber, 
+				cause != null ? cause.getMessage() : null), cause);
+		this.lineNumber = lineNumber;
+	}
+	
+	/**
+	 * Get the number of the malformed line.
+	 * 
+	 * @return the line number, starting at one
+	 */
+	public long getLineNumber() {
+		return this.lineNumber;
+	}
+
+}
@@ -0,0 +1,316 @@
+package hockey.mask.json.io;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.UncheckedJsonStandardException;
+import hockey.mask.json.values.JsonValue;
+
+/**
+ * The JsonLinesReader class reads JSON Lines data, also known as newline delimited JSON, which
+ * holds a single JSON value per line.
+ * 
+ * <p>Only a single line is held in memory at once, so the size of the data is not limited by
+ * the heap. Lines consisting of whitespace only are skipped. If a line does not hold exactly
+ * one JSON value, a {@link JsonLineException} reporting the number of the line is thrown.
+ * The values can be read one by one or lazily through an iterator or a stream. Files can
+ * also be parsed in parallel by a {@link #parallelStream(Path, Charset, boolean) parallel stream}.</p>
+ * 
+ * @author Planters
+ * 
+ */
+public class JsonLinesReader implements Closeable, AutoCloseable {
+	
+	private BufferedReader data = null;
+	private long lineNumber = 0; // the number of lines read so far
+	
+	/**
+	 * Create a reader for the JSON Lines data of the specified input stream.
+	 * The default charset will be used for decoding the data.
+	 * 
+	 * @param in - the input stream to read from
+	 * @throws NullPointerException if the specified stream is null
+	 */
+	public JsonLinesReader(InputStream in) {
+		this(in, null);
+	}
+	
+	/**
+	 * Create a reader for the JSON Lines data of the specified input stream using the specified
+	 * charset for decoding the data. <br>
+	 * If the specified encoding is null, the system default will be used.
+	 * 
+	 * @param in - the input stream to read from
+	 * @param encoding - the charset used to decode the data
+	 * @throws NullPointerException if the specified stream is null
+	 */
+	public JsonLinesReader(InputStream in, Charset encoding) {
+		this(new InputStreamReader(Objects.requireNonNull(in, "The input stream of a JSON reader may not be null."),
+				encoding != null ? encoding : Charset.defaultCharset()));
+	}
+	
+	/**
+	 * Create a reader for the JSON Lines data of the specified reader.
+	 * 
+	 * @param in - the reader to read from
+	 * @throws NullPointerException if the specified reader is null
+	 */
+	public JsonLinesReader(Reader in) {
+		if (in != null) {
+			this.data = in instanceof BufferedReader ? (BufferedReader) in : new BufferedReader(in);
+		} else {
+			throw new NullPointerException("The reader of a JSON reader may not be null.");
+		}
+	}
+	
+	/**
+	 * Create a reader for the JSON Lines data of the specified channel using the specified
+	 * charset for decoding the data. <br>
+	 * If the specified encoding is null, the system default will be used.
+	 * 
+	 * @param in - the channel to read from
+	 * @param encoding - the charset used to decode the data
+	 * @throws NullPointerException if the specified channel is null
+	 */
+	public JsonLinesReader(ReadableByteChannel in, Charset encoding) {
+		// decode like an InputStreamReader, which replaces malformed input instead of failing
+		this(Channels.newReader(Objects.requireNonNull(in, "The channel of a JSON reader may not be null."),
+				(encoding != null ? encoding : Charset.defaultCharset()).newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE), -1));
+	}
+	
+	/**
+	 * Create a reader for the JSON Lines data of the file at the specified path.
+	 * The default charset will be used for decoding the data.
+	 * 
+	 * @param path - the path of the file to read from
+	 * @throws FileNotFoundException if the specified file could not be found
+	 * @throws IOException if an I/O error occurs
+	 * @throws NullPointerException if the specified path is null
+	 */
+	public JsonLinesReader(Path path) throws FileNotFoundException, IOException {
+		this(path, null);
+	}
+	
+	/**
+	 * Create a reader for the JSON Lines data of the file at the specified path using the
+	 * specified charset for decoding the data. <br>
+	 * If the specified encoding is null, the system default will be used.
+	 * 
+	 * @param path - the path of the file to read from
+	 * @param encoding - the charset used to decode the data
+	 * @throws FileNotFoundException if the specified file could not be found
+	 * @throws IOException if an I/O error occurs
+	 * @throws NullPointerException if the specified path is null
+	 */
+	public JsonLinesReader(Path path, Charset encoding) throws FileNotFoundException, IOException {
+		this(JsonLinesReader.open(path), encoding);
+	}
+	
+	/**
+	 * Open the file at the specified path for reading.
+	 * 
+	 * @param path - the path of the file to open
+	 * @return a channel of the opened file
+	 * @throws FileNotFoundException if the specified file could not be found
+	 * @throws IOException if an I/O error occurs
+	 * @throws NullPointerException if the specified path is null
+	 */
+	private static FileChannel open(Path path) throws FileNotFoundException, IOException {
+		Objects.requireNonNull(path, "The path of a JSON reader may not be null.");
+		try {
+			return FileChannel.open(path, StandardOpenOption.READ);
+		} catch (NoSuchFileException e) {
+			FileNotFoundException notFound = new FileNotFoundException(String.format("The file %s does not exist.",
+					path));
+			notFound.initCause(e);
+			throw notFound;
+		}
+	}
+	
+	/**
+	 * Read the JSON value of the next line, which is not empty.
+	 * If there is no more data to read, null is returned.
+	 * 
+	 * @return the next JSON value or null if the end of the data has been reached
+	 * @throws JsonLineException if the line does not hold exactly one JSON formatted value
+	 * @throws IOException if an I/O error occurs
+	 */
+	public JsonValue read() throws JsonLineException, IOException {
+		for (String line = this.data.readLine(); line != null; line = this.data.readLine()) {
+			this.lineNumber++;
+			if (!line.isBlank()) {
+				try {
+					return JsonValue.parse(line);
+				} catch (JsonStandardException e) {
+					throw new JsonLineException(this.lineNumber, e);
+				}
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Get the number of lines read so far, which is the number of the line holding the last
+	 * read value.
+	 * 
+	 * @return the number of read lines
+	 */
+	public long getLineNumber() {
+		return this.lineNumber;
+	}
+	
+	/**
+	 * Get an iterator over the remaining values. The values are read lazily while iterating.
+	 * As iterators cannot throw checked exceptions, malformed lines are reported by an
+	 * UncheckedJsonStandardException wrapping the JsonLineException and I/O errors by an
+	 * UncheckedIOException.
+	 * 
+	 * @return an iterator over the remaining values
+	 */
+	public Iterator<JsonValue> iterator() {
+		return new Iterator<JsonValue>() {
+			
+			private JsonValue next = null; // the value read in advance
+			
+			@Override
+			public boolean hasNext() {
+				if (this.next == null) {
+					try {
+						this.next = JsonLinesReader.this.read();
+					} catch (JsonLineException e) {
+						throw new UncheckedJsonStandardException(e.getMessage(), e);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}
+				return this.next != null;
+			}
+			
+			@Override
+			public JsonValue next() {
+				if (this.hasNext()) {
+					JsonValue value = this.next;
+					this.next = null;
+					return value;
+				}
+				throw new NoSuchElementException("There are no more JSON values to read.");
+			}
+		
+		};
+	}
+	
+	/**
+	 * Get a sequential stream of the remaining values. The values are read lazily while
+	 * processing the stream. Closing the stream closes this reader. Malformed lines and I/O
+	 * errors are reported like by the {@link #iterator() iterator}.
+	 * 
+	 * @return a stream of the remaining values
+	 */
+	public Stream<JsonValue> stream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this.iterator(),
+				Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(() -> {
+					try {
+						this.close();
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+	}
+	
+	/**
+	 * Get a parallel stream of the values of the JSON Lines file at the specified path, which
+	 * keeps the values in the order of their lines. <br>
+	 * If the specified encoding is null, the system default will be used.
+	 * 
+	 * @param path - the path of the file to read from
+	 * @param encoding - the charset used to decode the data
+	 * @return a parallel stream of the values of the file
+	 * @throws FileNotFoundException if the specified file could not be found
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllegalArgumentException if the charset does not encode the line feed as single byte
+	 * @throws NullPointerException if the specified path is null
+	 * @see #parallelStream(Path, Charset, boolean)
+	 */
+	public static Stream<JsonValue> parallelStream(Path path, Charset encoding) throws FileNotFoundException,
+			IOException {
+		return JsonLinesReader.parallelStream(path, encoding, true);
+	}
+	
+	/**
+	 * Get a parallel stream of the values of the JSON Lines file at the specified path. <br>
+	 * If the specified encoding is null, the system default will be used.
+	 * 
+	 * <p>The file is memory-mapped and split into chunks at line breaks, which are parsed on
+	 * the fork-join pool running the stream. Unordered streams do not need to buffer values of
+	 * later chunks, which saves memory and time if the order of the lines does not matter. The
+	 * stream needs to be closed to close the file. Malformed lines are reported like by the
+	 * {@link #iterator() iterator}, where the line number is counted from the start of the
+	 * file.</p>
+	 * 
+	 * @param path - the path of the file to read from
+	 * @param encoding - the charset used to decode the data
+	 * @param ordered - true if the values should keep the order of their lines
+	 * @return a parallel stream of the values of the file
+	 * @throws FileNotFoundException if the specified file could not be found
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllegalArgumentException if the charset does not encode the line feed as single byte
+	 * @throws NullPointerException if the specified path is null
+	 */
+	public static Stream<JsonValue> parallelStream(Path path, Charset encoding, boolean ordered)
+			throws FileNotFoundException, IOException {
+		Charset charset = encoding != null ? encoding : Charset.defaultCharset();
+		if (!JsonLinesSpliterator.isSupported(charset)) {
+			throw new IllegalArgumentException(String.format("The charset %s does not encode the line feed "
+					+ "as single byte.", charset));
+		}
+		FileChannel channel = JsonLinesReader.open(path);
+		try {
+			JsonLinesSpliterator spliterator = new JsonLinesSpliterator(channel, charset, ordered, 0, channel.size());
+			return StreamSupport.stream(spliterator, true).onClose(() -> {
+				try {
+					channel.close();
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+	
+	/**
+	 * Close the underlying data source.
+	 * 
+	 * @throws IOException if an I/O error occurs
+	 */
+	@Override
+	public void close() throws IOException {
+		this.data.close();
+	}
+
+}
@@ -0,0 +1,267 @@
+package hockey.mask.json.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.UncheckedJsonStandardException;
+import hockey.mask.json.parser.JsonParseException;
+import hockey.mask.json.parser.JsonParser;
+import hockey.mask.json.parser.JsonStringParser;
+import hockey.mask.json.parser.JsonUtf8Parser;
+import hockey.mask.json.values.JsonValue;
+
+/**
+ * The JsonLinesSpliterator class traverses the values of a range of a JSON Lines file.
+ * 
+ * <p>The range is split in halves at line breaks, so the chunks can be parsed in parallel. The
+ * file is memory-mapped in segments while traversing and each line is only decoded once it is
+ * parsed. As the line breaks are searched in the encoded bytes, the charset needs to encode
+ * the line feed as a single byte.</p>
+ * 
+ * @author Planters
+ * 
+ */
+class JsonLinesSpliterator implements Spliterator<JsonValue> {
+	
+	/**
+	 * The smallest number of bytes of a chunk, which is split further.
+	 */
+	static final long MINIMUM_CHUNK_SIZE = 1L << 16;
+	
+	/**
+	 * The maximum number of bytes mapped at once, which limits the length of a single line.
+	 */
+	private static final long SEGMENT_SIZE = 1L << 30;
+	
+	private static final byte LINE_FEED = '\n';
+	
+	private final FileChannel channel;
+	private final Charset charset;
+	private final boolean ordered;
+	private long position; // the first byte, which has not been traversed yet
+	private final long end; // the end of the range, exclusive
+	private MappedByteBuffer segment = null; // the currently mapped part of the range
+	private long segmentStart = 0; // the position of the segment inside of the file
+	private byte[] line = new byte[256]; // the bytes of the current line
+	
+	/**
+	 * Create a spliterator traversing the specified range of the file.
+	 * 
+	 * @param channel - the channel of the file
+	 * @param charset - the charset used to decode the lines
+	 * @param ordered - true if the values should be reported in the order of their lines
+	 * @param start - the first byte of the range, which needs to start a line
+	 * @param end - the end of the range, exclusive
+	 */
+	JsonLinesSpliterator(FileChannel channel, Charset charset, boolean ordered, long start, long end) {
+		this.channel = channel;
+		this.charset = charset;
+		this.ordered = ordered;
+		this.position = start;
+		this.end = end;
+	}
+	
+	/**
+	 * Checks whether the specified charset encodes the line feed as single byte, so lines can
+	 * be split without decoding.
+	 * 
+	 * @param charset - the charset to check
+	 * @return true if lines in the specified charset can be split in their encoded form
+	 */
+	static boolean isSupported(Charset charset) {
+		byte[] lineFeed = "\n".getBytes(charset);
+		return charset.canEncode() && lineFeed.length == 1 && lineFeed[0] == JsonLinesSpliterator.LINE_FEED;
+	}
+	
+	@Override
+	public boolean tryAdvance(Consumer<? super JsonValue> action) {
+		while (this.position < this.end) {
+			long lineStart = this.position;
+			int lineLength = this.nextLine();
+			JsonParser parser = this.createParser(lineLength);
+			if (parser != null) {
+				try {
+					JsonValue value = JsonValue.parseNext(parser);
+					parser.skipWhitespace();
+					if (parser.hasNext()) { // a line may only hold a single value
+						throw new JsonParseException(parser, parser.getPosition(), "the end of the line");
+					}
+					action.accept(value);
+					return true;
+				} catch (JsonStandardException e) {
+					JsonLineException lineException = new JsonLineException(this.countLines(lineStart) + 1, e);
+					throw new UncheckedJsonStandardException(lineException.getMessage(), lineException);
+				}
+			}
+		}
+		return false;
+	}
+	
+	@Override
+	public Spliterator<JsonValue> trySplit() {
+		if (this.segment != null || this.end - this.position < 2 * JsonLinesSpliterator.MINIMUM_CHUNK_SIZE) {
+			return null; // traversal has already started or the range is too small
+		}
+		long middle = this.position + (this.end - this.position) / 2;
+		long splitPosition = this.findLineStart(middle);
+		if (splitPosition < 0 || splitPosition >= this.end) {
+			return null;
+		}
+		JsonLinesSpliterator prefix = new JsonLinesSpliterator(this.channel, this.charset, this.ordered,
+				this.position, splitPosition);
+		this.position = splitPosition;
+		return prefix;
+	}
+	
+	@Override
+	public long estimateSize() {
+		return this.end - this.position; // the number of remaining bytes
+	}
+	
+	@Override
+	public int characteristics() {
+		return Spliterator.NONNULL | Spliterator.IMMUTABLE | (this.ordered ? Spliterator.ORDERED : 0);
+	}
+	
+	/**
+	 * Copy the next line into the line buffer and move the position behind its line break.
+	 * 
+	 * @return the length of the line without the line break
+	 * @throws UncheckedJsonStandardException if the line is longer than a mapped segment
+	 * @throws UncheckedIOException if an I/O error occurs
+	 */
+	private int nextLine() {
+		if (this.segment == null || this.position >= this.segmentStart + this.segment.limit()) {
+			this.map(this.position);
+		}
+		int offset = (int) (this.position - this.segmentStart);
+		int lineEnd = this.indexOfLineFeed(offset);
+		if (lineEnd < 0 && this.segmentStart + this.segment.limit() < this.end) {
+			// continue with the line at the start of the next segment
+			this.map(this.position);
+			offset = 0;
+			lineEnd = this.indexOfLineFeed(offset);
+			if (lineEnd < 0 && this.segment.limit() == JsonLinesSpliterator.SEGMENT_SIZE) {
+				JsonLineException lineException = new JsonLineException(this.countLines(this.position) + 1,
+						new JsonStandardException(String.format("The line exceeds the maximum length of %s bytes.",
+								JsonLinesSpliterator.SEGMENT_SIZE)));
+				throw new UncheckedJsonStandardException(lineException.getMessage(), lineException);
+			}
+		}
+		int lineLength = (lineEnd >= 0 ? lineEnd : this.segment.limit()) - offset;
+		if (this.line.length < lineLength) {
+			this.line = new byte[Math.max(lineLength, this.line.length * 2)];
+		}
+		this.segment.position(offset);
+		this.segment.get(this.line, 0, lineLength);
+		this.position += lineEnd >= 0 ? lineLength + 1 : lineLength;
+		return lineLength;
+	}
+	
+	/**
+	 * Create a parser for the current line.
+	 * 
+	 * @param lineLength - the length of the current line
+	 * @return a parser positioned at the first non-whitespace character of the line or null if
+	 * the line is blank
+	 */
+	private JsonParser createParser(int lineLength) {
+		try {
+			JsonParser parser = StandardCharsets.UTF_8.equals(this.charset)
+					? new JsonUtf8Parser(this.line, 0, lineLength)
+					: new JsonStringParser(new String(this.line, 0, lineLength, this.charset));
+			parser.skipWhitespace();
+			return parser.hasNext() ? parser : null;
+		} catch (JsonStandardException e) { // the line is empty
+			return null;
+		}
+	}
+	
+	/**
+	 * Map the segment of the range starting at the specified position.
+	 * 
+	 * @param start - the position of the segment inside of the file
+	 * @throws UncheckedIOException if an I/O error occurs
+	 */
+	private void map(long start) {
+		try {
+			this.segment = this.channel.map(FileChannel.MapMode.READ_ONLY, start,
+					Math.min(JsonLinesSpliterator.SEGMENT_SIZE, this.end - start));
+			this.segmentStart = start;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	/**
+	 * Get the index of the next line feed in the current segment.
+	 * 
+	 * @param offset - the index inside of the segment to start the search at
+	 * @return the index of the next line feed or -1 if the segment does not hold another one
+	 */
+	private int indexOfLineFeed(int offset) {
+		for (int i = offset; i < this.segment.limit(); i++) {
+			if (this.segment.get(i) == JsonLinesSpliterator.LINE_FEED) {
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Get the position of the first line starting at or behind the specified position. The
+	 * search is limited to a single segment.
+	 * 
+	 * @param start - the position to start the search at
+	 * @return the position of the line start or -1 if there is none within the range
+	 * @throws UncheckedIOException if an I/O error occurs
+	 */
+	private long findLineStart(long start) {
+		try {
+			MappedByteBuffer searched = this.channel.map(FileChannel.MapMode.READ_ONLY, start - 1,
+					Math.min(JsonLinesSpliterator.SEGMENT_SIZE, this.end - start + 1));
+			for (int i = 0; i < searched.limit(); i++) {
+				if (searched.get(i) == JsonLinesSpliterator.LINE_FEED) {
+					return start + i;
+				}
+			}
+			return -1;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	/**
+	 * Count the lines in front of the specified position. As the lines of all preceding chunks
+	 * need to be counted, this is only done to report the number of a malformed line.
+	 * 
+	 * @param position - the position of the start of a line
+	 * @return the number of lines in front of the position
+	 * @throws UncheckedIOException if an I/O error occurs
+	 */
+	private long countLines(long position) {
+		long lines = 0;
+		try {
+			for (long start = 0; start < position; start += JsonLinesSpliterator.SEGMENT_SIZE) {
+				MappedByteBuffer counted = this.channel.map(FileChannel.MapMode.READ_ONLY, start,
+						Math.min(JsonLinesSpliterator.SEGMENT_SIZE, position - start));
+				for (int i = 0; i < counted.limit(); i++) {
+					if (counted.get(i) == JsonLinesSpliterator.LINE_FEED) {
+						lines++;
+					}
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return lines;
+	}
+
+}
@@ -1,7 +1,7 @@
 package hockey.mask.json.io;
 
+import java.io.Closeable;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URL;
@@ -9,9 +9,13 @@ import java.nio.charset.Charset;
 import java.nio.file.Path;
 
 import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.parser.JsonMappedFileParser;
+import hockey.mask.json.parser.JsonParser;
 import hockey.mask.json.parser.JsonParserInternalException;
 import hockey.mask.json.parser.JsonStaticStreamParser;
 import hockey.mask.json.parser.JsonStringParser;
+import hockey.mask.json.query.JsonMatchHandler;
+import hockey.mask.json.query.JsonQuery;
 import hockey.mask.json.values.JsonArray;
 import hockey.mask.json.values.JsonBoolean;
 import hockey.mask.json.values.JsonNull;
@@ -23,12 +27,16 @@ import hockey.mask.json.values.JsonValue;
 /**
  * The JSON reader class facilitates reading JSON data from different sources.
  * 
+ * <p>Files are mapped into memory and decoded while reading, so they are never held in the 
+ * heap as a whole. Closing the reader releases the file early, which otherwise stays open 
+ * until it has been mapped completely.</p>
+ * 
  * @author Planters
  *
  */
-public class JsonReader {
+public class JsonReader implements Closeable, AutoCloseable {
 
-	JsonStringParser jsonParser = null;
+	JsonParser jsonParser = null;
 	
 	/**
 	 * Create a reader to read JSON data from the specified string.
@@ -106,10 +114,7 @@ public class JsonReader {
 	 */
 	public JsonReader(File file) throws JsonStandardException, IOException, JsonParserInternalException, NullPointerException {
 		if (file != null) {
-			try (JsonStaticStreamParser jsonStreamParser = new JsonStaticStreamParser(
-					new FileInputStream(file));) {
-				this.jsonParser = jsonStreamParser.toStringParser();
-			}
+			this.setFile(file.toPath(), null);
 		} else {
 			throw new NullPointerException("The data of a JSON reader may not be null.");
 		}
@@ -130,17 +135,7 @@ public class JsonReader {
 	 */
 	public JsonReader(File file, Charset encoding) throws JsonStandardException, IOException, JsonParserInternalException, NullPointerException {
 		if (file != null) {
-			if (encoding != null) {
-				try (JsonStaticStreamParser jsonStreamParser = new JsonStaticStreamParser(
-						new FileInputStream(file), encoding);) {
-					this.jsonParser = jsonStreamParser.toStringParser();
-				}
-			} else {
-				try (JsonStaticStreamParser jsonStreamParser = new JsonStaticStreamParser(
-						new FileInputStream(file));) {
-					this.jsonParser = jsonStreamParser.toStringParser();
-				}
-			}
+			this.setFile(file.toPath(), encoding);
 		} else {
 			throw new NullPointerException("The data of a JSON reader may not be null.");
 		}
@@ -159,10 +154,7 @@ public class JsonReader {
 	 */
 	public JsonReader(Path path) throws JsonStandardException, IOException, JsonParserInternalException, NullPointerException {
 		if (path != null) {
-			try (JsonStaticStreamParser jsonStreamParser = new JsonStaticStreamParser(
-					new FileInputStream(path.toFile()));) {
-				this.jsonParser = jsonStreamParser.toStringParser();
-			}
+			this.setFile(path, null);
 		} else {
 			throw new NullPointerException("The data of a JSON reader may not be null.");
 		}
@@ -183,22 +175,31 @@ public class JsonReader {
 	 */
 	public JsonReader(Path path, Charset encoding) throws JsonStandardException, IOException, JsonParserInternalException, NullPointerException {
 		if (path != null) {
-			if (encoding != null) {
-				try (JsonStaticStreamParser jsonStreamParser = new JsonStaticStreamParser(
-						new FileInputStream(path.toFile()), encoding);) {
-					this.jsonParser = jsonStreamParser.toStringParser();
-				}
-			} else {
-				try (JsonStaticStreamParser jsonStreamParser = new JsonStaticStreamParser(
-						new FileInputStream(path.toFile()));) {
-					this.jsonParser = jsonStreamParser.toStringParser();
-				}
-			}
+			this.setFile(path, encoding);
 		} else {
 			throw new NullPointerException("The data of a JSON reader may not be null.");
 		}
 	}
 	
+	/**
+	 * Map the file at the specified path for reading. If the specified encoding is null, 
+	 * the system default will be used.
+	 * 
+	 * @param path - the path to acquire the JSON data from
+	 * @param encoding - the charset used to decode the JSON data
+	 * @throws JsonStandardException if the file is empty
+	 * @throws IOException if an I/O error occurs
+	 * @throws FileNotFoundException if the specified file could not be found
+	 */
+	private void setFile(Path path, Charset encoding) throws JsonStandardException, IOException {
+		JsonMappedFileParser jsonFileParser = new JsonMappedFileParser(path, encoding);
+		if (!jsonFileParser.hasNext()) {
+			jsonFileParser.close();
+			throw new JsonStandardException(String.format("The empty file %s cannot be parsed.", path));
+		}
+		this.jsonParser = jsonFileParser;
+	}
+	
 	/**
 	 * Read the next JSON value from the specified data source.
 	 * If there is no more data to read, null is returned.
@@ -304,4 +305,34 @@ public class JsonReader {
 		}
 	}
 	
+	/**
+	 * Evaluate the specified query on the next JSON value from the specified data source.
+	 * Only the matching values are created and passed to the handler.
+	 * 
+	 * @param query - the query to evaluate
+	 * @param handler - the handler receiving the matches
+	 * @return true if a value has been read or false if the end of the data has been reached
+	 * @throws JsonStandardException - if the data is not JSON formatted
+	 */
+	public boolean readMatches(JsonQuery query, JsonMatchHandler handler) throws JsonStandardException {
+		if (this.jsonParser.hasNext()) {
+			query.evaluateNext(this.jsonParser, handler);
+			return true;
+		} else {
+			return false;
+		}
+	}
+	
+	/**
+	 * Close the underlying data source if it is still open.
+	 * 
+	 * @throws IOException if an I/O error occurs
+	 */
+	@Override
+	public void close() throws IOException {
+		if (this.jsonParser instanceof Closeable) {
+			((Closeable) this.jsonParser).close();
+		}
+	}
+	
 }
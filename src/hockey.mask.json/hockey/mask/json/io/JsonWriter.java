@@ -1,5 +1,6 @@
 package hockey.mask.json.io;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
@@ -62,9 +63,10 @@ public class JsonWriter {
 	 */
 	public void write(JsonValue jsonData) throws FileNotFoundException, IOException, NullPointerException {
 		if (jsonData != null) {
-			try (OutputStreamWriter osw = new OutputStreamWriter(
-					new FileOutputStream(this.getTarget()), this.getEncoding());) {
-				osw.write(jsonData.toJson());
+			// the data is written piece by piece instead of building its entire JSON representation
+			try (BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(
+					new FileOutputStream(this.getTarget()), this.getEncoding()));) {
+				jsonData.appendJson(bw);
 			}
 		} else {
 			throw new NullPointerException(String.format("Null cannot be written to the %s", this.getTarget()));
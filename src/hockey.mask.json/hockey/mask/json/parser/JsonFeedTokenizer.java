@@ -0,0 +1,698 @@
+package hockey.mask.json.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+import hockey.mask.json.JsonStandardException;
+
+/**
+ * The JsonFeedTokenizer class reads JSON values token by token from data, which is fed in
+ * arbitrary chunks of bytes, without ever blocking.
+ * 
+ * <p>Instead of waiting for more data, {@link #nextToken()} returns
+ * {@link JsonToken#NOT_AVAILABLE} if the received data does not contain the complete next token.
+ * The state of partially received names, strings, numbers, literals, escape sequences and
+ * multi-byte characters is retained, so reading continues seamlessly after the next chunk has
+ * been fed. After the last chunk {@link #endOfInput()} needs to be called, so that values at the
+ * very end of the data, like numbers, can be completed.</p>
+ * 
+ * <p>Contrary to the JSON tokenizer reading from a parser, any number of values separated by
+ * whitespace can be read one after another. Values, which are not separated by whitespace,
+ * like {@code [1]2}, are rejected. Null is only returned once the end of the input
+ * has been signalled and all values have been read completely. Invalid byte sequences are
+ * replaced by the replacement character of the charset. The tokenizer cannot be used anymore
+ * after the data has violated the JSON standard.</p>
+ * 
+ * @author Planters
+ * 
+ */
+public class JsonFeedTokenizer extends JsonTokenizer {
+	
+	/*
+	 * The additional states of the feed tokenizer.
+	 */
+	private static final int EXPECT_VALUE = JsonTokenizer.FINISHED + 1; // a value after a separator
+	private static final int EXPECT_NAME = JsonTokenizer.FINISHED + 2; // a name after a separator
+	
+	/*
+	 * The kind of the partially read token.
+	 */
+	private static final int SCAN_NONE = 0;
+	private static final int SCAN_STRING = 1;
+	private static final int SCAN_LITERAL = 2;
+	private static final int SCAN_NUMBER = 3;
+	
+	/*
+	 * The progress of the escape sequence inside of a string. Unicode escape sequences count
+	 * their read hexadecimal digits starting from ESCAPE_UNICODE.
+	 */
+	private static final int ESCAPE_NONE = -2;
+	private static final int ESCAPE_START = -1;
+	private static final int ESCAPE_UNICODE = 0;
+	
+	/*
+	 * The part of the number, which is expected next.
+	 */
+	private static final int NUMBER_INTEGER_START = 0; // the first integer digit
+	private static final int NUMBER_INTEGER = 1; // further integer digits, a fraction or an exponent
+	private static final int NUMBER_AFTER_ZERO = 2; // a fraction or an exponent
+	private static final int NUMBER_FRACTION_START = 3; // the first fraction digit
+	private static final int NUMBER_FRACTION = 4; // further fraction digits or an exponent
+	private static final int NUMBER_EXPONENT_START = 5; // the exponent sign or first digit
+	private static final int NUMBER_EXPONENT_SIGN = 6; // the first exponent digit after the sign
+	private static final int NUMBER_EXPONENT = 7; // further exponent digits
+	
+	/**
+	 * The initial size of the character buffer.
+	 */
+	private static final int INITIAL_BUFFER_SIZE = 1024;
+	
+	private final CharsetDecoder decoder;
+	private ByteBuffer bytes = ByteBuffer.allocate(JsonFeedTokenizer.INITIAL_BUFFER_SIZE); // undecoded bytes in write mode
+	private char[] chars = new char[JsonFeedTokenizer.INITIAL_BUFFER_SIZE]; // decoded, but unread characters
+	private int charPosition = 0; // the next unread character
+	private int charLimit = 0; // the end of the decoded characters
+	private long discardedChars = 0; // the number of characters removed from the front of the buffer
+	private long whitespaceEnd = -1; // the position behind the last skipped whitespace
+	private boolean endOfInput = false;
+	private int scan = JsonFeedTokenizer.SCAN_NONE;
+	private JsonToken scanToken = null; // the token completed by the scan
+	private long scanStart = 0; // the position at which the scanned token started
+	private int escape = JsonFeedTokenizer.ESCAPE_NONE;
+	private int codeUnit = 0; // the value of the partially read unicode escape sequence
+	private String literal = null;
+	private int literalLength = 0; // the number of already matched literal characters
+	private int numberPart = JsonFeedTokenizer.NUMBER_INTEGER_START;
+	
+	/**
+	 * Create a new feed tokenizer decoding the data as UTF-8.
+	 */
+	public JsonFeedTokenizer() {
+		this(StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Create a new feed tokenizer decoding the data with the specified charset.
+	 * 
+	 * @param charset - the charset of the data
+	 * @throws NullPointerException if null is passed as charset
+	 */
+	public JsonFeedTokenizer(Charset charset) {
+		super();
+		Objects.requireNonNull(charset, "The charset may not be null.");
+		this.decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+	}
+	
+	/**
+	 * Feed the remaining bytes of the specified buffer to the tokenizer. All remaining bytes
+	 * are consumed, so the buffer can be reused directly afterwards.
+	 * 
+	 * @param data - the next chunk of data
+	 * @throws IllegalStateException if the end of the input has already been signalled
+	 * @throws NullPointerException if null is passed as data
+	 */
+	public void feed(ByteBuffer data) throws IllegalStateException {
+		Objects.requireNonNull(data, "The data may not be null.");
+		if (this.endOfInput) {
+			throw new IllegalStateException("No more data can be fed after the end of the input.");
+		}
+		if (this.bytes.remaining() < data.remaining()) {
+			ByteBuffer grownBytes = ByteBuffer.allocate(Math.max(this.bytes.capacity() * 2,
+					this.bytes.position() + data.remaining()));
+			this.bytes.flip();
+			grownBytes.put(this.bytes);
+			this.bytes = grownBytes;
+		}
+		this.bytes.put(data);
+		this.decode();
+	}
+	
+	/**
+	 * Feed the specified bytes to the tokenizer.
+	 * 
+	 * @param data - the next chunk of data
+	 * @param offset - the position of the first byte to feed
+	 * @param length - the number of bytes to feed
+	 * @throws IllegalStateException if the end of the input has already been signalled
+	 * @throws IndexOutOfBoundsException if offset and length are outside of the bounds of the array
+	 * @throws NullPointerException if null is passed as data
+	 */
+	public void feed(byte[] data, int offset, int length) throws IllegalStateException, IndexOutOfBoundsException {
+		this.feed(ByteBuffer.wrap(data, offset, length));
+	}
+	
+	/**
+	 * Signal that all data has been fed. Tokens, which are still incomplete, will be rejected
+	 * by the next call of {@link #nextToken()}.
+	 */
+	public void endOfInput() {
+		if (!this.endOfInput) {
+			this.endOfInput = true;
+			this.decode();
+		}
+	}
+	
+	/**
+	 * Checks whether the end of the input has been signalled.
+	 * 
+	 * @return true if no more data can be fed
+	 */
+	public boolean isEndOfInput() {
+		return this.endOfInput;
+	}
+	
+	/**
+	 * Get the number of characters, which have been read by the tokenizer. Malformed byte
+	 * sequences count as a single character.
+	 * 
+	 * @return the position of the tokenizer inside of the decoded data
+	 */
+	public long getPosition() {
+		return this.discardedChars + this.charPosition;
+	}
+	
+	/**
+	 * Read the next token from the data fed so far.
+	 * 
+	 * @return the next token, {@link JsonToken#NOT_AVAILABLE} if more data is needed or null if
+	 * the end of the input has been reached
+	 * @throws JsonStandardException if the data violates the JSON standard
+	 */
+	@Override
+	public JsonToken nextToken() throws JsonStandardException {
+		while (true) {
+			if (this.scan != JsonFeedTokenizer.SCAN_NONE) {
+				JsonToken token = this.continueScan();
+				return token != null ? token : (this.currentToken = JsonToken.NOT_AVAILABLE);
+			}
+			int whitespaceStart = this.charPosition;
+			while (this.charPosition < this.charLimit && Character.isWhitespace(this.chars[this.charPosition])) {
+				this.charPosition++;
+			}
+			if (this.charPosition > whitespaceStart) {
+				this.whitespaceEnd = this.getPosition();
+			}
+			if (this.charPosition == this.charLimit) {
+				if (!this.endOfInput) {
+					return this.currentToken = JsonToken.NOT_AVAILABLE;
+				} else if (this.state == JsonTokenizer.EXPECT_ROOT_VALUE || this.state == JsonTokenizer.FINISHED) {
+					return this.currentToken = null;
+				}
+				throw this.createException(this.getPosition(), this.getExpected());
+			}
+			char next = this.chars[this.charPosition];
+			switch (this.state) {
+				
+				case JsonTokenizer.EXPECT_FIRST_VALUE:
+					if (next == ']') {
+						this.charPosition++;
+						return this.endContainer(JsonToken.END_ARRAY);
+					}
+					JsonToken firstToken = this.startValue(next);
+					if (firstToken != null) {
+						return firstToken;
+					}
+					break;
+				
+				case JsonTokenizer.EXPECT_FIRST_NAME:
+					if (next == '}') {
+						this.charPosition++;
+						return this.endContainer(JsonToken.END_OBJECT);
+					}
+					this.startName(next);
+					break;
+				
+				case JsonFeedTokenizer.EXPECT_NAME:
+					this.startName(next);
+					break;
+				
+				case JsonTokenizer.EXPECT_NAME_SEPARATOR:
+					if (next != ':') {
+						throw this.createException(this.getPosition(), this.getExpected());
+					}
+					this.charPosition++;
+					this.state = JsonFeedTokenizer.EXPECT_VALUE;
+					break;
+				
+				case JsonTokenizer.EXPECT_SEPARATOR:
+					boolean inObject = this.inObject();
+					this.charPosition++;
+					if (next == ',') {
+						this.state = inObject ? JsonFeedTokenizer.EXPECT_NAME : JsonFeedTokenizer.EXPECT_VALUE;
+						break;
+					} else if (inObject && next == '}') {
+						return this.endContainer(JsonToken.END_OBJECT);
+					} else if (!inObject && next == ']') {
+						return this.endContainer(JsonToken.END_ARRAY);
+					}
+					throw this.createException(this.getPosition() - 1, this.getExpected());
+				
+				case JsonTokenizer.FINISHED:
+					if (this.whitespaceEnd != this.getPosition()) { // root values need to be separated
+						throw this.createException(this.getPosition(), this.getExpected());
+					}
+					JsonToken rootToken = this.startValue(next);
+					if (rootToken != null) {
+						return rootToken;
+					}
+					break;
+				
+				default: // a root value or a value after a name separator or value separator
+					JsonToken token = this.startValue(next);
+					if (token != null) {
+						return token;
+					}
+					break;
+			
+			}
+		}
+	}
+	
+	/**
+	 * Start reading the value beginning with the specified character. The start of objects and
+	 * arrays is read immediately, all other values start a scan.
+	 * 
+	 * @param next - the first character of the value
+	 * @return the start token of an object or array or null if a scan has been started
+	 * @throws JsonParseException if the character cannot start a JSON value
+	 */
+	private JsonToken startValue(char next) throws JsonParseException {
+		this.scanStart = this.getPosition();
+		switch (next) {
+			
+			case '{':
+				this.charPosition++;
+				this.startContainer(true);
+				this.state = JsonTokenizer.EXPECT_FIRST_NAME;
+				return this.currentToken = JsonToken.START_OBJECT;
+			
+			case '[':
+				this.charPosition++;
+				this.startContainer(false);
+				this.state = JsonTokenizer.EXPECT_FIRST_VALUE;
+				return this.currentToken = JsonToken.START_ARRAY;
+			
+			case '"':
+				this.startString(JsonToken.VALUE_STRING);
+				break;
+			
+			case 't':
+				this.startLiteral("true", JsonToken.VALUE_TRUE);
+				break;
+			
+			case 'f':
+				this.startLiteral("false", JsonToken.VALUE_FALSE);
+				break;
+			
+			case 'n':
+				this.startLiteral("null", JsonToken.VALUE_NULL);
+				break;
+			
+			default:
+				if (next == '-' || (next >= '0' && next <= '9')) {
+					this.textLength = 0;
+					this.integral = true;
+					this.numberPart = JsonFeedTokenizer.NUMBER_INTEGER_START;
+					if (next == '-') {
+						this.charPosition++;
+						this.append('-');
+					}
+					this.scan = JsonFeedTokenizer.SCAN_NUMBER;
+					this.scanToken = JsonToken.VALUE_NUMBER;
+					break;
+				}
+				throw this.createException(this.getPosition(), "a JSON value");
+		
+		}
+		return null;
+	}
+	
+	/**
+	 * Start reading the member name beginning with the specified character.
+	 * 
+	 * @param next - the first character of the name
+	 * @throws JsonParseException if the character cannot start a name
+	 */
+	private void startName(char next) throws JsonParseException {
+		if (next != '"') {
+			throw this.createException(this.getPosition(), this.getExpected());
+		}
+		this.scanStart = this.getPosition();
+		this.startString(JsonToken.FIELD_NAME);
+	}
+	
+	/**
+	 * Start scanning a string. The next character must be the opening quotation mark.
+	 * 
+	 * @param token - the token of the string
+	 */
+	private void startString(JsonToken token) {
+		this.charPosition++;
+		this.textLength = 0;
+		this.escape = JsonFeedTokenizer.ESCAPE_NONE;
+		this.scan = JsonFeedTokenizer.SCAN_STRING;
+		this.scanToken = token;
+	}
+	
+	/**
+	 * Start scanning a literal.
+	 * 
+	 * @param literal - the literal to scan
+	 * @param token - the token of the literal
+	 */
+	private void startLiteral(String literal, JsonToken token) {
+		this.literal = literal;
+		this.literalLength = 0;
+		this.scan = JsonFeedTokenizer.SCAN_LITERAL;
+		this.scanToken = token;
+	}
+	
+	/**
+	 * Continue the current scan with the available characters.
+	 * 
+	 * @return the scanned token or null if more data is needed to complete it
+	 * @throws JsonParseException if the data violates the JSON standard
+	 */
+	private JsonToken continueScan() throws JsonParseException {
+		boolean complete;
+		switch (this.scan) {
+			
+			case JsonFeedTokenizer.SCAN_STRING:
+				complete = this.scanString();
+				break;
+			
+			case JsonFeedTokenizer.SCAN_LITERAL:
+				complete = this.scanLiteral();
+				break;
+			
+			default:
+				complete = this.scanNumber();
+				break;
+		
+		}
+		if (!complete) {
+			return null;
+		}
+		this.scan = JsonFeedTokenizer.SCAN_NONE;
+		if (this.scanToken == JsonToken.FIELD_NAME) {
+			this.state = JsonTokenizer.EXPECT_NAME_SEPARATOR;
+			return this.currentToken = JsonToken.FIELD_NAME;
+		}
+		return this.endValue(this.scanToken);
+	}
+	
+	/**
+	 * Scan the available characters of the current string.
+	 * 
+	 * @return true if the string is complete
+	 * @throws JsonParseException if the string is not terminated, contains invalid escapes or
+	 * unescaped control characters
+	 */
+	private boolean scanString() throws JsonParseException {
+		while (this.charPosition < this.charLimit) {
+			char next = this.chars[this.charPosition++];
+			if (this.escape == JsonFeedTokenizer.ESCAPE_NONE) {
+				if (next == '"') {
+					return true;
+				} else if (next == '\\') {
+					this.escape = JsonFeedTokenizer.ESCAPE_START;
+				} else if (next < 0x20) { // control characters need to be escaped
+					throw this.createException(this.getPosition() - 1, "an escape sequence instead of a control character");
+				} else {
+					this.append(next);
+				}
+			} else if (this.escape == JsonFeedTokenizer.ESCAPE_START) {
+				this.escape = JsonFeedTokenizer.ESCAPE_NONE;
+				switch (next) {
+					
+					case '"':
+					case '\\':
+					case '/':
+						this.append(next);
+						break;
+					
+					case 'b':
+						this.append('\b');
+						break;
+					
+					case 'f':
+						this.append('\f');
+						break;
+					
+					case 'n':
+						this.append('\n');
+						break;
+					
+					case 'r':
+						this.append('\r');
+						break;
+					
+					case 't':
+						this.append('\t');
+						break;
+					
+					case 'u':
+						this.codeUnit = 0;
+						this.escape = JsonFeedTokenizer.ESCAPE_UNICODE;
+						break;
+					
+					default:
+						throw this.createException(this.getPosition() - 1, "a valid escape sequence");
+				
+				}
+			} else { // inside of a unicode escape sequence
+				int digit = JsonTokenizer.hexadecimalDigit(next);
+				if (digit < 0) {
+					throw this.createException(this.getPosition() - 1,
+							"a hexadecimal digit of a unicode escape sequence");
+				}
+				this.codeUnit = (this.codeUnit << 4) | digit;
+				if (++this.escape == 4) {
+					this.append((char) this.codeUnit);
+					this.escape = JsonFeedTokenizer.ESCAPE_NONE;
+				}
+			}
+		}
+		if (this.endOfInput) {
+			throw this.createException(this.getPosition(), "the end of a JSON string");
+		}
+		return false;
+	}
+	
+	/**
+	 * Scan the available characters of the current literal.
+	 * 
+	 * @return true if the literal is complete
+	 * @throws JsonParseException if the data does not match the literal
+	 */
+	private boolean scanLiteral() throws JsonParseException {
+		while (this.charPosition < this.charLimit && this.literalLength < this.literal.length()) {
+			if (this.chars[this.charPosition] != this.literal.charAt(this.literalLength)) {
+				throw this.createException(this.scanStart, "a JSON value");
+			}
+			this.charPosition++;
+			this.literalLength++;
+		}
+		if (this.literalLength == this.literal.length()) {
+			return true;
+		} else if (this.endOfInput) {
+			throw this.createException(this.scanStart, "a JSON value");
+		}
+		return false;
+	}
+	
+	/**
+	 * Scan the available characters of the current number following the JSON number grammar.
+	 * As a number has no terminating character, it is only complete once a character not
+	 * belonging to it has been received or the end of the input has been signalled.
+	 * 
+	 * @return true if the number is complete
+	 * @throws JsonParseException if the number is not correctly formatted
+	 */
+	private boolean scanNumber() throws JsonParseException {
+		while (this.charPosition < this.charLimit) {
+			char next = this.chars[this.charPosition];
+			boolean digit = next >= '0' && next <= '9';
+			switch (this.numberPart) {
+				
+				case JsonFeedTokenizer.NUMBER_INTEGER_START:
+					if (!digit) {
+						throw this.createException(this.getPosition(), this.getExpectedNumberPart());
+					}
+					this.numberPart = next == '0' ? JsonFeedTokenizer.NUMBER_AFTER_ZERO : JsonFeedTokenizer.NUMBER_INTEGER;
+					break;
+				
+				case JsonFeedTokenizer.NUMBER_INTEGER:
+				case JsonFeedTokenizer.NUMBER_AFTER_ZERO:
+					if (next == '.') {
+						this.integral = false;
+						this.numberPart = JsonFeedTokenizer.NUMBER_FRACTION_START;
+					} else if (next == 'e' || next == 'E') {
+						this.integral = false;
+						this.numberPart = JsonFeedTokenizer.NUMBER_EXPONENT_START;
+					} else if (!digit) {
+						return true;
+					} else if (this.numberPart == JsonFeedTokenizer.NUMBER_AFTER_ZERO) { // no leading zeros
+						throw this.createException(this.getPosition(), this.getExpectedNumberPart());
+					}
+					break;
+				
+				case JsonFeedTokenizer.NUMBER_FRACTION_START:
+				case JsonFeedTokenizer.NUMBER_EXPONENT_SIGN:
+					if (!digit) {
+						throw this.createException(this.getPosition(), this.getExpectedNumberPart());
+					}
+					this.numberPart++;
+					break;
+				
+				case JsonFeedTokenizer.NUMBER_FRACTION:
+					if (next == 'e' || next == 'E') {
+						this.numberPart = JsonFeedTokenizer.NUMBER_EXPONENT_START;
+					} else if (!digit) {
+						return true;
+					}
+					break;
+				
+				case JsonFeedTokenizer.NUMBER_EXPONENT_START:
+					if (next == '+' || next == '-') {
+						this.numberPart = JsonFeedTokenizer.NUMBER_EXPONENT_SIGN;
+					} else if (digit) {
+						this.numberPart = JsonFeedTokenizer.NUMBER_EXPONENT;
+					} else {
+						throw this.createException(this.getPosition(), this.getExpectedNumberPart());
+					}
+					break;
+				
+				default: // further exponent digits
+					if (!digit) {
+						return true;
+					}
+					break;
+			
+			}
+			this.charPosition++;
+			this.append(next);
+		}
+		if (this.endOfInput) {
+			if (this.numberPart == JsonFeedTokenizer.NUMBER_INTEGER || this.numberPart == JsonFeedTokenizer.NUMBER_AFTER_ZERO
+					|| this.numberPart == JsonFeedTokenizer.NUMBER_FRACTION
+					|| this.numberPart == JsonFeedTokenizer.NUMBER_EXPONENT) {
+				return true;
+			}
+			throw this.createException(this.getPosition(), this.getExpectedNumberPart());
+		}
+		return false;
+	}
+	
+	/**
+	 * Get a description of the number part, which is expected next.
+	 * 
+	 * @return the expected part of the number
+	 */
+	private String getExpectedNumberPart() {
+		switch (this.numberPart) {
+			
+			case JsonFeedTokenizer.NUMBER_INTEGER_START:
+				return "the digits of a JSON number";
+			
+			case JsonFeedTokenizer.NUMBER_AFTER_ZERO:
+				return "a fraction or an exponent of a JSON number";
+			
+			case JsonFeedTokenizer.NUMBER_FRACTION_START:
+				return "the fraction digits of a JSON number";
+			
+			default:
+				return "the exponent digits of a JSON number";
+		
+		}
+	}
+	
+	/**
+	 * Get a description of the content, which is expected in the current state.
+	 * 
+	 * @return the expected content
+	 */
+	private String getExpected() {
+		switch (this.state) {
+			
+			case JsonTokenizer.EXPECT_FIRST_NAME:
+			case JsonFeedTokenizer.EXPECT_NAME:
+				return "the name of a JSON object member";
+			
+			case JsonTokenizer.EXPECT_NAME_SEPARATOR:
+				return "the name separator of a JSON object member";
+			
+			case JsonTokenizer.EXPECT_SEPARATOR:
+				return String.format("a separator or the end of a JSON %s", this.inObject() ? "object" : "array");
+			
+			case JsonTokenizer.FINISHED:
+				return "whitespace in front of the next JSON value";
+			
+			default:
+				return "a JSON value";
+		
+		}
+	}
+	
+	/**
+	 * Create an exception for a violation of the JSON standard at the specified position.
+	 * The exception only holds the position, as the fed data is not retained.
+	 * 
+	 * @param position - the position of the violation
+	 * @param expected - a short description of the expected content
+	 * @return the exception
+	 */
+	private JsonParseException createException(long position, String expected) {
+		return new JsonParseException(null, (int) Math.min(position, Integer.MAX_VALUE), expected);
+	}
+	
+	/**
+	 * Decode the fed bytes into the character buffer. Bytes of incomplete multi-byte characters
+	 * are retained until the rest of the character has been fed.
+	 */
+	private void decode() {
+		// remove the already read characters
+		System.arraycopy(this.chars, this.charPosition, this.chars, 0, this.charLimit - this.charPosition);
+		this.discardedChars += this.charPosition;
+		this.charLimit -= this.charPosition;
+		this.charPosition = 0;
+		this.bytes.flip();
+		CharBuffer decodedChars = CharBuffer.wrap(this.chars, this.charLimit, this.chars.length - this.charLimit);
+		while (true) {
+			CoderResult result = this.decoder.decode(this.bytes, decodedChars, this.endOfInput);
+			if (result.isOverflow()) {
+				decodedChars = this.growChars(decodedChars);
+			} else {
+				break;
+			}
+		}
+		if (this.endOfInput) {
+			while (this.decoder.flush(decodedChars).isOverflow()) {
+				decodedChars = this.growChars(decodedChars);
+			}
+		}
+		this.charLimit = decodedChars.position();
+		this.bytes.compact();
+	}
+	
+	/**
+	 * Double the size of the character buffer.
+	 * 
+	 * @param decodedChars - the buffer wrapping the current character array
+	 * @return a buffer wrapping the grown character array at the same position
+	 */
+	private CharBuffer growChars(CharBuffer decodedChars) {
+		int position = decodedChars.position();
+		this.chars = Arrays.copyOf(this.chars, this.chars.length * 2);
+		return CharBuffer.wrap(this.chars, position, this.chars.length - position);
+	}
+
+}
@@ -0,0 +1,116 @@
+package hockey.mask.json.parser;
+
+import hockey.mask.json.JsonStandardException;
+
+/**
+ * The JsonHandler interface receives the events of a JSON value, which is read by 
+ * {@link JsonTokenizer#parse(JsonHandler)}, without any JSON values being created.
+ * 
+ * <p>Every event returns whether reading should continue, so a handler can stop reading as soon 
+ * as it has received everything it needs. All events are ignored by default, so only the 
+ * relevant ones need to be implemented.</p>
+ * 
+ * <p>The text of names, strings and numbers is accessed through the tokenizer passed to the 
+ * according event. The tokenizer must not be advanced by the handler and its text is only 
+ * valid for the duration of the event.</p>
+ * 
+ * @author Planters
+ *
+ */
+public interface JsonHandler {
+
+	/**
+	 * Receive the start of a JSON object.
+	 * 
+	 * @return true to continue reading
+	 * @throws JsonStandardException if the handler rejects the event
+	 */
+	public default boolean startObject() throws JsonStandardException {
+		return true;
+	}
+	
+	/**
+	 * Receive the end of a JSON object.
+	 * 
+	 * @return true to continue reading
+	 * @throws JsonStandardException if the handler rejects the event
+	 */
+	public default boolean endObject() throws JsonStandardException {
+		return true;
+	}
+	
+	/**
+	 * Receive the name of a JSON object member.
+	 * 
+	 * @param tokenizer - the tokenizer holding the name as text
+	 * @return true to continue reading
+	 * @throws JsonStandardException if the handler rejects the event
+	 */
+	public default boolean fieldName(JsonTokenizer tokenizer) throws JsonStandardException {
+		return true;
+	}
+	
+	/**
+	 * Receive the start of a JSON array.
+	 * 
+	 * @return true to continue reading
+	 * @throws JsonStandardException if the handler rejects the event
+	 */
+	public default boolean startArray() throws JsonStandardException {
+		return true;
+	}
+	
+	/**
+	 * Receive the end of a JSON array.
+	 * 
+	 * @return true to continue reading
+	 * @throws JsonStandardException if the handler rejects the event
+	 */
+	public default boolean endArray() throws JsonStandardException {
+		return true;
+	}
+	
+	/**
+	 * Receive a JSON string.
+	 * 
+	 * @param tokenizer - the tokenizer holding the unescaped string as text
+	 * @return true to continue reading
+	 * @throws JsonStandardException if the handler rejects the event
+	 */
+	public default boolean stringValue(JsonTokenizer tokenizer) throws JsonStandardException {
+		return true;
+	}
+	
+	/**
+	 * Receive a JSON number.
+	 * 
+	 * @param tokenizer - the tokenizer holding the number as text
+	 * @return true to continue reading
+	 * @throws JsonStandardException if the handler rejects the event
+	 */
+	public default boolean numberValue(JsonTokenizer tokenizer) throws JsonStandardException {
+		return true;
+	}
+	
+	/**
+	 * Receive a JSON boolean.
+	 * 
+	 * @param value - the value of the boolean
+	 * @return true to continue reading
+	 * @throws JsonStandardException if the handler rejects the event
+	 */
+	public default boolean booleanValue(boolean value) throws JsonStandardException {
+		return true;
+	}
+	
+	/**
+	 * Receive a JSON null.
+	 * 
+	 * @return true to continue reading
+	 * @throws JsonStandardException if the handler rejects the event
+	 */
+	public default boolean nullValue() throws JsonStandardException {
+		return true;
+	}
+	
+}
@@ -0,0 +1,201 @@
+package hockey.mask.json.parser;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * The JsonMappedFileParser class facilitates the processing of a file into a JSON value by
+ * mapping the file into memory instead of reading it into the heap.
+ * 
+ * <p>The characters are decoded directly from the mapped file into the sliding window of the
+ * stream parser, so the heap consumption only depends on the window size and the first value
+ * can be parsed before the rest of the file has been decoded. Files larger than a single
+ * mapping are mapped in consecutive segments. The file is closed as soon as it has been mapped
+ * completely, which happens on creation for all but very large files, or when the parser
+ * is closed.</p>
+ * 
+ * @author Planters
+ * 
+ */
+public class JsonMappedFileParser extends JsonStreamParser {
+	
+	/**
+	 * Create a parser for the file at the specified path using the specified charset. If
+	 * the charset is null the system default will be used.
+	 * 
+	 * @param path - the path of the file to parse
+	 * @param charset - the charset to use for decoding
+	 * @throws FileNotFoundException if the file does not exist
+	 * @throws IOException if an I/O error occurs
+	 * @throws NullPointerException if the specified path is null
+	 */
+	public JsonMappedFileParser(Path path, Charset charset) throws FileNotFoundException, IOException {
+		this(path, charset, JsonStreamParser.DEFAULT_WINDOW_SIZE);
+	}
+	
+	/**
+	 * Create a parser for the file at the specified path using the specified charset and
+	 * window size. If the charset is null the system default will be used.
+	 * 
+	 * @param path - the path of the file to parse
+	 * @param charset - the charset to use for decoding
+	 * @param windowSize - the maximum number of characters held in memory
+	 * @throws FileNotFoundException if the file does not exist
+	 * @throws IOException if an I/O error occurs
+	 * @throws NullPointerException if the specified path is null
+	 * @throws IllegalArgumentException if the window size is smaller than
+	 * {@link JsonStreamParser#MINIMUM_WINDOW_SIZE}
+	 */
+	public JsonMappedFileParser(Path path, Charset charset, int windowSize) throws FileNotFoundException,
+			IOException {
+		super(JsonMappedFileParser.map(path, charset, windowSize), windowSize);
+	}
+	
+	/**
+	 * Map the file at the specified path. The window size is validated in advance, so no
+	 * file is opened if the parser cannot be created.
+	 * 
+	 * @param path - the path of the file to map
+	 * @param charset - the charset to use for decoding
+	 * @param windowSize - the maximum number of characters held in memory
+	 * @return a reader decoding the mapped file
+	 * @throws FileNotFoundException if the file does not exist
+	 * @throws IOException if an I/O error occurs
+	 * @throws NullPointerException if the specified path is null
+	 * @throws IllegalArgumentException if the window size is smaller than
+	 * {@link JsonStreamParser#MINIMUM_WINDOW_SIZE}
+	 */
+	private static Reader map(Path path, Charset charset, int windowSize) throws FileNotFoundException,
+			IOException {
+		Objects.requireNonNull(path, "The path for the JSON parser may not be null.");
+		if (windowSize < JsonStreamParser.MINIMUM_WINDOW_SIZE) {
+			throw new IllegalArgumentException(String.format("The window size %s is smaller than %s.",
+					windowSize, JsonStreamParser.MINIMUM_WINDOW_SIZE));
+		}
+		try {
+			return new MappedFileReader(FileChannel.open(path, StandardOpenOption.READ),
+					charset != null ? charset : Charset.defaultCharset());
+		} catch (NoSuchFileException e) {
+			FileNotFoundException notFound = new FileNotFoundException(String.format("The file %s does not exist.",
+					path));
+			notFound.initCause(e);
+			throw notFound;
+		}
+	}
+	
+	/**
+	 * The MappedFileReader class decodes the characters of a file directly from the mapped
+	 * file.
+	 * 
+	 * @author Planters
+	 * 
+	 */
+	private static class MappedFileReader extends Reader {
+		
+		/**
+		 * The maximum number of bytes mapped at once.
+		 */
+		private static final long SEGMENT_SIZE = 1L << 30;
+		
+		private final FileChannel channel;
+		private final long size;
+		private final CharsetDecoder decoder;
+		private MappedByteBuffer segment = null; // the currently mapped part of the file
+		private long segmentStart = 0; // the position of the segment inside of the file
+		private boolean endOfData = false;
+		
+		/**
+		 * Create a reader for the file opened by the specified channel and map the first
+		 * segment. The channel will be closed if mapping fails.
+		 * 
+		 * @param channel - the channel of the file
+		 * @param charset - the charset to use for decoding
+		 * @throws IOException if an I/O error occurs
+		 */
+		private MappedFileReader(FileChannel channel, Charset charset) throws IOException {
+			this.channel = channel;
+			// decode like an InputStreamReader, which replaces malformed input instead of failing
+			this.decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE);
+			try {
+				this.size = channel.size();
+				this.mapSegment(0);
+			} catch (IOException | RuntimeException e) {
+				channel.close();
+				throw e;
+			}
+		}
+		
+		/**
+		 * Map the segment starting at the specified position. The channel is closed once the
+		 * last segment has been mapped, as mappings stay valid without their channel.
+		 * 
+		 * @param position - the position of the segment inside of the file
+		 * @throws IOException if an I/O error occurs
+		 */
+		private void mapSegment(long position) throws IOException {
+			long length = Math.min(MappedFileReader.SEGMENT_SIZE, this.size - position);
+			this.segment = this.channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+			this.segmentStart = position;
+			if (this.isLastSegment()) {
+				this.channel.close();
+			}
+		}
+		
+		/**
+		 * Checks whether the current segment reaches the end of the file.
+		 * 
+		 * @return true if the current segment is the last one
+		 */
+		private boolean isLastSegment() {
+			return this.segmentStart + this.segment.limit() >= this.size;
+		}
+		
+		@Override
+		public int read(char[] cbuf, int off, int len) throws IOException {
+			Objects.checkFromIndexSize(off, len, cbuf.length);
+			if (len == 0) {
+				return 0;
+			}
+			CharBuffer decoded = CharBuffer.wrap(cbuf, off, len);
+			while (decoded.position() == off) {
+				if (this.endOfData) {
+					return -1;
+				}
+				boolean lastSegment = this.isLastSegment();
+				CoderResult result = this.decoder.decode(this.segment, decoded, lastSegment);
+				if (result.isUnderflow()) {
+					if (!lastSegment) {
+						/*
+						 * Continue with the bytes, which have not been decoded yet, so characters
+						 * split between two segments are decoded as a whole.
+						 */
+						this.mapSegment(this.segmentStart + this.segment.position());
+					} else if (this.decoder.flush(decoded).isUnderflow()) {
+						this.endOfData = true;
+					}
+				}
+			}
+			return decoded.position() - off;
+		}
+		
+		@Override
+		public void close() throws IOException {
+			this.channel.close();
+		}
+	
+	}
+
+}
@@ -0,0 +1,310 @@
+package hockey.mask.json.parser;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * The JsonNumberReader class reads a JSON formatted number from a JSON parser by accumulating
+ * its digits into a long significand and a decimal exponent, so no strings are created.
+ * 
+ * <p>Numbers with up to 18 significant digits are exactly represented by the significand and
+ * the exponent, from which BigDecimals and doubles are created directly. Doubles are
+ * computed by multiplying the significand with a power of ten, if both are exactly
+ * representable as doubles, or otherwise by the algorithm of Eisel and Lemire, which
+ * multiplies the significand with a truncated 128 bit power of ten. Only numbers with more
+ * digits, whose digits are collected as text, and the rare cases, which the algorithm cannot
+ * round correctly, fall back to parsing text.</p>
+ * 
+ * <p>A reader holds the last read number and may be reused for further numbers.</p>
+ * 
+ * @author Planters
+ * 
+ */
+public final class JsonNumberReader {
+	
+	private static final long SIGNIFICAND_LIMIT = (Long.MAX_VALUE - 9) / 10; // more digits may overflow
+	private static final int SMALLEST_POWER = -325;
+	private static final int LARGEST_POWER = 308;
+	private static final double[] EXACT_POWERS = new double[23]; // the powers of ten, which are exact doubles
+	private static final long[] POWERS_HIGH = new long[JsonNumberReader.LARGEST_POWER - JsonNumberReader.SMALLEST_POWER + 1];
+	private static final long[] POWERS_LOW = new long[JsonNumberReader.POWERS_HIGH.length];
+	
+	static {
+		double power = 1d;
+		for (int i = 0; i < JsonNumberReader.EXACT_POWERS.length; i++) {
+			JsonNumberReader.EXACT_POWERS[i] = power;
+			power *= 10d;
+		}
+		/*
+		 * The 128 most significant bits of the powers of five, whose leading bit is set.
+		 * Positive powers are truncated, while the reciprocals of negative powers are rounded up.
+		 */
+		BigInteger five = BigInteger.valueOf(5);
+		for (int q = JsonNumberReader.SMALLEST_POWER; q <= JsonNumberReader.LARGEST_POWER; q++) {
+			BigInteger value = null;
+			if (q < 0) {
+				BigInteger divisor = five.pow(-q);
+				int bits = divisor.bitLength();
+				value = BigInteger.ONE.shiftLeft(q >= -27 ? bits + 127 : 2 * bits + 128).divide(divisor).add(BigInteger.ONE);
+			} else {
+				value = five.pow(q);
+				value = value.shiftLeft(Math.max(0, 128 - value.bitLength()));
+			}
+			value = value.shiftRight(Math.max(0, value.bitLength() - 128));
+			JsonNumberReader.POWERS_HIGH[q - JsonNumberReader.SMALLEST_POWER] = value.shiftRight(64).longValue();
+			JsonNumberReader.POWERS_LOW[q - JsonNumberReader.SMALLEST_POWER] = value.longValue();
+		}
+	}
+	
+	private boolean negative = false;
+	private long significand = 0;
+	private long exponent = 0;
+	private StringBuilder digits = null; // all digits if they do not fit into the significand
+	private boolean integral = true;
+	
+	/**
+	 * Read the JSON formatted number at the position mark of the specified parser and move the
+	 * position mark behind it. Whitespace in front of the number is not skipped.
+	 * 
+	 * @param parser - the parser to read the number from
+	 * @throws JsonParseException if the next characters are not a JSON formatted number, in which
+	 * case the position mark is left at the violation
+	 * @throws NullPointerException if null is passed as JSON parser
+	 */
+	public void read(JsonParser parser) throws JsonParseException {
+		Objects.requireNonNull(parser, "The JSON parser may not be null.");
+		this.negative = parser.isNext('-', true);
+		this.significand = 0;
+		this.exponent = 0;
+		this.digits = null;
+		this.integral = true;
+		// integer part without leading zeros
+		int next = parser.peek();
+		if (next == '0') {
+			parser.skip(1);
+		} else if (next < '1' || next > '9') {
+			throw new JsonParseException(parser, parser.getPosition(), "the digits of a JSON number");
+		} else {
+			this.readDigits(parser, false);
+		}
+		// fraction part
+		if (parser.isNext('.', true)) {
+			this.integral = false;
+			if (this.readDigits(parser, true) == 0) {
+				throw new JsonParseException(parser, parser.getPosition(), "the fraction digits of a JSON number");
+			}
+		}
+		// exponent part
+		next = parser.peek();
+		if (next == 'e' || next == 'E') {
+			parser.skip(1);
+			this.integral = false;
+			next = parser.peek();
+			boolean negativeExponent = next == '-';
+			if (next == '+' || next == '-') {
+				parser.skip(1);
+			}
+			long explicitExponent = 0;
+			int digits = 0;
+			next = parser.peek();
+			while (next >= '0' && next <= '9') {
+				if (explicitExponent <= Integer.MAX_VALUE) { // larger exponents are out of range anyway
+					explicitExponent = explicitExponent * 10 + (next - '0');
+				}
+				parser.skip(1);
+				digits++;
+				next = parser.peek();
+			}
+			if (digits == 0) {
+				throw new JsonParseException(parser, parser.getPosition(), "the exponent digits of a JSON number");
+			}
+			this.exponent += negativeExponent ? -explicitExponent : explicitExponent;
+		}
+	}
+	
+	/**
+	 * Read a sequence of digits into the significand.
+	 * 
+	 * @param parser - the parser to read the digits from
+	 * @param fraction - true if the digits follow the decimal separator
+	 * @return the number of read digits
+	 */
+	private int readDigits(JsonParser parser, boolean fraction) {
+		int digits = 0;
+		int next = parser.peek();
+		while (next >= '0' && next <= '9') {
+			if (this.digits != null) {
+				this.digits.append((char) next);
+			} else if (this.significand <= JsonNumberReader.SIGNIFICAND_LIMIT) {
+				this.significand = this.significand * 10 + (next - '0');
+			} else {
+				this.digits = new StringBuilder(40).append(this.significand).append((char) next);
+			}
+			if (fraction) {
+				this.exponent--;
+			}
+			parser.skip(1);
+			digits++;
+			next = parser.peek();
+		}
+		return digits;
+	}
+	
+	/**
+	 * Checks whether the number has neither fraction nor exponent.
+	 * 
+	 * @return true if the number is written as integer
+	 */
+	public boolean isIntegral() {
+		return this.integral;
+	}
+	
+	/**
+	 * Checks whether the number is exactly represented by its significand and exponent.
+	 * Numbers with too many digits or exponents out of the range of an integer are not.
+	 * 
+	 * @return true if the significand holds all digits
+	 */
+	public boolean isExact() {
+		return this.digits == null && this.exponent > Integer.MIN_VALUE && this.exponent <= Integer.MAX_VALUE;
+	}
+	
+	/**
+	 * Get the digits of the number without sign, so the absolute value of the number is the
+	 * significand multiplied by ten to the power of the exponent. The significand is only
+	 * meaningful if the number is exact.
+	 * 
+	 * @return the significand
+	 */
+	public long getSignificand() {
+		return this.significand;
+	}
+	
+	/**
+	 * Get the decimal exponent of the significand. The exponent is only meaningful if the
+	 * number is exact.
+	 * 
+	 * @return the exponent
+	 */
+	public int getExponent() {
+		return (int) this.exponent;
+	}
+	
+	/**
+	 * Checks whether the number has a minus sign.
+	 * 
+	 * @return true if the number is negative
+	 */
+	public boolean isNegative() {
+		return this.negative;
+	}
+	
+	/**
+	 * Get the number as BigDecimal.
+	 * 
+	 * @return the value of the number
+	 * @throws NumberFormatException if the exponent of the number is out of range
+	 */
+	public BigDecimal toBigDecimal() throws NumberFormatException {
+		if (this.exponent <= Integer.MIN_VALUE || this.exponent > Integer.MAX_VALUE) {
+			throw new NumberFormatException(String.format("The exponent %s is out of range.", this.exponent));
+		} else if (this.digits == null) {
+			return BigDecimal.valueOf(this.negative ? -this.significand : this.significand, (int) -this.exponent);
+		}
+		BigInteger unscaled = new BigInteger(this.digits.toString());
+		return new BigDecimal(this.negative ? unscaled.negate() : unscaled, (int) -this.exponent);
+	}
+	
+	/**
+	 * Get the number as double rounded to the nearest double. Inexact numbers and numbers,
+	 * which cannot be rounded by the fast algorithms, are parsed from their digits.
+	 * 
+	 * @return the value of the number
+	 */
+	public double toDouble() {
+		if (this.isExact()) {
+			double value = JsonNumberReader.toDouble(this.negative, this.significand, (int) this.exponent);
+			if (!Double.isNaN(value)) {
+				return value;
+			}
+		}
+		return Double.parseDouble((this.negative ? "-" : "") + (this.digits != null ? this.digits : this.significand)
+				+ "e" + this.exponent);
+	}
+	
+	/**
+	 * Compute the double nearest to the specified decimal number without falling back to
+	 * parsing its text.
+	 * 
+	 * @param negative - true if the number is negative
+	 * @param significand - the non-negative digits of the number
+	 * @param exponent - the decimal exponent of the significand
+	 * @return the nearest double or NaN if it cannot be computed by the fast algorithms
+	 */
+	public static double toDouble(boolean negative, long significand, int exponent) {
+		if (significand == 0) {
+			return negative ? -0d : 0d;
+		} else if (significand < 0) {
+			return Double.NaN;
+		} else if (exponent >= -22 && exponent <= 22 && significand <= 1L << 53) {
+			// both operands are exact, so the single rounding of the operation is correct
+			double value = significand;
+			value = exponent < 0 ? value / JsonNumberReader.EXACT_POWERS[-exponent]
+					: value * JsonNumberReader.EXACT_POWERS[exponent];
+			return negative ? -value : value;
+		} else if (exponent < JsonNumberReader.SMALLEST_POWER || exponent > JsonNumberReader.LARGEST_POWER) {
+			return Double.NaN;
+		}
+		int index = exponent - JsonNumberReader.SMALLEST_POWER;
+		int leadingZeros = Long.numberOfLeadingZeros(significand);
+		long normalized = significand << leadingZeros;
+		long factor = JsonNumberReader.POWERS_HIGH[index];
+		long lower = normalized * factor;
+		long upper = JsonNumberReader.multiplyHigh(normalized, factor);
+		if ((upper & 0x1FF) == 0x1FF && Long.compareUnsigned(lower + normalized, lower) < 0) {
+			// the truncated power is not precise enough, so the lower bits are needed as well
+			factor = JsonNumberReader.POWERS_LOW[index];
+			long productLow = normalized * factor;
+			long productMiddle = lower + JsonNumberReader.multiplyHigh(normalized, factor);
+			if (Long.compareUnsigned(productMiddle, lower) < 0) {
+				upper++;
+			}
+			if (productMiddle + 1 == 0 && (upper & 0x1FF) == 0x1FF
+					&& Long.compareUnsigned(productLow + normalized, productLow) < 0) {
+				return Double.NaN;
+			}
+			lower = productMiddle;
+		}
+		long upperBit = upper >>> 63;
+		long mantissa = upper >>> (upperBit + 9);
+		leadingZeros += (int) (1 ^ upperBit);
+		if (lower == 0 && (upper & 0x1FF) == 0 && (mantissa & 3) == 1) { // too close to the halfway point
+			return Double.NaN;
+		}
+		mantissa += mantissa & 1;
+		mantissa >>>= 1;
+		if (mantissa >= 1L << 53) {
+			mantissa = 1L << 52;
+			leadingZeros--;
+		}
+		mantissa &= ~(1L << 52);
+		long binaryExponent = (((152170L + 65536L) * exponent) >> 16) + 1024 + 63 - leadingZeros;
+		if (binaryExponent < 1 || binaryExponent > 2046) { // subnormal or infinite
+			return Double.NaN;
+		}
+		return Double.longBitsToDouble(mantissa | binaryExponent << 52 | (negative ? 1L << 63 : 0L));
+	}
+	
+	/**
+	 * Get the upper 64 bits of the unsigned product of the specified values.
+	 * 
+	 * @param first - the first unsigned factor
+	 * @param second - the second unsigned factor
+	 * @return the upper 64 bits of the product
+	 */
+	private static long multiplyHigh(long first, long second) {
+		return Math.multiplyHigh(first, second) + ((first >> 63) & second) + ((second >> 63) & first);
+	}
+	
+}
@@ -0,0 +1,173 @@
+package hockey.mask.json.parser;
+
+import hockey.mask.json.JsonStandardException;
+
+/**
+ * The JsonParseException class will be thrown if the data held by a JSON parser violates the
+ * JSON standard at a specific position.
+ * 
+ * <p>The position, line, column and a short excerpt of the surrounding data are recorded on
+ * creation, so the exception does not keep the parser alive and building the message does not
+ * read any further data. Only the message text itself is formatted the first time it is
+ * requested.</p>
+ * 
+ * @author Planters
+ * 
+ */
+public class JsonParseException extends JsonStandardException {
+
+	/**
+	 * Default serialisation.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The maximum number of characters shown before and after the failure position.
+	 */
+	public static final int EXCERPT_RADIUS = 20;
+
+	private final int position;
+	private final String expected;
+	private final int line; // zero if the data in front of the position was not available
+	private final int column;
+	private final String excerpt; // null if the data was not available
+	private String message = null; // built lazily
+
+	/**
+	 * Create a new exception for the specified parser, which did not hold the expected content at
+	 * the specified position.
+	 * 
+	 * @param parser - the parser holding the data, which violates the JSON standard
+	 * @param position - the position of the violation
+	 * @param expected - a short description of the expected content
+	 */
+	public JsonParseException(JsonParser parser, int position, String expected) {
+		this(parser, position, expected, null, true);
+	}
+
+	/**
+	 * Create a new exception for the specified parser, which did not hold the expected content at
+	 * the specified position.
+	 * 
+	 * @param parser - the parser holding the data, which violates the JSON standard
+	 * @param position - the position of the violation
+	 * @param expected - a short description of the expected content
+	 * @param cause - the cause of this exception
+	 */
+	public JsonParseException(JsonParser parser, int position, String expected, Throwable cause) {
+		this(parser, position, expected, cause, true);
+	}
+
+	/**
+	 * Create a new exception for the specified parser, which did not hold the expected content at
+	 * the specified position.
+	 * 
+	 * <p>Exceptions without a stack trace should only be used for control flow, where the
+	 * exception is caught internally, as filling in the stack trace is the most expensive part
+	 * of creating an exception.</p>
+	 * 
+	 * @param parser - the parser holding the data, which violates the JSON standard
+	 * @param position - the position of the violation
+	 * @param expected - a short description of the expected content
+	 * @param cause - the cause of this exception
+	 * @param writableStackTrace - false to create an exception without stack trace
+	 */
+	public JsonParseException(JsonParser parser, int position, String expected, Throwable cause,
+			boolean writableStackTrace) {
+		super(null, cause, true, writableStackTrace);
+		this.position = position;
+		this.expected = expected;
+		int[] lineAndColumn = null;
+		String excerpt = null;
+		if (parser != null) {
+			try {
+				lineAndColumn = parser.getLineAndColumn(position);
+				excerpt = parser.getExcerpt(position, JsonParseException.EXCERPT_RADIUS);
+			} catch (RuntimeException e) {
+				/*
+				 * The data might not be accessible anymore, for example if the underlying
+				 * stream has been closed, so only the position is recorded.
+				 */
+			}
+		}
+		this.line = lineAndColumn != null ? lineAndColumn[0] : 0;
+		this.column = lineAndColumn != null ? lineAndColumn[1] : 0;
+		this.excerpt = excerpt;
+	}
+
+	/**
+	 * Get the position inside the parsed data at which the JSON standard has been violated.
+	 * 
+	 * @return the position of the violation
+	 */
+	public int getPosition() {
+		return this.position;
+	}
+
+	/**
+	 * Get the description of the content, which has been expected at the position of the violation.
+	 * 
+	 * @return the expected content
+	 */
+	public String getExpected() {
+		return this.expected;
+	}
+
+	/**
+	 * Get the line of the violation, which is counted from one.
+	 * 
+	 * @return the line of the violation or zero if the data in front of it was not available
+	 */
+	public int getLine() {
+		return this.line;
+	}
+
+	/**
+	 * Get the column of the violation inside of its line, which is counted from one.
+	 * 
+	 * @return the column of the violation or zero if the data in front of it was not available
+	 */
+	public int getColumn() {
+		return this.column;
+	}
+
+	/**
+	 * Get the excerpt of the data surrounding the violation.
+	 * 
+	 * @return the excerpt of the data or null if the data was not available
+	 */
+	public String getExcerpt() {
+		return this.excerpt;
+	}
+
+	/**
+	 * Get the detail message of this exception. The message is built on the first call.
+	 * 
+	 * @return the detail message
+	 */
+	@Override
+	public String getMessage() {
+		if (this.message == null) {
+			this.message = this.buildMessage();
+		}
+		return this.message;
+	}
+
+	/**
+	 * Build the detail message from the recorded position. Line, column and excerpt are
+	 * omitted if the parser could not provide the data anymore.
+	 * 
+	 * @return the detail message
+	 */
+	private String buildMessage() {
+		if (this.line > 0 && this.excerpt != null) {
+			return String.format("Expected %s at line %s, column %s (position %s) near \"%s\".",
+					this.expected, this.line, this.column, this.position, this.excerpt);
+		} else if (this.excerpt != null) {
+			return String.format("Expected %s at position %s near \"%s\".", this.expected, this.position,
+					this.excerpt);
+		}
+		return String.format("Expected %s at position %s.", this.expected, this.position);
+	}
+
+}
@@ -1,5 +1,9 @@
 package hockey.mask.json.parser;
 
+import java.util.Objects;
+
+import hockey.mask.json.JsonStandardException;
+
 /**
  * The JsonParser class facilitates the processing of an input into a JSON value. 
  * 
@@ -8,6 +12,12 @@ package hockey.mask.json.parser;
  */
 public abstract class JsonParser {
 	
+	/**
+	 * The maximum number of characters before and after the position mark shown by the 
+	 * string representation of a parser.
+	 */
+	private static final int TO_STRING_RADIUS = 40;
+	
 	/**
 	 * Get the current position in the parsed data.
 	 * 
@@ -24,6 +34,26 @@ public abstract class JsonParser {
 	 */
 	public abstract void setPosition(int position) throws IndexOutOfBoundsException;
 	
+	/**
+	 * Move the position mark back to the specified position after a value could not be parsed, 
+	 * so the failed attempt does not modify the parser. Parsers discarding data, which has 
+	 * already been read, cannot move back in front of the retained data. In this case the 
+	 * position mark is left where it is, so the parse exception describing the failure can 
+	 * still be thrown instead of an IndexOutOfBoundsException hiding it.
+	 * 
+	 * @param position - the position the failed attempt started at
+	 * @return true if the position mark has been moved to the specified position, false if the 
+	 * position is not available anymore
+	 */
+	public boolean resetPosition(int position) {
+		try {
+			this.setPosition(position);
+			return true;
+		} catch (IndexOutOfBoundsException e) {
+			return false;
+		}
+	}
+	
 	/**
 	 * Get the next characters of the data as string. A string with the specified length 
 	 * will be returned starting with the character at the current parsers position mark and 
@@ -48,6 +78,79 @@ public abstract class JsonParser {
 		return this.get(1).charAt(0);
 	}
 	
+	/**
+	 * Get the characters between the specified positions of the data as string. 
+	 * The position mark will not be modified.
+	 * 
+	 * @param beginPosition - the position of the first character, inclusive
+	 * @param endPosition - the position of the last character, exclusive
+	 * @return the characters between the specified positions
+	 * @throws IndexOutOfBoundsException if the positions are outside of the bounds of the 
+	 * parsed data or the begin position is larger than the end position
+	 */
+	public String getSection(int beginPosition, int endPosition) throws IndexOutOfBoundsException {
+		if (beginPosition > endPosition) {
+			throw new IndexOutOfBoundsException(String.format("The begin position %s is larger "
+					+ "than the end position %s.", beginPosition, endPosition));
+		}
+		int currentPosition = this.getPosition();
+		try {
+			this.setPosition(beginPosition);
+			return this.get(endPosition - beginPosition);
+		} finally {
+			this.setPosition(currentPosition);
+		}
+	}
+	
+	/**
+	 * Get an excerpt of the data surrounding the specified position, which holds at most 
+	 * the specified number of characters before and after the position. 
+	 * The position mark will not be modified.
+	 * 
+	 * @param position - the position to get the surrounding data from
+	 * @param radius - the maximum number of characters before and after the position
+	 * @return the data surrounding the specified position
+	 * @throws IndexOutOfBoundsException if the position is outside of the bounds of the 
+	 * parsed data
+	 */
+	public String getExcerpt(int position, int radius) throws IndexOutOfBoundsException {
+		int currentPosition = this.getPosition();
+		try {
+			this.setPosition(position); // validate the position
+			StringBuilder excerpt = new StringBuilder(this.getSection(Math.max(0, position - radius), position));
+			for (int i = 0; i < radius && this.hasNext(); i++) {
+				excerpt.append(this.get());
+			}
+			return excerpt.toString();
+		} finally {
+			this.setPosition(currentPosition);
+		}
+	}
+	
+	/**
+	 * Get the line and column of the specified position, which are both counted from one. 
+	 * Lines are separated by line feeds. The position mark will not be modified.
+	 * 
+	 * @param position - the position to locate
+	 * @return the line and column of the position or null if the data in front of the 
+	 * position is not available anymore
+	 */
+	int[] getLineAndColumn(int position) {
+		try {
+			String preceding = this.getSection(0, position);
+			int lineStart = preceding.lastIndexOf('\n') + 1;
+			int line = 1;
+			for (int i = 0; i < lineStart; i++) {
+				if (preceding.charAt(i) == '\n') {
+					line++;
+				}
+			}
+			return new int[] {line, position - lineStart + 1};
+		} catch (IndexOutOfBoundsException e) {
+			return null;
+		}
+	}
+	
 	/**
 	 * Get the data held by this parser.
 	 * 
@@ -108,6 +211,160 @@ public abstract class JsonParser {
 	 */
 	public abstract boolean isNextDigit();
 	
+	/**
+	 * Get the next character without incrementing the position mark.
+	 * 
+	 * @return the next character or -1 if the end of the parsed data has been reached
+	 */
+	public int peek() {
+		return this.peek(0);
+	}
+	
+	/**
+	 * Get the character at the specified offset from the position mark. 
+	 * The position mark will not be modified.
+	 * 
+	 * @param offset - the offset from the position mark
+	 * @return the character at the specified offset or -1 if the offset is outside of the 
+	 * bounds of the parsed data
+	 */
+	public int peek(int offset) {
+		int currentPosition = this.getPosition();
+		try {
+			this.setPosition(currentPosition + offset);
+			return this.hasNext() ? this.get() : -1;
+		} catch (IndexOutOfBoundsException e) {
+			return -1;
+		} finally {
+			this.setPosition(currentPosition);
+		}
+	}
+	
+	/**
+	 * Increment the position mark by the specified number of characters.
+	 * 
+	 * @param length - the number of characters to skip
+	 * @throws IndexOutOfBoundsException if the resulting position is outside of the bounds 
+	 * of the parsed data
+	 */
+	public void skip(int length) throws IndexOutOfBoundsException {
+		this.setPosition(this.getPosition() + length);
+	}
+	
+	/**
+	 * Checks whether the characters at the specified position are the query.
+	 * The position mark will not be modified.
+	 * 
+	 * @param position - the position to compare the query with
+	 * @param query - the string to query for
+	 * @return true if the characters starting at the specified position equal the query
+	 */
+	public boolean regionMatches(int position, String query) {
+		if (query != null) {
+			int currentPosition = this.getPosition();
+			try {
+				this.setPosition(position);
+				return this.isNext(query);
+			} catch (IndexOutOfBoundsException e) {
+				return false;
+			} finally {
+				this.setPosition(currentPosition);
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Get the position of the next occurrence of the query, starting the search at the 
+	 * position mark. The position mark will not be modified.
+	 * 
+	 * @param query - the char to search for
+	 * @return the position of the next occurrence or -1 if the query does not occur anymore
+	 */
+	public int indexOf(char query) {
+		int currentPosition = this.getPosition();
+		try {
+			while (this.hasNext()) {
+				if (this.get() == query) {
+					return this.getPosition() - 1;
+				}
+			}
+			return -1;
+		} finally {
+			this.setPosition(currentPosition);
+		}
+	}
+	
+	/**
+	 * Moves the position mark behind the next sequence of digits. 
+	 * If the next character is not a digit, the position mark will not be modified.
+	 * 
+	 * @return the number of skipped digits
+	 */
+	public int skipDigits() {
+		int skipped = 0;
+		while (this.isNextDigit()) {
+			this.setPosition(this.getPosition() + 1);
+			skipped++;
+		}
+		return skipped;
+	}
+	
+	/**
+	 * Get the characters in front of the next terminator as string and move the position
+	 * mark onto the terminator. If the escape character occurs in front of the terminator or
+	 * there is no terminator, null is returned and the position mark will not be modified.
+	 * This allows parsers to hand out plain sections without processing them character by
+	 * character. By default null is returned.
+	 * 
+	 * @param terminator - the character terminating the string
+	 * @param escape - the character, which may not occur in front of the terminator
+	 * @return the characters in front of the terminator or null if the escape character occurs
+	 * in front of the terminator or there is no terminator
+	 */
+	public String getUntil(char terminator, char escape) {
+		return null;
+	}
+	
+	/**
+	 * Get the symbol of the characters in front of the next terminator from the specified 
+	 * symbol table and move the position mark onto the terminator like 
+	 * {@link #getUntil(char, char)} does. Parsers holding their data in memory look the 
+	 * characters up where they are, so known symbols are returned without creating strings.
+	 * 
+	 * @param <T> the type of the symbols
+	 * @param terminator - the character terminating the string
+	 * @param escape - the character, which may not occur in front of the terminator
+	 * @param symbols - the symbol table canonicalizing the characters
+	 * @return the symbol of the characters in front of the terminator or null if the escape 
+	 * character occurs in front of the terminator or there is no terminator
+	 * @throws NullPointerException if null is passed as symbol table
+	 */
+	public <T> T getUntil(char terminator, char escape, JsonSymbolTable<T> symbols) {
+		Objects.requireNonNull(symbols, "The symbol table may not be null.");
+		String section = this.getUntil(terminator, escape);
+		return section != null ? symbols.get(section) : null;
+	}
+	
+	/**
+	 * Moves the position mark behind the next complete JSON value without creating it. Only 
+	 * strings and the nesting of objects and arrays are followed, so numbers, literals and the 
+	 * separators between the members of a container are skipped without being checked. If the 
+	 * data ends before the value is complete or a container is closed by the wrong bracket, 
+	 * the position mark will not be modified.
+	 * 
+	 * @throws JsonStandardException if the next value is not complete
+	 */
+	public void skipValue() throws JsonStandardException {
+		int startingPosition = this.getPosition();
+		int end = JsonScanner.skipValue(new ParserCursor(), startingPosition);
+		if (end < 0) {
+			this.resetPosition(startingPosition); // the parser should not be modified
+			throw new JsonParseException(this, ~end, "a complete JSON value");
+		}
+		this.setPosition(end);
+	}
+	
 	/**
 	 * Get the remaining characters of the parsed data as string.
 	 * 
@@ -149,9 +406,74 @@ public abstract class JsonParser {
 		return false;
 	}
 	
+	/**
+	 * The string representation only contains an excerpt of the data surrounding the 
+	 * position mark, as the parsed data might be arbitrarily large.
+	 */
 	@Override
 	public String toString() {
-		return String.format("[Position %s : \"%s\"]", this.getPosition(), this.getData());
+		return String.format("[Position %s : \"%s\"]", this.getPosition(), 
+				this.getExcerpt(this.getPosition(), JsonParser.TO_STRING_RADIUS));
 	}
 
+	/**
+	 * The ParserCursor class reads the data of the parser for skipping values by moving the
+	 * position mark, so parsers holding only a section of their data can discard the skipped
+	 * characters.
+	 * 
+	 * @author Planters
+	 *
+	 */
+	private final class ParserCursor extends JsonScanner.Cursor {
+		
+		@Override
+		int charAt(int position) {
+			this.moveTo(position);
+			return JsonParser.this.peek();
+		}
+		
+		@Override
+		int skipWhitespace(int position) {
+			this.moveTo(position);
+			JsonParser.this.skipWhitespace();
+			return JsonParser.this.getPosition();
+		}
+		
+		@Override
+		int skipString(int position) {
+			this.moveTo(position);
+			if (JsonParser.this.getUntil('"', '\\') == null) { // skip escaped strings character by character
+				while (JsonParser.this.hasNext() && JsonParser.this.peek() != '"') {
+					if (JsonParser.this.get() == '\\' && JsonParser.this.hasNext()) {
+						JsonParser.this.skip(1);
+					}
+				}
+			}
+			return JsonParser.this.isNext('"', true) ? JsonParser.this.getPosition() : ~JsonParser.this.getPosition();
+		}
+		
+		@Override
+		int skipLiteral(int position) {
+			this.moveTo(position);
+			int next = JsonParser.this.peek();
+			while (next >= 0 && !JsonScanner.isDelimiter(next)) {
+				JsonParser.this.skip(1);
+				next = JsonParser.this.peek();
+			}
+			return JsonParser.this.getPosition();
+		}
+		
+		/**
+		 * Move the position mark of the parser forward to the specified position.
+		 * 
+		 * @param position - the position, which is not in front of the position mark
+		 */
+		private void moveTo(int position) {
+			if (position != JsonParser.this.getPosition()) {
+				JsonParser.this.setPosition(position);
+			}
+		}
+		
+	}
+	
 }
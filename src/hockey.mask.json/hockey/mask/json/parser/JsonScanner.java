@@ -0,0 +1,546 @@
+package hockey.mask.json.parser;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * The JsonScanner class finds the characters, which the parsers look for, in runs of data
+ * instead of inspecting one character per call.
+ *
+ * <p>This class itself scans the data with plain loops and blocks of bytes by combining eight
+ * bytes into a long. Faster scanners, like the vector scanner of the optional
+ * {@code hockey.mask.json.simd} module, are provided as service extending this class. The
+ * {@link #getInstance() shared scanner} is the first provider, which can be loaded, or this
+ * scalar scanner if there is none, so the parsers work the same with or without the module.
+ * Providers need to return the same results as this scanner for all input.</p>
+ *
+ * @author Planters
+ *
+ */
+public class JsonScanner {
+
+	/**
+	 * The number of bytes classified in a single block, one for each bit of a long.
+	 */
+	public static final int BLOCK_SIZE = 64;
+
+	/**
+	 * The index of the mask of the quotes of a classified block.
+	 */
+	public static final int QUOTES = 0;
+
+	/**
+	 * The index of the mask of the backslashes of a classified block.
+	 */
+	public static final int BACKSLASHES = 1;
+
+	/**
+	 * The index of the mask of the structural characters {@code { } [ ] : ,} of a classified block.
+	 */
+	public static final int STRUCTURALS = 2;
+
+	/**
+	 * The index of the mask of the JSON whitespace of a classified block.
+	 */
+	public static final int WHITESPACE = 3;
+
+	/**
+	 * The number of masks of a classified block.
+	 */
+	public static final int MASKS = 4;
+
+	private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class,
+			ByteOrder.LITTLE_ENDIAN);
+	private static final long ONES = 0x0101010101010101L;
+	private static final long HIGH_BITS = 0x8080808080808080L;
+	private static final long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+
+	private static final JsonScanner SCALAR_SCANNER = new JsonScanner();
+	private static final JsonScanner SCANNER = JsonScanner.load();
+
+	/**
+	 * Create a scanner. Providers need to be public and have a public constructor without
+	 * arguments, which throws an exception if the scanner cannot be used on this platform.
+	 */
+	protected JsonScanner() {
+	}
+
+	/**
+	 * Get the shared scanner, which is the first scanner provided by a module or the scalar
+	 * scanner if no provider can be loaded.
+	 *
+	 * @return the shared scanner
+	 */
+	public static JsonScanner getInstance() {
+		return JsonScanner.SCANNER;
+	}
+
+	/**
+	 * Get the scalar scanner, which does not depend on any other module.
+	 *
+	 * @return the scalar scanner
+	 */
+	public static JsonScanner getScalarInstance() {
+		return JsonScanner.SCALAR_SCANNER;
+	}
+
+	/**
+	 * Load the first scanner provided by a module.
+	 *
+	 * @return the provided scanner or the scalar scanner if no provider can be loaded
+	 */
+	private static JsonScanner load() {
+		try {
+			for (JsonScanner scanner : ServiceLoader.load(JsonScanner.class, JsonScanner.class.getClassLoader())) {
+				return scanner;
+			}
+		} catch (ServiceConfigurationError | LinkageError e) {
+			/*
+			 * The provider or a module required by it is not available, so use the scalar scanner.
+			 */
+		}
+		return JsonScanner.SCALAR_SCANNER;
+	}
+
+	/**
+	 * Get the index of the first byte in the specified range, which is not JSON whitespace.
+	 * Only the space, the tab, the line feed and the carriage return are skipped.
+	 *
+	 * @param data - the bytes to scan
+	 * @param from - the index of the first byte to scan
+	 * @param to - the end of the range, exclusive
+	 * @return the index of the first byte not being whitespace or the end of the range if there
+	 * is none
+	 */
+	public int skipWhitespace(byte[] data, int from, int to) {
+		for (int i = from; i < to; i++) {
+			if (!JsonScanner.isWhitespace(data[i])) {
+				return i;
+			}
+		}
+		return to;
+	}
+
+	/**
+	 * Get the index of the first character in the specified range, which is not JSON whitespace.
+	 * Only the space, the tab, the line feed and the carriage return are skipped.
+	 *
+	 * @param data - the characters to scan
+	 * @param from - the index of the first character to scan
+	 * @param to - the end of the range, exclusive
+	 * @return the index of the first character not being whitespace or the end of the range if
+	 * there is none
+	 */
+	public int skipWhitespace(char[] data, int from, int to) {
+		for (int i = from; i < to; i++) {
+			if (!JsonScanner.isWhitespace(data[i])) {
+				return i;
+			}
+		}
+		return to;
+	}
+
+	/**
+	 * Get the index of the first byte in the specified range, which equals either of the
+	 * specified bytes.
+	 *
+	 * @param data - the bytes to scan
+	 * @param from - the index of the first byte to scan
+	 * @param to - the end of the range, exclusive
+	 * @param first - the first byte to search for
+	 * @param second - the second byte to search for
+	 * @return the index of the first matching byte or -1 if there is none
+	 */
+	public int indexOf(byte[] data, int from, int to, byte first, byte second) {
+		for (int i = from; i < to; i++) {
+			if (data[i] == first || data[i] == second) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Get the index of the first character in the specified range, which equals either of the
+	 * specified characters.
+	 *
+	 * @param data - the characters to scan
+	 * @param from - the index of the first character to scan
+	 * @param to - the end of the range, exclusive
+	 * @param first - the first character to search for
+	 * @param second - the second character to search for
+	 * @return the index of the first matching character or -1 if there is none
+	 */
+	public int indexOf(char[] data, int from, int to, char first, char second) {
+		for (int i = from; i < to; i++) {
+			if (data[i] == first || data[i] == second) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Get the index of the first byte in the specified range, which is not an ASCII character.
+	 * As ASCII characters are encoded by single bytes, the bytes before this index are valid
+	 * UTF-8 and can be taken as they are.
+	 *
+	 * @param data - the bytes to scan
+	 * @param from - the index of the first byte to scan
+	 * @param to - the end of the range, exclusive
+	 * @return the index of the first byte with the high bit set or the end of the range if there
+	 * is none
+	 */
+	public int skipAscii(byte[] data, int from, int to) {
+		int i = from;
+		for (; i + 8 <= to; i += 8) {
+			long word = (long) JsonScanner.LONG_VIEW.get(data, i);
+			if ((word & JsonScanner.HIGH_BITS) != 0) {
+				return i + Long.numberOfTrailingZeros(word & JsonScanner.HIGH_BITS) / 8;
+			}
+		}
+		for (; i < to; i++) {
+			if (data[i] < 0) {
+				return i;
+			}
+		}
+		return to;
+	}
+
+	/**
+	 * Get the index behind the complete JSON value starting at the first byte in the specified
+	 * range, which is not whitespace. Only strings and the nesting of objects and arrays are
+	 * followed, so numbers, literals and the separators between the members of a container
+	 * are skipped without being checked.
+	 *
+	 * @param data - the bytes to scan
+	 * @param from - the index of the first byte to scan
+	 * @param to - the end of the range, exclusive
+	 * @return the index behind the value or the bitwise complement of the index, at which the
+	 * data stops being a complete value
+	 */
+	public int skipValue(byte[] data, int from, int to) {
+		return JsonScanner.skipValue(new ByteCursor(this, data, to), from);
+	}
+
+	/**
+	 * Get the index behind the complete JSON value starting at the first character in the
+	 * specified range, which is not whitespace. Only strings and the nesting of objects and
+	 * arrays are followed, so numbers, literals and the separators between the members of a
+	 * container are skipped without being checked.
+	 *
+	 * @param data - the characters to scan
+	 * @param from - the index of the first character to scan
+	 * @param to - the end of the range, exclusive
+	 * @return the index behind the value or the bitwise complement of the index, at which the
+	 * data stops being a complete value
+	 */
+	public int skipValue(char[] data, int from, int to) {
+		return JsonScanner.skipValue(new CharCursor(this, data, to), from);
+	}
+
+	/**
+	 * Get the position behind the complete JSON value starting at the first character of the
+	 * cursor, which is not whitespace. This is the single algorithm skipping values, which is
+	 * shared by the arrays of the scanner and by the parsers reading their data in sections.
+	 *
+	 * @param data - the cursor reading the data
+	 * @param from - the position of the first character to scan
+	 * @return the position behind the value or the bitwise complement of the position, at
+	 * which the data stops being a complete value
+	 */
+	static int skipValue(Cursor data, int from) {
+		boolean[] objects = null; // true for objects, false for arrays
+		int depth = 0;
+		int i = data.skipWhitespace(from);
+		do {
+			int next = data.charAt(i);
+			if (next < 0) {
+				return ~i;
+			} else if (next == '"') {
+				i = data.skipString(i + 1);
+				if (i < 0) {
+					return i;
+				}
+			} else if (next == '{' || next == '[') {
+				if (objects == null || depth == objects.length) {
+					objects = objects == null ? new boolean[16] : Arrays.copyOf(objects, depth * 2);
+				}
+				objects[depth++] = next == '{';
+				i++;
+			} else if (next == '}' || next == ']') {
+				if (depth == 0 || objects[depth - 1] != (next == '}')) {
+					return ~i;
+				}
+				depth--;
+				i++;
+			} else if (next == ',' || next == ':') {
+				if (depth == 0) {
+					return ~i;
+				}
+				i++;
+			} else { // numbers and literals end at the next delimiter
+				i = data.skipLiteral(i + 1);
+			}
+			if (depth > 0) {
+				i = data.skipWhitespace(i);
+			}
+		} while (depth > 0);
+		return i;
+	}
+
+	/**
+	 * Checks whether the specified character ends a number or literal.
+	 *
+	 * @param c - the character to check
+	 * @return true if the character is whitespace, a quote or a structural character
+	 */
+	static boolean isDelimiter(int c) {
+		return JsonScanner.isWhitespace(c) || c == ',' || c == ']' || c == '}' || c == ':' || c == '['
+				|| c == '{' || c == '"';
+	}
+
+	/**
+	 * Classify the block of {@value #BLOCK_SIZE} bytes starting at the specified index. For each
+	 * kind of byte, a mask holding a bit for each byte of the block, starting with the lowest
+	 * bit, is stored at the index of the kind.
+	 *
+	 * @param data - the bytes to classify
+	 * @param offset - the index of the first byte of the block
+	 * @param masks - the array of at least {@value #MASKS} elements receiving the masks of the
+	 * {@link #QUOTES quotes}, {@link #BACKSLASHES backslashes}, {@link #STRUCTURALS structural
+	 * characters} and {@link #WHITESPACE whitespace}
+	 * @throws IndexOutOfBoundsException if the block is outside of the bounds of the array
+	 */
+	public void classify(byte[] data, int offset, long[] masks) {
+		long quotes = 0;
+		long backslashes = 0;
+		long structurals = 0;
+		long whitespace = 0;
+		for (int i = 0; i < 8; i++) {
+			long word = (long) JsonScanner.LONG_VIEW.get(data, offset + i * 8);
+			int shift = i * 8;
+			quotes |= JsonScanner.gather(JsonScanner.match(word, '"')) << shift;
+			backslashes |= JsonScanner.gather(JsonScanner.match(word, '\\')) << shift;
+			structurals |= JsonScanner.gather(JsonScanner.match(word, '{') | JsonScanner.match(word, '}')
+					| JsonScanner.match(word, '[') | JsonScanner.match(word, ']') | JsonScanner.match(word, ':')
+					| JsonScanner.match(word, ',')) << shift;
+			whitespace |= JsonScanner.gather(JsonScanner.match(word, ' ') | JsonScanner.match(word, '\t')
+					| JsonScanner.match(word, '\n') | JsonScanner.match(word, '\r')) << shift;
+		}
+		masks[JsonScanner.QUOTES] = quotes;
+		masks[JsonScanner.BACKSLASHES] = backslashes;
+		masks[JsonScanner.STRUCTURALS] = structurals;
+		masks[JsonScanner.WHITESPACE] = whitespace;
+	}
+
+	/**
+	 * Checks whether the specified character is JSON whitespace.
+	 *
+	 * @param c - the character to check
+	 * @return true if the character is a space, a tab, a line feed or a carriage return
+	 */
+	protected static boolean isWhitespace(int c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+	}
+
+	/**
+	 * Get the bytes of the word, which equal the specified character.
+	 *
+	 * @param word - eight bytes in little-endian order
+	 * @param character - the ASCII character to match
+	 * @return a word with the high bit set in each matching byte and all other bits cleared
+	 */
+	private static long match(long word, char character) {
+		long difference = word ^ (JsonScanner.ONES * character);
+		// the high bit is set for each byte, which is not zero, without carrying into the next byte
+		long nonZero = ((difference & JsonScanner.LOW_BITS) + JsonScanner.LOW_BITS) | difference;
+		return ~nonZero & JsonScanner.HIGH_BITS;
+	}
+
+	/**
+	 * Gather the high bits of all bytes of the word into the lowest byte.
+	 *
+	 * @param matches - a word with only high bits set
+	 * @return a byte holding a bit for each byte, starting with the lowest bit
+	 */
+	private static long gather(long matches) {
+		return ((matches >>> 7) * 0x0102040810204080L) >>> 56;
+	}
+
+	/**
+	 * The Cursor class reads the data of a single value for {@link JsonScanner#skipValue(Cursor,
+	 * int)}. The positions passed to a cursor never decrease, so cursors over streamed data may
+	 * discard everything in front of the last position.
+	 *
+	 * @author Planters
+	 *
+	 */
+	abstract static class Cursor {
+
+		/**
+		 * Get the character at the specified position.
+		 *
+		 * @param position - the position of the character
+		 * @return the character or -1 if the data ends in front of the position
+		 */
+		abstract int charAt(int position);
+
+		/**
+		 * Get the position of the first character at or behind the specified position, which is
+		 * not whitespace.
+		 *
+		 * @param position - the position of the first character to check
+		 * @return the position of the first character, which is not whitespace, or the end of the
+		 * data
+		 */
+		abstract int skipWhitespace(int position);
+
+		/**
+		 * Get the position behind the closing quote of the string, whose content starts at the
+		 * specified position.
+		 *
+		 * @param position - the position of the first character behind the opening quote
+		 * @return the position behind the closing quote or the complement of the end of the data
+		 * if the string is not terminated
+		 */
+		abstract int skipString(int position);
+
+		/**
+		 * Get the position of the first {@link JsonScanner#isDelimiter(int) delimiter} at or
+		 * behind the specified position.
+		 *
+		 * @param position - the position of the first character to check
+		 * @return the position of the delimiter or the end of the data
+		 */
+		abstract int skipLiteral(int position);
+
+	}
+
+	/**
+	 * The ByteCursor class reads a range of a byte array with a scanner.
+	 *
+	 * @author Planters
+	 *
+	 */
+	private static final class ByteCursor extends Cursor {
+
+		private final JsonScanner scanner;
+		private final byte[] data;
+		private final int to;
+
+		/**
+		 * Creates a new cursor over the bytes in front of the specified end.
+		 *
+		 * @param scanner - the scanner searching the bytes
+		 * @param data - the bytes to read
+		 * @param to - the end of the range, exclusive
+		 */
+		ByteCursor(JsonScanner scanner, byte[] data, int to) {
+			this.scanner = scanner;
+			this.data = data;
+			this.to = to;
+		}
+
+		@Override
+		int charAt(int position) {
+			return position < this.to ? this.data[position] & 0xFF : -1;
+		}
+
+		@Override
+		int skipWhitespace(int position) {
+			return this.scanner.skipWhitespace(this.data, position, this.to);
+		}
+
+		@Override
+		int skipString(int position) {
+			int i = position;
+			while (i < this.to) {
+				int next = this.scanner.indexOf(this.data, i, this.to, (byte) '"', (byte) '\\');
+				if (next < 0) {
+					break;
+				} else if (this.data[next] == '"') {
+					return next + 1;
+				}
+				i = next + 2; // the escaped character cannot terminate the string
+			}
+			return ~this.to;
+		}
+
+		@Override
+		int skipLiteral(int position) {
+			int i = position;
+			while (i < this.to && !JsonScanner.isDelimiter(this.data[i])) {
+				i++;
+			}
+			return i;
+		}
+
+	}
+
+	/**
+	 * The CharCursor class reads a range of a character array with a scanner.
+	 *
+	 * @author Planters
+	 *
+	 */
+	private static final class CharCursor extends Cursor {
+
+		private final JsonScanner scanner;
+		private final char[] data;
+		private final int to;
+
+		/**
+		 * Creates a new cursor over the characters in front of the specified end.
+		 *
+		 * @param scanner - the scanner searching the characters
+		 * @param data - the characters to read
+		 * @param to - the end of the range, exclusive
+		 */
+		CharCursor(JsonScanner scanner, char[] data, int to) {
+			this.scanner = scanner;
+			this.data = data;
+			this.to = to;
+		}
+
+		@Override
+		int charAt(int position) {
+			return position < this.to ? this.data[position] : -1;
+		}
+
+		@Override
+		int skipWhitespace(int position) {
+			return this.scanner.skipWhitespace(this.data, position, this.to);
+		}
+
+		@Override
+		int skipString(int position) {
+			int i = position;
+			while (i < this.to) {
+				int next = this.scanner.indexOf(this.data, i, this.to, '"', '\\');
+				if (next < 0) {
+					break;
+				} else if (this.data[next] == '"') {
+					return next + 1;
+				}
+				i = next + 2; // the escaped character cannot terminate the string
+			}
+			return ~this.to;
+		}
+
+		@Override
+		int skipLiteral(int position) {
+			int i = position;
+			while (i < this.to && !JsonScanner.isDelimiter(this.data[i])) {
+				i++;
+			}
+			return i;
+		}
+
+	}
+
+}
@@ -5,6 +5,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Objects;
 
 import hockey.mask.json.JsonStandardException;
 
@@ -19,6 +21,8 @@ import hockey.mask.json.JsonStandardException;
 public class JsonStaticStreamParser extends JsonParser implements Cloneable, AutoCloseable {
 	
 	private BufferedReader readerData = null;
+	private static final JsonScanner SCANNER = JsonScanner.getInstance();
+	
 	private char[] jsonData = null; // the string to parse
 	private int pos = 0; // the current position of the parser
 	
@@ -78,17 +82,20 @@ public class JsonStaticStreamParser extends JsonParser implements Cloneable, Aut
 	 */
 	private void setData() throws JsonParserInternalException, JsonStandardException {
 		try {
-			StringBuilder sb = new StringBuilder();
-			int next = -1;
-			while ((next = this.readerData.read()) >= 0) {
-				sb.append((char) next);
+			// read in bulk into a growing buffer, so the data is only copied once more at the end
+			char[] buffer = new char[8192];
+			int length = 0;
+			int read = 0;
+			while ((read = this.readerData.read(buffer, length, buffer.length - length)) >= 0) {
+				length += read;
+				if (length == buffer.length) {
+					buffer = Arrays.copyOf(buffer, buffer.length * 2);
+				}
 			}
-			String streamContent = sb.toString();
-			if (streamContent.length() > 0) {
-				this.jsonData = sb.toString().toCharArray();
+			if (length > 0) {
+				this.jsonData = Arrays.copyOf(buffer, length);
 			} else {
-				throw new JsonStandardException("The empty string \"" + streamContent
-						+ "\" cannot be parsed.");
+				throw new JsonStandardException("The empty string \"\" cannot be parsed.");
 			}
 		} catch (IOException e) {
 			throw new JsonParserInternalException(String.format("Reading from the buffered reader %s failed.", 
@@ -98,9 +105,8 @@ public class JsonStaticStreamParser extends JsonParser implements Cloneable, Aut
 	
 	public JsonStringParser toStringParser() {
 		try {
-			JsonStringParser equivalentStringParser = new JsonStringParser(this.getData());
-			equivalentStringParser.setPosition(this.getPosition());
-			return equivalentStringParser;
+			// the data is never modified, so it can be shared instead of being copied
+			return new JsonStringParser(this.jsonData, this.pos);
 		} catch (JsonStandardException e) {
 			/*
 			 * This should not be possible as the only way a JsonStringParser will throw a 
@@ -153,7 +159,7 @@ public class JsonStaticStreamParser extends JsonParser implements Cloneable, Aut
 	 */
 	@Override
 	public String get(int length) throws IndexOutOfBoundsException {
-		if (this.getPosition() + length <= this.getData().length()) {
+		if (length >= 0 && this.getPosition() + length <= this.jsonData.length) {
 			String sub = new String(this.jsonData, this.getPosition(), length);
 			this.setPosition(this.getPosition() + length); // increment the position mark
 			return sub;
@@ -182,6 +188,72 @@ public class JsonStaticStreamParser extends JsonParser implements Cloneable, Aut
 		}
 	}
 	
+	/**
+	 * Get the characters between the specified positions of the stream as substring. 
+	 * The position mark will not be modified.
+	 * 
+	 * @param beginPosition - the position of the first character, inclusive
+	 * @param endPosition - the position of the last character, exclusive
+	 * @return the characters between the specified positions
+	 * @throws IndexOutOfBoundsException if the positions are outside of the bounds of the 
+	 * parsed stream or the begin position is larger than the end position
+	 */
+	@Override
+	public String getSection(int beginPosition, int endPosition) throws IndexOutOfBoundsException {
+		if (beginPosition >= 0 && beginPosition <= endPosition && endPosition <= this.jsonData.length) {
+			return new String(this.jsonData, beginPosition, endPosition - beginPosition);
+		} else {
+			throw new IndexOutOfBoundsException(String.format("The section from %s to %s is outside of the "
+					+ "bounds of a stream of length %s.", beginPosition, endPosition, this.jsonData.length));
+		}
+	}
+	
+	/**
+	 * Get an excerpt of the stream surrounding the specified position, which holds at most 
+	 * the specified number of characters before and after the position. 
+	 * The position mark will not be modified.
+	 * 
+	 * @param position - the position to get the surrounding data from
+	 * @param radius - the maximum number of characters before and after the position
+	 * @return the data surrounding the specified position
+	 * @throws IndexOutOfBoundsException if the position is outside of the bounds of the 
+	 * parsed stream
+	 */
+	@Override
+	public String getExcerpt(int position, int radius) throws IndexOutOfBoundsException {
+		if (position >= 0 && position <= this.jsonData.length) {
+			return this.getSection(Math.max(0, position - radius), 
+					(int) Math.min(this.jsonData.length, (long) position + radius));
+		} else {
+			throw new IndexOutOfBoundsException(String.format("The index %s is outside of the "
+					+ "bounds of a stream of length %s.", position, this.jsonData.length));
+		}
+	}
+	
+	/**
+	 * Get the line and column of the specified position by counting the line feeds in front 
+	 * of it without copying the stream.
+	 * 
+	 * @param position - the position to locate
+	 * @return the line and column of the position or null if it is outside of the bounds of 
+	 * the parsed stream
+	 */
+	@Override
+	int[] getLineAndColumn(int position) {
+		if (position < 0 || position > this.jsonData.length) {
+			return null;
+		}
+		int line = 1;
+		int lineStart = 0;
+		for (int i = 0; i < position; i++) {
+			if (this.jsonData[i] == '\n') {
+				line++;
+				lineStart = i + 1;
+			}
+		}
+		return new int[] {line, position - lineStart + 1};
+	}
+	
 	/**
 	 * Get the data held by this parser.
 	 * 
@@ -240,13 +312,7 @@ public class JsonStaticStreamParser extends JsonParser implements Cloneable, Aut
 	 */
 	@Override
 	public boolean isNext(String query) {
-		if (query != null) {
-			int end = this.getPosition() + query.length();
-			if (end <= this.getData().length()) {
-				return this.getData().substring(this.getPosition(), end).equals(query);
-			}
-		}
-		return false;
+		return this.regionMatches(this.getPosition(), query);
 	}
 	
 	/**
@@ -259,16 +325,11 @@ public class JsonStaticStreamParser extends JsonParser implements Cloneable, Aut
 	 */
 	@Override
 	public boolean isNext(String query, boolean incrementPosition) {
-		if (query != null) {
-			int end = this.getPosition() + query.length();
-			if (end <= this.getData().length()) {
-				if (this.getData().substring(this.getPosition(), end).equals(query)) {
-					if (incrementPosition) {
-						this.setPosition(this.getPosition() + query.length());
-					}
-					return true;
-				}
+		if (this.regionMatches(this.getPosition(), query)) {
+			if (incrementPosition) {
+				this.pos += query.length();
 			}
+			return true;
 		}
 		return false;
 	}
@@ -284,6 +345,129 @@ public class JsonStaticStreamParser extends JsonParser implements Cloneable, Aut
 		return this.hasNext() && Character.isDigit(this.jsonData[this.getPosition()]);
 	}
 	
+	/**
+	 * Get the next character without incrementing the position mark.
+	 * 
+	 * @return the next character or -1 if the end of the parsed stream has been reached
+	 */
+	@Override
+	public int peek() {
+		return this.pos < this.jsonData.length ? this.jsonData[this.pos] : -1;
+	}
+	
+	/**
+	 * Get the character at the specified offset from the position mark. 
+	 * The position mark will not be modified.
+	 * 
+	 * @param offset - the offset from the position mark
+	 * @return the character at the specified offset or -1 if the offset is outside of the 
+	 * bounds of the parsed stream
+	 */
+	@Override
+	public int peek(int offset) {
+		long index = (long) this.pos + offset;
+		return index >= 0 && index < this.jsonData.length ? this.jsonData[(int) index] : -1;
+	}
+	
+	/**
+	 * Checks whether the characters at the specified position are the query. The 
+	 * characters are compared in place, so no copy of the parsed stream is created.
+	 * The position mark will not be modified.
+	 * 
+	 * @param position - the position to compare the query with
+	 * @param query - the string to query for
+	 * @return true if the characters starting at the specified position equal the query
+	 */
+	@Override
+	public boolean regionMatches(int position, String query) {
+		if (query != null && position >= 0 && position <= this.jsonData.length - query.length()) {
+			for (int i = 0; i < query.length(); i++) {
+				if (this.jsonData[position + i] != query.charAt(i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return false;
+	}
+	
+	/**
+	 * Get the position of the next occurrence of the query, starting the search at the 
+	 * position mark. The position mark will not be modified.
+	 * 
+	 * @param query - the char to search for
+	 * @return the position of the next occurrence or -1 if the query does not occur anymore
+	 */
+	@Override
+	public int indexOf(char query) {
+		for (int i = this.pos; i < this.jsonData.length; i++) {
+			if (this.jsonData[i] == query) {
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Moves the position mark behind the next sequence of digits. 
+	 * If the next character is not a digit, the position mark will not be modified.
+	 * 
+	 * @return the number of skipped digits
+	 */
+	@Override
+	public int skipDigits() {
+		int start = this.pos;
+		while (this.pos < this.jsonData.length && Character.isDigit(this.jsonData[this.pos])) {
+			this.pos++;
+		}
+		return this.pos - start;
+	}
+	
+	/**
+	 * Get the characters in front of the next terminator as string and move the position
+	 * mark onto the terminator.
+	 * 
+	 * @param terminator - the character terminating the string
+	 * @param escape - the character, which may not occur in front of the terminator
+	 * @return the characters in front of the terminator or null if the escape character occurs
+	 * in front of the terminator or there is no terminator
+	 */
+	@Override
+	public String getUntil(char terminator, char escape) {
+		int i = JsonStaticStreamParser.SCANNER.indexOf(this.jsonData, this.pos, this.jsonData.length, terminator, escape);
+		if (i < 0 || this.jsonData[i] != terminator) {
+			return null;
+		}
+		String section = new String(this.jsonData, this.pos, i - this.pos);
+		this.pos = i;
+		return section;
+	}
+	
+	/**
+	 * Get the symbol of the characters in front of the next terminator from the specified
+	 * symbol table and move the position mark onto the terminator. As the whole
+	 * stream has been read in advance, the characters are looked up where they are stored.
+	 * 
+	 * @param <T> the type of the symbols
+	 * @param terminator - the character terminating the string
+	 * @param escape - the character, which may not occur in front of the terminator
+	 * @param symbols - the symbol table canonicalizing the characters
+	 * @return the symbol of the characters in front of the terminator or null if the escape
+	 * character occurs in front of the terminator or there is no terminator
+	 * @throws NullPointerException if null is passed as symbol table
+	 */
+	@Override
+	public <T> T getUntil(char terminator, char escape, JsonSymbolTable<T> symbols) {
+		Objects.requireNonNull(symbols, "The symbol table may not be null.");
+		int i = JsonStaticStreamParser.SCANNER.indexOf(this.jsonData, this.pos, this.jsonData.length, terminator, escape);
+		if (i < 0 || this.jsonData[i] != terminator) {
+			return null;
+		}
+		T symbol = symbols.get(this.jsonData, this.pos, i - this.pos);
+		this.pos = i;
+		return symbol;
+	}
+	
 	/**
 	 * Get the remaining characters of the parsed string as substring.
 	 * 
@@ -309,9 +493,28 @@ public class JsonStaticStreamParser extends JsonParser implements Cloneable, Aut
 	 */
 	@Override
 	public void skipWhitespace() {
-		while (this.hasNext() && Character.isWhitespace(this.jsonData[this.getPosition()])) {
-			this.setPosition(this.getPosition() + 1);
+		while (this.pos < this.jsonData.length) {
+			this.pos = JsonStaticStreamParser.SCANNER.skipWhitespace(this.jsonData, this.pos, this.jsonData.length);
+			if (this.pos >= this.jsonData.length || !Character.isWhitespace(this.jsonData[this.pos])) {
+				return;
+			}
+			this.pos++; // whitespace outside of the JSON standard
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void skipValue() throws JsonStandardException {
+		int startingPosition = this.pos;
+		this.skipWhitespace();
+		int end = JsonStaticStreamParser.SCANNER.skipValue(this.jsonData, this.pos, this.jsonData.length);
+		if (end < 0) {
+			this.pos = startingPosition; // the parser should not be modified
+			throw new JsonParseException(this, ~end, "a complete JSON value");
 		}
+		this.pos = end;
 	}
 
 	/**
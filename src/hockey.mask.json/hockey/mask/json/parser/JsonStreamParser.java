@@ -1,188 +1,260 @@
 package hockey.mask.json.parser;
 
-import java.io.BufferedReader;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
 
 /**
- * The JsonStreamParser class facilitates the processing of a a character stream input into a JSON value.
- * As this class works solely on a BufferedReader the usage of JsonStaticStreamParser is advised if a 
+ * The JsonStreamParser class facilitates the processing of a a character stream input into a JSON value. 
+ * Input streams, readers and channels are supported and do not need to support marking.
+ * As this class reads the stream while parsing the usage of JsonStaticStreamParser is advised if a 
  * snapshot of the stream at the time of parser creation is sufficient as it is much safer. 
  * 
+ * <p>The read characters are held in a sliding window of fixed size, so every character is only 
+ * read once from the stream and the memory consumption does not grow with the size of the data. 
+ * When the window is full, the oldest characters are discarded, keeping at most half of the 
+ * window as backtrack region in front of the position mark. The other half is available as 
+ * lookahead. Setting the position mark in front of the window or looking further ahead than the 
+ * window allows throws an IndexOutOfBoundsException, which also applies to retrieving the 
+ * entire data if it does not fit into the window.</p>
+ * 
  * @author Planters
  *
  */
 public class JsonStreamParser extends JsonParser implements Closeable, AutoCloseable {
 
-	private BufferedReader data = null;
-	private int maxPosition = 200;
+	/**
+	 * The number of characters held by the window if no other size is specified.
+	 */
+	public static final int DEFAULT_WINDOW_SIZE = 1 << 16;
+	
+	/**
+	 * The smallest number of characters held by the window. Half of the window is available as
+	 * lookahead, which needs to hold the longest literal and unicode escape sequence.
+	 */
+	public static final int MINIMUM_WINDOW_SIZE = 16;
+	
+	private Reader data = null;
+	private char[] window = null; // the characters currently held in memory
+	private int windowStart = 0; // the position of the first character in the window
+	private int windowLength = 0; // the number of characters in the window
+	private boolean endOfData = false; // true if the reader has been read completely
 	private int currentPosition = 0;
 	
 	/**
 	 * Use an input stream for parsing JSON data.<br>
-	 * The input stream must support marking as this is required for some of the 
-	 * functionality of the parser.<br>
+	 * The parser buffers the stream itself, so the input stream does not need to support marking.<br>
 	 * Also the stream is not closed at any point. This needs to be performed separately.
 	 * 
 	 * @param in - the input stream to use for parsing
 	 * @throws NullPointerException if the specified stream is null
-	 * @throws JsonParserInternalException if the specified stream does not support marking or marking the 
-	 * initial position failed
 	 */
-	public JsonStreamParser(InputStream in) throws JsonParserInternalException {
-		if (in != null) {
-			if (in.markSupported()) {
-				this.data = new BufferedReader(new InputStreamReader(in));
-				// mark the initial position
-				try {
-					this.data.mark(this.maxPosition);
-				} catch (IOException e) {
-					throw new JsonParserInternalException(String.format("Marking the first character "
-							+ "of reader %s failed.", this.data), e);
-				}
-			} else {
-				throw new JsonParserInternalException("The InputStream must support marking.");
-			}
-		} else {
-			throw new NullPointerException("The input stream for the JSON parser may not be null.");
-		}
+	public JsonStreamParser(InputStream in) {
+		this(in, null, JsonStreamParser.DEFAULT_WINDOW_SIZE);
 	}
 	
 	/**
 	 * Use an input stream for parsing JSON data with the specified charset. If the charset is 
 	 * null the system default will be used.<br>
-	 * The input stream must support marking as this is required for some of the 
-	 * functionality of the parser.<br>
+	 * The parser buffers the stream itself, so the input stream does not need to support marking.<br>
+	 * Also the stream is not closed at any point. This needs to be performed separately.
+	 * 
+	 * @param in - the input stream to use for parsing
+	 * @param charset - the charset to use for decoding
+	 * @throws NullPointerException if the specified stream is null
+	 */
+	public JsonStreamParser(InputStream in, Charset charset) {
+		this(in, charset, JsonStreamParser.DEFAULT_WINDOW_SIZE);
+	}
+	
+	/**
+	 * Use an input stream for parsing JSON data with the specified charset and window size. 
+	 * If the charset is null the system default will be used.<br>
+	 * The parser buffers the stream itself, so the input stream does not need to support marking.<br>
 	 * Also the stream is not closed at any point. This needs to be performed separately.
 	 * 
 	 * @param in - the input stream to use for parsing
 	 * @param charset - the charset to use for decoding
-	 * @throws NullPointerException if the specified stream or charset is null
-	 * @throws JsonParserInternalException if the specified stream does not support marking or marking the 
-	 * initial position failed
+	 * @param windowSize - the maximum number of characters held in memory
+	 * @throws NullPointerException if the specified stream is null
+	 * @throws IllegalArgumentException if the window size is smaller than
+	 * {@value #MINIMUM_WINDOW_SIZE}
 	 */
-	public JsonStreamParser(InputStream in, Charset charset) throws JsonParserInternalException {
+	public JsonStreamParser(InputStream in, Charset charset, int windowSize) {
 		if (in != null) {
-			if (in.markSupported()) {
-				if (charset != null) {
-					this.data = new BufferedReader(new InputStreamReader(in, charset));
-				} else {
-					this.data = new BufferedReader(new InputStreamReader(in));
-				}
-				// mark the initial position
-				try {
-					this.data.mark(this.maxPosition);
-				} catch (IOException e) {
-					throw new JsonParserInternalException(String.format("Marking the first character "
-							+ "of reader %s failed.", this.data), e);
-				}
+			if (charset != null) {
+				this.data = new InputStreamReader(in, charset);
 			} else {
-				throw new JsonParserInternalException("The InputStream must support marking.");
+				this.data = new InputStreamReader(in);
 			}
+			this.setWindowSize(windowSize);
 		} else {
 			throw new NullPointerException("The input stream for the JSON parser may not be null.");
 		}
 	}
 	
 	/**
-	 * Use an input stream reader for parsing JSON data.<br>
-	 * The input stream reader must support marking as this is required for some of the 
-	 * functionality of the parser.<br>
-	 * Also the stream reader is not closed at any point. This needs to be performed separately.
+	 * Use a reader for parsing JSON data.<br>
+	 * The parser buffers the reader itself, so the reader does not need to support marking.<br>
+	 * Also the reader is not closed at any point. This needs to be performed separately.
+	 * 
+	 * @param in - the reader to use for parsing
+	 * @throws NullPointerException if the specified reader is null
+	 */
+	public JsonStreamParser(Reader in) {
+		this(in, JsonStreamParser.DEFAULT_WINDOW_SIZE);
+	}
+	
+	/**
+	 * Use a reader for parsing JSON data with the specified window size.<br>
+	 * The parser buffers the reader itself, so the reader does not need to support marking.<br>
+	 * Also the reader is not closed at any point. This needs to be performed separately.
+	 * 
+	 * @param in - the reader to use for parsing
+	 * @param windowSize - the maximum number of characters held in memory
+	 * @throws NullPointerException if the specified reader is null
+	 * @throws IllegalArgumentException if the window size is smaller than
+	 * {@value #MINIMUM_WINDOW_SIZE}
+	 */
+	public JsonStreamParser(Reader in, int windowSize) {
+		if (in != null) {
+			this.data = in;
+			this.setWindowSize(windowSize);
+		} else {
+			throw new NullPointerException("The reader for the JSON parser may not be null.");
+		}
+	}
+	
+	/**
+	 * Use a channel for parsing JSON data with the specified charset. If the charset is 
+	 * null the system default will be used.<br>
+	 * Also the channel is not closed at any point. This needs to be performed separately.
+	 * 
+	 * @param in - the channel to use for parsing
+	 * @param charset - the charset to use for decoding
+	 * @throws NullPointerException if the specified channel is null
+	 */
+	public JsonStreamParser(ReadableByteChannel in, Charset charset) {
+		this(in, charset, JsonStreamParser.DEFAULT_WINDOW_SIZE);
+	}
+	
+	/**
+	 * Use a channel for parsing JSON data with the specified charset and window size. If the 
+	 * charset is null the system default will be used.<br>
+	 * Also the channel is not closed at any point. This needs to be performed separately.
 	 * 
-	 * @param in - the input stream reader to use for parsing
-	 * @throws NullPointerException if the specified stream reader is null
-	 * @throws JsonParserInternalException if the specified stream reader does not support marking or marking the 
-	 * initial position failed
-	 */
-//	public JsonStreamParser(InputStreamReader in) throws JsonParserInternalException {
-//		if (in != null) {
-//			if (in.markSupported()) {
-//				this.data = new BufferedReader(in);
-//				// mark the initial position
-//				try {
-//					this.data.mark(this.maxPosition);
-//				} catch (IOException e) {
-//					throw new JsonParserInternalException(String.format("Marking the first character "
-//							+ "of reader %s failed.", this.data), e);
-//				}
-//			} else {
-//				throw new JsonParserInternalException("The InputStream must support marking.");
-//			}
-//		} else {
-//			throw new NullPointerException("The input stream for the JSON parser may not be null.");
-//		}
-//	}
+	 * @param in - the channel to use for parsing
+	 * @param charset - the charset to use for decoding
+	 * @param windowSize - the maximum number of characters held in memory
+	 * @throws NullPointerException if the specified channel is null
+	 * @throws IllegalArgumentException if the window size is smaller than
+	 * {@value #MINIMUM_WINDOW_SIZE}
+	 */
+	public JsonStreamParser(ReadableByteChannel in, Charset charset, int windowSize) {
+		if (in != null) {
+			/*
+			 * Decode like an InputStreamReader, which replaces malformed input instead of 
+			 * failing, so all constructors behave the same.
+			 */
+			this.data = Channels.newReader(in, (charset != null ? charset : Charset.defaultCharset()).newDecoder()
+					.onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE), -1);
+			this.setWindowSize(windowSize);
+		} else {
+			throw new NullPointerException("The channel for the JSON parser may not be null.");
+		}
+	}
 	
 	/**
-	 * Use an buffered reader for parsing JSON data.<br>
-	 * The buffered reader must support marking as this is required for some of the 
-	 * functionality of the parser.<br>
-	 * Also the buffered reader is not closed at any point. This needs to be performed separately.
+	 * Create the window holding the specified number of characters.
 	 * 
-	 * @param in - the buffered reader to use for parsing
-	 * @throws NullPointerException if the specified buffered reader is null
-	 * @throws JsonParserInternalException if the specified buffered reader does not support marking or marking the 
-	 * initial position failed
-	 */
-//	public JsonStreamParser(BufferedReader in) throws JsonParserInternalException {
-//		if (in != null) {
-//			if (in.markSupported()) {
-//				this.data = new BufferedReader(in);
-//				// mark the initial position
-//				try {
-//					this.data.mark(this.maxPosition);
-//				} catch (IOException e) {
-//					throw new JsonParserInternalException(String.format("Marking the first character "
-//							+ "of reader %s failed.", this.data), e);
-//				}
-//			} else {
-//				throw new JsonParserInternalException("The InputStream must support marking.");
-//			}
-//		} else {
-//			throw new NullPointerException("The input stream for the JSON parser may not be null.");
-//		}
-//	}
+	 * @param windowSize - the maximum number of characters held in memory
+	 * @throws IllegalArgumentException if the window size is smaller than
+	 * {@value #MINIMUM_WINDOW_SIZE}
+	 */
+	private void setWindowSize(int windowSize) throws IllegalArgumentException {
+		if (windowSize >= JsonStreamParser.MINIMUM_WINDOW_SIZE) {
+			this.window = new char[windowSize];
+		} else {
+			throw new IllegalArgumentException(String.format("The window size %s is smaller than %s.", 
+					windowSize, JsonStreamParser.MINIMUM_WINDOW_SIZE));
+		}
+	}
 	
 	/**
-	 * Expand the internal buffer for moving the position mark at least to the specified size.
+	 * Reads from the reader until the character at the specified position is held by the window 
+	 * or the end of the data has been reached. Characters in front of the specified retained 
+	 * position will be discarded if the window is full.
 	 * 
-	 * @throws JsonParserInternalException if resetting the internal reader failed or if restoring the position 
-	 * mark to the previous position failed
+	 * @param position - the position of the character to load
+	 * @param retainedPosition - the first position, which may not be discarded
+	 * @return true if the character at the specified position is held by the window, false if the 
+	 * data ends in front of it
+	 * @throws IndexOutOfBoundsException if the window is too small to hold all characters between 
+	 * both positions
+	 * @throws JsonParserInternalException if an I/O error occurs
 	 */
-	private void expandMarkBuffer(int minimalSize) throws JsonParserInternalException {
-		if (this.maxPosition <= minimalSize) {
+	private boolean load(int position, int retainedPosition) throws IndexOutOfBoundsException, 
+			JsonParserInternalException {
+		while (position >= this.windowStart + this.windowLength) {
+			if (this.endOfData) {
+				return false;
+			}
+			if (this.windowLength == this.window.length) {
+				this.discard(retainedPosition);
+			}
 			try {
-				int pos = this.getPosition(); // reset the position to this point after updating
-				this.data.reset();
-				this.maxPosition = 2 * minimalSize; // expand the buffer to double the specified size
-				this.data.mark(this.maxPosition);
-				this.currentPosition = (int) this.data.skip(pos);
-				if (pos != this.currentPosition) {
-					throw new JsonParserInternalException(String.format("The reader %s has been at position %s before "
-							+ "updating the mark, but could only be reset to position %s.", 
-							this.data, pos, this.currentPosition));
-				}	
+				int read = this.data.read(this.window, this.windowLength, this.window.length - this.windowLength);
+				if (read >= 0) {
+					this.windowLength += read;
+				} else {
+					this.endOfData = true;
+				}
 			} catch (IOException e) {
-				throw new JsonParserInternalException(String.format("An I/O error occurred while resetting "
-						+ "the reader %s.", this.data), e);
+				throw new JsonParserInternalException(String.format("An I/O error occurred while reading the "
+						+ "reader %s.", this.data), e);
 			}
 		}
+		return true;
+	}
+	
+	/**
+	 * Discards the oldest characters of the window to make room for new ones. As long as possible 
+	 * half of the window will be kept as backtrack region in front of the retained position.
+	 * 
+	 * @param retainedPosition - the first position, which may not be discarded
+	 * @throws IndexOutOfBoundsException if no character can be discarded
+	 */
+	private void discard(int retainedPosition) throws IndexOutOfBoundsException {
+		int newStart = Math.min(Math.max(this.windowStart, retainedPosition - this.window.length / 2), 
+				this.windowStart + this.windowLength);
+		if (newStart == this.windowStart) { // there is no backtrack region to shrink
+			newStart = Math.min(retainedPosition, this.windowStart + this.windowLength);
+		}
+		if (newStart > this.windowStart) {
+			int shift = newStart - this.windowStart;
+			System.arraycopy(this.window, shift, this.window, 0, this.windowLength - shift);
+			this.windowStart = newStart;
+			this.windowLength -= shift;
+		} else {
+			throw new IndexOutOfBoundsException(String.format("The characters from position %s on "
+					+ "do not fit into a window of size %s.", retainedPosition, this.window.length));
+		}
 	}
 	
 	/**
-	 * Reads the next character from the reader and ensures the capacity of the mark for resetting 
-	 * is large enough to not be invalidated by any read action.
+	 * Get the size of the window, which is the maximum number of characters held in memory.
 	 * 
-	 * @return the read character
-	 * @throws IOException if an I/O error occurred
+	 * @return the size of the window
 	 */
-	private int checkedRead() throws IOException {
-		this.expandMarkBuffer(this.currentPosition + 1);
-		return this.data.read();
+	public int getWindowSize() {
+		return this.window.length;
 	}
 	
 	/**
@@ -200,38 +272,43 @@ public class JsonStreamParser extends JsonParser implements Closeable, AutoClose
 	 * 
 	 * @param position - the position to set the parser to
 	 * @throws IndexOutOfBoundsException if the passed position is outside of the bounds of the 
-	 * parsed data
+	 * parsed data or has already been discarded from the window
 	 * @throws JsonParserInternalException if an I/O error occurs
 	 */
 	@Override
 	public void setPosition(int position) throws IndexOutOfBoundsException, JsonParserInternalException {
-		if (position >= 0) {
-			int initialPosition = this.getPosition();
-			// expand the buffer if necessary
-			if (position >= this.maxPosition) {
-				this.expandMarkBuffer(position);
-			}
-			try {
-				this.data.reset();
-				this.currentPosition = (int) this.data.skip(position);
-				if (this.currentPosition != position) {
-					int failPosition = this.currentPosition;
-					// reset the reader to the initial position
-					this.data.reset();
-					this.currentPosition = (int) this.data.skip(initialPosition);
-					throw new IndexOutOfBoundsException(String.format("The reader %s should be set to "
-							+ "position %s, but could only be set to position %s.", 
-							this.data, position, failPosition));
-				}
-			} catch (IOException e) {
-				throw new JsonParserInternalException(String.format("An I/O error occurred while resetting "
-						+ "the reader %s.", this.data), e);
+		if (position >= this.windowStart) {
+			// the end position is valid, so only the character in front of it needs to exist
+			if (position == 0 || this.load(position - 1, position - 1)) {
+				this.currentPosition = position;
+			} else {
+				throw new IndexOutOfBoundsException(String.format("The reader %s cannot be set to "
+						+ "position %s as the data ends before.", this.data, position));
 			}
 		} else {
 			throw new IndexOutOfBoundsException(String.format("The reader %s cannot be set to "
-					+ "position %s.", 
-					this.data, position));
+					+ "position %s as the window starts at position %s.", 
+					this.data, position, this.windowStart));
+		}
+	}
+
+	/**
+	 * Move the position mark back to the specified position after a value could not be parsed. 
+	 * If the position has already been discarded from the window, the position mark is left 
+	 * where it is.
+	 * 
+	 * @param position - the position the failed attempt started at
+	 * @return true if the position mark has been moved to the specified position, false if the 
+	 * position has already been discarded
+	 * @throws JsonParserInternalException if an I/O error occurs
+	 */
+	@Override
+	public boolean resetPosition(int position) throws JsonParserInternalException {
+		if (position >= this.windowStart && position <= this.currentPosition) {
+			this.currentPosition = position; // the window holds all positions up to the mark
+			return true;
 		}
+		return position >= this.windowStart && super.resetPosition(position);
 	}
 
 	/**
@@ -242,32 +319,20 @@ public class JsonStreamParser extends JsonParser implements Closeable, AutoClose
 	 * @param length - the number of characters to read from the reader
 	 * @return the read characters as string
 	 * @throws IndexOutOfBoundsException if the end of the string is outside of the bounds 
-	 * of the parsed data
+	 * of the parsed data or the window
 	 * @throws JsonParserInternalException if an I/O error occurred
 	 */
 	@Override
 	public String get(int length) throws IndexOutOfBoundsException, JsonParserInternalException {
 		if (length >= 0) {
-			int initialPosition = this.getPosition();
-			char[] readString = new char[length];
-			for (int i = 0; i < readString.length; i++) {
-				try {
-					int readCharacter = this.checkedRead();
-					if (readCharacter >= 0) {
-						readString[i] = (char) readCharacter;
-						this.currentPosition++;
-					} else {
-						this.setPosition(initialPosition); // reset the position mark
-						throw new IndexOutOfBoundsException("Less than " + length + " characters are "
-								+ "available.");
-					}
-				} catch (IOException e) {
-					throw new JsonParserInternalException(String.format("An I/O error occurred while reading the "
-							+ "reader %s.", this.data), e);
-				}
-				
+			if (length == 0 || this.load(this.currentPosition + length - 1, this.currentPosition)) {
+				String next = new String(this.window, this.currentPosition - this.windowStart, length);
+				this.currentPosition += length;
+				return next;
+			} else {
+				throw new IndexOutOfBoundsException("Less than " + length + " characters are "
+						+ "available.");
 			}
-			return new String(readString);
 		} else {
 			throw new IndexOutOfBoundsException(String.format("The reader %s cannot read %s characters.", 
 					this.data, length));
@@ -275,21 +340,81 @@ public class JsonStreamParser extends JsonParser implements Closeable, AutoClose
 	}
 	
 	/**
-	 * Get the next characters as string. This will not increment the position mark.
+	 * Get the next character of the reader.
+	 * The position mark will be incremented by one.
 	 * 
-	 * @param length - the number of characters to retrieve
-	 * @return the next characters as string
+	 * @return the next character 
+	 * @throws IndexOutOfBoundsException if the end of the parsed data has been reached
 	 * @throws JsonParserInternalException if an I/O error occurred
 	 */
-	private String getNextCharacters(int length) throws JsonParserInternalException {
-		int initialPosition = this.getPosition();
-		try {
-			String next = this.get(length);
-			this.setPosition(initialPosition);
-			return next;
-		} catch (IndexOutOfBoundsException e) {
-			this.setPosition(initialPosition);
-			return null;
+	@Override
+	public char get() throws IndexOutOfBoundsException, JsonParserInternalException {
+		if (this.hasNext()) {
+			return this.window[this.currentPosition++ - this.windowStart];
+		} else {
+			throw new IndexOutOfBoundsException(String.format("The reader %s has no characters left "
+					+ "after position %s.", this.data, this.currentPosition));
+		}
+	}
+	
+	/**
+	 * Get the characters between the specified positions of the reader as string. 
+	 * The position mark will not be modified.
+	 * 
+	 * @param beginPosition - the position of the first character, inclusive
+	 * @param endPosition - the position of the last character, exclusive
+	 * @return the characters between the specified positions
+	 * @throws IndexOutOfBoundsException if the positions are outside of the bounds of the 
+	 * parsed data or the window or the begin position is larger than the end position
+	 * @throws JsonParserInternalException if an I/O error occurred
+	 */
+	@Override
+	public String getSection(int beginPosition, int endPosition) throws IndexOutOfBoundsException, 
+			JsonParserInternalException {
+		if (beginPosition >= this.windowStart && beginPosition <= endPosition 
+				&& (beginPosition == endPosition || this.load(endPosition - 1, 
+						Math.min(beginPosition, this.currentPosition)))) {
+			return new String(this.window, beginPosition - this.windowStart, endPosition - beginPosition);
+		} else {
+			throw new IndexOutOfBoundsException(String.format("The section from %s to %s is not "
+					+ "available in the reader %s.", beginPosition, endPosition, this.data));
+		}
+	}
+	
+	/**
+	 * Get an excerpt of the data surrounding the specified position, which holds at most 
+	 * the specified number of characters before and after the position. Only characters 
+	 * held by the window are part of the excerpt. 
+	 * The position mark will not be modified.
+	 * 
+	 * @param position - the position to get the surrounding data from
+	 * @param radius - the maximum number of characters before and after the position
+	 * @return the data surrounding the specified position
+	 * @throws IndexOutOfBoundsException if the position is outside of the bounds of the 
+	 * parsed data or the window
+	 * @throws JsonParserInternalException if an I/O error occurred
+	 */
+	@Override
+	public String getExcerpt(int position, int radius) throws IndexOutOfBoundsException, 
+			JsonParserInternalException {
+		if (position >= this.windowStart && (position == 0 || this.load(position - 1, 
+				Math.min(position, this.currentPosition)))) {
+			int end = position;
+			try {
+				while (end < position + radius && this.load(end, Math.min(position, this.currentPosition))) {
+					end++;
+				}
+			} catch (IndexOutOfBoundsException e) {
+				/*
+				 * Only show the characters fitting into the window.
+				 */
+			}
+			int begin = Math.max(this.windowStart, position - radius);
+			return new String(this.window, begin - this.windowStart, Math.min(end, 
+					this.windowStart + this.windowLength) - begin);
+		} else {
+			throw new IndexOutOfBoundsException(String.format("The position %s is not "
+					+ "available in the reader %s.", position, this.data));
 		}
 	}
 
@@ -297,19 +422,16 @@ public class JsonStreamParser extends JsonParser implements Closeable, AutoClose
 	 * Get the entire data of the underlying reader.
 	 * 
 	 * @return all characters of the reader as string
+	 * @throws IndexOutOfBoundsException if the data does not fit into the window
 	 * @throws JsonParserInternalException if an I/O error occurs
 	 */
 	@Override
-	public String getData() throws JsonParserInternalException {
-		int initialPosition = this.getPosition();
-		StringBuilder sb = new StringBuilder();
-		this.rewind(); // reset the reader to the first position
-		// read all data
-		while (this.hasNext()) {
-			sb.append(this.get());
+	public String getData() throws IndexOutOfBoundsException, JsonParserInternalException {
+		int end = this.windowStart + this.windowLength;
+		while (this.load(end, 0)) {
+			end = this.windowStart + this.windowLength;
 		}
-		this.setPosition(initialPosition); // restore the position
-		return sb.toString();
+		return this.getSection(0, end);
 	}
 
 	/**
@@ -320,27 +442,19 @@ public class JsonStreamParser extends JsonParser implements Closeable, AutoClose
 	 */
 	@Override
 	public boolean hasNext() throws JsonParserInternalException {
-		try {
-			int initialPosition = this.getPosition();
-			int response = this.checkedRead();
-			this.setPosition(initialPosition);
-			return response >= 0;
-		} catch (IOException e) {
-			throw new JsonParserInternalException(String.format("An I/O error occurred while reading the "
-					+ "reader %s.", this.data), e);
-		}
+		return this.load(this.currentPosition, this.currentPosition);
 	}
 	
 	@Override
 	public boolean isNext(char query) {
-		return this.hasNext() && query == this.getNextCharacters(1).charAt(0);
+		return this.hasNext() && query == this.window[this.currentPosition - this.windowStart];
 	}
 
 	@Override
 	public boolean isNext(char query, boolean incrementPosition) {
 		boolean next = this.isNext(query);
-		if (incrementPosition && next) { // query cannot be null if true
-			this.setPosition(this.getPosition() + 1);
+		if (incrementPosition && next) {
+			this.currentPosition++;
 		}
 		return next;
 	}
@@ -351,15 +465,25 @@ public class JsonStreamParser extends JsonParser implements Closeable, AutoClose
 	 * 
 	 * @param query - the string to query for
 	 * @return true if the next characters equal the query
+	 * @throws IndexOutOfBoundsException if the query is longer than the window allows
 	 * @throws JsonParserInternalException if an I/O error occurs
 	 */
 	@Override
-	public boolean isNext(String query) throws JsonParserInternalException {
+	public boolean isNext(String query) throws IndexOutOfBoundsException, JsonParserInternalException {
 		if (query != null) {
-			return query.equals(this.getNextCharacters(query.length()));
-		} else {
-			return false;
+			if (query.length() == 0) {
+				return true;
+			} else if (this.load(this.currentPosition + query.length() - 1, this.currentPosition)) {
+				int offset = this.currentPosition - this.windowStart;
+				for (int i = 0; i < query.length(); i++) {
+					if (this.window[offset + i] != query.charAt(i)) {
+						return false;
+					}
+				}
+				return true;
+			}
 		}
+		return false;
 	}
 
 	/**
@@ -369,13 +493,15 @@ public class JsonStreamParser extends JsonParser implements Closeable, AutoClose
 	 * @param query - the string to query for
 	 * @param incrementPosition - true to increment the position mark by the search if found
 	 * @return true if the next characters equal the query
+	 * @throws IndexOutOfBoundsException if the query is longer than the window allows
 	 * @throws JsonParserInternalException if an I/O error occurs
 	 */
 	@Override
-	public boolean isNext(String query, boolean incrementPosition) throws JsonParserInternalException {
+	public boolean isNext(String query, boolean incrementPosition) throws IndexOutOfBoundsException, 
+			JsonParserInternalException {
 		boolean next = this.isNext(query);
 		if (incrementPosition && next) { // query cannot be null if true
-			this.setPosition(this.getPosition() + query.length());
+			this.currentPosition += query.length();
 		}
 		return next;
 	}
@@ -389,25 +515,64 @@ public class JsonStreamParser extends JsonParser implements Closeable, AutoClose
 	 */
 	@Override
 	public boolean isNextDigit() throws JsonParserInternalException {
-		return this.hasNext() && Character.isDigit(this.getNextCharacters(1).charAt(0));
+		return this.hasNext() && Character.isDigit(this.window[this.currentPosition - this.windowStart]);
+	}
+	
+	/**
+	 * Get the character at the specified offset from the position mark. 
+	 * The position mark will not be modified.
+	 * 
+	 * @param offset - the offset from the position mark
+	 * @return the character at the specified offset or -1 if the offset is outside of the 
+	 * bounds of the parsed data or the window
+	 * @throws JsonParserInternalException if an I/O error occurs
+	 */
+	@Override
+	public int peek(int offset) throws JsonParserInternalException {
+		long position = (long) this.currentPosition + offset;
+		try {
+			if (position >= this.windowStart && position <= Integer.MAX_VALUE 
+					&& this.load((int) position, this.currentPosition)) {
+				return this.window[(int) position - this.windowStart];
+			}
+		} catch (IndexOutOfBoundsException e) {
+			/*
+			 * The character does not fit into the window.
+			 */
+		}
+		return -1;
+	}
+	
+	/**
+	 * Moves the position mark behind the next sequence of digits. 
+	 * If the next character is not a digit, the position mark will not be modified.
+	 * 
+	 * @return the number of skipped digits
+	 * @throws JsonParserInternalException if an I/O error occurs
+	 */
+	@Override
+	public int skipDigits() throws JsonParserInternalException {
+		int start = this.currentPosition;
+		while (this.isNextDigit()) {
+			this.currentPosition++;
+		}
+		return this.currentPosition - start;
 	}
 
 	/**
 	 * Get the remaining characters of the parsed data as string.
 	 * 
 	 * @return a string from the parsers position mark to the end of the parsed data
+	 * @throws IndexOutOfBoundsException if the remaining data does not fit into the window
 	 * @throws JsonParserInternalException if an I/O error occurs
 	 */
 	@Override
-	public String getRemaining() throws JsonParserInternalException {
-		int initialPosition = this.getPosition();
-		StringBuilder sb = new StringBuilder();
-		// read remaining data
-		while (this.hasNext()) {
-			sb.append(this.get());
+	public String getRemaining() throws IndexOutOfBoundsException, JsonParserInternalException {
+		int end = this.windowStart + this.windowLength;
+		while (this.load(end, this.currentPosition)) {
+			end = this.windowStart + this.windowLength;
 		}
-		this.setPosition(initialPosition); // restore the position
-		return sb.toString();
+		return this.getSection(this.currentPosition, end);
 	}
 
 	/**
@@ -419,11 +584,9 @@ public class JsonStreamParser extends JsonParser implements Closeable, AutoClose
 	 */
 	@Override
 	public void skipWhitespace() throws JsonParserInternalException {
-		int position = this.getPosition();
-		while (this.hasNext() && Character.isWhitespace(this.get())) {
-			position++;
+		while (this.hasNext() && Character.isWhitespace(this.window[this.currentPosition - this.windowStart])) {
+			this.currentPosition++;
 		}
-		this.setPosition(position);
 	}
 
 	/**
@@ -436,9 +599,43 @@ public class JsonStreamParser extends JsonParser implements Closeable, AutoClose
 		this.data.close();
 	}
 
+	/**
+	 * The hash code is based on the data and the position mark like the one of other parsers, 
+	 * as long as the entire data fits into the window. Otherwise the data cannot be read 
+	 * anymore, so the hash code is based on the identity of the parser.
+	 * 
+	 * @throws JsonParserInternalException if an I/O error occurs
+	 */
+	@Override
+	public int hashCode() throws JsonParserInternalException {
+		try {
+			return super.hashCode();
+		} catch (IndexOutOfBoundsException e) {
+			return System.identityHashCode(this);
+		}
+	}
+
+	/**
+	 * Stream parsers are equal if they hold the same data and position mark, as long as the 
+	 * entire data of both fits into their windows. Otherwise a parser only equals itself.
+	 * 
+	 * @throws JsonParserInternalException if an I/O error occurs
+	 */
+	@Override
+	public boolean equals(Object obj) throws JsonParserInternalException {
+		if (obj == this) {
+			return true;
+		}
+		try {
+			return super.equals(obj);
+		} catch (IndexOutOfBoundsException e) {
+			return false;
+		}
+	}
+
 	/*
-	 * The functions hashCode(), equals() and toString() of the super class should be 
-	 * sufficient.
+	 * The function toString() of the super class should be sufficient as it only reads an 
+	 * excerpt surrounding the position mark.
 	 */
 
 }
@@ -1,5 +1,7 @@
 package hockey.mask.json.parser;
 
+import java.util.Objects;
+
 import hockey.mask.json.JsonStandardException;
 
 /**
@@ -11,6 +13,8 @@ import hockey.mask.json.JsonStandardException;
  */
 public class JsonStringParser extends JsonParser {
 	
+	private static final JsonScanner SCANNER = JsonScanner.getInstance();
+	
 	private char[] jsonData = null; // the string to parse
 	private int pos = 0; // the current position of the parser
 	
@@ -35,6 +39,23 @@ public class JsonStringParser extends JsonParser {
 		}
 	}
 	
+	/**
+	 * Create a new JsonParser sharing the specified characters, which must not be modified 
+	 * afterwards, and set its position mark to the specified position.
+	 * 
+	 * @param jsonData - the data to parse
+	 * @param position - the initial position of the parser
+	 * @throws JsonStandardException if no characters are passed
+	 * @throws IndexOutOfBoundsException if the position is outside of the bounds of the data
+	 */
+	JsonStringParser(char[] jsonData, int position) throws JsonStandardException, IndexOutOfBoundsException {
+		if (jsonData.length <= 0) {
+			throw new JsonStandardException("The empty string \"\" cannot be parsed.");
+		}
+		this.jsonData = jsonData;
+		this.setPosition(position);
+	}
+	
 	/**
 	 * Get the current position in the parsed string.
 	 * 
@@ -74,7 +95,7 @@ public class JsonStringParser extends JsonParser {
 	 */
 	@Override
 	public String get(int length) throws IndexOutOfBoundsException {
-		if (this.getPosition() + length <= this.getData().length()) {
+		if (length >= 0 && this.getPosition() + length <= this.jsonData.length) {
 			String sub = new String(this.jsonData, this.getPosition(), length);
 			this.setPosition(this.getPosition() + length); // increment the position mark
 			return sub;
@@ -103,6 +124,72 @@ public class JsonStringParser extends JsonParser {
 		}
 	}
 	
+	/**
+	 * Get the characters between the specified positions of the string as substring. 
+	 * The position mark will not be modified.
+	 * 
+	 * @param beginPosition - the position of the first character, inclusive
+	 * @param endPosition - the position of the last character, exclusive
+	 * @return the characters between the specified positions
+	 * @throws IndexOutOfBoundsException if the positions are outside of the bounds of the 
+	 * parsed string or the begin position is larger than the end position
+	 */
+	@Override
+	public String getSection(int beginPosition, int endPosition) throws IndexOutOfBoundsException {
+		if (beginPosition >= 0 && beginPosition <= endPosition && endPosition <= this.jsonData.length) {
+			return new String(this.jsonData, beginPosition, endPosition - beginPosition);
+		} else {
+			throw new IndexOutOfBoundsException(String.format("The section from %s to %s is outside of the "
+					+ "bounds of a string of length %s.", beginPosition, endPosition, this.jsonData.length));
+		}
+	}
+	
+	/**
+	 * Get an excerpt of the string surrounding the specified position, which holds at most 
+	 * the specified number of characters before and after the position. 
+	 * The position mark will not be modified.
+	 * 
+	 * @param position - the position to get the surrounding data from
+	 * @param radius - the maximum number of characters before and after the position
+	 * @return the data surrounding the specified position
+	 * @throws IndexOutOfBoundsException if the position is outside of the bounds of the 
+	 * parsed string
+	 */
+	@Override
+	public String getExcerpt(int position, int radius) throws IndexOutOfBoundsException {
+		if (position >= 0 && position <= this.jsonData.length) {
+			return this.getSection(Math.max(0, position - radius), 
+					(int) Math.min(this.jsonData.length, (long) position + radius));
+		} else {
+			throw new IndexOutOfBoundsException(String.format("The index %s is outside of the "
+					+ "bounds of a string of length %s.", position, this.jsonData.length));
+		}
+	}
+	
+	/**
+	 * Get the line and column of the specified position by counting the line feeds in front 
+	 * of it without copying the string.
+	 * 
+	 * @param position - the position to locate
+	 * @return the line and column of the position or null if it is outside of the bounds of 
+	 * the parsed string
+	 */
+	@Override
+	int[] getLineAndColumn(int position) {
+		if (position < 0 || position > this.jsonData.length) {
+			return null;
+		}
+		int line = 1;
+		int lineStart = 0;
+		for (int i = 0; i < position; i++) {
+			if (this.jsonData[i] == '\n') {
+				line++;
+				lineStart = i + 1;
+			}
+		}
+		return new int[] {line, position - lineStart + 1};
+	}
+	
 	/**
 	 * Get the data held by this parser.
 	 * 
@@ -161,13 +248,7 @@ public class JsonStringParser extends JsonParser {
 	 */
 	@Override
 	public boolean isNext(String query) {
-		if (query != null) {
-			int end = this.getPosition() + query.length();
-			if (end <= this.getData().length()) {
-				return this.getData().substring(this.getPosition(), end).equals(query);
-			}
-		}
-		return false;
+		return this.regionMatches(this.getPosition(), query);
 	}
 	
 	/**
@@ -180,16 +261,11 @@ public class JsonStringParser extends JsonParser {
 	 */
 	@Override
 	public boolean isNext(String query, boolean incrementPosition) {
-		if (query != null) {
-			int end = this.getPosition() + query.length();
-			if (end <= this.getData().length()) {
-				if (this.getData().substring(this.getPosition(), end).equals(query)) {
-					if (incrementPosition) {
-						this.setPosition(this.getPosition() + query.length());
-					}
-					return true;
-				}
+		if (this.regionMatches(this.getPosition(), query)) {
+			if (incrementPosition) {
+				this.pos += query.length();
 			}
+			return true;
 		}
 		return false;
 	}	
@@ -205,6 +281,129 @@ public class JsonStringParser extends JsonParser {
 		return this.hasNext() && Character.isDigit(this.jsonData[this.getPosition()]);
 	}
 	
+	/**
+	 * Get the next character without incrementing the position mark.
+	 * 
+	 * @return the next character or -1 if the end of the parsed string has been reached
+	 */
+	@Override
+	public int peek() {
+		return this.pos < this.jsonData.length ? this.jsonData[this.pos] : -1;
+	}
+	
+	/**
+	 * Get the character at the specified offset from the position mark. 
+	 * The position mark will not be modified.
+	 * 
+	 * @param offset - the offset from the position mark
+	 * @return the character at the specified offset or -1 if the offset is outside of the 
+	 * bounds of the parsed string
+	 */
+	@Override
+	public int peek(int offset) {
+		long index = (long) this.pos + offset;
+		return index >= 0 && index < this.jsonData.length ? this.jsonData[(int) index] : -1;
+	}
+	
+	/**
+	 * Checks whether the characters at the specified position are the query. The 
+	 * characters are compared in place, so no copy of the parsed string is created.
+	 * The position mark will not be modified.
+	 * 
+	 * @param position - the position to compare the query with
+	 * @param query - the string to query for
+	 * @return true if the characters starting at the specified position equal the query
+	 */
+	@Override
+	public boolean regionMatches(int position, String query) {
+		if (query != null && position >= 0 && position <= this.jsonData.length - query.length()) {
+			for (int i = 0; i < query.length(); i++) {
+				if (this.jsonData[position + i] != query.charAt(i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return false;
+	}
+	
+	/**
+	 * Get the position of the next occurrence of the query, starting the search at the 
+	 * position mark. The position mark will not be modified.
+	 * 
+	 * @param query - the char to search for
+	 * @return the position of the next occurrence or -1 if the query does not occur anymore
+	 */
+	@Override
+	public int indexOf(char query) {
+		for (int i = this.pos; i < this.jsonData.length; i++) {
+			if (this.jsonData[i] == query) {
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Moves the position mark behind the next sequence of digits. 
+	 * If the next character is not a digit, the position mark will not be modified.
+	 * 
+	 * @return the number of skipped digits
+	 */
+	@Override
+	public int skipDigits() {
+		int start = this.pos;
+		while (this.pos < this.jsonData.length && Character.isDigit(this.jsonData[this.pos])) {
+			this.pos++;
+		}
+		return this.pos - start;
+	}
+	
+	/**
+	 * Get the characters in front of the next terminator as string and move the position
+	 * mark onto the terminator.
+	 * 
+	 * @param terminator - the character terminating the string
+	 * @param escape - the character, which may not occur in front of the terminator
+	 * @return the characters in front of the terminator or null if the escape character occurs
+	 * in front of the terminator or there is no terminator
+	 */
+	@Override
+	public String getUntil(char terminator, char escape) {
+		int i = JsonStringParser.SCANNER.indexOf(this.jsonData, this.pos, this.jsonData.length, terminator, escape);
+		if (i < 0 || this.jsonData[i] != terminator) {
+			return null;
+		}
+		String section = new String(this.jsonData, this.pos, i - this.pos);
+		this.pos = i;
+		return section;
+	}
+	
+	/**
+	 * Get the symbol of the characters in front of the next terminator from the specified
+	 * symbol table and move the position mark onto the terminator. The characters
+	 * are looked up inside of the parsed string, so no string is created for known symbols.
+	 * 
+	 * @param <T> the type of the symbols
+	 * @param terminator - the character terminating the string
+	 * @param escape - the character, which may not occur in front of the terminator
+	 * @param symbols - the symbol table canonicalizing the characters
+	 * @return the symbol of the characters in front of the terminator or null if the escape
+	 * character occurs in front of the terminator or there is no terminator
+	 * @throws NullPointerException if null is passed as symbol table
+	 */
+	@Override
+	public <T> T getUntil(char terminator, char escape, JsonSymbolTable<T> symbols) {
+		Objects.requireNonNull(symbols, "The symbol table may not be null.");
+		int i = JsonStringParser.SCANNER.indexOf(this.jsonData, this.pos, this.jsonData.length, terminator, escape);
+		if (i < 0 || this.jsonData[i] != terminator) {
+			return null;
+		}
+		T symbol = symbols.get(this.jsonData, this.pos, i - this.pos);
+		this.pos = i;
+		return symbol;
+	}
+	
 	/**
 	 * Get the remaining characters of the parsed string as substring.
 	 * 
@@ -230,9 +429,28 @@ public class JsonStringParser extends JsonParser {
 	 */
 	@Override
 	public void skipWhitespace() {
-		while (this.hasNext() && Character.isWhitespace(this.jsonData[this.getPosition()])) {
-			this.setPosition(this.getPosition() + 1);
+		while (this.pos < this.jsonData.length) {
+			this.pos = JsonStringParser.SCANNER.skipWhitespace(this.jsonData, this.pos, this.jsonData.length);
+			if (this.pos >= this.jsonData.length || !Character.isWhitespace(this.jsonData[this.pos])) {
+				return;
+			}
+			this.pos++; // whitespace outside of the JSON standard
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void skipValue() throws JsonStandardException {
+		int startingPosition = this.pos;
+		this.skipWhitespace();
+		int end = JsonStringParser.SCANNER.skipValue(this.jsonData, this.pos, this.jsonData.length);
+		if (end < 0) {
+			this.pos = startingPosition; // the parser should not be modified
+			throw new JsonParseException(this, ~end, "a complete JSON value");
 		}
+		this.pos = end;
 	}
 
 	/*
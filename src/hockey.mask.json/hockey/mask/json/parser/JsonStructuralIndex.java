@@ -0,0 +1,209 @@
+package hockey.mask.json.parser;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import hockey.mask.json.JsonStandardException;
+
+/**
+ * The JsonStructuralIndex class holds the positions of all structural elements of UTF-8 encoded
+ * JSON data, which are found in a single pass before any value is created.
+ * 
+ * <p>The index holds the positions of the structural characters {@code { } [ ] : ,} outside of
+ * strings, of the opening and closing quote of each string and of the first character of each
+ * number or literal. The data is classified in blocks of 64 bytes by the
+ * {@link JsonScanner#getInstance() shared scanner}, so the scan does not branch on the data.
+ * Escaped quotes are recognised by the length of the preceding run of backslashes. Walking the
+ * index instead of the characters allows creating the values without calling the parser for
+ * each character and splitting the work at known positions.</p>
+ * 
+ * @author Planters
+ * 
+ */
+public class JsonStructuralIndex {
+	
+	private static final JsonScanner SCANNER = JsonScanner.getInstance();
+	private static final long EVEN_BITS = 0x5555555555555555L;
+	private static final long ODD_BITS = ~JsonStructuralIndex.EVEN_BITS;
+	
+	private final byte[] jsonData;
+	private final int offset;
+	private final int length;
+	private int[] positions = new int[16]; // the positions of the structural elements
+	private int size = 0; // the number of structural elements
+	
+	/**
+	 * Create the structural index of the supplied UTF-8 encoded bytes. The array is not copied,
+	 * so it must not be modified while the index is in use. Null cannot be indexed and will
+	 * throw an exception. The same holds true for empty arrays.
+	 * 
+	 * @param jsonData - the data to index
+	 * @throws JsonStandardException if an empty array is passed or a string is not terminated
+	 * @throws NullPointerException if null is passed
+	 */
+	public JsonStructuralIndex(byte[] jsonData) throws JsonStandardException {
+		this(jsonData, 0, jsonData != null ? jsonData.length : 0);
+	}
+	
+	/**
+	 * Create the structural index of the specified range of the supplied UTF-8 encoded bytes.
+	 * The array is not copied, so it must not be modified while the index is in use. Null
+	 * cannot be indexed and will throw an exception. The same holds true for empty ranges.
+	 * 
+	 * @param jsonData - the data to index
+	 * @param offset - the index of the first byte to index
+	 * @param length - the number of bytes to index
+	 * @throws JsonStandardException if an empty range is passed or a string is not terminated
+	 * @throws IndexOutOfBoundsException if the range is outside of the bounds of the array
+	 * @throws NullPointerException if null is passed
+	 */
+	public JsonStructuralIndex(byte[] jsonData, int offset, int length) throws JsonStandardException {
+		// validates the arguments in the same way
+		JsonUtf8Parser parser = new JsonUtf8Parser(jsonData, offset, length);
+		this.jsonData = jsonData;
+		this.offset = offset;
+		this.length = length;
+		if (this.scan()) {
+			throw new JsonParseException(parser, length, "the end of a JSON string");
+		}
+	}
+	
+	/**
+	 * Get the number of structural elements.
+	 * 
+	 * @return the size of the index
+	 */
+	public int size() {
+		return this.size;
+	}
+	
+	/**
+	 * Get the position of the specified structural element.
+	 * 
+	 * @param index - the index of the structural element
+	 * @return the position of the element inside of the indexed bytes
+	 * @throws IndexOutOfBoundsException if the index is outside of the bounds of the index
+	 */
+	public int getPosition(int index) throws IndexOutOfBoundsException {
+		return this.positions[Objects.checkIndex(index, this.size)];
+	}
+	
+	/**
+	 * Get the character starting the specified structural element. Numbers and literals are
+	 * represented by their first character.
+	 * 
+	 * @param index - the index of the structural element
+	 * @return the first character of the element
+	 * @throws IndexOutOfBoundsException if the index is outside of the bounds of the index
+	 */
+	public char getCharacter(int index) throws IndexOutOfBoundsException {
+		return (char) (this.jsonData[this.offset + this.getPosition(index)] & 0xFF);
+	}
+	
+	/**
+	 * Get the number of indexed bytes.
+	 * 
+	 * @return the length of the indexed data
+	 */
+	public int getLength() {
+		return this.length;
+	}
+	
+	/**
+	 * Create a new parser for the indexed bytes, whose positions match the positions of the
+	 * index. Each call creates a new parser sharing the bytes, so parsers can be used by
+	 * different threads.
+	 * 
+	 * @return a parser for the indexed bytes
+	 */
+	public JsonUtf8Parser createParser() {
+		try {
+			return new JsonUtf8Parser(this.jsonData, this.offset, this.length);
+		} catch (JsonStandardException e) { // cannot happen as the data has been validated
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	/**
+	 * Scan the bytes in blocks of 64 bytes and add the structural elements to the index.
+	 * 
+	 * @return true if the data ends inside of a string
+	 */
+	private boolean scan() {
+		byte[] tail = new byte[JsonScanner.BLOCK_SIZE];
+		long[] masks = new long[JsonScanner.MASKS];
+		long previousOddBackslash = 0; // 1 if the last block ends with an odd run of backslashes
+		long previousInString = 0; // all bits set if the last block ends inside of a string
+		long previousScalar = 0; // 1 if the last block ends with a number or literal
+		for (int block = 0; block < this.length; block += JsonScanner.BLOCK_SIZE) {
+			byte[] data = this.jsonData;
+			int start = this.offset + block;
+			if (block + JsonScanner.BLOCK_SIZE > this.length) { // pad the last block with spaces
+				Arrays.fill(tail, (byte) ' ');
+				System.arraycopy(this.jsonData, start, tail, 0, this.length - block);
+				data = tail;
+				start = 0;
+			}
+			JsonStructuralIndex.SCANNER.classify(data, start, masks);
+			long quotes = masks[JsonScanner.QUOTES];
+			long backslashes = masks[JsonScanner.BACKSLASHES];
+			long structurals = masks[JsonScanner.STRUCTURALS];
+			long whitespace = masks[JsonScanner.WHITESPACE];
+			// characters behind an odd run of backslashes are escaped
+			long startEdges = backslashes & ~(backslashes << 1);
+			long evenStartMask = JsonStructuralIndex.EVEN_BITS ^ previousOddBackslash;
+			long evenCarries = backslashes + (startEdges & evenStartMask);
+			long oddCarries = backslashes + (startEdges & ~evenStartMask);
+			long endsWithOddBackslash = Long.compareUnsigned(oddCarries, backslashes) < 0 ? 1 : 0;
+			oddCarries |= previousOddBackslash;
+			previousOddBackslash = endsWithOddBackslash;
+			long escaped = (evenCarries & ~backslashes & JsonStructuralIndex.ODD_BITS)
+					| (oddCarries & ~backslashes & JsonStructuralIndex.EVEN_BITS);
+			quotes &= ~escaped;
+			// all bits from an opening quote up to the closing quote, exclusive
+			long inString = JsonStructuralIndex.prefixXor(quotes) ^ previousInString;
+			previousInString = inString >> 63;
+			long outside = ~(inString | quotes);
+			long scalars = outside & ~structurals & ~whitespace;
+			long scalarStarts = scalars & ~((scalars << 1) | previousScalar);
+			previousScalar = scalars >>> 63;
+			this.add(block, (structurals & outside) | quotes | scalarStarts);
+		}
+		return previousInString != 0;
+	}
+	
+	/**
+	 * Add the positions of the set bits to the index.
+	 * 
+	 * @param block - the position of the block
+	 * @param bits - the bits of the structural elements of the block
+	 */
+	private void add(int block, long bits) {
+		int count = Long.bitCount(bits);
+		if (this.size + count > this.positions.length) {
+			this.positions = Arrays.copyOf(this.positions, Math.max(this.size + count, this.positions.length * 2));
+		}
+		while (bits != 0) {
+			this.positions[this.size++] = block + Long.numberOfTrailingZeros(bits);
+			bits &= bits - 1;
+		}
+	}
+	
+	/**
+	 * Get the prefix sum of the bits modulo two, so every bit from a set bit up to the next set
+	 * bit, exclusive, is set.
+	 * 
+	 * @param bits - the bits to sum
+	 * @return the prefix sum of the bits
+	 */
+	private static long prefixXor(long bits) {
+		bits ^= bits << 1;
+		bits ^= bits << 2;
+		bits ^= bits << 4;
+		bits ^= bits << 8;
+		bits ^= bits << 16;
+		bits ^= bits << 32;
+		return bits;
+	}
+
+}
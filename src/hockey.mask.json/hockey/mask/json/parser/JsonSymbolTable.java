@@ -0,0 +1,203 @@
+package hockey.mask.json.parser;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * The JsonSymbolTable class canonicalizes recurring sections of JSON data like the names of
+ * object members, so data sharing the same names shares the same symbols instead of creating
+ * new ones for every occurrence.
+ * 
+ * <p>Sections are hashed where they are read from, so known sections are looked up without
+ * creating strings. The table is bounded by its capacity. Every hash selects a single slot,
+ * which holds the last symbol created for it, so sections competing for a slot evict each
+ * other and data with many distinct or long sections cannot grow the table. The hash is seeded
+ * randomly per table, so the slots of sections cannot be predicted to evict the symbols of
+ * others on purpose.</p>
+ * 
+ * <p>Symbol tables are thread safe. Slots are replaced as a whole by immutable entries, so
+ * concurrent lookups may at most miss a symbol and create a new one.</p>
+ * 
+ * @param <T> the type of the symbols
+ * 
+ * @author Planters
+ * 
+ */
+public final class JsonSymbolTable<T> {
+	
+	/**
+	 * The number of characters of the longest sections, which are stored in a symbol table.
+	 * Longer sections are rarely recurring names and are therefore only created.
+	 */
+	public static final int MAXIMUM_SYMBOL_LENGTH = 64;
+	
+	private final Entry<T>[] entries;
+	private final Function<String, ? extends T> factory;
+	private final int seed = ThreadLocalRandom.current().nextInt();
+	
+	/**
+	 * Create a new symbol table with the specified capacity, which creates missing symbols
+	 * with the specified factory.
+	 * 
+	 * @param capacity - the maximum number of symbols, which is rounded up to a power of two
+	 * @param factory - the function creating the symbol of a section
+	 * @throws IllegalArgumentException if the capacity is not positive or larger than 2^30
+	 * @throws NullPointerException if null is passed as factory
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public JsonSymbolTable(int capacity, Function<String, ? extends T> factory) {
+		if (capacity <= 0 || capacity > 1 << 30) {
+			throw new IllegalArgumentException(String.format("The capacity %s of a symbol table is invalid.", capacity));
+		}
+		this.factory = Objects.requireNonNull(factory, "The factory of a symbol table may not be null.");
+		int slots = Integer.highestOneBit(capacity);
+		this.entries = new Entry[slots < capacity ? slots << 1 : slots];
+	}
+	
+	/**
+	 * Get the symbol of the specified section of characters.
+	 * 
+	 * @param characters - the array containing the section
+	 * @param offset - the start of the section
+	 * @param length - the number of characters of the section
+	 * @return the canonical symbol of the section
+	 * @throws IndexOutOfBoundsException if the section is outside of the bounds of the array
+	 */
+	public T get(char[] characters, int offset, int length) throws IndexOutOfBoundsException {
+		Objects.checkFromIndexSize(offset, length, characters.length);
+		if (length > JsonSymbolTable.MAXIMUM_SYMBOL_LENGTH) {
+			return this.factory.apply(new String(characters, offset, length));
+		}
+		int hash = this.seed;
+		for (int i = offset; i < offset + length; i++) {
+			hash = (hash ^ characters[i]) * 0x01000193;
+		}
+		int slot = JsonSymbolTable.spread(hash) & (this.entries.length - 1);
+		Entry<T> entry = this.entries[slot];
+		if (entry != null && entry.hash == hash && entry.key.length() == length) {
+			int i = 0;
+			while (i < length && entry.key.charAt(i) == characters[offset + i]) {
+				i++;
+			}
+			if (i == length) {
+				return entry.symbol;
+			}
+		}
+		String key = new String(characters, offset, length);
+		T symbol = this.factory.apply(key);
+		this.entries[slot] = new Entry<T>(hash, key, symbol);
+		return symbol;
+	}
+	
+	/**
+	 * Get the symbol of the specified section of Latin-1 encoded characters, where every byte
+	 * is a single character. The ASCII characters of UTF-8 encoded data are looked up this way
+	 * without decoding them.
+	 * 
+	 * @param bytes - the array containing the section
+	 * @param offset - the start of the section
+	 * @param length - the number of bytes of the section
+	 * @return the canonical symbol of the section
+	 * @throws IndexOutOfBoundsException if the section is outside of the bounds of the array
+	 */
+	public T get(byte[] bytes, int offset, int length) throws IndexOutOfBoundsException {
+		Objects.checkFromIndexSize(offset, length, bytes.length);
+		if (length > JsonSymbolTable.MAXIMUM_SYMBOL_LENGTH) {
+			return this.factory.apply(new String(bytes, offset, length, StandardCharsets.ISO_8859_1));
+		}
+		int hash = this.seed;
+		for (int i = offset; i < offset + length; i++) {
+			hash = (hash ^ (bytes[i] & 0xFF)) * 0x01000193;
+		}
+		int slot = JsonSymbolTable.spread(hash) & (this.entries.length - 1);
+		Entry<T> entry = this.entries[slot];
+		if (entry != null && entry.hash == hash && entry.key.length() == length) {
+			int i = 0;
+			while (i < length && entry.key.charAt(i) == (bytes[offset + i] & 0xFF)) {
+				i++;
+			}
+			if (i == length) {
+				return entry.symbol;
+			}
+		}
+		String key = new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+		T symbol = this.factory.apply(key);
+		this.entries[slot] = new Entry<T>(hash, key, symbol);
+		return symbol;
+	}
+	
+	/**
+	 * Get the symbol of the specified characters.
+	 * 
+	 * @param characters - the characters of the section
+	 * @return the canonical symbol of the characters
+	 * @throws NullPointerException if null is passed as characters
+	 */
+	public T get(CharSequence characters) {
+		int length = characters.length();
+		if (length > JsonSymbolTable.MAXIMUM_SYMBOL_LENGTH) {
+			return this.factory.apply(characters.toString());
+		}
+		int hash = this.seed;
+		for (int i = 0; i < length; i++) {
+			hash = (hash ^ characters.charAt(i)) * 0x01000193;
+		}
+		int slot = JsonSymbolTable.spread(hash) & (this.entries.length - 1);
+		Entry<T> entry = this.entries[slot];
+		if (entry != null && entry.hash == hash && entry.key.contentEquals(characters)) {
+			return entry.symbol;
+		}
+		String key = characters.toString();
+		T symbol = this.factory.apply(key);
+		this.entries[slot] = new Entry<T>(hash, key, symbol);
+		return symbol;
+	}
+	
+	/**
+	 * Get the maximum number of symbols held by this symbol table.
+	 * 
+	 * @return the number of slots
+	 */
+	public int getCapacity() {
+		return this.entries.length;
+	}
+	
+	/**
+	 * Mix the upper bits of the specified hash into the lower bits, which select the slot.
+	 * 
+	 * @param hash - the hash of a section
+	 * @return the mixed hash
+	 */
+	private static int spread(int hash) {
+		return hash ^ (hash >>> 16);
+	}
+	
+	/**
+	 * The Entry class holds a symbol and the section it was created from.
+	 * 
+	 * @param <T> the type of the symbol
+	 */
+	private static final class Entry<T> {
+	
+		private final int hash;
+		private final String key;
+		private final T symbol;
+	
+		/**
+		 * Create a new entry holding the specified symbol.
+		 * 
+		 * @param hash - the hash of the section
+		 * @param key - the characters of the section
+		 * @param symbol - the symbol of the section
+		 */
+		private Entry(int hash, String key, T symbol) {
+			this.hash = hash;
+			this.key = key;
+			this.symbol = symbol;
+		}
+	
+	}
+	
+}
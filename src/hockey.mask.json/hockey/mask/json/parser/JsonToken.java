@@ -0,0 +1,57 @@
+package hockey.mask.json.parser;
+
+/**
+ * The JsonToken enum contains all tokens a JSON tokenizer can return.
+ * 
+ * @author Planters
+ *
+ */
+public enum JsonToken {
+
+	/**
+	 * The start of a JSON object.
+	 */
+	START_OBJECT,
+	/**
+	 * The end of a JSON object.
+	 */
+	END_OBJECT,
+	/**
+	 * The start of a JSON array.
+	 */
+	START_ARRAY,
+	/**
+	 * The end of a JSON array.
+	 */
+	END_ARRAY,
+	/**
+	 * The name of a JSON object member.
+	 */
+	FIELD_NAME,
+	/**
+	 * A JSON string.
+	 */
+	VALUE_STRING,
+	/**
+	 * A JSON number.
+	 */
+	VALUE_NUMBER,
+	/**
+	 * The JSON boolean true.
+	 */
+	VALUE_TRUE,
+	/**
+	 * The JSON boolean false.
+	 */
+	VALUE_FALSE,
+	/**
+	 * The JSON null.
+	 */
+	VALUE_NULL,
+	/**
+	 * Not enough data has been received yet to read the next token. This is only returned 
+	 * by incremental tokenizers like the {@link JsonFeedTokenizer}.
+	 */
+	NOT_AVAILABLE
+	
+}
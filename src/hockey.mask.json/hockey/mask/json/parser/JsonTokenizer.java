@@ -0,0 +1,762 @@
+package hockey.mask.json.parser;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Objects;
+
+import hockey.mask.json.JsonStandardException;
+
+/**
+ * The JsonTokenizer class reads a single JSON value from a JSON parser token by token, without 
+ * creating any JSON values. 
+ * 
+ * <p>The text of the current token is held in a buffer, which is reused for every token, so 
+ * reading names, strings and numbers does not allocate as long as the buffer accessors are 
+ * used. The structure of the data is validated while reading, but contrary to the parse 
+ * functions of the JSON values the parser is not reset if the data violates the JSON standard.</p>
+ * 
+ * <p>After the last token of the value has been read, the parser is positioned directly 
+ * behind the value and no further tokens are returned.</p>
+ * 
+ * <p>Instead of pulling the tokens one by one, they can also be pushed to a {@link JsonHandler} 
+ * by {@link #parse(JsonHandler)}.</p>
+ * 
+ * @author Planters
+ *
+ */
+public class JsonTokenizer {
+	
+	/*
+	 * The states of the tokenizer describing what is expected next. Subclasses may add further 
+	 * states, which need to be larger than FINISHED.
+	 */
+	static final int EXPECT_ROOT_VALUE = 0;
+	static final int EXPECT_FIRST_VALUE = 1; // a value or the end of an array
+	static final int EXPECT_FIRST_NAME = 2; // a name or the end of an object
+	static final int EXPECT_NAME_SEPARATOR = 3;
+	static final int EXPECT_SEPARATOR = 4; // a separator or the end of the enclosing container
+	static final int FINISHED = 5;
+	
+	private final JsonParser parser;
+	int state = JsonTokenizer.EXPECT_ROOT_VALUE;
+	private boolean[] objects = new boolean[16]; // true for objects, false for arrays
+	private int depth = 0;
+	JsonToken currentToken = null;
+	private char[] text = new char[64]; // the reusable text buffer
+	int textLength = 0;
+	boolean integral = false; // true if the current number has neither fraction nor exponent
+	private long significand = 0; // the digits of the current number after decomposing it
+	private int exponent = 0; // the decimal exponent of the significand
+	
+	/**
+	 * Create a new tokenizer reading from the current position of the specified parser.
+	 * 
+	 * @param parser - the parser to read the tokens from
+	 * @throws NullPointerException if null is passed as JSON parser
+	 */
+	public JsonTokenizer(JsonParser parser) {
+		this.parser = Objects.requireNonNull(parser, "The JSON parser may not be null.");
+	}
+	
+	/**
+	 * Create a new tokenizer, which does not read from a parser. Subclasses using this 
+	 * constructor need to override {@link #nextToken()}.
+	 */
+	JsonTokenizer() {
+		this.parser = null;
+	}
+	
+	/**
+	 * Get the parser, which the tokens are read from.
+	 * 
+	 * @return the underlying parser or null if the tokens are not read from a parser
+	 */
+	public JsonParser getParser() {
+		return this.parser;
+	}
+	
+	/**
+	 * Read the next token.
+	 * 
+	 * @return the next token or null if the value has been read completely
+	 * @throws JsonStandardException if the data violates the JSON standard
+	 */
+	public JsonToken nextToken() throws JsonStandardException {
+		if (this.state == JsonTokenizer.FINISHED) {
+			this.currentToken = null;
+			return null;
+		}
+		this.parser.skipWhitespace();
+		switch (this.state) {
+		
+			case EXPECT_ROOT_VALUE:
+				return this.readValue();
+				
+			case EXPECT_FIRST_VALUE:
+				if (this.parser.isNext(']', true)) {
+					return this.endContainer(JsonToken.END_ARRAY);
+				}
+				return this.readValue();
+				
+			case EXPECT_FIRST_NAME:
+				if (this.parser.isNext('}', true)) {
+					return this.endContainer(JsonToken.END_OBJECT);
+				}
+				return this.readName();
+				
+			case EXPECT_NAME_SEPARATOR:
+				if (this.parser.isNext(':', true)) {
+					this.parser.skipWhitespace();
+					return this.readValue();
+				}
+				throw new JsonParseException(this.parser, this.parser.getPosition(), 
+						"the name separator of a JSON object member");
+				
+			default: // expecting a separator
+				boolean inObject = this.inObject();
+				if (this.parser.isNext(',', true)) {
+					this.parser.skipWhitespace();
+					if (inObject) {
+						return this.readName();
+					} else {
+						return this.readValue();
+					}
+				} else if (inObject && this.parser.isNext('}', true)) {
+					return this.endContainer(JsonToken.END_OBJECT);
+				} else if (!inObject && this.parser.isNext(']', true)) {
+					return this.endContainer(JsonToken.END_ARRAY);
+				}
+				throw new JsonParseException(this.parser, this.parser.getPosition(), 
+						String.format("a separator or the end of a JSON %s", inObject ? "object" : "array"));
+				
+		}
+	}
+	
+	/**
+	 * Read the remaining tokens and pass them to the specified handler. Reading stops at the 
+	 * end of the value or as soon as the handler returns false, in which case the tokenizer 
+	 * is positioned directly behind the token of the last event and reading can be continued 
+	 * later on.
+	 * 
+	 * @param handler - the handler to receive the events
+	 * @return true if the value has been read completely, false if the handler stopped reading 
+	 * or no more data is available yet
+	 * @throws JsonStandardException if the data violates the JSON standard or the handler 
+	 * rejects an event
+	 * @throws NullPointerException if null is passed as handler
+	 */
+	public boolean parse(JsonHandler handler) throws JsonStandardException {
+		Objects.requireNonNull(handler, "The JSON handler may not be null.");
+		JsonToken token = this.nextToken();
+		while (token != null) {
+			if (token == JsonToken.NOT_AVAILABLE) {
+				return false;
+			}
+			boolean proceed;
+			switch (token) {
+			
+				case START_OBJECT:
+					proceed = handler.startObject();
+					break;
+					
+				case END_OBJECT:
+					proceed = handler.endObject();
+					break;
+					
+				case START_ARRAY:
+					proceed = handler.startArray();
+					break;
+					
+				case END_ARRAY:
+					proceed = handler.endArray();
+					break;
+					
+				case FIELD_NAME:
+					proceed = handler.fieldName(this);
+					break;
+					
+				case VALUE_STRING:
+					proceed = handler.stringValue(this);
+					break;
+					
+				case VALUE_NUMBER:
+					proceed = handler.numberValue(this);
+					break;
+					
+				case VALUE_TRUE:
+					proceed = handler.booleanValue(true);
+					break;
+					
+				case VALUE_FALSE:
+					proceed = handler.booleanValue(false);
+					break;
+					
+				default:
+					proceed = handler.nullValue();
+					break;
+					
+			}
+			if (!proceed) {
+				return false;
+			}
+			token = this.nextToken();
+		}
+		return true;
+	}
+	
+	/**
+	 * Get the token, which has been read last.
+	 * 
+	 * @return the current token or null if no token has been read or the value has been 
+	 * read completely
+	 */
+	public JsonToken getCurrentToken() {
+		return this.currentToken;
+	}
+	
+	/**
+	 * Get the number of objects and arrays enclosing the current position. Start tokens 
+	 * are already counted, end tokens not anymore.
+	 * 
+	 * @return the nesting depth
+	 */
+	public int getDepth() {
+		return this.depth;
+	}
+	
+	/**
+	 * Skip all tokens up to the end token matching the current start token. If the current 
+	 * token is no start token, nothing will be skipped. Incremental tokenizers stop skipping 
+	 * if no more data is available yet.
+	 * 
+	 * <p>If no token of the container has been read yet, the container is skipped by 
+	 * {@link JsonParser#skipValue()}, so only its strings and nesting are checked.</p>
+	 * 
+	 * @throws JsonStandardException if the data violates the JSON standard
+	 */
+	public void skipChildren() throws JsonStandardException {
+		if (this.parser != null && (this.state == JsonTokenizer.EXPECT_FIRST_NAME 
+				|| this.state == JsonTokenizer.EXPECT_FIRST_VALUE)) {
+			// the start token is the only character read from the container
+			this.parser.setPosition(this.parser.getPosition() - 1);
+			this.parser.skipValue();
+			this.endContainer(this.currentToken == JsonToken.START_OBJECT ? JsonToken.END_OBJECT : JsonToken.END_ARRAY);
+		} else if (this.currentToken == JsonToken.START_OBJECT || this.currentToken == JsonToken.START_ARRAY) {
+			int targetDepth = this.depth - 1;
+			while (this.depth > targetDepth) {
+				JsonToken token = this.nextToken();
+				if (token == null || token == JsonToken.NOT_AVAILABLE) {
+					break; // only incremental tokenizers can run out of data before the end token
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Get the characters of the current token. The returned buffer is reused for subsequent 
+	 * tokens and only the first {@link #getTextLength()} characters belong to the current token.
+	 * 
+	 * <p>Names and strings are unescaped, numbers are returned as they are formatted in the data. 
+	 * For all other tokens the buffer content is undefined.</p>
+	 * 
+	 * @return the buffer holding the characters of the current token
+	 */
+	public char[] getTextCharacters() {
+		return this.text;
+	}
+	
+	/**
+	 * Get the number of characters of the current token in the text buffer.
+	 * 
+	 * @return the length of the text of the current token
+	 * @see #getTextCharacters()
+	 */
+	public int getTextLength() {
+		return this.textLength;
+	}
+	
+	/**
+	 * Checks whether the text of the current name, string or number equals the query 
+	 * without creating a string.
+	 * 
+	 * @param query - the text to compare with
+	 * @return true if the text of the current token equals the query
+	 */
+	public boolean isText(CharSequence query) {
+		if (query != null && query.length() == this.textLength && this.hasText()) {
+			for (int i = 0; i < this.textLength; i++) {
+				if (this.text[i] != query.charAt(i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return false;
+	}
+	
+	/**
+	 * Get the text of the current token as string. Contrary to the buffer accessors this 
+	 * creates a new string for names, strings and numbers.
+	 * 
+	 * @return the text of the current token or null if there is no current token or no 
+	 * token is available yet
+	 */
+	public String getText() {
+		if (this.currentToken != null) {
+			switch (this.currentToken) {
+			
+				case START_OBJECT:
+					return "{";
+					
+				case END_OBJECT:
+					return "}";
+					
+				case START_ARRAY:
+					return "[";
+					
+				case END_ARRAY:
+					return "]";
+					
+				case VALUE_TRUE:
+					return "true";
+					
+				case VALUE_FALSE:
+					return "false";
+					
+				case VALUE_NULL:
+					return "null";
+					
+				case NOT_AVAILABLE:
+					return null;
+					
+				default:
+					return new String(this.text, 0, this.textLength);
+					
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Checks whether the current number has neither fraction nor exponent.
+	 * 
+	 * @return true if the current token is an integral number
+	 */
+	public boolean isIntegral() {
+		return this.currentToken == JsonToken.VALUE_NUMBER && this.integral;
+	}
+	
+	/**
+	 * Get the current number as long.
+	 * 
+	 * @return the value of the current number
+	 * @throws IllegalStateException if the current token is not a number
+	 * @throws ArithmeticException if the number cannot be represented as long without 
+	 * losing information
+	 */
+	public long getLongValue() throws IllegalStateException, ArithmeticException {
+		this.checkNumber();
+		boolean negative = this.text[0] == '-';
+		int digits = negative ? this.textLength - 1 : this.textLength;
+		if (this.integral && digits < 19) { // cannot overflow
+			long value = 0;
+			for (int i = negative ? 1 : 0; i < this.textLength; i++) {
+				value = value * 10 + (this.text[i] - '0');
+			}
+			return negative ? -value : value;
+		}
+		return this.getDecimalValue().longValueExact();
+	}
+	
+	/**
+	 * Get the current number as double. The number will be rounded to the nearest double.
+	 * 
+	 * @return the value of the current number
+	 * @throws IllegalStateException if the current token is not a number
+	 */
+	public double getDoubleValue() throws IllegalStateException {
+		this.checkNumber();
+		if (this.decompose()) {
+			double value = JsonNumberReader.toDouble(this.text[0] == '-', this.significand, this.exponent);
+			if (!Double.isNaN(value)) {
+				return value;
+			}
+		}
+		return Double.parseDouble(new String(this.text, 0, this.textLength));
+	}
+	
+	/**
+	 * Get the current number as BigDecimal.
+	 * 
+	 * @return the value of the current number
+	 * @throws IllegalStateException if the current token is not a number
+	 */
+	public BigDecimal getDecimalValue() throws IllegalStateException {
+		this.checkNumber();
+		if (this.decompose()) {
+			return BigDecimal.valueOf(this.text[0] == '-' ? -this.significand : this.significand, -this.exponent);
+		}
+		return new BigDecimal(this.text, 0, this.textLength);
+	}
+	
+	/**
+	 * Split the current number in the text buffer into its digits and its decimal exponent.
+	 * 
+	 * @return true if the digits fit into the significand and the exponent is in range
+	 */
+	private boolean decompose() {
+		long digits = 0;
+		int digitsExponent = 0;
+		boolean fraction = false;
+		int i = this.text[0] == '-' ? 1 : 0;
+		for (; i < this.textLength; i++) {
+			char next = this.text[i];
+			if (next == '.') {
+				fraction = true;
+			} else if (next == 'e' || next == 'E') {
+				break;
+			} else if (digits > (Long.MAX_VALUE - 9) / 10) {
+				return false;
+			} else {
+				digits = digits * 10 + (next - '0');
+				digitsExponent -= fraction ? 1 : 0;
+			}
+		}
+		long explicitExponent = 0;
+		if (i < this.textLength) {
+			boolean negativeExponent = this.text[++i] == '-';
+			i += negativeExponent || this.text[i] == '+' ? 1 : 0;
+			for (; i < this.textLength; i++) {
+				if (explicitExponent > Integer.MAX_VALUE) {
+					return false;
+				}
+				explicitExponent = explicitExponent * 10 + (this.text[i] - '0');
+			}
+			explicitExponent = negativeExponent ? -explicitExponent : explicitExponent;
+		}
+		explicitExponent += digitsExponent;
+		if (explicitExponent <= Integer.MIN_VALUE || explicitExponent > Integer.MAX_VALUE) {
+			return false;
+		}
+		this.significand = digits;
+		this.exponent = (int) explicitExponent;
+		return true;
+	}
+	
+	/**
+	 * Checks whether the current token holds text in the buffer.
+	 * 
+	 * @return true for names, strings and numbers
+	 */
+	private boolean hasText() {
+		return this.currentToken == JsonToken.FIELD_NAME || this.currentToken == JsonToken.VALUE_STRING 
+				|| this.currentToken == JsonToken.VALUE_NUMBER;
+	}
+	
+	/**
+	 * Ensure the current token is a number.
+	 * 
+	 * @throws IllegalStateException if the current token is not a number
+	 */
+	private void checkNumber() throws IllegalStateException {
+		if (this.currentToken != JsonToken.VALUE_NUMBER) {
+			throw new IllegalStateException(String.format("The current token %s is not a number.", 
+					this.currentToken));
+		}
+	}
+	
+	/**
+	 * Read the next value.
+	 * 
+	 * @return the token of the value
+	 * @throws JsonStandardException if the next element is not a JSON value
+	 */
+	private JsonToken readValue() throws JsonStandardException {
+		int next = this.parser.peek();
+		switch (next) {
+		
+			case '{':
+				this.parser.skip(1);
+				this.startContainer(true);
+				this.state = JsonTokenizer.EXPECT_FIRST_NAME;
+				return this.currentToken = JsonToken.START_OBJECT;
+				
+			case '[':
+				this.parser.skip(1);
+				this.startContainer(false);
+				this.state = JsonTokenizer.EXPECT_FIRST_VALUE;
+				return this.currentToken = JsonToken.START_ARRAY;
+				
+			case '"':
+				this.readString();
+				return this.endValue(JsonToken.VALUE_STRING);
+				
+			case 't':
+				return this.readLiteral("true", JsonToken.VALUE_TRUE);
+				
+			case 'f':
+				return this.readLiteral("false", JsonToken.VALUE_FALSE);
+				
+			case 'n':
+				return this.readLiteral("null", JsonToken.VALUE_NULL);
+				
+			default:
+				if (next == '-' || (next >= '0' && next <= '9')) {
+					this.readNumber();
+					return this.endValue(JsonToken.VALUE_NUMBER);
+				}
+				throw new JsonParseException(this.parser, this.parser.getPosition(), "a JSON value");
+				
+		}
+	}
+	
+	/**
+	 * Read the next member name.
+	 * 
+	 * @return the name token
+	 * @throws JsonStandardException if the next element is not a JSON string
+	 */
+	private JsonToken readName() throws JsonStandardException {
+		if (this.parser.isNext('"')) {
+			this.readString();
+			this.state = JsonTokenizer.EXPECT_NAME_SEPARATOR;
+			return this.currentToken = JsonToken.FIELD_NAME;
+		}
+		throw new JsonParseException(this.parser, this.parser.getPosition(), 
+				"the name of a JSON object member");
+	}
+	
+	/**
+	 * Read the specified literal.
+	 * 
+	 * @param literal - the literal to read
+	 * @param token - the token of the literal
+	 * @return the token of the literal
+	 * @throws JsonStandardException if the next characters are not the literal
+	 */
+	private JsonToken readLiteral(String literal, JsonToken token) throws JsonStandardException {
+		if (this.parser.isNext(literal, true)) {
+			return this.endValue(token);
+		}
+		throw new JsonParseException(this.parser, this.parser.getPosition(), "a JSON value");
+	}
+	
+	/**
+	 * Read the next string into the text buffer. The position mark must be at the opening 
+	 * quotation mark.
+	 * 
+	 * @throws JsonStandardException if the string is not terminated, contains invalid escapes or
+	 * unescaped control characters
+	 */
+	private void readString() throws JsonStandardException {
+		this.parser.skip(1); // the opening quotation mark
+		this.textLength = 0;
+		while (true) {
+			int next = this.parser.peek();
+			if (next == '"') {
+				this.parser.skip(1);
+				return;
+			} else if (next == '\\') {
+				this.parser.skip(1);
+				this.append(this.readEscape());
+			} else if (next >= 0x20) {
+				this.parser.skip(1);
+				this.append((char) next);
+			} else if (next >= 0) { // control characters need to be escaped
+				throw new JsonParseException(this.parser, this.parser.getPosition(), 
+						"an escape sequence instead of a control character");
+			} else {
+				throw new JsonParseException(this.parser, this.parser.getPosition(), 
+						"the end of a JSON string");
+			}
+		}
+	}
+	
+	/**
+	 * Read an escape sequence. The position mark must be behind the escape character.
+	 * 
+	 * @return the escaped character
+	 * @throws JsonStandardException if the escape sequence is invalid
+	 */
+	private char readEscape() throws JsonStandardException {
+		int next = this.parser.peek();
+		if (next < 0) {
+			throw new JsonParseException(this.parser, this.parser.getPosition(), "the end of a JSON string");
+		}
+		this.parser.skip(1);
+		switch (next) {
+		
+			case '"':
+			case '\\':
+			case '/':
+				return (char) next;
+				
+			case 'b':
+				return '\b';
+				
+			case 'f':
+				return '\f';
+				
+			case 'n':
+				return '\n';
+				
+			case 'r':
+				return '\r';
+				
+			case 't':
+				return '\t';
+				
+			case 'u':
+				int codeUnit = 0;
+				for (int i = 0; i < 4; i++) {
+					int digit = JsonTokenizer.hexadecimalDigit(this.parser.peek());
+					if (digit < 0) {
+						throw new JsonParseException(this.parser, this.parser.getPosition(), 
+								"a hexadecimal digit of a unicode escape sequence");
+					}
+					this.parser.skip(1);
+					codeUnit = (codeUnit << 4) | digit;
+				}
+				return (char) codeUnit;
+				
+			default:
+				throw new JsonParseException(this.parser, this.parser.getPosition() - 1, 
+						"a valid escape sequence");
+				
+		}
+	}
+	
+	/**
+	 * Get the value of the specified ASCII hexadecimal digit.
+	 * 
+	 * @param digit - the character of the digit
+	 * @return the value of the digit or -1 if the character is no hexadecimal digit
+	 */
+	static int hexadecimalDigit(int digit) {
+		if (digit >= '0' && digit <= '9') {
+			return digit - '0';
+		} else if (digit >= 'a' && digit <= 'f') {
+			return digit - 'a' + 10;
+		} else if (digit >= 'A' && digit <= 'F') {
+			return digit - 'A' + 10;
+		}
+		return -1;
+	}
+	
+	/**
+	 * Read the next number into the text buffer following the JSON number grammar.
+	 * 
+	 * @throws JsonStandardException if the number is not correctly formatted
+	 */
+	private void readNumber() throws JsonStandardException {
+		this.textLength = 0;
+		this.integral = true;
+		if (this.parser.isNext('-', true)) {
+			this.append('-');
+		}
+		// integer part without leading zeros
+		if (this.parser.isNext('0', true)) {
+			this.append('0');
+		} else if (this.readDigits() == 0) {
+			throw new JsonParseException(this.parser, this.parser.getPosition(), "the digits of a JSON number");
+		}
+		// fraction part
+		if (this.parser.isNext('.', true)) {
+			this.append('.');
+			this.integral = false;
+			if (this.readDigits() == 0) {
+				throw new JsonParseException(this.parser, this.parser.getPosition(), 
+						"the fraction digits of a JSON number");
+			}
+		}
+		// exponent part
+		int next = this.parser.peek();
+		if (next == 'e' || next == 'E') {
+			this.parser.skip(1);
+			this.append((char) next);
+			this.integral = false;
+			next = this.parser.peek();
+			if (next == '+' || next == '-') {
+				this.parser.skip(1);
+				this.append((char) next);
+			}
+			if (this.readDigits() == 0) {
+				throw new JsonParseException(this.parser, this.parser.getPosition(), 
+						"the exponent digits of a JSON number");
+			}
+		}
+	}
+	
+	/**
+	 * Read a sequence of ASCII digits into the text buffer.
+	 * 
+	 * @return the number of read digits
+	 */
+	private int readDigits() {
+		int count = 0;
+		int next = this.parser.peek();
+		while (next >= '0' && next <= '9') {
+			this.parser.skip(1);
+			this.append((char) next);
+			count++;
+			next = this.parser.peek();
+		}
+		return count;
+	}
+	
+	/**
+	 * Append the specified character to the text buffer.
+	 * 
+	 * @param c - the character to append
+	 */
+	void append(char c) {
+		if (this.textLength == this.text.length) {
+			this.text = Arrays.copyOf(this.text, this.text.length * 2);
+		}
+		this.text[this.textLength++] = c;
+	}
+	
+	/**
+	 * Checks whether the innermost enclosing container is an object.
+	 * 
+	 * @return true for objects, false for arrays
+	 */
+	boolean inObject() {
+		return this.objects[this.depth - 1];
+	}
+	
+	/**
+	 * Enter a new object or array.
+	 * 
+	 * @param object - true for objects, false for arrays
+	 */
+	void startContainer(boolean object) {
+		if (this.depth == this.objects.length) {
+			this.objects = Arrays.copyOf(this.objects, this.objects.length * 2);
+		}
+		this.objects[this.depth++] = object;
+	}
+	
+	/**
+	 * Leave the current object or array.
+	 * 
+	 * @param token - the end token
+	 * @return the end token
+	 */
+	JsonToken endContainer(JsonToken token) {
+		this.depth--;
+		return this.endValue(token);
+	}
+	
+	/**
+	 * Update the state after a complete value has been read.
+	 * 
+	 * @param token - the token completing the value
+	 * @return the token completing the value
+	 */
+	JsonToken endValue(JsonToken token) {
+		this.state = this.depth > 0 ? JsonTokenizer.EXPECT_SEPARATOR : JsonTokenizer.FINISHED;
+		return this.currentToken = token;
+	}
+
+}
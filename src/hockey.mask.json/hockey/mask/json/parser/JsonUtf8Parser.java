@@ -0,0 +1,660 @@
+package hockey.mask.json.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import hockey.mask.json.JsonStandardException;
+
+/**
+ * The JsonUtf8Parser class facilitates the processing of UTF-8 encoded bytes into a JSON value
+ * without decoding the bytes in advance.
+ * 
+ * <p>As all structural characters of JSON are ASCII characters, they are matched against the
+ * bytes directly. Only the content of strings is decoded, once a string is actually created.
+ * Positions and lengths therefore count bytes instead of characters, so a single character
+ * outside of the ASCII range spans multiple positions. Characters outside of the basic
+ * multilingual plane are returned as two surrogates, each spanning two positions. Malformed
+ * byte sequences are replaced by the replacement character.</p>
+ * 
+ * @author Planters
+ * 
+ */
+public class JsonUtf8Parser extends JsonParser {
+	
+	/**
+	 * The character replacing malformed byte sequences.
+	 */
+	private static final char REPLACEMENT_CHARACTER = '\uFFFD';
+	
+	private static final JsonScanner SCANNER = JsonScanner.getInstance();
+	
+	private byte[] jsonData = null; // the bytes to parse
+	private int offset = 0; // the index of the first byte inside of the array
+	private int length = 0; // the number of bytes to parse
+	private int pos = 0; // the current position of the parser relative to the offset
+	
+	/**
+	 * Create a new JsonParser based on the supplied UTF-8 encoded bytes. The array is not
+	 * copied, so it must not be modified while parsing. Null cannot be parsed and will throw
+	 * an exception. The same holds true for empty arrays.
+	 * 
+	 * @param jsonData - the data to parse
+	 * @throws JsonStandardException if an empty array is passed
+	 * @throws NullPointerException if null is passed
+	 */
+	public JsonUtf8Parser(byte[] jsonData) throws JsonStandardException {
+		this(jsonData, 0, jsonData != null ? jsonData.length : 0);
+	}
+	
+	/**
+	 * Create a new JsonParser based on the specified range of the supplied UTF-8 encoded bytes.
+	 * The array is not copied, so it must not be modified while parsing. Null cannot be
+	 * parsed and will throw an exception. The same holds true for empty ranges.
+	 * 
+	 * @param jsonData - the data to parse
+	 * @param offset - the index of the first byte to parse
+	 * @param length - the number of bytes to parse
+	 * @throws JsonStandardException if an empty range is passed
+	 * @throws IndexOutOfBoundsException if the range is outside of the bounds of the array
+	 * @throws NullPointerException if null is passed
+	 */
+	public JsonUtf8Parser(byte[] jsonData, int offset, int length) throws JsonStandardException {
+		if (jsonData == null) {
+			throw new NullPointerException("The null array cannot be parsed.");
+		} else if (offset < 0 || length < 0 || offset > jsonData.length - length) {
+			throw new IndexOutOfBoundsException(String.format("The range from %s with length %s is outside "
+					+ "of the bounds of an array of length %s.", offset, length, jsonData.length));
+		} else if (length == 0) {
+			throw new JsonStandardException("The empty array cannot be parsed.");
+		} else {
+			this.jsonData = jsonData;
+			this.offset = offset;
+			this.length = length;
+		}
+	}
+	
+	/**
+	 * Create a new JsonParser based on the remaining UTF-8 encoded bytes of the supplied buffer.
+	 * Buffers backed by an accessible array are parsed in place, so they must not be modified
+	 * while parsing. The remaining bytes of all other buffers are copied. The position of
+	 * the buffer will not be modified. Null cannot be parsed and will throw an exception.
+	 * The same holds true for empty buffers.
+	 * 
+	 * @param jsonData - the data to parse
+	 * @throws JsonStandardException if an empty buffer is passed
+	 * @throws NullPointerException if null is passed
+	 */
+	public JsonUtf8Parser(ByteBuffer jsonData) throws JsonStandardException {
+		if (jsonData == null) {
+			throw new NullPointerException("The null buffer cannot be parsed.");
+		} else if (!jsonData.hasRemaining()) {
+			throw new JsonStandardException("The empty buffer cannot be parsed.");
+		} else if (jsonData.hasArray()) {
+			this.jsonData = jsonData.array();
+			this.offset = jsonData.arrayOffset() + jsonData.position();
+			this.length = jsonData.remaining();
+		} else {
+			this.jsonData = new byte[jsonData.remaining()];
+			jsonData.duplicate().get(this.jsonData);
+			this.length = this.jsonData.length;
+		}
+	}
+	
+	/**
+	 * Get the current position in the parsed bytes.
+	 * 
+	 * @return the position inside the bytes
+	 */
+	@Override
+	public int getPosition() {
+		return this.pos;
+	}
+	
+	/**
+	 * Set the position mark of the parser to the specified value.
+	 * 
+	 * @param position - the position to set the parser to
+	 * @throws IndexOutOfBoundsException if the passed value is outside of the bounds of the
+	 * parsed bytes
+	 */
+	@Override
+	public void setPosition(int position) throws IndexOutOfBoundsException {
+		if (position <= this.length && position >= 0) {
+			this.pos = position;
+		} else {
+			throw new IndexOutOfBoundsException(String.format("The index %s is outside of the "
+					+ "bounds of %s bytes.", position, this.length));
+		}
+	}
+	
+	/**
+	 * Get the specified number of bytes decoded as string. The string starts with the
+	 * character at the current parsers position mark and the position mark will be
+	 * incremented by the number of bytes. If the bytes contain characters outside of the
+	 * ASCII range, the string is shorter than the number of bytes.
+	 * 
+	 * @param length - the number of bytes to decode
+	 * @return the decoded bytes
+	 * @throws IndexOutOfBoundsException if the end of the bytes is outside of the bounds
+	 * of the parsed bytes
+	 */
+	@Override
+	public String get(int length) throws IndexOutOfBoundsException {
+		String section = this.getSection(this.pos, this.pos + length);
+		this.pos += length;
+		return section;
+	}
+	
+	/**
+	 * Get the next character of the bytes.
+	 * The position mark will be incremented by the number of bytes of the character.
+	 * 
+	 * @return the next character
+	 * @throws IndexOutOfBoundsException if the end of the parsed bytes has been reached
+	 */
+	@Override
+	public char get() throws IndexOutOfBoundsException {
+		if (this.hasNext()) {
+			int decoded = this.decode(this.pos);
+			this.pos += decoded >>> 16;
+			return (char) decoded;
+		} else {
+			throw new IndexOutOfBoundsException(String.format("The index %s is outside of the "
+					+ "bounds of %s bytes.", this.pos + 1, this.length));
+		}
+	}
+	
+	/**
+	 * Increment the position mark by the specified number of characters. The characters are
+	 * decoded like by {@link #get()}, so the position mark is moved behind all bytes of a
+	 * character outside of the ASCII range and behind one surrogate of a character outside of
+	 * the basic multilingual plane per character. Negative lengths move the position mark back
+	 * by the number of bytes.
+	 * 
+	 * @param length - the number of characters to skip
+	 * @throws IndexOutOfBoundsException if the end of the parsed bytes is reached before all
+	 * characters have been skipped
+	 */
+	@Override
+	public void skip(int length) throws IndexOutOfBoundsException {
+		if (length < 0) {
+			super.skip(length);
+			return;
+		}
+		int position = this.pos;
+		for (int i = 0; i < length; i++) {
+			if (position >= this.length) {
+				throw new IndexOutOfBoundsException(String.format("The index %s is outside of the "
+						+ "bounds of %s bytes.", position + 1, this.length));
+			}
+			position += this.jsonData[this.offset + position] >= 0 ? 1 : this.decode(position) >>> 16;
+		}
+		this.pos = position;
+	}
+	
+	/**
+	 * Get the bytes between the specified positions decoded as string.
+	 * The position mark will not be modified.
+	 * 
+	 * @param beginPosition - the position of the first byte, inclusive
+	 * @param endPosition - the position of the last byte, exclusive
+	 * @return the decoded bytes between the specified positions
+	 * @throws IndexOutOfBoundsException if the positions are outside of the bounds of the
+	 * parsed bytes or the begin position is larger than the end position
+	 */
+	@Override
+	public String getSection(int beginPosition, int endPosition) throws IndexOutOfBoundsException {
+		if (beginPosition >= 0 && beginPosition <= endPosition && endPosition <= this.length) {
+			int begin = this.offset + beginPosition;
+			int end = this.offset + endPosition;
+			if (JsonUtf8Parser.SCANNER.skipAscii(this.jsonData, begin, end) == end) {
+				// ASCII bytes do not need to be validated and are copied as they are
+				return new String(this.jsonData, begin, end - begin, StandardCharsets.ISO_8859_1);
+			}
+			return new String(this.jsonData, begin, end - begin, StandardCharsets.UTF_8);
+		} else {
+			throw new IndexOutOfBoundsException(String.format("The section from %s to %s is outside of the "
+					+ "bounds of %s bytes.", beginPosition, endPosition, this.length));
+		}
+	}
+	
+	/**
+	 * Get an excerpt of the bytes surrounding the specified position, which holds at most
+	 * the specified number of bytes before and after the position decoded as string.
+	 * The position mark will not be modified.
+	 * 
+	 * @param position - the position to get the surrounding data from
+	 * @param radius - the maximum number of bytes before and after the position
+	 * @return the decoded data surrounding the specified position
+	 * @throws IndexOutOfBoundsException if the position is outside of the bounds of the
+	 * parsed bytes
+	 */
+	@Override
+	public String getExcerpt(int position, int radius) throws IndexOutOfBoundsException {
+		if (position >= 0 && position <= this.length) {
+			return this.getSection(Math.max(0, position - radius),
+					(int) Math.min(this.length, (long) position + radius));
+		} else {
+			throw new IndexOutOfBoundsException(String.format("The index %s is outside of the "
+					+ "bounds of %s bytes.", position, this.length));
+		}
+	}
+	
+	/**
+	 * Get the line and column of the specified position by counting the line feeds in front 
+	 * of it without decoding the bytes. The column is counted in bytes like the position.
+	 * 
+	 * @param position - the position to locate
+	 * @return the line and column of the position or null if it is outside of the bounds of 
+	 * the parsed bytes
+	 */
+	@Override
+	int[] getLineAndColumn(int position) {
+		if (position < 0 || position > this.length) {
+			return null;
+		}
+		int line = 1;
+		int lineStart = 0;
+		for (int i = 0; i < position; i++) {
+			if (this.jsonData[this.offset + i] == '\n') {
+				line++;
+				lineStart = i + 1;
+			}
+		}
+		return new int[] {line, position - lineStart + 1};
+	}
+	
+	/**
+	 * Get the data held by this parser decoded as string.
+	 * 
+	 * @return the decoded bytes to be parsed
+	 */
+	@Override
+	public String getData() {
+		return this.getSection(0, this.length);
+	}
+	
+	/**
+	 * Checks if there are still bytes remaining to parse.
+	 * 
+	 * @return true if there are remaining bytes
+	 */
+	@Override
+	public boolean hasNext() {
+		return this.pos < this.length;
+	}
+	
+	/**
+	 * Checks whether the next character is the query.
+	 * The position mark will not be incremented.
+	 * 
+	 * @param query - the character to query for
+	 * @return true if the next character equals the query
+	 */
+	@Override
+	public boolean isNext(char query) {
+		if (query < 0x80) { // ASCII characters are encoded as a single byte
+			return this.pos < this.length && this.jsonData[this.offset + this.pos] == query;
+		}
+		return this.peek() == query;
+	}
+	
+	/**
+	 * Checks whether the next character is the query.
+	 * Optionally the position mark can be incremented if the query is found.
+	 * 
+	 * @param query - the character to query for
+	 * @param incrementPosition - true to increment the position mark by the search if found
+	 * @return true if the next character equals the query
+	 */
+	@Override
+	public boolean isNext(char query, boolean incrementPosition) {
+		boolean next = this.isNext(query);
+		if (next && incrementPosition) {
+			this.pos += this.decode(this.pos) >>> 16;
+		}
+		return next;
+	}
+	
+	/**
+	 * Checks whether the next characters are the query.
+	 * The position mark will not be incremented.
+	 * 
+	 * @param query - the string to query for
+	 * @return true if the next characters equal the query
+	 */
+	@Override
+	public boolean isNext(String query) {
+		return this.regionMatches(this.pos, query);
+	}
+	
+	/**
+	 * Checks whether the next characters are the query.
+	 * Optionally the position mark can be incremented if the query is found.
+	 * 
+	 * @param query - the string to query for
+	 * @param incrementPosition - true to increment the position mark by the search if found
+	 * @return true if the next characters equal the query
+	 */
+	@Override
+	public boolean isNext(String query, boolean incrementPosition) {
+		int matchedLength = this.matchLength(this.pos, query);
+		if (matchedLength >= 0) {
+			if (incrementPosition) {
+				this.pos += matchedLength;
+			}
+			return true;
+		}
+		return false;
+	}
+	
+	/**
+	 * Checks whether the next character is a digit.
+	 * This will not increment the position mark.
+	 * 
+	 * @return true if the next character is a digit
+	 */
+	@Override
+	public boolean isNextDigit() {
+		int next = this.peek();
+		return next >= 0 && Character.isDigit((char) next);
+	}
+	
+	/**
+	 * Get the next character without incrementing the position mark.
+	 * 
+	 * @return the next character or -1 if the end of the parsed bytes has been reached
+	 */
+	@Override
+	public int peek() {
+		if (this.pos < this.length) {
+			byte next = this.jsonData[this.offset + this.pos];
+			return next >= 0 ? next : (char) this.decode(this.pos);
+		}
+		return -1;
+	}
+	
+	/**
+	 * Get the character at the specified offset in bytes from the position mark.
+	 * The position mark will not be modified.
+	 * 
+	 * @param offset - the offset from the position mark in bytes
+	 * @return the character at the specified offset or -1 if the offset is outside of the
+	 * bounds of the parsed bytes
+	 */
+	@Override
+	public int peek(int offset) {
+		long index = (long) this.pos + offset;
+		return index >= 0 && index < this.length ? (char) this.decode((int) index) : -1;
+	}
+	
+	/**
+	 * Checks whether the characters at the specified position are the query. The
+	 * characters are compared with the bytes in place, so no bytes are decoded.
+	 * The position mark will not be modified.
+	 * 
+	 * @param position - the position to compare the query with
+	 * @param query - the string to query for
+	 * @return true if the characters starting at the specified position equal the query
+	 */
+	@Override
+	public boolean regionMatches(int position, String query) {
+		return this.matchLength(position, query) >= 0;
+	}
+	
+	/**
+	 * Get the position of the next occurrence of the query, starting the search at the
+	 * position mark. The position mark will not be modified.
+	 * 
+	 * @param query - the char to search for
+	 * @return the position of the next occurrence or -1 if the query does not occur anymore
+	 */
+	@Override
+	public int indexOf(char query) {
+		if (query < 0x80) {
+			for (int i = this.pos; i < this.length; i++) {
+				if (this.jsonData[this.offset + i] == query) {
+					return i;
+				}
+			}
+		} else {
+			for (int i = this.pos; i < this.length; i += this.decode(i) >>> 16) {
+				if ((char) this.decode(i) == query) {
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Moves the position mark behind the next sequence of digits.
+	 * If the next character is not a digit, the position mark will not be modified.
+	 * 
+	 * @return the number of skipped digits
+	 */
+	@Override
+	public int skipDigits() {
+		int skipped = 0;
+		while (this.isNextDigit()) {
+			this.pos += this.decode(this.pos) >>> 16;
+			skipped++;
+		}
+		return skipped;
+	}
+	
+	/**
+	 * Get the remaining bytes of the parsed data decoded as string.
+	 * 
+	 * @return a string from the parsers position mark to the end of the parsed bytes
+	 */
+	@Override
+	public String getRemaining() {
+		return this.getSection(this.pos, this.length);
+	}
+	
+	/**
+	 * Reset the position mark to zero.
+	 */
+	@Override
+	public void rewind() {
+		this.setPosition(0);
+	}
+	
+	/**
+	 * Moves the position mark to the next non-whitespace character in the parser. If the
+	 * parser only contains whitespace characters, the position mark is moved to the end
+	 * position, at which no character resides.
+	 */
+	@Override
+	public void skipWhitespace() {
+		while (this.pos < this.length) {
+			this.pos = JsonUtf8Parser.SCANNER.skipWhitespace(this.jsonData, this.offset + this.pos,
+					this.offset + this.length) - this.offset;
+			if (this.pos >= this.length) {
+				return;
+			}
+			int decoded = this.decode(this.pos);
+			if (!Character.isWhitespace((char) decoded)) {
+				return;
+			}
+			this.pos += decoded >>> 16;
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void skipValue() throws JsonStandardException {
+		int startingPosition = this.pos;
+		this.skipWhitespace();
+		int end = JsonUtf8Parser.SCANNER.skipValue(this.jsonData, this.offset + this.pos, 
+				this.offset + this.length);
+		if (end < 0) {
+			this.pos = startingPosition; // the parser should not be modified
+			throw new JsonParseException(this, ~end - this.offset, "a complete JSON value");
+		}
+		this.pos = end - this.offset;
+	}
+	
+	/**
+	 * Get the characters in front of the next terminator as string and move the position
+	 * mark onto the terminator. Only the bytes of the returned string are decoded.
+	 * 
+	 * @param terminator - the character terminating the string
+	 * @param escape - the character, which may not occur in front of the terminator
+	 * @return the characters in front of the terminator or null if the escape character occurs
+	 * in front of the terminator or there is no terminator
+	 */
+	@Override
+	public String getUntil(char terminator, char escape) {
+		if (terminator < 0x80 && escape < 0x80) { // cannot occur inside of multi-byte sequences
+			int i = JsonUtf8Parser.SCANNER.indexOf(this.jsonData, this.offset + this.pos, this.offset + this.length,
+					(byte) terminator, (byte) escape) - this.offset;
+			if (i < 0 || this.jsonData[this.offset + i] != terminator) {
+				return null;
+			}
+			String section = this.getSection(this.pos, i);
+			this.pos = i;
+			return section;
+		}
+		return super.getUntil(terminator, escape);
+	}
+	
+	/**
+	 * Get the symbol of the characters in front of the next terminator from the specified
+	 * symbol table and move the position mark onto the terminator. Sections of ASCII
+	 * characters are hashed and compared as bytes, so only sections containing multi-byte
+	 * characters are decoded before they are looked up.
+	 * 
+	 * @param <T> the type of the symbols
+	 * @param terminator - the character terminating the string
+	 * @param escape - the character, which may not occur in front of the terminator
+	 * @param symbols - the symbol table canonicalizing the characters
+	 * @return the symbol of the characters in front of the terminator or null if the escape
+	 * character occurs in front of the terminator or there is no terminator
+	 * @throws NullPointerException if null is passed as symbol table
+	 */
+	@Override
+	public <T> T getUntil(char terminator, char escape, JsonSymbolTable<T> symbols) {
+		Objects.requireNonNull(symbols, "The symbol table may not be null.");
+		if (terminator >= 0x80 || escape >= 0x80) {
+			return super.getUntil(terminator, escape, symbols);
+		}
+		int start = this.offset + this.pos;
+		int i = JsonUtf8Parser.SCANNER.indexOf(this.jsonData, start, this.offset + this.length,
+				(byte) terminator, (byte) escape);
+		if (i < 0 || this.jsonData[i] != terminator) {
+			return null;
+		}
+		T symbol = JsonUtf8Parser.SCANNER.skipAscii(this.jsonData, start, i) == i
+				? symbols.get(this.jsonData, start, i - start)
+				: symbols.get(this.getSection(this.pos, i - this.offset));
+		this.pos = i - this.offset;
+		return symbol;
+	}
+	
+	/**
+	 * Get the number of bytes matching the query at the specified position.
+	 * 
+	 * @param position - the position to compare the query with
+	 * @param query - the string to query for
+	 * @return the number of bytes encoding the query or -1 if the bytes do not match the query
+	 */
+	private int matchLength(int position, String query) {
+		if (query == null || position < 0 || position > this.length) {
+			return -1;
+		}
+		int index = position;
+		for (int i = 0; i < query.length(); i++) {
+			if (index >= this.length) {
+				return -1;
+			}
+			char c = query.charAt(i);
+			if (c < 0x80) {
+				if (this.jsonData[this.offset + index] != c) {
+					return -1;
+				}
+				index++;
+			} else {
+				int decoded = this.decode(index);
+				if ((char) decoded != c) {
+					return -1;
+				}
+				index += decoded >>> 16;
+			}
+		}
+		return index - position;
+	}
+	
+	/**
+	 * Decode the character at the specified position. Characters outside of the basic
+	 * multilingual plane are split into a high surrogate covering the first two bytes and
+	 * a low surrogate covering the last two bytes.
+	 * 
+	 * @param position - the position of the character, which needs to be inside of the bounds
+	 * @return the character in the lower 16 bits and the number of its bytes in the upper bits
+	 */
+	private int decode(int position) {
+		int lead = this.jsonData[this.offset + position] & 0xFF;
+		if (lead < 0x80) {
+			return (1 << 16) | lead;
+		} else if (lead >= 0xC2 && lead <= 0xDF) {
+			int codePoint = this.decodeSequence(position, lead & 0x1F, 1, 0x80);
+			if (codePoint >= 0) {
+				return (2 << 16) | codePoint;
+			}
+		} else if (lead >= 0xE0 && lead <= 0xEF) {
+			int codePoint = this.decodeSequence(position, lead & 0x0F, 2, 0x800);
+			if (codePoint >= 0 && !Character.isSurrogate((char) codePoint)) {
+				return (3 << 16) | codePoint;
+			}
+		} else if (lead >= 0xF0 && lead <= 0xF4) {
+			int codePoint = this.decodeSequence(position, lead & 0x07, 3, 0x10000);
+			if (codePoint >= 0 && codePoint <= Character.MAX_CODE_POINT) {
+				return (2 << 16) | Character.highSurrogate(codePoint);
+			}
+		} else if (lead < 0xC0 && position >= 2) { // possibly the second half of a four byte sequence
+			int fourByteLead = this.jsonData[this.offset + position - 2] & 0xFF;
+			if (fourByteLead >= 0xF0 && fourByteLead <= 0xF4) {
+				int codePoint = this.decodeSequence(position - 2, fourByteLead & 0x07, 3, 0x10000);
+				if (codePoint >= 0 && codePoint <= Character.MAX_CODE_POINT) {
+					return (2 << 16) | Character.lowSurrogate(codePoint);
+				}
+			}
+		}
+		return (1 << 16) | JsonUtf8Parser.REPLACEMENT_CHARACTER;
+	}
+	
+	/**
+	 * Decode the code point of a multi-byte sequence.
+	 * 
+	 * @param position - the position of the lead byte
+	 * @param leadBits - the payload bits of the lead byte
+	 * @param continuationBytes - the number of continuation bytes
+	 * @param minimum - the smallest code point, which may be encoded by the sequence
+	 * @return the code point or -1 if the sequence is malformed
+	 */
+	private int decodeSequence(int position, int leadBits, int continuationBytes, int minimum) {
+		if (position + continuationBytes >= this.length) {
+			return -1;
+		}
+		int codePoint = leadBits;
+		for (int i = 1; i <= continuationBytes; i++) {
+			int continuation = this.jsonData[this.offset + position + i] & 0xFF;
+			if ((continuation & 0xC0) != 0x80) {
+				return -1;
+			}
+			codePoint = (codePoint << 6) | (continuation & 0x3F);
+		}
+		return codePoint >= minimum ? codePoint : -1;
+	}
+	
+	/*
+	 * The functions hashCode(), equals() and toString() of the super class should be
+	 * sufficient.
+	 */
+
+}
@@ -0,0 +1,25 @@
+package hockey.mask.json.query;
+
+import hockey.mask.json.values.JsonValue;
+
+/**
+ * The JsonMatchHandler interface receives the values matching the paths of a
+ * {@link JsonQuery} as soon as they have been found.
+ * 
+ * @author Planters
+ * 
+ */
+@FunctionalInterface
+public interface JsonMatchHandler {
+	
+	/**
+	 * Receive a value matching the specified path. A value matching multiple paths is received
+	 * once for every path.
+	 * 
+	 * @param path - the matched path
+	 * @param value - the matching value
+	 * @return true to continue the query
+	 */
+	public boolean match(JsonPath path, JsonValue value);
+	
+}
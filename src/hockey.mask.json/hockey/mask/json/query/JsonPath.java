@@ -0,0 +1,413 @@
+package hockey.mask.json.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.parser.JsonParser;
+import hockey.mask.json.parser.JsonStringParser;
+import hockey.mask.json.values.JsonArray;
+import hockey.mask.json.values.JsonObject;
+import hockey.mask.json.values.JsonString;
+import hockey.mask.json.values.JsonValue;
+
+/**
+ * The JsonPath class is a compiled JSON path expression like
+ * {@code $.orders[*].lines[?(@.qty > 10)].sku}, which selects values from a JSON document.
+ * 
+ * <p>An expression starts with the root {@code $} followed by steps, which are member names
+ * like {@code .name} or {@code ['name']}, element indices like {@code [0]}, wildcards like
+ * {@code .*} or {@code [*]} and filters like {@code [?(@.name)]} or
+ * {@code [?(@.name >= 'value')]}. Preceding a step with {@code ..} instead of {@code .}
+ * applies it to all descendants instead of only the children. Filters test a member or
+ * element of the current value {@code @} for existence or compare it with a string, number,
+ * boolean or null by {@code ==}, {@code !=}, {@code <}, {@code <=}, {@code >} or {@code >=}.</p>
+ * 
+ * <p>Paths are evaluated by a {@link JsonQuery}, which runs multiple paths during a single
+ * pass over the parsed data.</p>
+ * 
+ * @author Planters
+ * 
+ */
+public final class JsonPath {
+	
+	/**
+	 * The character identifying the root value.
+	 */
+	public static final char JSON_PATH_ROOT = '$';
+	/**
+	 * The character identifying the current value within a filter.
+	 */
+	public static final char JSON_PATH_CURRENT = '@';
+	
+	private final String expression;
+	private final JsonPathStep[] steps;
+	
+	/**
+	 * Create a compiled JSON path.
+	 * 
+	 * @param expression - the expression of the path
+	 * @param steps - the compiled steps
+	 */
+	private JsonPath(String expression, JsonPathStep[] steps) {
+		this.expression = expression;
+		this.steps = steps;
+	}
+	
+	/**
+	 * Compile the specified JSON path expression.
+	 * 
+	 * @param expression - the JSON path expression
+	 * @return the compiled path
+	 * @throws IllegalArgumentException if the expression is not a valid JSON path
+	 * @throws NullPointerException if null is passed as expression
+	 */
+	public static JsonPath compile(String expression) {
+		Objects.requireNonNull(expression, "The JSON path expression may not be null.");
+		return new Compiler(expression).compile();
+	}
+	
+	/**
+	 * Get the expression this path has been compiled from.
+	 * 
+	 * @return the JSON path expression
+	 */
+	public String getExpression() {
+		return this.expression;
+	}
+	
+	/**
+	 * Get the compiled steps of this path.
+	 * 
+	 * @return the steps
+	 */
+	JsonPathStep[] getSteps() {
+		return this.steps;
+	}
+	
+	/**
+	 * Select all values matching this path from the specified value.
+	 * 
+	 * @param value - the root value
+	 * @return the matching values in document order
+	 * @throws NullPointerException if null is passed as value
+	 */
+	public List<JsonValue> select(JsonValue value) {
+		List<JsonValue> matches = new ArrayList<JsonValue>();
+		new JsonQuery(this).evaluate(value, (path, match) -> matches.add(match));
+		return matches;
+	}
+	
+	/**
+	 * Select all values matching this path from the next JSON formatted value of the specified
+	 * parser. Only the matching values are created.
+	 * 
+	 * @param parser - the parser to retrieve the JSON formatted value from
+	 * @return the matching values in document order
+	 * @throws JsonStandardException if the next element in the parser is not a JSON formatted value
+	 * @throws NullPointerException if null is passed as JSON parser
+	 */
+	public List<JsonValue> selectNext(JsonParser parser) throws JsonStandardException {
+		List<JsonValue> matches = new ArrayList<JsonValue>();
+		new JsonQuery(this).evaluateNext(parser, (path, match) -> matches.add(match));
+		return matches;
+	}
+	
+	@Override
+	public int hashCode() {
+		return this.expression.hashCode();
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		} else if (obj instanceof JsonPath) {
+			return this.expression.equals(((JsonPath) obj).expression);
+		}
+		return false;
+	}
+	
+	@Override
+	public String toString() {
+		return this.expression;
+	}
+	
+	/**
+	 * The Compiler class reads a JSON path expression step by step.
+	 * 
+	 * @author Planters
+	 * 
+	 */
+	private static final class Compiler {
+	
+		private final String expression;
+		private int position = 0;
+	
+		/**
+		 * Create a compiler for the specified expression.
+		 * 
+		 * @param expression - the JSON path expression
+		 */
+		private Compiler(String expression) {
+			this.expression = expression;
+		}
+	
+		/**
+		 * Compile the entire expression.
+		 * 
+		 * @return the compiled path
+		 * @throws IllegalArgumentException if the expression is not a valid JSON path
+		 */
+		private JsonPath compile() {
+			this.expect(JsonPath.JSON_PATH_ROOT, "the root");
+			List<JsonPathStep> steps = new ArrayList<JsonPathStep>();
+			while (this.position < this.expression.length()) {
+				if (this.isNext("..")) {
+					if (this.isNext('*')) {
+						steps.add(new JsonPathStep(null, -1, null, true));
+					} else if (this.peek() == '[') {
+						steps.add(this.bracket(true));
+					} else {
+						steps.add(new JsonPathStep(this.name(), -1, null, true));
+					}
+				} else if (this.isNext('.')) {
+					if (this.isNext('*')) {
+						steps.add(new JsonPathStep(null, -1, null, false));
+					} else {
+						steps.add(new JsonPathStep(this.name(), -1, null, false));
+					}
+				} else if (this.peek() == '[') {
+					steps.add(this.bracket(false));
+				} else {
+					throw this.invalid("a step");
+				}
+			}
+			return new JsonPath(this.expression, steps.toArray(JsonPathStep[]::new));
+		}
+	
+		/**
+		 * Compile the step in brackets.
+		 * 
+		 * @param descendant - true if the step applies to all descendants
+		 * @return the compiled step
+		 */
+		private JsonPathStep bracket(boolean descendant) {
+			this.expect('[', "an opening bracket");
+			this.skipWhitespace();
+			JsonPathStep step = null;
+			if (this.isNext('*')) {
+				step = new JsonPathStep(null, -1, null, descendant);
+			} else if (this.isNext("?(")) {
+				step = new JsonPathStep(null, -1, this.filter(), descendant);
+			} else if (this.peek() == '\'' || this.peek() == '"') {
+				step = new JsonPathStep(this.quoted(), -1, null, descendant);
+			} else {
+				step = new JsonPathStep(null, this.index(), null, descendant);
+			}
+			this.skipWhitespace();
+			this.expect(']', "a closing bracket");
+			return step;
+		}
+	
+		/**
+		 * Compile the filter, whose opening parenthesis has already been read.
+		 * 
+		 * @return the compiled filter
+		 */
+		private JsonPathFilter filter() {
+			this.skipWhitespace();
+			this.expect(JsonPath.JSON_PATH_CURRENT, "the current value");
+			List<Object> member = new ArrayList<Object>();
+			while (true) {
+				if (this.isNext('.')) {
+					member.add(this.name());
+				} else if (this.isNext('[')) {
+					this.skipWhitespace();
+					if (this.peek() == '\'' || this.peek() == '"') {
+						member.add(this.quoted());
+					} else {
+						member.add(this.index());
+					}
+					this.skipWhitespace();
+					this.expect(']', "a closing bracket");
+				} else {
+					break;
+				}
+			}
+			this.skipWhitespace();
+			JsonPathFilter.Operator operator = null;
+			for (JsonPathFilter.Operator candidate : JsonPathFilter.Operator.values()) {
+				if (this.isNext(candidate.getSymbol())) {
+					operator = candidate;
+					break;
+				}
+			}
+			JsonValue literal = null;
+			if (operator != null) {
+				this.skipWhitespace();
+				literal = this.literal();
+				this.skipWhitespace();
+			}
+			this.expect(')', "the end of the filter");
+			return new JsonPathFilter(member.toArray(), operator, literal);
+		}
+	
+		/**
+		 * Compile the literal of a comparison. Strings are enclosed by single or double quotes,
+		 * while all other literals are JSON formatted.
+		 * 
+		 * @return the literal
+		 */
+		private JsonValue literal() {
+			if (this.peek() == '\'') {
+				return this.quoted();
+			}
+			try {
+				JsonStringParser parser = new JsonStringParser(this.expression);
+				parser.setPosition(this.position);
+				JsonValue literal = JsonValue.parseNext(parser);
+				if (literal instanceof JsonObject || literal instanceof JsonArray) {
+					throw this.invalid("a string, number, boolean or null");
+				}
+				this.position = parser.getPosition();
+				return literal;
+			} catch (JsonStandardException e) {
+				throw this.invalid("a literal");
+			}
+		}
+	
+		/**
+		 * Compile an unquoted member name.
+		 * 
+		 * @return the name
+		 */
+		private JsonString name() {
+			int start = this.position;
+			while (this.position < this.expression.length()) {
+				char character = this.expression.charAt(this.position);
+				if (!Character.isLetterOrDigit(character) && character != '_' && character != '-'
+						&& character != JsonPath.JSON_PATH_ROOT) {
+					break;
+				}
+				this.position++;
+			}
+			if (start == this.position) {
+				throw this.invalid("a member name");
+			}
+			return new JsonString(this.expression.substring(start, this.position));
+		}
+	
+		/**
+		 * Compile a member name enclosed by single or double quotes. Within the name a backslash
+		 * escapes the following character.
+		 * 
+		 * @return the name
+		 */
+		private JsonString quoted() {
+			char quote = this.expression.charAt(this.position++);
+			StringBuilder name = new StringBuilder();
+			while (this.position < this.expression.length()) {
+				char character = this.expression.charAt(this.position++);
+				if (character == quote) {
+					return new JsonString(name.toString());
+				} else if (character == '\\' && this.position < this.expression.length()) {
+					character = this.expression.charAt(this.position++);
+				}
+				name.append(character);
+			}
+			throw this.invalid("a closing quote");
+		}
+	
+		/**
+		 * Compile a non-negative element index.
+		 * 
+		 * @return the index
+		 */
+		private int index() {
+			int start = this.position;
+			while (this.position < this.expression.length() && this.peek() >= '0' && this.peek() <= '9') {
+				this.position++;
+			}
+			try {
+				return Integer.parseInt(this.expression.substring(start, this.position));
+			} catch (NumberFormatException e) {
+				this.position = start;
+				throw this.invalid("an index, a quoted name, a wildcard or a filter");
+			}
+		}
+	
+		/**
+		 * Get the next character without reading it.
+		 * 
+		 * @return the next character or 0 at the end of the expression
+		 */
+		private char peek() {
+			return this.position < this.expression.length() ? this.expression.charAt(this.position) : 0;
+		}
+	
+		/**
+		 * Read the specified character if it is next.
+		 * 
+		 * @param character - the expected character
+		 * @return true if the character has been read
+		 */
+		private boolean isNext(char character) {
+			if (this.peek() == character) {
+				this.position++;
+				return true;
+			}
+			return false;
+		}
+	
+		/**
+		 * Read the specified characters if they are next.
+		 * 
+		 * @param characters - the expected characters
+		 * @return true if the characters have been read
+		 */
+		private boolean isNext(String characters) {
+			if (this.expression.startsWith(characters, this.position)) {
+				this.position += characters.length();
+				return true;
+			}
+			return false;
+		}
+	
+		/**
+		 * Read the specified character.
+		 * 
+		 * @param character - the expected character
+		 * @param description - the description of the expected character
+		 * @throws IllegalArgumentException if the character is not next
+		 */
+		private void expect(char character, String description) {
+			if (!this.isNext(character)) {
+				throw this.invalid(description);
+			}
+		}
+	
+		/**
+		 * Skip the following spaces.
+		 */
+		private void skipWhitespace() {
+			while (this.peek() == ' ') {
+				this.position++;
+			}
+		}
+	
+		/**
+		 * Create the exception of an invalid expression at the current position.
+		 * 
+		 * @param description - the description of the expected content
+		 * @return the exception to throw
+		 */
+		private IllegalArgumentException invalid(String description) {
+			return new IllegalArgumentException(String.format("The JSON path \"%s\" is invalid at position %s, "
+					+ "where %s is expected.", this.expression, this.position, description));
+		}
+	
+	}
+	
+}
@@ -0,0 +1,140 @@
+package hockey.mask.json.query;
+
+import hockey.mask.json.values.JsonArray;
+import hockey.mask.json.values.JsonNumber;
+import hockey.mask.json.values.JsonObject;
+import hockey.mask.json.values.JsonString;
+import hockey.mask.json.values.JsonValue;
+
+/**
+ * The JsonPathFilter class is the compiled filter expression of a JSON path like
+ * {@code ?(@.qty > 10)}, which tests a member of the current value against a literal or, if
+ * no comparison is specified, whether the member exists. A missing member is not equal to any
+ * literal.
+ * 
+ * <p>Numbers and strings can be ordered, while all other values can only be compared for
+ * equality. Numbers are equal if their values are equal regardless of their scale. Values
+ * of different types are never equal and never ordered.</p>
+ * 
+ * @author Planters
+ * 
+ */
+final class JsonPathFilter {
+	
+	/**
+	 * The operators comparing the tested member with the literal.
+	 */
+	enum Operator {
+		EQUAL("=="), NOT_EQUAL("!="), LESS_OR_EQUAL("<="), GREATER_OR_EQUAL(">="), LESS("<"), GREATER(">");
+	
+		private final String symbol;
+	
+		private Operator(String symbol) {
+			this.symbol = symbol;
+		}
+	
+		/**
+		 * Get the symbol of the operator within a JSON path.
+		 * 
+		 * @return the symbol
+		 */
+		String getSymbol() {
+			return this.symbol;
+		}
+	}
+	
+	private final Object[] member; // the names and indices leading from the current value to the tested member
+	private final Operator operator; // the comparison or null to test for existence
+	private final JsonValue literal; // the value compared with the member or null
+	
+	/**
+	 * Create a filter comparing the specified member of the current value with a literal.
+	 * 
+	 * @param member - the names and indices of the tested member, which are JSON strings and
+	 * integers
+	 * @param operator - the comparison or null to test whether the member exists
+	 * @param literal - the value compared with the member or null if only the existence is tested
+	 */
+	JsonPathFilter(Object[] member, Operator operator, JsonValue literal) {
+		this.member = member;
+		this.operator = operator;
+		this.literal = literal;
+	}
+	
+	/**
+	 * Test the specified value against this filter.
+	 * 
+	 * @param value - the current value
+	 * @return true if the value passes the filter
+	 */
+	boolean test(JsonValue value) {
+		JsonValue tested = value;
+		for (int i = 0; i < this.member.length && tested != null; i++) {
+			if (this.member[i] instanceof JsonString && tested instanceof JsonObject) {
+				tested = ((JsonObject) tested).get((JsonString) this.member[i]);
+			} else if (this.member[i] instanceof Integer && tested instanceof JsonArray
+					&& (Integer) this.member[i] < ((JsonArray) tested).size()) {
+				tested = ((JsonArray) tested).get((Integer) this.member[i]);
+			} else {
+				tested = null;
+			}
+		}
+		if (tested == null) { // a missing member only differs from any literal
+			return this.operator == Operator.NOT_EQUAL;
+		} else if (this.operator == null) {
+			return true;
+		}
+		switch (this.operator) {
+		case EQUAL:
+			return JsonPathFilter.equal(tested, this.literal);
+		case NOT_EQUAL:
+			return !JsonPathFilter.equal(tested, this.literal);
+		default:
+			Integer order = JsonPathFilter.compare(tested, this.literal);
+			if (order == null) {
+				return false;
+			}
+			switch (this.operator) {
+			case LESS_OR_EQUAL:
+				return order <= 0;
+			case GREATER_OR_EQUAL:
+				return order >= 0;
+			case LESS:
+				return order < 0;
+			default:
+				return order > 0;
+			}
+		}
+	}
+	
+	/**
+	 * Check whether the specified values are equal. Numbers are compared by value.
+	 * 
+	 * @param first - the first value
+	 * @param second - the second value
+	 * @return true if the values are equal
+	 */
+	private static boolean equal(JsonValue first, JsonValue second) {
+		if (first instanceof JsonNumber && second instanceof JsonNumber) {
+			return ((JsonNumber) first).compareTo((JsonNumber) second) == 0;
+		}
+		return first.equals(second);
+	}
+	
+	/**
+	 * Compare the order of the specified values.
+	 * 
+	 * @param first - the first value
+	 * @param second - the second value
+	 * @return the order of the values or null if they cannot be ordered
+	 */
+	private static Integer compare(JsonValue first, JsonValue second) {
+		if (first instanceof JsonNumber && second instanceof JsonNumber) {
+			return ((JsonNumber) first).compareTo((JsonNumber) second);
+		} else if (first instanceof JsonString && second instanceof JsonString) {
+			return ((JsonString) first).compareTo((JsonString) second);
+		}
+		return null;
+	}
+	
+}
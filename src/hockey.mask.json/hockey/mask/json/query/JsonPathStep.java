@@ -0,0 +1,86 @@
+package hockey.mask.json.query;
+
+import hockey.mask.json.values.JsonString;
+import hockey.mask.json.values.JsonValue;
+
+/**
+ * The JsonPathStep class is a single step of a compiled JSON path, which selects the members
+ * or elements of a value by name, index, wildcard or filter.
+ * 
+ * @author Planters
+ * 
+ */
+final class JsonPathStep {
+	
+	private final JsonString name; // the selected member or null
+	private final int index; // the selected element or -1
+	private final JsonPathFilter filter; // the filter of the selected members and elements or null
+	private final boolean descendant; // whether the step applies to all descendants
+	
+	/**
+	 * Create a step selecting the specified members or elements.
+	 * If neither a name nor an index nor a filter is specified, the step selects everything.
+	 * 
+	 * @param name - the name of the selected members or null
+	 * @param index - the index of the selected element or -1
+	 * @param filter - the filter of the selected members and elements or null
+	 * @param descendant - true if the step applies to all descendants instead of the children
+	 */
+	JsonPathStep(JsonString name, int index, JsonPathFilter filter, boolean descendant) {
+		this.name = name;
+		this.index = index;
+		this.filter = filter;
+		this.descendant = descendant;
+	}
+	
+	/**
+	 * Check whether the step selects the member with the specified name.
+	 * Filtered steps select every member, which passes the filter.
+	 * 
+	 * @param memberName - the name of the member
+	 * @return true if the member is selected
+	 */
+	boolean selects(JsonString memberName) {
+		return this.index < 0 && (this.name == null || this.name.equals(memberName));
+	}
+	
+	/**
+	 * Check whether the step selects the element with the specified index.
+	 * Filtered steps select every element, which passes the filter.
+	 * 
+	 * @param elementIndex - the index of the element
+	 * @return true if the element is selected
+	 */
+	boolean selects(int elementIndex) {
+		return this.name == null && (this.index < 0 || this.index == elementIndex);
+	}
+	
+	/**
+	 * Check whether the selected value has to be tested by a filter.
+	 * 
+	 * @return true if the step has a filter
+	 */
+	boolean isFiltered() {
+		return this.filter != null;
+	}
+	
+	/**
+	 * Check whether the selected value passes the filter of this step.
+	 * 
+	 * @param value - the selected value
+	 * @return true if the step has no filter or the value passes it
+	 */
+	boolean test(JsonValue value) {
+		return this.filter == null || this.filter.test(value);
+	}
+	
+	/**
+	 * Check whether the step applies to all descendants instead of only the children.
+	 * 
+	 * @return true if the step is a recursive descent
+	 */
+	boolean isDescendant() {
+		return this.descendant;
+	}
+	
+}
@@ -0,0 +1,372 @@
+package hockey.mask.json.query;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.parser.JsonParseException;
+import hockey.mask.json.parser.JsonParser;
+import hockey.mask.json.parser.JsonStringParser;
+import hockey.mask.json.values.JsonArray;
+import hockey.mask.json.values.JsonObject;
+import hockey.mask.json.values.JsonString;
+import hockey.mask.json.values.JsonValue;
+
+/**
+ * The JsonQuery class evaluates multiple JSON paths during a single pass over JSON formatted
+ * data and passes the matching values to a {@link JsonMatchHandler} as soon as they have
+ * been found.
+ * 
+ * <p>The paths are evaluated as automaton, whose states are the steps of the paths already
+ * reached. Reading a member or element advances the states to its value, so members and
+ * elements, which no longer can match any path, are skipped by {@link JsonParser#skipValue()}
+ * without creating any values. Only matching values and the values tested by filters are
+ * created, whose descendants are then evaluated in memory.</p>
+ * 
+ * @author Planters
+ * 
+ */
+public class JsonQuery {
+	
+	private final JsonPath[] paths;
+	private final int stride; // the number of states of each path
+	private final int[] initial; // the states before reading the root value
+	
+	/**
+	 * Create a query evaluating the specified paths.
+	 * 
+	 * @param paths - the evaluated paths
+	 * @throws NullPointerException if null or a null path is passed
+	 */
+	public JsonQuery(JsonPath... paths) {
+		Objects.requireNonNull(paths, "The JSON paths may not be null.");
+		this.paths = paths.clone();
+		int longest = 0;
+		for (JsonPath path : this.paths) {
+			Objects.requireNonNull(path, "A JSON path may not be null.");
+			longest = Math.max(longest, path.getSteps().length);
+		}
+		this.stride = longest + 1;
+		this.initial = new int[this.paths.length];
+		for (int i = 0; i < this.paths.length; i++) {
+			this.initial[i] = i * this.stride;
+		}
+	}
+	
+	/**
+	 * Create a query evaluating the specified JSON path expressions.
+	 * 
+	 * @param expressions - the JSON path expressions
+	 * @return the query
+	 * @throws IllegalArgumentException if an expression is not a valid JSON path
+	 * @throws NullPointerException if null or a null expression is passed
+	 */
+	public static JsonQuery compile(String... expressions) {
+		Objects.requireNonNull(expressions, "The JSON path expressions may not be null.");
+		JsonPath[] paths = new JsonPath[expressions.length];
+		for (int i = 0; i < expressions.length; i++) {
+			paths[i] = JsonPath.compile(expressions[i]);
+		}
+		return new JsonQuery(paths);
+	}
+	
+	/**
+	 * Get the paths evaluated by this query.
+	 * 
+	 * @return the paths
+	 */
+	public JsonPath[] getPaths() {
+		return this.paths.clone();
+	}
+	
+	/**
+	 * Evaluate this query on the specified value.
+	 * 
+	 * @param value - the root value
+	 * @param handler - the handler receiving the matches
+	 * @return true if the query has been completed, false if the handler has stopped it
+	 * @throws NullPointerException if null is passed as value or handler
+	 */
+	public boolean evaluate(JsonValue value, JsonMatchHandler handler) {
+		Objects.requireNonNull(value, "The JSON value may not be null.");
+		Evaluation evaluation = new Evaluation(handler);
+		evaluation.visit(value, this.initial);
+		return !evaluation.stopped;
+	}
+	
+	/**
+	 * Evaluate this query on the specified JSON formatted value.
+	 * 
+	 * @param jsonValue - the JSON formatted value
+	 * @param handler - the handler receiving the matches
+	 * @return true if the query has been completed, false if the handler has stopped it
+	 * @throws JsonStandardException if the string was not JSON formatted
+	 * @throws NullPointerException if null is passed as JSON input string or handler
+	 */
+	public boolean evaluate(String jsonValue, JsonMatchHandler handler) throws JsonStandardException {
+		Objects.requireNonNull(jsonValue, "A JSON formatted value may not be null.");
+		JsonStringParser jp = new JsonStringParser(jsonValue);
+		boolean completed = this.evaluateNext(jp, handler);
+		jp.skipWhitespace(); // needed for checking against garbage data
+		if (!jp.hasNext()) {
+			return completed;
+		} else { // the string should not contain any more garbage data
+			throw new JsonParseException(jp, jp.getPosition(), "the end of the data");
+		}
+	}
+	
+	/**
+	 * Evaluate this query on the next JSON formatted value of the specified parser. The value
+	 * is read completely even if the handler stops the query. Skipped members and elements are
+	 * only checked for complete strings and balanced brackets. If the value is not JSON
+	 * formatted the parser is reset, but the matches found before have already been received
+	 * by the handler.
+	 * 
+	 * @param parser - the parser to retrieve the JSON formatted value from
+	 * @param handler - the handler receiving the matches
+	 * @return true if the query has been completed, false if the handler has stopped it
+	 * @throws JsonStandardException if the next element in the parser is not a JSON formatted value
+	 * @throws NullPointerException if null is passed as JSON parser or handler
+	 */
+	public boolean evaluateNext(JsonParser parser, JsonMatchHandler handler) throws JsonStandardException {
+		Objects.requireNonNull(parser, "The JSON parser may not be null.");
+		Evaluation evaluation = new Evaluation(handler);
+		int startingPosition = parser.getPosition();
+		try {
+			evaluation.walk(parser, this.initial);
+			return !evaluation.stopped;
+		} catch (JsonStandardException e) {
+			parser.resetPosition(startingPosition); // the parser should not be modified
+			throw e;
+		}
+	}
+	
+	/**
+	 * Check whether the specified state has reached the end of its path.
+	 * 
+	 * @param state - the state
+	 * @return true if the current value matches the path of the state
+	 */
+	private boolean isComplete(int state) {
+		return state % this.stride == this.paths[state / this.stride].getSteps().length;
+	}
+	
+	/**
+	 * Get the states of a member or an element from the states of its parent. States, whose
+	 * step has a filter, which has not yet been tested, are stored as bitwise complement.
+	 * 
+	 * @param states - the states of the parent
+	 * @param name - the name of the member or null for an element
+	 * @param index - the index of the element
+	 * @return the states of the member or element
+	 */
+	private int[] advance(int[] states, JsonString name, int index) {
+		int[] advanced = new int[states.length * 2];
+		int count = 0;
+		for (int state : states) {
+			JsonPathStep[] steps = this.paths[state / this.stride].getSteps();
+			int step = state % this.stride;
+			if (step < steps.length) {
+				if (steps[step].isDescendant()) {
+					count = JsonQuery.add(advanced, count, state);
+				}
+				if (name != null ? steps[step].selects(name) : steps[step].selects(index)) {
+					count = JsonQuery.add(advanced, count, steps[step].isFiltered() ? ~(state + 1) : state + 1);
+				}
+			}
+		}
+		return Arrays.copyOf(advanced, count);
+	}
+	
+	/**
+	 * Test the filters of the specified states against their value.
+	 * 
+	 * @param states - the states of the value
+	 * @param value - the value
+	 * @return the states of the value without the states, whose filter rejects the value
+	 */
+	private int[] filter(int[] states, JsonValue value) {
+		int[] filtered = new int[states.length];
+		int count = 0;
+		for (int state : states) {
+			if (state >= 0) {
+				count = JsonQuery.add(filtered, count, state);
+			} else if (this.paths[~state / this.stride].getSteps()[~state % this.stride - 1].test(value)) {
+				count = JsonQuery.add(filtered, count, ~state);
+			}
+		}
+		return Arrays.copyOf(filtered, count);
+	}
+	
+	/**
+	 * Add the specified state unless it is already present.
+	 * 
+	 * @param states - the states
+	 * @param count - the number of present states
+	 * @param state - the added state
+	 * @return the number of present states after adding
+	 */
+	private static int add(int[] states, int count, int state) {
+		for (int i = 0; i < count; i++) {
+			if (states[i] == state) {
+				return count;
+			}
+		}
+		states[count] = state;
+		return count + 1;
+	}
+	
+	/**
+	 * The Evaluation class holds the progress of a single evaluation of the query.
+	 * 
+	 * @author Planters
+	 * 
+	 */
+	private final class Evaluation {
+	
+		private final JsonMatchHandler handler;
+		private boolean stopped = false;
+	
+		/**
+		 * Create an evaluation passing its matches to the specified handler.
+		 * 
+		 * @param handler - the handler receiving the matches
+		 * @throws NullPointerException if null is passed as handler
+		 */
+		private Evaluation(JsonMatchHandler handler) {
+			this.handler = Objects.requireNonNull(handler, "The match handler may not be null.");
+		}
+	
+		/**
+		 * Evaluate the next value of the parser, whose states have no untested filters.
+		 * 
+		 * @param parser - the parser to retrieve the value from
+		 * @param states - the states of the value
+		 * @throws JsonStandardException if the next element in the parser is not a JSON formatted value
+		 */
+		private void walk(JsonParser parser, int[] states) throws JsonStandardException {
+			if (this.stopped || states.length == 0) {
+				parser.skipValue();
+				return;
+			}
+			for (int state : states) {
+				if (JsonQuery.this.isComplete(state)) {
+					this.visit(JsonValue.parseNext(parser), states);
+					return;
+				}
+			}
+			parser.skipWhitespace();
+			if (parser.isNext(JsonObject.JSON_OBJECT_START_IDENTIFIER, true)) {
+				this.walkObject(parser, states);
+			} else if (parser.isNext(JsonArray.JSON_ARRAY_START_IDENTIFIER, true)) {
+				this.walkArray(parser, states);
+			} else {
+				parser.skipValue();
+			}
+		}
+	
+		/**
+		 * Evaluate the next value of the parser.
+		 * 
+		 * @param parser - the parser to retrieve the value from
+		 * @param states - the states of the value including untested filters
+		 * @throws JsonStandardException if the next element in the parser is not a JSON formatted value
+		 */
+		private void walkChild(JsonParser parser, int[] states) throws JsonStandardException {
+			for (int state : states) {
+				if (state < 0 && !this.stopped) { // the filter needs the entire value
+					this.visit(JsonValue.parseNext(parser), states);
+					return;
+				}
+			}
+			this.walk(parser, states);
+		}
+	
+		/**
+		 * Evaluate the members of the object, whose opening bracket has already been read.
+		 * 
+		 * @param parser - the parser to retrieve the members from
+		 * @param states - the states of the object
+		 * @throws JsonStandardException if the object is not JSON formatted
+		 */
+		private void walkObject(JsonParser parser, int[] states) throws JsonStandardException {
+			parser.skipWhitespace();
+			if (parser.isNext(JsonObject.JSON_OBJECT_END_IDENTIFIER, true)) {
+				return;
+			}
+			while (true) {
+				JsonString name = JsonString.parseNextName(parser);
+				parser.skipWhitespace();
+				if (!parser.isNext(JsonObject.JSON_OBJECT_NAME_VALUE_SEPARATOR, true)) {
+					throw new JsonParseException(parser, parser.getPosition(), "the name separator of a JSON pair");
+				}
+				this.walkChild(parser, JsonQuery.this.advance(states, name, -1));
+				parser.skipWhitespace();
+				if (parser.isNext(JsonObject.JSON_OBJECT_END_IDENTIFIER, true)) {
+					return;
+				} else if (!parser.isNext(JsonObject.JSON_OBJECT_PAIR_SEPARATOR, true)) {
+					throw new JsonParseException(parser, parser.getPosition(), "a separator or the end of a JSON object");
+				}
+			}
+		}
+	
+		/**
+		 * Evaluate the elements of the array, whose opening bracket has already been read.
+		 * 
+		 * @param parser - the parser to retrieve the elements from
+		 * @param states - the states of the array
+		 * @throws JsonStandardException if the array is not JSON formatted
+		 */
+		private void walkArray(JsonParser parser, int[] states) throws JsonStandardException {
+			parser.skipWhitespace();
+			if (parser.isNext(JsonArray.JSON_ARRAY_END_IDENTIFIER, true)) {
+				return;
+			}
+			for (int index = 0; true; index++) {
+				this.walkChild(parser, JsonQuery.this.advance(states, null, index));
+				parser.skipWhitespace();
+				if (parser.isNext(JsonArray.JSON_ARRAY_END_IDENTIFIER, true)) {
+					return;
+				} else if (!parser.isNext(JsonArray.JSON_ARRAY_VALUE_SEPARATOR, true)) {
+					throw new JsonParseException(parser, parser.getPosition(), "a separator or the end of a JSON array");
+				}
+			}
+		}
+	
+		/**
+		 * Evaluate the specified value and its descendants in memory.
+		 * 
+		 * @param value - the value
+		 * @param states - the states of the value including untested filters
+		 */
+		private void visit(JsonValue value, int[] states) {
+			int[] filtered = JsonQuery.this.filter(states, value);
+			if (this.stopped || filtered.length == 0) {
+				return;
+			}
+			for (int state : filtered) {
+				if (JsonQuery.this.isComplete(state)
+						&& !this.handler.match(JsonQuery.this.paths[state / JsonQuery.this.stride], value)) {
+					this.stopped = true;
+					return;
+				}
+			}
+			if (value instanceof JsonObject) {
+				JsonObject object = (JsonObject) value;
+				for (JsonString name : object.getNames()) {
+					int[] advanced = JsonQuery.this.advance(filtered, name, -1);
+					for (JsonValue member : object.getValues(name)) {
+						this.visit(member, advanced);
+					}
+				}
+			} else if (value instanceof JsonArray) {
+				JsonArray array = (JsonArray) value;
+				for (int index = 0; index < array.size(); index++) {
+					this.visit(array.get(index), JsonQuery.this.advance(filtered, null, index));
+				}
+			}
+		}
+	
+	}
+	
+}
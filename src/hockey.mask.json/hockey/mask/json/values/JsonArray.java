@@ -1,14 +1,16 @@
 package hockey.mask.json.values;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.UncheckedJsonStandardException;
+import hockey.mask.json.parser.JsonParseException;
 import hockey.mask.json.parser.JsonParser;
 import hockey.mask.json.parser.JsonStringParser;
 
@@ -16,6 +18,9 @@ import hockey.mask.json.parser.JsonStringParser;
  * The JsonArray class represents an array formatted in the JSON standard. 
  * Internally however it will be backed up by a list for convenience.
  * 
+ * <p>Arrays built {@link JsonIndexBuilder#buildLazy(hockey.mask.json.parser.JsonStructuralIndex) 
+ * lazily} parse their elements once they are accessed the first time.</p>
+ * 
  * @author Planters
  *
  */
@@ -38,6 +43,7 @@ public final class JsonArray extends JsonValue implements List<JsonValue> {
 	public static final String JSON_ARRAY_VALUE_SEPARATOR = ",";
 	
 	private final List<JsonValue> array = new ArrayList<JsonValue>();
+	private JsonIndexBuilder deferred = null; // builds the elements once they are accessed
 		
 	/**
 	 * Create a new, empty JSON array.
@@ -46,6 +52,17 @@ public final class JsonArray extends JsonValue implements List<JsonValue> {
 		super();
 	}
 	
+	/**
+	 * Create a new JSON array, whose elements are built by the specified builder once they
+	 * are accessed.
+	 * 
+	 * @param deferred - the builder of the elements
+	 */
+	JsonArray(JsonIndexBuilder deferred) {
+		super();
+		this.deferred = deferred;
+	}
+	
 	/**
 	 * Create a new JSON array containing the specified content.
 	 * 
@@ -63,8 +80,27 @@ public final class JsonArray extends JsonValue implements List<JsonValue> {
 	 */
 	@Override
 	public String toJson() {
-		return this.array.stream().map(JsonValue::toJson)
-		.collect(Collectors.joining(JsonArray.JSON_ARRAY_VALUE_SEPARATOR, JsonArray.JSON_ARRAY_START_IDENTIFIER, JsonArray.JSON_ARRAY_END_IDENTIFIER));
+		if (this.deferred != null) { // the elements have not been accessed, so the data is still valid
+			return this.deferred.source();
+		}
+		return this.buildJson();
+	}
+	
+	@Override
+	public void appendJson(Appendable out) throws IOException {
+		Objects.requireNonNull(out, "The JSON representation cannot be appended to null.");
+		if (this.deferred != null) {
+			out.append(this.deferred.source());
+			return;
+		}
+		out.append(JsonArray.JSON_ARRAY_START_IDENTIFIER);
+		for (int i = 0; i < this.array.size(); i++) {
+			if (i > 0) {
+				out.append(JsonArray.JSON_ARRAY_VALUE_SEPARATOR);
+			}
+			this.array.get(i).appendJson(out);
+		}
+		out.append(JsonArray.JSON_ARRAY_END_IDENTIFIER);
 	}
 	
 	/**
@@ -83,8 +119,7 @@ public final class JsonArray extends JsonValue implements List<JsonValue> {
 		if (!jp.hasNext()) {
 			return parsedArray;
 		} else { // the string should not contain any more garbage data
-			throw new JsonStandardException(String.format("The string \"%s\" is not a pure JSON array.", 
-					jsonArray)); 
+			throw new JsonParseException(jp, jp.getPosition(), "the end of the data");
 		}
 	}
 	
@@ -105,32 +140,39 @@ public final class JsonArray extends JsonValue implements List<JsonValue> {
 		if (parser.isNext(JsonArray.JSON_ARRAY_START_IDENTIFIER, true)) {
 			JsonArray parsedArray = new JsonArray();
 			boolean firstPassed = false;
-			while (parser.hasNext()) {
-				parser.skipWhitespace();
-				// end condition
-				if (parser.isNext(JsonArray.JSON_ARRAY_END_IDENTIFIER, true)) {
-					return parsedArray;
-				} else { // append value
-					if (firstPassed) {
-						if (parser.isNext(JsonArray.JSON_ARRAY_VALUE_SEPARATOR, true)) {
+			try {
+				while (parser.hasNext()) {
+					parser.skipWhitespace();
+					// end condition
+					if (parser.isNext(JsonArray.JSON_ARRAY_END_IDENTIFIER, true)) {
+						return parsedArray;
+					} else { // append value
+						if (firstPassed) {
+							if (parser.isNext(JsonArray.JSON_ARRAY_VALUE_SEPARATOR, true)) {
+								parsedArray.add(JsonValue.parseNext(parser));
+							} else {
+								// throw exception if there is no value separation
+								throw new JsonParseException(parser, parser.getPosition(), 
+										"a separator or the end of a JSON array");
+							}
+						} else { // there is no separator on the first element
 							parsedArray.add(JsonValue.parseNext(parser));
-						} else {
-							// throw exception if there is no value separation
-							parser.setPosition(startingPosition); // the parser should not be modified
-							throw new JsonStandardException(String.format("The next element in the JSON parser "
-									+ "%s is not a JSON array.", parser));
+							firstPassed = true;
 						}
-					} else { // there is no separator on the first element
-						parsedArray.add(JsonValue.parseNext(parser));
-						firstPassed = true;
 					}
 				}
+			} catch (JsonStandardException e) {
+				parser.resetPosition(startingPosition); // the parser should not be modified
+				throw e;
 			}
+			// throw exception if end condition is not reached
+			int failurePosition = parser.getPosition();
+			parser.resetPosition(startingPosition); // the parser should not be modified
+			throw new JsonParseException(parser, failurePosition, "the end of a JSON array");
 		}
-		// throw exception if end condition is not reached
-		parser.setPosition(startingPosition); // the parser should not be modified
-		throw new JsonStandardException(String.format("The next element in the JSON parser "
-				+ "%s is not a JSON array.", parser));
+		int failurePosition = parser.getPosition();
+		parser.resetPosition(startingPosition); // the parser should not be modified
+		throw new JsonParseException(parser, failurePosition, "a JSON array");
 	}
 	
 	/**
@@ -142,6 +184,7 @@ public final class JsonArray extends JsonValue implements List<JsonValue> {
 	 */
 	@Override
 	public boolean add(JsonValue value) {
+		this.materialize();
 		if (value != null) {
 			return this.array.add(value);
 		} else {
@@ -161,6 +204,7 @@ public final class JsonArray extends JsonValue implements List<JsonValue> {
 	@Override
 	public boolean addAll(Collection<? extends JsonValue> elementsToAdd) {
 		Objects.requireNonNull(elementsToAdd, "The collection " + elementsToAdd + " cannot be added.");
+		this.materialize();
 		if (!elementsToAdd.contains(null)) {
 			return this.array.addAll(elementsToAdd);
 		} else {
@@ -179,6 +223,7 @@ public final class JsonArray extends JsonValue implements List<JsonValue> {
 	@Override
 	public void add(int index, JsonValue value) {
 		Objects.requireNonNull(value, "Null cannot be added to a JSON array.");
+		this.materialize();
 		this.array.add(index, value);		
 	}
 
@@ -196,6 +241,7 @@ public final class JsonArray extends JsonValue implements List<JsonValue> {
 	public boolean addAll(int index, Collection<? extends JsonValue> elementsToAdd) {
 		Objects.requireNonNull(elementsToAdd, String.format("The collection %s cannot be added at "
 				+ "position %s.", elementsToAdd, index));
+		this.materialize();
 		if (!elementsToAdd.contains(null)) {
 			return this.array.addAll(index, elementsToAdd);
 		} else {
@@ -208,6 +254,7 @@ public final class JsonArray extends JsonValue implements List<JsonValue> {
 	 */
 	@Override
 	public void clear() {
+		this.deferred = null;
 		this.array.clear();
 	}
 
@@ -219,6 +266,7 @@ public final class JsonArray extends JsonValue implements List<JsonValue> {
 	 */
 	@Override
 	public boolean contains(Object value) {
+		this.materialize();
 		return this.array.contains(value);
 	}
 
@@ -230,6 +278,7 @@ public final class JsonArray extends JsonValue implements List<JsonValue> {
 	 */
 	@Override
 	public boolean containsAll(Collection<?> elementsToTest) {
+		this.materialize();
 		return this.array.containsAll(elementsToTest);
 	}
 
@@ -240,11 +289,13 @@ public final class JsonArray extends JsonValue implements List<JsonValue> {
 	 */
 	@Override
 	public boolean isEmpty() {
+		this.materialize();
 		return this.array.isEmpty();
 	}
 
 	@Override
 	public Iterator<JsonValue> iterator() {
+		this.materialize();
 		return this.array.iterator();
 	}
 
@@ -256,16 +307,19 @@ public final class JsonArray extends JsonValue implements List<JsonValue> {
 	 */
 	@Override
 	public boolean remove(Object value) {
+		this.materialize();
 		return this.array.remove(value);
 	}
 
 	@Override
 	public boolean removeAll(Collection<?> elementsToRemove) {
+		this.materialize();
 		return this.array.removeAll(elementsToRemove);
 	}
 
 	@Override
 	public boolean retainAll(Collection<?> c) {
+		this.materialize();
 		return this.array.retainAll(c);
 	}
 
@@ -276,16 +330,19 @@ public final class JsonArray extends JsonValue implements List<JsonValue> {
 	 */
 	@Override
 	public int size() {
+		this.materialize();
 		return this.array.size();
 	}
 
 	@Override
 	public Object[] toArray() {
+		this.materialize();
 		return this.array.toArray();
 	}
 
 	@Override
 	public <T> T[] toArray(T[] a) {
+		this.materialize();
 		return this.array.toArray(a);
 	}
 
@@ -298,21 +355,25 @@ public final class JsonArray extends JsonValue implements List<JsonValue> {
 	 */
 	@Override
 	public JsonValue get(int index) {
+		this.materialize();
 		return this.array.get(index);
 	}
 
 	@Override
 	public int indexOf(Object o) {
+		this.materialize();
 		return this.array.indexOf(o);
 	}
 
 	@Override
 	public int lastIndexOf(Object o) {
+		this.materialize();
 		return this.array.lastIndexOf(o);
 	}
 
 	@Override
 	public ListIterator<JsonValue> listIterator() {
+		this.materialize();
 		/*
 		 * Create a wrapper for the list iterator to prevent
 		 * addition of null values.
@@ -323,6 +384,7 @@ public final class JsonArray extends JsonValue implements List<JsonValue> {
 
 	@Override
 	public ListIterator<JsonValue> listIterator(int index) {
+		this.materialize();
 		/*
 		 * Create a wrapper for the list iterator to prevent
 		 * addition of null values.
@@ -340,6 +402,7 @@ public final class JsonArray extends JsonValue implements List<JsonValue> {
 	 */
 	@Override
 	public JsonValue remove(int index) {
+		this.materialize();
 		return this.array.remove(index);
 	}
 
@@ -355,17 +418,39 @@ public final class JsonArray extends JsonValue implements List<JsonValue> {
 	@Override
 	public JsonValue set(int index, JsonValue value) {
 		Objects.requireNonNull(value, "Null cannot be inserted into a JSON array.");
+		this.materialize();
 		return this.array.set(index, value);
 	}
 
 	@Override
 	public List<JsonValue> subList(int fromIndex, int toIndex) {
+		this.materialize();
 		// TODO: finish doc
 		return this.array.subList(fromIndex, toIndex);
 	}
 
+	/**
+	 * Build the elements of a lazily built array, if they have not been accessed yet.
+	 * 
+	 * @throws UncheckedJsonStandardException if the elements are not JSON formatted
+	 */
+	private void materialize() {
+		JsonIndexBuilder builder = this.deferred;
+		if (builder != null) {
+			this.deferred = null; // adding the elements must not build them again
+			try {
+				builder.elements(this);
+			} catch (JsonStandardException e) {
+				this.array.clear();
+				this.deferred = builder;
+				throw new UncheckedJsonStandardException(e);
+			}
+		}
+	}
+
 	@Override
 	public int hashCode() {
+		this.materialize();
 		return this.array.hashCode();
 	}
 
@@ -374,6 +459,8 @@ public final class JsonArray extends JsonValue implements List<JsonValue> {
 		if (obj == this) {
 			return true;
 		} else if (obj instanceof JsonArray) {
+			this.materialize();
+			((JsonArray) obj).materialize();
 			return this.array.equals(((JsonArray) obj).array);
 		}
 		return false;
@@ -381,6 +468,7 @@ public final class JsonArray extends JsonValue implements List<JsonValue> {
 
 	@Override
 	public String toString() {
+		this.materialize();
 		return this.array.toString();
 	}
 	
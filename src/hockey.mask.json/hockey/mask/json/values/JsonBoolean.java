@@ -3,6 +3,7 @@ package hockey.mask.json.values;
 import java.util.Objects;
 
 import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.parser.JsonParseException;
 import hockey.mask.json.parser.JsonParser;
 import hockey.mask.json.parser.JsonStringParser;
 
@@ -34,7 +35,7 @@ public final class JsonBoolean extends JsonValue implements Comparable<JsonBoole
 	 */
 	public static final JsonBoolean JSON_FALSE = new JsonBoolean(false);
 	
-	private boolean value = false;
+	private final boolean value;
 	
 	/**
 	 * Create a new JSON boolean with the specified value.
@@ -47,6 +48,17 @@ public final class JsonBoolean extends JsonValue implements Comparable<JsonBoole
 		this.value = jsonBoolean;
 	}
 	
+	/**
+	 * Get the JSON boolean with the specified value. There are only the two JSON booleans 
+	 * {@link #JSON_TRUE} and {@link #JSON_FALSE}.
+	 * 
+	 * @param jsonBoolean - the value of the JSON boolean
+	 * @return the JSON boolean of the specified value
+	 */
+	public static JsonBoolean valueOf(boolean jsonBoolean) {
+		return jsonBoolean ? JsonBoolean.JSON_TRUE : JsonBoolean.JSON_FALSE;
+	}
+	
 	/**
 	 * Get the value of this JSON boolean.
 	 * 
@@ -86,8 +98,7 @@ public final class JsonBoolean extends JsonValue implements Comparable<JsonBoole
 		if (!jp.hasNext()) {
 			return parsedBoolean;
 		} else { // the string should not contain any more garbage data
-			throw new JsonStandardException(String.format("The string \"%s\" is not a pure "
-					+ "JSON boolean.", jsonBoolean)); 
+			throw new JsonParseException(jp, jp.getPosition(), "the end of the data");
 		}
 	}
 	
@@ -105,13 +116,13 @@ public final class JsonBoolean extends JsonValue implements Comparable<JsonBoole
 		int startingPosition = parser.getPosition();
 		parser.skipWhitespace();
 		if (parser.isNext(JsonBoolean.JSON_TRUE_VALUE, true)) {
-			return new JsonBoolean(true);
+			return JsonBoolean.JSON_TRUE;
 		} else if (parser.isNext(JsonBoolean.JSON_FALSE_VALUE, true)) {
-			return new JsonBoolean(false);
+			return JsonBoolean.JSON_FALSE;
 		} else {
-			parser.setPosition(startingPosition); // the parser should not be modified
-			throw new JsonStandardException(String.format("The next element in the JSON parser "
-					+ "%s is not a JSON boolean.", parser));
+			int failurePosition = parser.getPosition();
+			parser.resetPosition(startingPosition); // the parser should not be modified
+			throw new JsonParseException(parser, failurePosition, "a JSON boolean");
 		}
 	}
 	
@@ -0,0 +1,453 @@
+package hockey.mask.json.values;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.UncheckedJsonStandardException;
+import hockey.mask.json.parser.JsonParseException;
+import hockey.mask.json.parser.JsonStructuralIndex;
+import hockey.mask.json.parser.JsonUtf8Parser;
+
+/**
+ * The JsonIndexBuilder class creates JSON values by walking the structural index of the data.
+ * 
+ * <p>Objects and arrays are assembled from the positions of the index, so only strings,
+ * numbers and literals are read from the data itself. As the index already holds the bounds of
+ * all elements of the root array, the elements of large arrays can be built in parallel.</p>
+ * 
+ * <p>Values can also be built lazily, in which case objects and arrays only hold the bounds of
+ * their data and are built once they are accessed. Only the direct members or elements of the
+ * accessed container are built, while nested containers are deferred again.</p>
+ * 
+ * @author Planters
+ * 
+ */
+public class JsonIndexBuilder {
+	
+	/**
+	 * The smallest number of structural elements, which are built in parallel.
+	 */
+	public static final int MINIMUM_PARALLEL_SIZE = 1 << 12;
+	
+	private static final char OBJECT_START = JsonObject.JSON_OBJECT_START_IDENTIFIER.charAt(0);
+	private static final char OBJECT_END = JsonObject.JSON_OBJECT_END_IDENTIFIER.charAt(0);
+	private static final char OBJECT_SEPARATOR = JsonObject.JSON_OBJECT_PAIR_SEPARATOR.charAt(0);
+	private static final char ARRAY_START = JsonArray.JSON_ARRAY_START_IDENTIFIER.charAt(0);
+	private static final char ARRAY_END = JsonArray.JSON_ARRAY_END_IDENTIFIER.charAt(0);
+	private static final char ARRAY_SEPARATOR = JsonArray.JSON_ARRAY_VALUE_SEPARATOR.charAt(0);
+	
+	private final JsonStructuralIndex index;
+	private final JsonUtf8Parser parser; // reads the strings, numbers and literals
+	private final int first; // the index of the first structural element to build
+	private int last = -1; // the index of the closing element of a deferred object or array
+	private int next; // the index of the next structural element
+	
+	/**
+	 * Create a builder starting at the specified structural element.
+	 * 
+	 * @param index - the index to walk
+	 * @param next - the index of the first structural element to build
+	 */
+	private JsonIndexBuilder(JsonStructuralIndex index, int next) {
+		this.index = index;
+		this.parser = index.createParser();
+		this.first = next;
+		this.next = next;
+	}
+	
+	/**
+	 * Build the single JSON value of the indexed data.
+	 * 
+	 * @param index - the structural index of the data
+	 * @return the internal representation of the indexed JSON value
+	 * @throws JsonStandardException if the indexed data is not a single JSON formatted value
+	 * @throws NullPointerException if null is passed as index
+	 */
+	public static JsonValue build(JsonStructuralIndex index) throws JsonStandardException {
+		Objects.requireNonNull(index, "The structural index may not be null.");
+		JsonIndexBuilder builder = new JsonIndexBuilder(index, 0);
+		JsonValue value = builder.value();
+		if (builder.next < index.size()) { // the data should not contain any more garbage data
+			throw new JsonParseException(builder.parser, builder.position(), "the end of the data");
+		}
+		return value;
+	}
+	
+	/**
+	 * Build the single JSON value of the indexed data lazily. Objects and arrays are not built
+	 * until they are accessed, so only the strings, numbers and literals of the accessed
+	 * containers are read from the data. Until then, their {@link JsonValue#toJson() JSON text}
+	 * is the unmodified data.
+	 * 
+	 * <p>Only the bounds of the containers are checked in advance. If the data of a container
+	 * violates the JSON standard, accessing it throws an
+	 * {@link hockey.mask.json.UncheckedJsonStandardException UncheckedJsonStandardException}.
+	 * Lazily built values must not be accessed concurrently, as accessing them modifies them.</p>
+	 * 
+	 * @param index - the structural index of the data
+	 * @return the lazily built representation of the indexed JSON value
+	 * @throws JsonStandardException if the indexed data is not a single JSON formatted value
+	 * @throws NullPointerException if null is passed as index
+	 */
+	public static JsonValue buildLazy(JsonStructuralIndex index) throws JsonStandardException {
+		Objects.requireNonNull(index, "The structural index may not be null.");
+		JsonIndexBuilder builder = new JsonIndexBuilder(index, 0);
+		JsonValue value = builder.lazyValue();
+		if (builder.next < index.size()) { // the data should not contain any more garbage data
+			throw new JsonParseException(builder.parser, builder.position(), "the end of the data");
+		}
+		return value;
+	}
+	
+	/**
+	 * Build the single JSON value of the indexed data, building the elements of a large root
+	 * array in parallel on the common fork-join pool. All other values are built like by
+	 * {@link #build(JsonStructuralIndex)}.
+	 * 
+	 * @param index - the structural index of the data
+	 * @return the internal representation of the indexed JSON value
+	 * @throws JsonStandardException if the indexed data is not a single JSON formatted value
+	 * @throws NullPointerException if null is passed as index
+	 */
+	public static JsonValue buildParallel(JsonStructuralIndex index) throws JsonStandardException {
+		Objects.requireNonNull(index, "The structural index may not be null.");
+		int[] bounds = JsonIndexBuilder.findRootElements(index);
+		if (bounds == null || bounds.length < 3 || index.size() < JsonIndexBuilder.MINIMUM_PARALLEL_SIZE) {
+			return JsonIndexBuilder.build(index); // also reports the exact violation of the standard
+		}
+		int elements = bounds.length - 1;
+		int chunks = Math.min(elements, ForkJoinPool.getCommonPoolParallelism() * 4);
+		List<List<JsonValue>> builtChunks = new ArrayList<List<JsonValue>>();
+		for (int i = 0; i < chunks; i++) {
+			builtChunks.add(null);
+		}
+		try {
+			IntStream.range(0, chunks).parallel().forEach(chunk -> {
+				int first = (int) ((long) elements * chunk / chunks);
+				int last = (int) ((long) elements * (chunk + 1) / chunks);
+				List<JsonValue> builtElements = new ArrayList<JsonValue>(last - first);
+				JsonIndexBuilder builder = new JsonIndexBuilder(index, bounds[first] + 1);
+				try {
+					for (int i = first; i < last; i++) {
+						builtElements.add(builder.value());
+						if (builder.next != bounds[i + 1]) {
+							throw new JsonParseException(builder.parser, builder.position(),
+									"a separator or the end of a JSON array");
+						}
+						builder.next++;
+					}
+				} catch (JsonStandardException e) {
+					throw new UncheckedJsonStandardException(e);
+				}
+				builtChunks.set(chunk, builtElements);
+			});
+		} catch (UncheckedJsonStandardException e) {
+			throw e.getCause();
+		}
+		JsonArray array = new JsonArray();
+		for (List<JsonValue> builtElements : builtChunks) {
+			array.addAll(builtElements);
+		}
+		return array;
+	}
+	
+	/**
+	 * Find the separators of the elements of the root array.
+	 * 
+	 * @param index - the structural index of the data
+	 * @return the indices of the opening bracket, the separators and the closing bracket of the
+	 * root array or null if the data is not a single array with nested values being balanced
+	 */
+	private static int[] findRootElements(JsonStructuralIndex index) {
+		if (index.size() < 2 || index.getCharacter(0) != JsonIndexBuilder.ARRAY_START
+				|| index.getCharacter(1) == JsonIndexBuilder.ARRAY_END) {
+			return null;
+		}
+		int[] bounds = new int[16];
+		int count = 1; // the opening bracket is at index zero
+		int depth = 0;
+		for (int i = 1; i < index.size(); i++) {
+			char c = index.getCharacter(i);
+			if (c == JsonIndexBuilder.ARRAY_START || c == JsonIndexBuilder.OBJECT_START) {
+				depth++;
+			} else if (c == JsonIndexBuilder.ARRAY_END || c == JsonIndexBuilder.OBJECT_END) {
+				if (depth == 0) {
+					if (c != JsonIndexBuilder.ARRAY_END || i != index.size() - 1) {
+						return null;
+					}
+					if (count == bounds.length) {
+						bounds = Arrays.copyOf(bounds, count + 1);
+					}
+					bounds[count++] = i;
+					return Arrays.copyOf(bounds, count);
+				}
+				depth--;
+			} else if (c == JsonIndexBuilder.ARRAY_SEPARATOR && depth == 0) {
+				if (count == bounds.length) {
+					bounds = Arrays.copyOf(bounds, count * 2);
+				}
+				bounds[count++] = i;
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Build the value starting at the next structural element.
+	 * 
+	 * @return the built value
+	 * @throws JsonStandardException if the next element is not a JSON formatted value
+	 */
+	private JsonValue value() throws JsonStandardException {
+		if (this.isNext(JsonIndexBuilder.OBJECT_START)) {
+			return this.object();
+		} else if (this.isNext(JsonIndexBuilder.ARRAY_START)) {
+			return this.array();
+		} else if (this.isNext(JsonString.JSON_STRING_IDENTIFIER)) {
+			return this.string();
+		} else if (this.next >= this.index.size() || this.isNext(JsonIndexBuilder.OBJECT_END)
+				|| this.isNext(JsonIndexBuilder.ARRAY_END) || this.isNext(JsonIndexBuilder.ARRAY_SEPARATOR)
+				|| this.isNext(JsonPair.JSON_PAIR_SEPARATOR)) {
+			throw new JsonParseException(this.parser, this.position(), "a JSON value");
+		}
+		return this.scalar();
+	}
+	
+	/**
+	 * Build the value starting at the next structural element, deferring objects and arrays.
+	 * 
+	 * @return the built or deferred value
+	 * @throws JsonStandardException if the next element is not a JSON formatted value
+	 */
+	private JsonValue lazyValue() throws JsonStandardException {
+		if (this.isNext(JsonIndexBuilder.OBJECT_START)) {
+			JsonIndexBuilder deferred = this.defer();
+			return new JsonObject(deferred);
+		} else if (this.isNext(JsonIndexBuilder.ARRAY_START)) {
+			JsonIndexBuilder deferred = this.defer();
+			return new JsonArray(deferred);
+		}
+		return this.value();
+	}
+	
+	/**
+	 * Create a builder for the object or array starting at the next structural element and
+	 * move behind its closing element. Only the nesting depth is tracked, so the kind of the
+	 * brackets is checked once the container is built.
+	 * 
+	 * @return the builder of the deferred container
+	 * @throws JsonStandardException if the container is not closed
+	 */
+	private JsonIndexBuilder defer() throws JsonStandardException {
+		JsonIndexBuilder deferred = new JsonIndexBuilder(this.index, this.next);
+		int depth = 0;
+		for (; this.next < this.index.size(); this.next++) {
+			char c = this.index.getCharacter(this.next);
+			if (c == JsonIndexBuilder.OBJECT_START || c == JsonIndexBuilder.ARRAY_START) {
+				depth++;
+			} else if ((c == JsonIndexBuilder.OBJECT_END || c == JsonIndexBuilder.ARRAY_END) && --depth == 0) {
+				deferred.last = this.next++;
+				return deferred;
+			}
+		}
+		throw new JsonParseException(this.parser, this.index.getLength(), "the end of a JSON object or array");
+	}
+	
+	/**
+	 * Build the members of a deferred object.
+	 * 
+	 * @param object - the empty object receiving the members
+	 * @throws JsonStandardException if the object is not JSON formatted
+	 */
+	void members(JsonObject object) throws JsonStandardException {
+		this.next = this.first;
+		this.object(object, true);
+	}
+	
+	/**
+	 * Build the elements of a deferred array.
+	 * 
+	 * @param array - the empty array receiving the elements
+	 * @throws JsonStandardException if the array is not JSON formatted
+	 */
+	void elements(JsonArray array) throws JsonStandardException {
+		this.next = this.first;
+		this.array(array, true);
+	}
+	
+	/**
+	 * Get the unmodified data of a deferred object or array.
+	 * 
+	 * @return the data from the opening to the closing element
+	 */
+	String source() {
+		return this.parser.getSection(this.index.getPosition(this.first), this.index.getPosition(this.last) + 1);
+	}
+	
+	/**
+	 * Build the object starting at the next structural element.
+	 * 
+	 * @return the built object
+	 * @throws JsonStandardException if the object is not JSON formatted
+	 */
+	private JsonObject object() throws JsonStandardException {
+		return this.object(new JsonObject(), false);
+	}
+	
+	/**
+	 * Build the object starting at the next structural element into the specified object.
+	 * 
+	 * @param object - the empty object receiving the members
+	 * @param lazy - true to defer nested objects and arrays
+	 * @return the built object
+	 * @throws JsonStandardException if the object is not JSON formatted
+	 */
+	private JsonObject object(JsonObject object, boolean lazy) throws JsonStandardException {
+		this.next++;
+		if (this.isNext(JsonIndexBuilder.OBJECT_END)) {
+			this.next++;
+			return object;
+		}
+		while (true) {
+			if (!this.isNext(JsonString.JSON_STRING_IDENTIFIER)) {
+				throw new JsonParseException(this.parser, this.position(), "a JSON string");
+			}
+			JsonString name = this.name();
+			if (!this.isNext(JsonPair.JSON_PAIR_SEPARATOR)) {
+				throw new JsonParseException(this.parser, this.position(), "the name separator of a JSON pair");
+			}
+			this.next++;
+			object.add(name, lazy ? this.lazyValue() : this.value());
+			if (this.isNext(JsonIndexBuilder.OBJECT_END)) {
+				this.next++;
+				return object;
+			} else if (this.isNext(JsonIndexBuilder.OBJECT_SEPARATOR)) {
+				this.next++;
+			} else {
+				throw new JsonParseException(this.parser, this.position(), "a separator or the end of a JSON object");
+			}
+		}
+	}
+	
+	/**
+	 * Build the array starting at the next structural element.
+	 * 
+	 * @return the built array
+	 * @throws JsonStandardException if the array is not JSON formatted
+	 */
+	private JsonArray array() throws JsonStandardException {
+		return this.array(new JsonArray(), false);
+	}
+	
+	/**
+	 * Build the array starting at the next structural element into the specified array.
+	 * 
+	 * @param array - the empty array receiving the elements
+	 * @param lazy - true to defer nested objects and arrays
+	 * @return the built array
+	 * @throws JsonStandardException if the array is not JSON formatted
+	 */
+	private JsonArray array(JsonArray array, boolean lazy) throws JsonStandardException {
+		this.next++;
+		if (this.isNext(JsonIndexBuilder.ARRAY_END)) {
+			this.next++;
+			return array;
+		}
+		while (true) {
+			array.add(lazy ? this.lazyValue() : this.value());
+			if (this.isNext(JsonIndexBuilder.ARRAY_END)) {
+				this.next++;
+				return array;
+			} else if (this.isNext(JsonIndexBuilder.ARRAY_SEPARATOR)) {
+				this.next++;
+			} else {
+				throw new JsonParseException(this.parser, this.position(), "a separator or the end of a JSON array");
+			}
+		}
+	}
+	
+	/**
+	 * Build the string starting at the next structural element, which is followed by the
+	 * closing quote.
+	 * 
+	 * @return the built string
+	 * @throws JsonStandardException if the string is not JSON formatted
+	 */
+	private JsonString string() throws JsonStandardException {
+		int start = this.index.getPosition(this.next);
+		this.next += 2; // the closing quote is always indexed
+		this.parser.setPosition(start + 1);
+		String plainString = this.parser.getUntil(JsonString.JSON_STRING_IDENTIFIER,
+				JsonString.JSON_STRING_ESCAPE_CHARACTER);
+		if (plainString != null) {
+			return plainString.isEmpty() ? JsonString.JSON_EMPTY_STRING : new JsonString(plainString);
+		}
+		this.parser.setPosition(start);
+		return JsonString.parseNext(this.parser);
+	}
+	
+	/**
+	 * Build the member name starting at the next structural element, which is followed by 
+	 * the closing quote. Names are canonicalized by the shared name table.
+	 * 
+	 * @return the built name
+	 * @throws JsonStandardException if the name is not JSON formatted
+	 */
+	private JsonString name() throws JsonStandardException {
+		int start = this.index.getPosition(this.next);
+		this.next += 2; // the closing quote is always indexed
+		this.parser.setPosition(start + 1);
+		JsonString plainName = this.parser.getUntil(JsonString.JSON_STRING_IDENTIFIER,
+				JsonString.JSON_STRING_ESCAPE_CHARACTER, JsonString.NAMES);
+		if (plainName != null) {
+			return plainName;
+		}
+		this.parser.setPosition(start);
+		return JsonString.parseNextName(this.parser);
+	}
+	
+	/**
+	 * Build the number or literal starting at the next structural element, which needs to
+	 * end in front of the following structural element.
+	 * 
+	 * @return the built number or literal
+	 * @throws JsonStandardException if the number or literal is not JSON formatted
+	 */
+	private JsonValue scalar() throws JsonStandardException {
+		this.parser.setPosition(this.index.getPosition(this.next));
+		JsonValue value = JsonValue.parseNext(this.parser);
+		this.parser.skipWhitespace();
+		this.next++;
+		int end = this.position();
+		if (this.parser.getPosition() != end) {
+			throw new JsonParseException(this.parser, Math.min(this.parser.getPosition(), end),
+					"the end of a JSON value");
+		}
+		return value;
+	}
+	
+	/**
+	 * Checks whether the next structural element starts with the specified character.
+	 * 
+	 * @param c - the character to check for
+	 * @return true if there is a next structural element starting with the character
+	 */
+	private boolean isNext(char c) {
+		return this.next < this.index.size() && this.index.getCharacter(this.next) == c;
+	}
+	
+	/**
+	 * Get the position of the next structural element.
+	 * 
+	 * @return the position of the next structural element or the end of the data if there is none
+	 */
+	private int position() {
+		return this.next < this.index.size() ? this.index.getPosition(this.next) : this.index.getLength();
+	}
+
+}
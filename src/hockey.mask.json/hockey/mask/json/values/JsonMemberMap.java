@@ -0,0 +1,330 @@
+package hockey.mask.json.values;
+
+import java.util.Arrays;
+
+/**
+ * The JsonMemberMap class holds the members of a JSON object in the order they were added.
+ * Names and values are stored in parallel arrays, where duplicate names simply occupy further
+ * slots instead of collecting their values in lists.
+ * 
+ * <p>Small maps, which are the most common ones, are searched linearly. Once a map holds
+ * {@value #LINEAR_LIMIT} members, the first member of every name is indexed by an open
+ * addressing hash table with linear probing.</p>
+ * 
+ * @author Planters
+ * 
+ */
+final class JsonMemberMap {
+	
+	private static final int LINEAR_LIMIT = 8; // maps with less members are searched linearly
+	private static final JsonString[] NO_NAMES = new JsonString[0];
+	private static final JsonValue[] NO_VALUES = new JsonValue[0];
+	
+	private JsonString[] names = JsonMemberMap.NO_NAMES;
+	private JsonValue[] values = JsonMemberMap.NO_VALUES;
+	private int size = 0; // the number of members including duplicates
+	private int uniqueNames = 0;
+	private int[] table = null; // the indices of the first members of the names plus one or zero
+	
+	/**
+	 * Get the number of members including members with duplicate names.
+	 * 
+	 * @return the number of members
+	 */
+	int size() {
+		return this.size;
+	}
+	
+	/**
+	 * Get the number of distinct names of the members.
+	 * 
+	 * @return the number of names
+	 */
+	int uniqueNames() {
+		return this.uniqueNames;
+	}
+	
+	/**
+	 * Get the name of the member at the specified index.
+	 * 
+	 * @param index - the index of the member in the order of addition
+	 * @return the name of the member
+	 */
+	JsonString nameAt(int index) {
+		return this.names[index];
+	}
+	
+	/**
+	 * Get the value of the member at the specified index.
+	 * 
+	 * @param index - the index of the member in the order of addition
+	 * @return the value of the member
+	 */
+	JsonValue valueAt(int index) {
+		return this.values[index];
+	}
+	
+	/**
+	 * Get the index of the first member with the specified name.
+	 * 
+	 * @param name - the name of the member
+	 * @return the index of the first member or -1 if there is none
+	 */
+	int indexOf(JsonString name) {
+		if (name == null) {
+			return -1;
+		} else if (this.table == null) {
+			for (int i = 0; i < this.size; i++) {
+				if (this.names[i] == name || this.names[i].equals(name)) {
+					return i;
+				}
+			}
+			return -1;
+		}
+		int mask = this.table.length - 1;
+		for (int slot = JsonMemberMap.hash(name) & mask; this.table[slot] != 0; slot = (slot + 1) & mask) {
+			JsonString slotName = this.names[this.table[slot] - 1];
+			if (slotName == name || slotName.equals(name)) {
+				return this.table[slot] - 1;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Get the names of all members without duplicates in the order they were first added.
+	 * 
+	 * @return the distinct names
+	 */
+	JsonString[] names() {
+		if (this.uniqueNames == this.size) {
+			return Arrays.copyOf(this.names, this.size);
+		}
+		JsonString[] uniqueNames = new JsonString[this.uniqueNames];
+		int unique = 0;
+		for (int i = 0; i < this.size; i++) {
+			if (this.indexOf(this.names[i]) == i) {
+				uniqueNames[unique++] = this.names[i];
+			}
+		}
+		return uniqueNames;
+	}
+	
+	/**
+	 * Get the values of all members with the specified name in the order they were added.
+	 * 
+	 * @param name - the name of the members
+	 * @return the values of the members, which is empty if there is no member with the name
+	 */
+	JsonValue[] values(JsonString name) {
+		int first = this.indexOf(name);
+		if (first < 0) {
+			return JsonMemberMap.NO_VALUES;
+		} else if (this.uniqueNames == this.size) {
+			return new JsonValue[] {this.values[first]};
+		}
+		JsonValue[] allValues = new JsonValue[this.size - first];
+		int found = 0;
+		for (int i = first; i < this.size; i++) {
+			if (this.names[i] == this.names[first] || this.names[i].equals(name)) {
+				allValues[found++] = this.values[i];
+			}
+		}
+		return Arrays.copyOf(allValues, found);
+	}
+	
+	/**
+	 * Add a member with the specified name and value behind all other members.
+	 * 
+	 * @param name - the name of the member
+	 * @param value - the value of the member
+	 */
+	void add(JsonString name, JsonValue value) {
+		boolean unique = this.indexOf(name) < 0;
+		if (this.size == this.names.length) {
+			int capacity = Math.max(4, this.size + (this.size >> 1));
+			this.names = Arrays.copyOf(this.names, capacity);
+			this.values = Arrays.copyOf(this.values, capacity);
+		}
+		this.names[this.size] = name;
+		this.values[this.size] = value;
+		this.size++;
+		if (unique) {
+			this.uniqueNames++;
+			if (this.table != null && this.uniqueNames * 2 <= this.table.length) {
+				this.insert(this.size - 1);
+			} else if (this.size >= JsonMemberMap.LINEAR_LIMIT) {
+				this.rehash();
+			}
+		}
+	}
+	
+	/**
+	 * Set the value of the first member with the specified name or add a new member, if
+	 * there is none.
+	 * 
+	 * @param name - the name of the member
+	 * @param value - the value of the member
+	 * @return the previous value of the member or null if the member has been added
+	 */
+	JsonValue set(JsonString name, JsonValue value) {
+		int index = this.indexOf(name);
+		if (index < 0) {
+			this.add(name, value);
+			return null;
+		}
+		JsonValue previousValue = this.values[index];
+		this.values[index] = value;
+		return previousValue;
+	}
+	
+	/**
+	 * Remove all members with the specified name. The order of the remaining members is kept.
+	 * 
+	 * @param name - the name of the members
+	 */
+	void remove(JsonString name) {
+		int first = this.indexOf(name);
+		if (first < 0) {
+			return;
+		}
+		JsonString removedName = this.names[first];
+		int kept = first;
+		for (int i = first + 1; i < this.size; i++) {
+			if (this.names[i] != removedName && !this.names[i].equals(removedName)) {
+				this.names[kept] = this.names[i];
+				this.values[kept] = this.values[i];
+				kept++;
+			}
+		}
+		Arrays.fill(this.names, kept, this.size, null);
+		Arrays.fill(this.values, kept, this.size, null);
+		this.size = kept;
+		this.uniqueNames--;
+		this.table = null;
+		if (this.size >= JsonMemberMap.LINEAR_LIMIT) {
+			this.rehash();
+		}
+	}
+	
+	/**
+	 * Remove all members.
+	 */
+	void clear() {
+		this.names = JsonMemberMap.NO_NAMES;
+		this.values = JsonMemberMap.NO_VALUES;
+		this.size = 0;
+		this.uniqueNames = 0;
+		this.table = null;
+	}
+	
+	/**
+	 * Rebuild the hash table with a capacity of at least twice the number of names.
+	 */
+	private void rehash() {
+		this.table = new int[Integer.highestOneBit(Math.max(this.uniqueNames, 4) * 4 - 1)];
+		for (int i = 0; i < this.size; i++) {
+			this.insert(i);
+		}
+	}
+	
+	/**
+	 * Insert the member at the specified index into the hash table, unless a previous member
+	 * with the same name is already in the hash table.
+	 * 
+	 * @param index - the index of the member
+	 */
+	private void insert(int index) {
+		int mask = this.table.length - 1;
+		int slot = JsonMemberMap.hash(this.names[index]) & mask;
+		while (this.table[slot] != 0) {
+			JsonString slotName = this.names[this.table[slot] - 1];
+			if (slotName == this.names[index] || slotName.equals(this.names[index])) {
+				return;
+			}
+			slot = (slot + 1) & mask;
+		}
+		this.table[slot] = index + 1;
+	}
+	
+	/**
+	 * Get the hash of the specified name, whose upper bits are mixed into the lower bits
+	 * selecting the slot.
+	 * 
+	 * @param name - the name of a member
+	 * @return the mixed hash of the name
+	 */
+	private static int hash(JsonString name) {
+		int hash = name.hashCode();
+		return hash ^ (hash >>> 16);
+	}
+	
+	/**
+	 * Get the hash of the values of all members with the name of the member at the specified
+	 * index, which is computed like the hash of a list of these values.
+	 * 
+	 * @param first - the index of the first member with the name
+	 * @return the hash of the values
+	 */
+	private int valuesHash(int first) {
+		int hash = 31 + this.values[first].hashCode();
+		if (this.uniqueNames != this.size) {
+			for (int i = first + 1; i < this.size; i++) {
+				if (this.names[i] == this.names[first] || this.names[i].equals(this.names[first])) {
+					hash = 31 * hash + this.values[i].hashCode();
+				}
+			}
+		}
+		return hash;
+	}
+	
+	/**
+	 * Get the hash of the members, which does not depend on the order of the distinct names,
+	 * but on the order of the values sharing the same name.
+	 * 
+	 * @return the hash of the members
+	 */
+	@Override
+	public int hashCode() {
+		int hash = 0;
+		for (int i = 0; i < this.size; i++) {
+			if (this.uniqueNames == this.size || this.indexOf(this.names[i]) == i) {
+				hash += this.names[i].hashCode() ^ this.valuesHash(i);
+			}
+		}
+		return hash;
+	}
+	
+	/**
+	 * Checks whether the specified object holds the same members. The order of distinct names
+	 * does not matter, while the values sharing the same name need to be in the same order.
+	 * 
+	 * @param obj - the object to compare with
+	 * @return true if both maps hold the same members
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		} else if (obj instanceof JsonMemberMap) {
+			JsonMemberMap map = (JsonMemberMap) obj;
+			if (this.size != map.size || this.uniqueNames != map.uniqueNames) {
+				return false;
+			}
+			for (int i = 0; i < this.size; i++) {
+				if (this.uniqueNames == this.size) {
+					int index = map.indexOf(this.names[i]);
+					if (index < 0 || !this.values[i].equals(map.values[index])) {
+						return false;
+					}
+				} else if (this.indexOf(this.names[i]) == i
+						&& !Arrays.equals(this.values(this.names[i]), map.values(this.names[i]))) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return false;
+	}
+	
+}
@@ -3,6 +3,7 @@ package hockey.mask.json.values;
 import java.util.Objects;
 
 import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.parser.JsonParseException;
 import hockey.mask.json.parser.JsonParser;
 import hockey.mask.json.parser.JsonStringParser;
 
@@ -57,8 +58,7 @@ public final class JsonNull extends JsonValue implements Comparable<JsonNull> {
 		if (!jp.hasNext()) {
 			return parsedNull;
 		} else { // the string should not contain any more garbage data
-			throw new JsonStandardException(String.format("The string \"%s\" is not a pure JSON null.", 
-					jsonNull)); 
+			throw new JsonParseException(jp, jp.getPosition(), "the end of the data");
 		}
 	}
 	
@@ -76,11 +76,11 @@ public final class JsonNull extends JsonValue implements Comparable<JsonNull> {
 		int startingPosition = parser.getPosition();
 		parser.skipWhitespace();
 		if (parser.isNext(JsonNull.JSON_NULL_VALUE, true)) {
-			return new JsonNull();
+			return JsonNull.JSON_NULL;
 		} else {
-			parser.setPosition(startingPosition); // the parser should not be modified
-			throw new JsonStandardException(String.format("The next element in the JSON parser "
-					+ "%s is not a JSON null.", parser));
+			int failurePosition = parser.getPosition();
+			parser.resetPosition(startingPosition); // the parser should not be modified
+			throw new JsonParseException(parser, failurePosition, "a JSON null");
 		}
 	}
 
@@ -4,6 +4,8 @@ import java.math.BigDecimal;
 import java.util.Objects;
 
 import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.parser.JsonNumberReader;
+import hockey.mask.json.parser.JsonParseException;
 import hockey.mask.json.parser.JsonParser;
 import hockey.mask.json.parser.JsonStringParser;
 
@@ -20,11 +22,6 @@ public final class JsonNumber extends JsonValue implements Comparable<JsonNumber
 	 */
 	public static final char JSON_MINUS_VALUE = '-';
 	
-	/**
-	 * The string representation of the minus value. Used for a helper function.
-	 */
-	private static final String JSON_MINUS_VALUE_STRING_REPRESENTATION = Character.toString(JsonNumber.JSON_MINUS_VALUE);
-	
 	/**
 	 * The JSON representation of a plus.
 	 */
@@ -45,7 +42,25 @@ public final class JsonNumber extends JsonValue implements Comparable<JsonNumber
 	 */
 	public static final char JSON_FLOATING_SEPARATOR_VALUE = '.';
 
-	private final BigDecimal value;
+	private static final int SMALLEST_CACHED = -128; // the smallest of the shared small integers
+	private static final JsonNumber[] CACHE = new JsonNumber[1024 - JsonNumber.SMALLEST_CACHED];
+	private static final int BINARY_SCALE = Integer.MIN_VALUE; // marks doubles, as no decimal has this scale
+	
+	static {
+		for (int i = 0; i < JsonNumber.CACHE.length; i++) {
+			JsonNumber.CACHE[i] = new JsonNumber(i + JsonNumber.SMALLEST_CACHED);
+		}
+	}
+	
+	/*
+	 * Numbers are stored in the smallest representation, which is exact. Decimals, whose
+	 * unscaled value fits into a long, are stored as unscaled value and scale. Doubles are
+	 * stored as their bits with the binary scale. Only all other numbers are stored as
+	 * BigDecimal, which is otherwise only created on demand.
+	 */
+	private final long unscaled;
+	private final int scale;
+	private final BigDecimal decimal;
 	
 	/**
 	 * Create a new JSON number with the specified value.
@@ -53,8 +68,7 @@ public final class JsonNumber extends JsonValue implements Comparable<JsonNumber
 	 * @param jsonNumber - the value of this JSON number
 	 */
 	public JsonNumber(int jsonNumber) {
-		super();
-		this.value = new BigDecimal(jsonNumber);
+		this(jsonNumber, 0);
 	}
 	
 	/**
@@ -63,8 +77,7 @@ public final class JsonNumber extends JsonValue implements Comparable<JsonNumber
 	 * @param jsonNumber - the value of this JSON number
 	 */
 	public JsonNumber(long jsonNumber) {
-		super();
-		this.value = new BigDecimal(jsonNumber);
+		this(jsonNumber, 0);
 	}
 	
 	/**
@@ -74,13 +87,7 @@ public final class JsonNumber extends JsonValue implements Comparable<JsonNumber
 	 * @throws JsonStandardException if the passed number is infinity or NaN
 	 */
 	public JsonNumber(float jsonNumber) throws JsonStandardException {
-		super();
-		if (Float.isFinite(jsonNumber)) {
-			this.value = new BigDecimal(jsonNumber);
-		} else {
-			throw new JsonStandardException("The number " + jsonNumber + "can not be represented "
-					+ "by the JSON foramt.");
-		}
+		this((double) jsonNumber);
 	}
 	
 	/**
@@ -92,7 +99,9 @@ public final class JsonNumber extends JsonValue implements Comparable<JsonNumber
 	public JsonNumber(double jsonNumber) throws JsonStandardException {
 		super();
 		if (Double.isFinite(jsonNumber)) {
-			this.value = new BigDecimal(jsonNumber);
+			this.unscaled = Double.doubleToRawLongBits(jsonNumber);
+			this.scale = JsonNumber.BINARY_SCALE;
+			this.decimal = null;
 		} else {
 			throw new JsonStandardException("The number " + jsonNumber + "can not be represented "
 					+ "by the JSON foramt.");
@@ -107,10 +116,46 @@ public final class JsonNumber extends JsonValue implements Comparable<JsonNumber
 	 */
 	public JsonNumber(BigDecimal jsonNumber) {
 		super();
-		this.value = Objects.requireNonNull(jsonNumber, "A JSON number cannot be created from null.");
+		Objects.requireNonNull(jsonNumber, "A JSON number cannot be created from null.");
+		if (jsonNumber.precision() < 19 && jsonNumber.scale() != JsonNumber.BINARY_SCALE) {
+			this.unscaled = jsonNumber.unscaledValue().longValue();
+			this.scale = jsonNumber.scale();
+			this.decimal = null;
+		} else {
+			this.unscaled = 0;
+			this.scale = 0;
+			this.decimal = jsonNumber;
+		}
 	}
 	
+	/**
+	 * Create a new JSON number with the value of the specified unscaled value multiplied by ten 
+	 * to the power of the negated scale.
+	 * 
+	 * @param unscaled - the unscaled value of this JSON number
+	 * @param scale - the scale of this JSON number, which may not be the smallest integer
+	 */
+	private JsonNumber(long unscaled, int scale) {
+		super();
+		this.unscaled = unscaled;
+		this.scale = scale;
+		this.decimal = null;
+	}
 	
+	/**
+	 * Get a JSON number with the specified value. Small integers, which are the most common 
+	 * numbers, are shared instead of creating a new JSON number for each of them. Parsed 
+	 * integers are shared the same way.
+	 * 
+	 * @param jsonNumber - the value of the JSON number
+	 * @return a JSON number with the specified value
+	 */
+	public static JsonNumber valueOf(long jsonNumber) {
+		if (jsonNumber >= JsonNumber.SMALLEST_CACHED && jsonNumber < JsonNumber.SMALLEST_CACHED + JsonNumber.CACHE.length) {
+			return JsonNumber.CACHE[(int) jsonNumber - JsonNumber.SMALLEST_CACHED];
+		}
+		return new JsonNumber(jsonNumber);
+	}
 	
 	/**
 	 * Get the value of this JSON number.
@@ -118,7 +163,72 @@ public final class JsonNumber extends JsonValue implements Comparable<JsonNumber
 	 * @return the BigDecimal representation of this JSON number
 	 */
 	public BigDecimal getValue() {
-		return this.value;
+		if (this.decimal != null) {
+			return this.decimal;
+		} else if (this.isBinary()) {
+			return new BigDecimal(Double.longBitsToDouble(this.unscaled));
+		}
+		return BigDecimal.valueOf(this.unscaled, this.scale);
+	}
+	
+	/**
+	 * Get the value of this JSON number as long. The fraction of the value is discarded 
+	 * and only the lowest 64 bits of larger values are returned like 
+	 * {@link BigDecimal#longValue()} does.
+	 * 
+	 * @return the integral part of this JSON number
+	 */
+	public long longValue() {
+		if (this.decimal == null && this.scale == 0) {
+			return this.unscaled;
+		} else if (this.isBinary()) {
+			double value = Double.longBitsToDouble(this.unscaled);
+			if (Math.abs(value) < 0x1p63) { // the cast would saturate larger values
+				return (long) value;
+			}
+		}
+		return this.getValue().longValue();
+	}
+	
+	/**
+	 * Get the value of this JSON number as double rounded to the nearest double.
+	 * 
+	 * @return the value of this JSON number
+	 */
+	public double doubleValue() {
+		if (this.isBinary()) {
+			return Double.longBitsToDouble(this.unscaled);
+		} else if (this.decimal == null && this.unscaled != Long.MIN_VALUE) {
+			double value = JsonNumberReader.toDouble(this.unscaled < 0, Math.abs(this.unscaled), -this.scale);
+			if (!Double.isNaN(value)) {
+				return value;
+			}
+		}
+		return this.getValue().doubleValue();
+	}
+	
+	/**
+	 * Checks whether the value of this JSON number has no fraction.
+	 * 
+	 * @return true if this JSON number is an integer
+	 */
+	public boolean isIntegral() {
+		if (this.isBinary()) {
+			double value = Double.longBitsToDouble(this.unscaled);
+			return value == Math.rint(value);
+		} else if (this.decimal == null && this.scale <= 0) {
+			return true;
+		}
+		return this.getValue().stripTrailingZeros().scale() <= 0;
+	}
+	
+	/**
+	 * Checks whether this JSON number is stored as double.
+	 * 
+	 * @return true if the value is the bits of a double
+	 */
+	private boolean isBinary() {
+		return this.decimal == null && this.scale == JsonNumber.BINARY_SCALE;
 	}
 	
 	/**
@@ -128,6 +238,9 @@ public final class JsonNumber extends JsonValue implements Comparable<JsonNumber
 	 */
 	@Override
 	public String toJson() {
+		if (this.decimal == null && this.scale == 0) {
+			return Long.toString(this.unscaled);
+		}
 		return this.getValue().toString();
 	}
 
@@ -147,8 +260,7 @@ public final class JsonNumber extends JsonValue implements Comparable<JsonNumber
 		if (!jp.hasNext()) {
 			return parsedNumber;
 		} else { // the string should not contain any more garbage data
-			throw new JsonStandardException(String.format("The string \"%s\" is not a pure "
-					+ "JSON number.", jsonNumber)); 
+			throw new JsonParseException(jp, jp.getPosition(), "the end of the data");
 		}
 	}
 	
@@ -166,122 +278,28 @@ public final class JsonNumber extends JsonValue implements Comparable<JsonNumber
 		int startingPosition = parser.getPosition();
 		parser.skipWhitespace();
 		try {
-			// make sure the JSON specification is fulfilled
-			String numberAsString = JsonNumber.parseSignificandSign(parser) 
-					+ JsonNumber.parseSignificand(parser) + JsonNumber.parseExponent(parser);
-			return new JsonNumber(new BigDecimal(numberAsString));
-		} catch (NumberFormatException | JsonStandardException e) {
-			parser.setPosition(startingPosition); // the parser should not be modified
-			throw new JsonStandardException(String.format("The next element in the JSON parser "
-					+ "%s is not a JSON number.", parser), e);
-		}
-	}
-	
-	/**
-	 * Helper function to correctly parse the sign in front of the significand.
-	 * The sign may be minus or and empty string.
-	 * 
-	 * @param parser - the parser to use
-	 * @return the sign of the significand
-	 * @throws JsonStandardException if the number is not correctly formatted
-	 */
-	private static String parseSignificandSign(JsonParser parser) throws JsonStandardException {
-		parser.skipWhitespace();
-		if (parser.isNext(JsonNumber.JSON_MINUS_VALUE, true)) {
-			return JsonNumber.JSON_MINUS_VALUE_STRING_REPRESENTATION;
-		} else if (parser.isNextDigit()) {
-			return "";
-		} else {
-			throw new JsonStandardException(String.format("The next element in the JSON parser "
-					+ "%s is not a JSON number.", parser));
-		}
-	}
-	
-	/**
-	 * Helper function to correctly parse the significand of the number.
-	 * 
-	 * @param parser - the parser to use
-	 * @return the significand as string
-	 * @throws JsonStandardException if the number is not correctly formatted
-	 */
-	private static String parseSignificand(JsonParser parser) throws JsonStandardException {
-		StringBuilder integerPartBuilder = new StringBuilder();
-		parser.skipWhitespace();
-		while (parser.isNextDigit()) {
-			integerPartBuilder.append(parser.get());
-			parser.skipWhitespace();
-		}
-		String integerPart = integerPartBuilder.toString();
-		/*
-		 * There must be digits and no leading zeros are allowed.
-		 */
-		if (integerPart.length() > 0 && !(integerPart.startsWith("0") && integerPart.length() > 1)) {
-			if (parser.isNext(JsonNumber.JSON_FLOATING_SEPARATOR_VALUE, true)) {
-				StringBuilder fractionPartBuilder = new StringBuilder();
-				parser.skipWhitespace();
-				while (parser.isNextDigit()) {
-					fractionPartBuilder.append(parser.get());
-					parser.skipWhitespace();
-				}
-				String fractionPart = fractionPartBuilder.toString();
-				/*
-				 * There must be digits after the separator.
-				 */
-				if (fractionPart.length() > 0) {
-					return integerPart + JsonNumber.JSON_FLOATING_SEPARATOR_VALUE + fractionPart;
-				}
-			} else {
-				return integerPart;
+			// the digits are accumulated directly instead of building and parsing strings
+			JsonNumberReader reader = new JsonNumberReader();
+			reader.read(parser);
+			if (reader.isExact() && reader.isIntegral()) {
+				return JsonNumber.valueOf(reader.isNegative() ? -reader.getSignificand() : reader.getSignificand());
+			} else if (reader.isExact()) {
+				return new JsonNumber(reader.isNegative() ? -reader.getSignificand() : reader.getSignificand(),
+						-reader.getExponent());
 			}
+			return new JsonNumber(reader.toBigDecimal());
+		} catch (JsonParseException e) {
+			parser.resetPosition(startingPosition); // the parser should not be modified
+			throw e;
+		} catch (NumberFormatException e) {
+			parser.resetPosition(startingPosition); // the parser should not be modified
+			throw new JsonParseException(parser, startingPosition, "a JSON number", e);
 		}
-		// in all other cases throw an exception
-		throw new JsonStandardException(String.format("The next element in the JSON parser "
-				+ "%s is not a JSON number.", parser));
-	}
-	/**
-	 * Helper function to correctly parse the exponent of the number.
-	 * The exponent may be an empty string
-	 * 
-	 * @param parser - the parser to use
-	 * @return the exponent as string
-	 * @throws JsonStandardException if the number is not correctly formatted
-	 */
-	private static String parseExponent(JsonParser parser) throws JsonStandardException {
-		StringBuilder exponentBuilder = new StringBuilder();
-		parser.skipWhitespace();
-		// check if there is an exponent character
-		if (parser.isNext(JsonNumber.JSON_EXPONENT_VALUE, true)) {
-			exponentBuilder.append(JsonNumber.JSON_EXPONENT_VALUE);
-		} else if (parser.isNext(JsonNumber.JSON_EXPONENT_CAPITAL_VALUE, true)) {
-			exponentBuilder.append(JsonNumber.JSON_EXPONENT_CAPITAL_VALUE);
-		} else {
-			return "";
-		}
-		parser.skipWhitespace();
-		// check if there is a sign for the exponent
-		if (parser.isNext(JsonNumber.JSON_MINUS_VALUE, true)) {
-			exponentBuilder.append(JsonNumber.JSON_MINUS_VALUE);
-		} else if (parser.isNext(JsonNumber.JSON_PLUS_VALUE, true)) {
-			exponentBuilder.append(JsonNumber.JSON_PLUS_VALUE);
-		}
-		parser.skipWhitespace();
-		int digitStart = exponentBuilder.length();
-		while (parser.isNextDigit()) {
-			exponentBuilder.append(parser.get());
-			parser.skipWhitespace();
-		}
-		// obligatory digit part
-		if (exponentBuilder.length() - digitStart > 0) {
-			return exponentBuilder.toString();
-		} else {
-			throw new JsonStandardException(String.format("The next element in the JSON parser "
-					+ "%s is not a JSON number.", parser));	
-		}	
 	}
 
 	@Override
 	public int hashCode() {
-		return this.value.hashCode();
+		return this.getValue().hashCode();
 	}
 
 	@Override
@@ -289,7 +307,13 @@ public final class JsonNumber extends JsonValue implements Comparable<JsonNumber
 		if (obj == this) {
 			return true;
 		} else if (obj instanceof JsonNumber) {
-			return this.getValue().equals(((JsonNumber) obj).getValue());
+			JsonNumber jsonNumber = (JsonNumber) obj;
+			if (this.decimal == null && jsonNumber.decimal == null && this.isBinary() == jsonNumber.isBinary()) {
+				// like their BigDecimals, negative zero equals zero
+				return this.isBinary() ? this.doubleValue() == jsonNumber.doubleValue() 
+						: this.unscaled == jsonNumber.unscaled && this.scale == jsonNumber.scale;
+			}
+			return this.getValue().equals(jsonNumber.getValue());
 		}
 		return false;
 	}
@@ -302,7 +326,14 @@ public final class JsonNumber extends JsonValue implements Comparable<JsonNumber
 	@Override
 	public int compareTo(JsonNumber jsonNumber) {
 		Objects.requireNonNull(jsonNumber, String.format("The JSON number \"%s\" cannot be compared to null.", this));
-		return this.value.compareTo(jsonNumber.value);
+		if (this.decimal == null && jsonNumber.decimal == null) {
+			if (this.isBinary() && jsonNumber.isBinary()) {
+				return Double.compare(this.doubleValue() + 0d, jsonNumber.doubleValue() + 0d); // negative zero is zero
+			} else if (this.scale == jsonNumber.scale) {
+				return Long.compare(this.unscaled, jsonNumber.unscaled);
+			}
+		}
+		return this.getValue().compareTo(jsonNumber.getValue());
 	}
 
 }
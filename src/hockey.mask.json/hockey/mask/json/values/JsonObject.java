@@ -1,23 +1,21 @@
 package hockey.mask.json.values;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
+import java.io.IOException;
 import java.util.Objects;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.UncheckedJsonStandardException;
+import hockey.mask.json.parser.JsonParseException;
 import hockey.mask.json.parser.JsonParser;
 import hockey.mask.json.parser.JsonStringParser;
 
 /**
  * The JsonObject class represents an object formatted in the JSON standard. 
- * Internally however it will be backed up by a list for convenience.
- * This is not implemented as map since duplicate key, while being discouraged, are 
- * explicitly allowed in the standard.
+ * Internally the members are held in the order they were added by a {@link JsonMemberMap},
+ * which keeps duplicate names, as they are discouraged, but explicitly allowed in the standard.
+ * 
+ * <p>Objects built {@link JsonIndexBuilder#buildLazy(hockey.mask.json.parser.JsonStructuralIndex) 
+ * lazily} parse their members once they are accessed the first time.</p>
  * 
  * @author Planters
  *
@@ -45,7 +43,8 @@ public final class JsonObject extends JsonValue {
 	 */
 	public static final String JSON_OBJECT_PAIR_SEPARATOR = ",";
 		
-	private final Map<JsonString, List<JsonValue>> jsonPairs = new HashMap<JsonString, List<JsonValue>>();
+	private final JsonMemberMap jsonPairs = new JsonMemberMap();
+	private JsonIndexBuilder deferred = null; // builds the members once they are accessed
 	
 	/**
 	 * Create a new JSON object without any members.
@@ -55,12 +54,24 @@ public final class JsonObject extends JsonValue {
 	}
 	
 	/**
-	 * Get the names of all members of this JSON object.
+	 * Create a new JSON object, whose members are built by the specified builder once they
+	 * are accessed.
+	 * 
+	 * @param deferred - the builder of the members
+	 */
+	JsonObject(JsonIndexBuilder deferred) {
+		super();
+		this.deferred = deferred;
+	}
+	
+	/**
+	 * Get the names of all members of this JSON object in the order they were first added.
 	 * 
 	 * @return the names of all members
 	 */
 	public JsonString[] getNames() {
-		return this.jsonPairs.keySet().toArray(JsonString[]::new);
+		this.materialize();
+		return this.jsonPairs.names();
 	}
 	
 	/**
@@ -74,12 +85,8 @@ public final class JsonObject extends JsonValue {
 	 * @return the values assigned to the specified member name
 	 */
 	public JsonValue[] getValues(JsonString name) {
-		List<JsonValue> values = this.jsonPairs.get(name);
-		if (values != null) {
-			return values.toArray(JsonValue[]::new);
-		} else {
-			return new JsonValue[0];
-		}
+		this.materialize();
+		return this.jsonPairs.values(name);
 	}
 	
 	/**
@@ -94,12 +101,9 @@ public final class JsonObject extends JsonValue {
 	 * @return the value of the first member with the specified name
 	 */
 	public JsonValue get(JsonString name) {
-		List<JsonValue> values = this.jsonPairs.get(name);
-		if (values != null && !values.isEmpty()) {
-			return values.get(0);
-		} else {
-			return null;
-		}
+		this.materialize();
+		int index = this.jsonPairs.indexOf(name);
+		return index >= 0 ? this.jsonPairs.valueAt(index) : null;
 	}
 	
 	/**
@@ -109,34 +113,41 @@ public final class JsonObject extends JsonValue {
 	 * @return true if a member with the specified name is present, false if not
 	 */
 	public boolean hasMember(JsonString name) {
-		return this.jsonPairs.containsKey(name);
-	}
-	
-	/**
-	 * Convert the specified map entry into a stream of JSON member pairs.
-	 * 
-	 * @param keyMemberPair - the entry containing the member name as key and all values 
-	 * associated with at as list
-	 * @return a stream of JSON object member pairs
-	 * @throws NullPointerException if the supplied entry is null or either key or value 
-	 * of the entry is null
-	 */
-	private static Stream<JsonPair> entryToPairStream(Entry<JsonString, List<JsonValue>> keyMemberPair) {
-		return keyMemberPair.getValue().stream()
-		.map(value -> new JsonPair(keyMemberPair.getKey(), value));
+		this.materialize();
+		return this.jsonPairs.indexOf(name) >= 0;
 	}
 	
 	/**
-	 * Convert this JSON object to a JSON formatted object string. 
+	 * Convert this JSON object to a JSON formatted object string. The members are written
+	 * in the order they were added.
 	 * 
 	 * @return the JSON representation of this object
 	 */
 	@Override
 	public String toJson() {
-		return this.jsonPairs.entrySet().stream()
-		.flatMap(JsonObject::entryToPairStream) // transform to JSON member pairs
-		.map(JsonPair::toJson) // transform to JSON standard string
-		.collect(Collectors.joining(JsonObject.JSON_OBJECT_PAIR_SEPARATOR, JsonObject.JSON_OBJECT_START_IDENTIFIER, JsonObject.JSON_OBJECT_END_IDENTIFIER));
+		if (this.deferred != null) { // the members have not been accessed, so the data is still valid
+			return this.deferred.source();
+		}
+		return this.buildJson();
+	}
+	
+	@Override
+	public void appendJson(Appendable out) throws IOException {
+		Objects.requireNonNull(out, "The JSON representation cannot be appended to null.");
+		if (this.deferred != null) {
+			out.append(this.deferred.source());
+			return;
+		}
+		out.append(JsonObject.JSON_OBJECT_START_IDENTIFIER);
+		for (int i = 0; i < this.jsonPairs.size(); i++) {
+			if (i > 0) {
+				out.append(JsonObject.JSON_OBJECT_PAIR_SEPARATOR);
+			}
+			this.jsonPairs.nameAt(i).appendJson(out);
+			out.append(JsonObject.JSON_OBJECT_NAME_VALUE_SEPARATOR);
+			this.jsonPairs.valueAt(i).appendJson(out);
+		}
+		out.append(JsonObject.JSON_OBJECT_END_IDENTIFIER);
 	}
 	
 	/**
@@ -155,8 +166,7 @@ public final class JsonObject extends JsonValue {
 		if (!jp.hasNext()) {
 			return parsedObject;
 		} else { // the string should not contain any more garbage data
-			throw new JsonStandardException(String.format("The string \"%s\" is not a pure JSON object.", 
-					jsonObject)); 
+			throw new JsonParseException(jp, jp.getPosition(), "the end of the data");
 		}
 	}
 	
@@ -177,32 +187,39 @@ public final class JsonObject extends JsonValue {
 		if (parser.isNext(JsonObject.JSON_OBJECT_START_IDENTIFIER, true)) {
 			JsonObject parsedObject = new JsonObject();
 			boolean firstPassed = false;
-			while (parser.hasNext()) {
-				parser.skipWhitespace();
-				// end condition
-				if (parser.isNext(JsonObject.JSON_OBJECT_END_IDENTIFIER, true)) {
-					return parsedObject;
-				} else { // append value
-					if (firstPassed) {
-						if (parser.isNext(JsonObject.JSON_OBJECT_PAIR_SEPARATOR, true)) {
+			try {
+				while (parser.hasNext()) {
+					parser.skipWhitespace();
+					// end condition
+					if (parser.isNext(JsonObject.JSON_OBJECT_END_IDENTIFIER, true)) {
+						return parsedObject;
+					} else { // append value
+						if (firstPassed) {
+							if (parser.isNext(JsonObject.JSON_OBJECT_PAIR_SEPARATOR, true)) {
+								parsedObject.add(JsonPair.parseNext(parser));
+							} else {
+								// throw exception if there is no value separation
+								throw new JsonParseException(parser, parser.getPosition(), 
+										"a separator or the end of a JSON object");
+							}
+						} else { // there is no separator on the first element
 							parsedObject.add(JsonPair.parseNext(parser));
-						} else {
-							// throw exception if there is no value separation
-							parser.setPosition(startingPosition); // the parser should not be modified
-							throw new JsonStandardException(String.format("The next element in the JSON parser "
-									+ "%s is not a JSON object.", parser));
+							firstPassed = true;
 						}
-					} else { // there is no separator on the first element
-						parsedObject.add(JsonPair.parseNext(parser));
-						firstPassed = true;
 					}
 				}
+			} catch (JsonStandardException e) {
+				parser.resetPosition(startingPosition); // the parser should not be modified
+				throw e;
 			}
+			// throw exception if end condition is not reached
+			int failurePosition = parser.getPosition();
+			parser.resetPosition(startingPosition); // the parser should not be modified
+			throw new JsonParseException(parser, failurePosition, "the end of a JSON object");
 		}
-		// throw exception if end condition is not reached
-		parser.setPosition(startingPosition); // the parser should not be modified
-		throw new JsonStandardException(String.format("The next element in the JSON parser "
-				+ "%s is not a JSON object.", parser));
+		int failurePosition = parser.getPosition();
+		parser.resetPosition(startingPosition); // the parser should not be modified
+		throw new JsonParseException(parser, failurePosition, "a JSON object");
 	}
 	
 	/**
@@ -230,13 +247,15 @@ public final class JsonObject extends JsonValue {
 	public void add(JsonString name, JsonValue value) {
 		Objects.requireNonNull(name, "Null is no valid member name for a JSON object.");
 		Objects.requireNonNull(value, "Null is no valid member value for a JSON object.");
-		this.jsonPairs.computeIfAbsent(name, k -> new ArrayList<JsonValue>()).add(value);
+		this.materialize();
+		this.jsonPairs.add(name, value);
 	}
 
 	/**
 	 * Removes all members from the JSON object.
 	 */
 	public void clear() {
+		this.deferred = null;
 		this.jsonPairs.clear();
 	}
 
@@ -246,7 +265,8 @@ public final class JsonObject extends JsonValue {
 	 * @return true if this JSON array does have at least one member
 	 */
 	public boolean hasMembers() {
-		return !this.jsonPairs.isEmpty();
+		this.materialize();
+		return this.jsonPairs.size() > 0;
 	}
 
 	/**
@@ -255,6 +275,7 @@ public final class JsonObject extends JsonValue {
 	 * @param name - the name of the member to remove
 	 */
 	public void remove(JsonString name) {
+		this.materialize();
 		this.jsonPairs.remove(name);
 	}
 
@@ -264,7 +285,8 @@ public final class JsonObject extends JsonValue {
 	 * @return the number of members
 	 */
 	public int size() {
-		return this.jsonPairs.size();
+		this.materialize();
+		return this.jsonPairs.uniqueNames();
 	}
 
 	/**
@@ -283,17 +305,32 @@ public final class JsonObject extends JsonValue {
 	public JsonValue set(JsonString name, JsonValue value) {
 		Objects.requireNonNull(name, "Null is no valid member name for a JSON object.");
 		Objects.requireNonNull(value, "Null is no valid member value for a JSON object.");
-		List<JsonValue> allValues = this.jsonPairs.computeIfAbsent(name, k -> new ArrayList<JsonValue>());
-		if (allValues.isEmpty()) {
-			allValues.add(value);
-			return null;
-		} else {
-			return allValues.set(0, value);
+		this.materialize();
+		return this.jsonPairs.set(name, value);
+	}
+
+	/**
+	 * Build the members of a lazily built object, if they have not been accessed yet.
+	 * 
+	 * @throws UncheckedJsonStandardException if the members are not JSON formatted
+	 */
+	private void materialize() {
+		JsonIndexBuilder builder = this.deferred;
+		if (builder != null) {
+			this.deferred = null; // adding the members must not build them again
+			try {
+				builder.members(this);
+			} catch (JsonStandardException e) {
+				this.jsonPairs.clear();
+				this.deferred = builder;
+				throw new UncheckedJsonStandardException(e);
+			}
 		}
 	}
 
 	@Override
 	public int hashCode() {
+		this.materialize();
 		return this.jsonPairs.hashCode();
 	}
 
@@ -302,6 +339,8 @@ public final class JsonObject extends JsonValue {
 		if (obj == this) {
 			return true;
 		} else if (obj instanceof JsonObject) {
+			this.materialize();
+			((JsonObject) obj).materialize();
 			return this.jsonPairs.equals(((JsonObject) obj).jsonPairs);
 		}
 		return false;
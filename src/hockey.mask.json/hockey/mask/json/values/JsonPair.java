@@ -3,6 +3,7 @@ package hockey.mask.json.values;
 import java.util.Objects;
 
 import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.parser.JsonParseException;
 import hockey.mask.json.parser.JsonParser;
 import hockey.mask.json.parser.JsonStringParser;
 
@@ -90,8 +91,7 @@ final class JsonPair {
 		if (!jp.hasNext()) {
 			return parsedPair;
 		} else { // the string should not contain any more garbage data
-			throw new JsonStandardException(String.format("The string \"%s\" is not a pure JSON pair.", 
-					jsonPair)); 
+			throw new JsonParseException(jp, jp.getPosition(), "the end of the data");
 		}
 	}
 	
@@ -107,17 +107,16 @@ final class JsonPair {
 		Objects.requireNonNull(parser, "The JSON parser may not be null.");
 		int initialPosition = parser.getPosition();
 		try {
-			JsonString name = JsonString.parseNext(parser);
+			JsonString name = JsonString.parseNextName(parser);
 			parser.skipWhitespace();
 			if (!parser.isNext(JsonPair.JSON_PAIR_SEPARATOR, true)) {
-				parser.setPosition(initialPosition);
-				throw new JsonStandardException(String.format("The next element in the JSON parser "
-						+ "%s is not a JSON pair.", parser));
+				throw new JsonParseException(parser, parser.getPosition(), 
+						"the name separator of a JSON pair");
 			}
 			JsonValue value = JsonValue.parseNext(parser);
 			return new JsonPair(name, value);
 		} catch (JsonStandardException e) {
-			parser.setPosition(initialPosition);
+			parser.resetPosition(initialPosition);
 			throw e;
 		}
 	}
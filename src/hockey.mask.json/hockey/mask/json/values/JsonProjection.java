@@ -0,0 +1,233 @@
+package hockey.mask.json.values;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.parser.JsonParseException;
+import hockey.mask.json.parser.JsonParser;
+import hockey.mask.json.parser.JsonStringParser;
+
+/**
+ * The JsonProjection class parses only the declared members of JSON values and skips all
+ * other members by {@link JsonParser#skipValue()}, so no values are created for them.
+ * 
+ * <p>The members are declared either by an object like
+ * {@code {"user": {"id": true}, "items": [{"sku": true}]}}, where true includes the entire
+ * member, or by JSON pointers like {@code /user/id}. Projections are applied to each element of
+ * an array, so pointers only consist of member names and an array in a declaring object holds
+ * the projection of its elements. Numbers, strings, literals and null are parsed completely
+ * wherever they occur.</p>
+ * 
+ * @author Planters
+ * 
+ */
+public class JsonProjection {
+	
+	/**
+	 * The character separating the member names of a JSON pointer.
+	 */
+	public static final char JSON_POINTER_SEPARATOR = '/';
+	
+	private Map<JsonString, JsonProjection> members; // the projected members or null to include everything
+	
+	/**
+	 * Create a projection including the specified members. Members are included entirely if
+	 * they are declared as true, while objects declare the projection of the member and arrays
+	 * the projection of the elements of the member.
+	 * 
+	 * @param projection - the object declaring the included members
+	 * @throws IllegalArgumentException if a member is not declared as true, as object or as
+	 * array holding a single declaration
+	 * @throws NullPointerException if null is passed as projection
+	 */
+	public JsonProjection(JsonObject projection) {
+		Objects.requireNonNull(projection, "The projection may not be null.");
+		this.members = new HashMap<JsonString, JsonProjection>();
+		for (JsonString name : projection.getNames()) {
+			this.members.put(name, JsonProjection.declare(projection.get(name)));
+		}
+	}
+	
+	/**
+	 * Create a projection including the members referenced by the specified JSON pointers.
+	 * Each pointer consists of the names of the members, each preceded by a slash. Within
+	 * names {@code ~1} stands for a slash and {@code ~0} for a tilde. The empty pointer includes
+	 * the entire value.
+	 * 
+	 * @param pointers - the pointers to the included members
+	 * @throws IllegalArgumentException if a pointer does not start with a slash
+	 * @throws NullPointerException if null or a null pointer is passed
+	 */
+	public JsonProjection(String... pointers) {
+		Objects.requireNonNull(pointers, "The JSON pointers may not be null.");
+		this.members = new HashMap<JsonString, JsonProjection>();
+		for (String pointer : pointers) {
+			Objects.requireNonNull(pointer, "A JSON pointer may not be null.");
+			if (!pointer.isEmpty() && pointer.charAt(0) != JsonProjection.JSON_POINTER_SEPARATOR) {
+				throw new IllegalArgumentException(String.format("The JSON pointer \"%s\" does not start "
+						+ "with %s.", pointer, JsonProjection.JSON_POINTER_SEPARATOR));
+			}
+			JsonProjection projection = this;
+			int start = 0;
+			while (projection.members != null && start < pointer.length()) {
+				int end = pointer.indexOf(JsonProjection.JSON_POINTER_SEPARATOR, start + 1);
+				end = end < 0 ? pointer.length() : end;
+				JsonString name = new JsonString(pointer.substring(start + 1, end).replace("~1", "/").replace("~0", "~"));
+				projection = projection.members.computeIfAbsent(name, 
+						k -> new JsonProjection(new HashMap<JsonString, JsonProjection>()));
+				start = end;
+			}
+			projection.members = null; // the referenced member is included entirely
+		}
+	}
+	
+	/**
+	 * Create a projection including the specified members.
+	 * 
+	 * @param members - the projections of the included members or null to include the entire value
+	 */
+	private JsonProjection(Map<JsonString, JsonProjection> members) {
+		this.members = members;
+	}
+	
+	/**
+	 * Create the projection declared by the specified value.
+	 * 
+	 * @param declaration - true, an object or an array holding a single declaration
+	 * @return the declared projection
+	 * @throws IllegalArgumentException if the value does not declare a projection
+	 */
+	private static JsonProjection declare(JsonValue declaration) {
+		if (JsonBoolean.JSON_TRUE.equals(declaration)) {
+			return new JsonProjection((Map<JsonString, JsonProjection>) null);
+		} else if (declaration instanceof JsonObject) {
+			return new JsonProjection((JsonObject) declaration);
+		} else if (declaration instanceof JsonArray && ((JsonArray) declaration).size() == 1) {
+			return JsonProjection.declare(((JsonArray) declaration).get(0));
+		}
+		throw new IllegalArgumentException(String.format("The value %s does not declare a projection.",
+				declaration));
+	}
+	
+	/**
+	 * Parse the projection of the specified JSON formatted value.
+	 * 
+	 * @param jsonValue - the JSON formatted value
+	 * @return the projection of the JSON formatted value
+	 * @throws JsonStandardException if the string was not JSON formatted
+	 * @throws NullPointerException - if null is passed as JSON input string
+	 */
+	public JsonValue parse(String jsonValue) throws JsonStandardException {
+		Objects.requireNonNull(jsonValue, "A JSON formatted value may not be null.");
+		JsonStringParser jp = new JsonStringParser(jsonValue);
+		JsonValue parsedValue = this.parseNext(jp);
+		jp.skipWhitespace(); // needed for checking against garbage data
+		if (!jp.hasNext()) {
+			return parsedValue;
+		} else { // the string should not contain any more garbage data
+			throw new JsonParseException(jp, jp.getPosition(), "the end of the data");
+		}
+	}
+	
+	/**
+	 * Parse the projection of the next JSON formatted value from the specified JSON parser.
+	 * Skipped members are only checked for complete strings and balanced brackets.
+	 * 
+	 * @param parser - the parser to retrieve the JSON formatted value from
+	 * @return the projection of the JSON formatted value
+	 * @throws JsonStandardException if the next element in the parser is not a JSON formatted value
+	 * @throws NullPointerException - if null is passed as JSON parser
+	 */
+	public JsonValue parseNext(JsonParser parser) throws JsonStandardException {
+		Objects.requireNonNull(parser, "The JSON parser may not be null.");
+		int startingPosition = parser.getPosition();
+		try {
+			return this.project(parser);
+		} catch (JsonStandardException e) {
+			parser.resetPosition(startingPosition); // the parser should not be modified
+			throw e;
+		}
+	}
+	
+	/**
+	 * Parse the projection of the next value.
+	 * 
+	 * @param parser - the parser to retrieve the value from
+	 * @return the projection of the value
+	 * @throws JsonStandardException if the next element in the parser is not a JSON formatted value
+	 */
+	private JsonValue project(JsonParser parser) throws JsonStandardException {
+		if (this.members == null) {
+			return JsonValue.parseNext(parser);
+		}
+		parser.skipWhitespace();
+		if (parser.isNext(JsonObject.JSON_OBJECT_START_IDENTIFIER, true)) {
+			return this.projectObject(parser);
+		} else if (parser.isNext(JsonArray.JSON_ARRAY_START_IDENTIFIER, true)) {
+			return this.projectArray(parser);
+		}
+		return JsonValue.parseNext(parser);
+	}
+	
+	/**
+	 * Parse the projection of the object, whose opening bracket has already been read.
+	 * 
+	 * @param parser - the parser to retrieve the members from
+	 * @return the object holding the projected members
+	 * @throws JsonStandardException if the object is not JSON formatted
+	 */
+	private JsonObject projectObject(JsonParser parser) throws JsonStandardException {
+		JsonObject object = new JsonObject();
+		parser.skipWhitespace();
+		if (parser.isNext(JsonObject.JSON_OBJECT_END_IDENTIFIER, true)) {
+			return object;
+		}
+		while (true) {
+			JsonString name = JsonString.parseNextName(parser);
+			parser.skipWhitespace();
+			if (!parser.isNext(JsonPair.JSON_PAIR_SEPARATOR, true)) {
+				throw new JsonParseException(parser, parser.getPosition(), "the name separator of a JSON pair");
+			}
+			JsonProjection member = this.members.get(name);
+			if (member != null) {
+				object.add(name, member.project(parser));
+			} else {
+				parser.skipValue();
+			}
+			parser.skipWhitespace();
+			if (parser.isNext(JsonObject.JSON_OBJECT_END_IDENTIFIER, true)) {
+				return object;
+			} else if (!parser.isNext(JsonObject.JSON_OBJECT_PAIR_SEPARATOR, true)) {
+				throw new JsonParseException(parser, parser.getPosition(), "a separator or the end of a JSON object");
+			}
+		}
+	}
+	
+	/**
+	 * Parse the projection of each element of the array, whose opening bracket has already
+	 * been read.
+	 * 
+	 * @param parser - the parser to retrieve the elements from
+	 * @return the array holding the projected elements
+	 * @throws JsonStandardException if the array is not JSON formatted
+	 */
+	private JsonArray projectArray(JsonParser parser) throws JsonStandardException {
+		JsonArray array = new JsonArray();
+		parser.skipWhitespace();
+		if (parser.isNext(JsonArray.JSON_ARRAY_END_IDENTIFIER, true)) {
+			return array;
+		}
+		while (true) {
+			array.add(this.project(parser));
+			parser.skipWhitespace();
+			if (parser.isNext(JsonArray.JSON_ARRAY_END_IDENTIFIER, true)) {
+				return array;
+			} else if (!parser.isNext(JsonArray.JSON_ARRAY_VALUE_SEPARATOR, true)) {
+				throw new JsonParseException(parser, parser.getPosition(), "a separator or the end of a JSON array");
+			}
+		}
+	}
+	
+}
@@ -1,10 +1,14 @@
 package hockey.mask.json.values;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Objects;
 
 import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.parser.JsonParseException;
 import hockey.mask.json.parser.JsonParser;
 import hockey.mask.json.parser.JsonStringParser;
+import hockey.mask.json.parser.JsonSymbolTable;
 
 /**
  * The JsonString class represents a string formatted in the JSON format.
@@ -41,13 +45,47 @@ public final class JsonString extends JsonValue implements Comparable<JsonString
 				{'\f', 'f'},	// formfeed
 				{'\n', 'n'},	// new line
 				{'\t', 't'} };	// tab
-			// TODO: is \\u unicode support necessary?
 			
+	/**
+	 * The JSON escaped character introducing a unicode escape sequence of four hexadecimal 
+	 * digits, which is the UTF-16 code unit of the escaped character.
+	 */
+	public static final char JSON_STRING_UNICODE_ESCAPE = 'u';
+	
 	/**
 	 * The escape character for JSON formatted strings.
 	 */
 	public static final char JSON_STRING_ESCAPE_CHARACTER = '\\';
 	
+	/**
+	 * The empty JSON string, which is shared by all parsed empty strings.
+	 */
+	public static final JsonString JSON_EMPTY_STRING = new JsonString("");
+	
+	/**
+	 * The symbol table canonicalizing the names of parsed object members, which is shared by 
+	 * all parsers, so recurring names share the same JSON strings across data.
+	 */
+	static final JsonSymbolTable<JsonString> NAMES = new JsonSymbolTable<JsonString>(2048, JsonString::new);
+	
+	private static final char[] UNESCAPED_CHARACTERS = new char[128]; // the characters of escapes or 0
+	private static final String[] ESCAPE_SEQUENCES = new String[128]; // the escapes of ASCII characters or null
+	
+	static {
+		for (char[] escape : JsonString.JSON_STRING_ESCAPED_CHARACTERS) {
+			JsonString.UNESCAPED_CHARACTERS[escape[1]] = escape[0];
+		}
+		// control characters may not occur unescaped
+		for (char c = 0; c < 0x20; c++) {
+			JsonString.ESCAPE_SEQUENCES[c] = String.format("%s%s%04x", JsonString.JSON_STRING_ESCAPE_CHARACTER, 
+					JsonString.JSON_STRING_UNICODE_ESCAPE, (int) c);
+		}
+		for (char[] escape : JsonString.JSON_STRING_ESCAPED_CHARACTERS) {
+			JsonString.ESCAPE_SEQUENCES[escape[0]] = new String(new char[] {JsonString.JSON_STRING_ESCAPE_CHARACTER, 
+					escape[1]});
+		}
+	}
+	
 	private final String value;
 	
 	/**
@@ -79,17 +117,52 @@ public final class JsonString extends JsonValue implements Comparable<JsonString
 	 */
 	@Override
 	public String toJson() {
-		// the string cannot be null at this point
-		StringBuilder sb = new StringBuilder(this.getValue());
-			for (int i = 0; i < sb.length(); i++) {
-				for (char[] escape : JsonString.JSON_STRING_ESCAPED_CHARACTERS) {
-					if (sb.charAt(i) == escape[0]) {
-						sb.replace(i, i+1, Character.toString(JsonString.JSON_STRING_ESCAPE_CHARACTER) + escape[1]);
-						i++; // skip the inserted character
-					}
-				}
+		return this.buildJson();
+	}
+	
+	/**
+	 * Append the JSON representation of this string to the specified appendable. The plain 
+	 * sections between the characters, which need to be escaped, are appended as a whole.
+	 * 
+	 * @param out - the appendable to append the JSON representation to
+	 * @throws IOException if the appendable fails
+	 * @throws NullPointerException if null is passed as appendable
+	 */
+	@Override
+	public void appendJson(Appendable out) throws IOException {
+		Objects.requireNonNull(out, "The JSON representation cannot be appended to null.");
+		out.append(JsonString.JSON_STRING_IDENTIFIER);
+		int plainStart = 0;
+		for (int i = 0; i < this.value.length(); i++) {
+			char next = this.value.charAt(i);
+			if (next < JsonString.ESCAPE_SEQUENCES.length && JsonString.ESCAPE_SEQUENCES[next] != null) {
+				JsonString.appendSection(out, this.value, plainStart, i);
+				out.append(JsonString.ESCAPE_SEQUENCES[next]);
+				plainStart = i + 1;
 			}
-			return sb.insert(0, JsonString.JSON_STRING_IDENTIFIER).append(JsonString.JSON_STRING_IDENTIFIER).toString();
+		}
+		JsonString.appendSection(out, this.value, plainStart, this.value.length());
+		out.append(JsonString.JSON_STRING_IDENTIFIER);
+	}
+	
+	/**
+	 * Append the specified section of the string to the appendable. Writers are written to 
+	 * directly, as they would otherwise create a substring.
+	 * 
+	 * @param out - the appendable to append the section to
+	 * @param value - the string containing the section
+	 * @param start - the start of the section
+	 * @param end - the exclusive end of the section
+	 * @throws IOException if the appendable fails
+	 */
+	private static void appendSection(Appendable out, String value, int start, int end) throws IOException {
+		if (start < end) {
+			if (out instanceof Writer) {
+				((Writer) out).write(value, start, end - start);
+			} else {
+				out.append(value, start, end);
+			}
+		}
 	}
 	
 	/**
@@ -109,8 +182,7 @@ public final class JsonString extends JsonValue implements Comparable<JsonString
 		if (!jp.hasNext()) {
 			return parsedString;
 		} else { // the string should not contain any more garbage data
-			throw new JsonStandardException(String.format("The string \"%s\" is not a pure JSON string.", 
-					jsonString)); 
+			throw new JsonParseException(jp, jp.getPosition(), "the end of the data");
 		}
 	}
 	
@@ -124,39 +196,141 @@ public final class JsonString extends JsonValue implements Comparable<JsonString
 	 * @throws NullPointerException - if null is passed as JSON parser
 	 */
 	public static JsonString parseNext(JsonParser parser) throws JsonStandardException {
+		return JsonString.parseNext(parser, null);
+	}
+	
+	/**
+	 * Parse the next JSON formatted string from the specified JSON parser as the name of an 
+	 * object member. Names are canonicalized, so recurring names are returned as the same 
+	 * JSON string without creating a new one.
+	 * 
+	 * @param parser - the parser to retrieve the JSON formatted name from
+	 * @return the internal representation of the JSON formatted name
+	 * @throws JsonStandardException if the next element in the parser is not a JSON formatted string
+	 * @throws NullPointerException - if null is passed as JSON parser
+	 */
+	public static JsonString parseNextName(JsonParser parser) throws JsonStandardException {
+		return JsonString.parseNext(parser, JsonString.NAMES);
+	}
+	
+	/**
+	 * Parse the next JSON formatted string from the specified JSON parser and return its 
+	 * internal representation, which is taken from the specified symbol table if present.
+	 * 
+	 * @param parser - the parser to retrieve the JSON formatted string from
+	 * @param symbols - the symbol table canonicalizing the string or null
+	 * @return the internal representation of the JSON formatted string
+	 * @throws JsonStandardException if the next element in the parser is not a JSON formatted string
+	 * @throws NullPointerException - if null is passed as JSON parser
+	 */
+	private static JsonString parseNext(JsonParser parser, JsonSymbolTable<JsonString> symbols) 
+			throws JsonStandardException {
 		Objects.requireNonNull(parser, "The JSON parser may not be null.");
 		int startingPosition = parser.getPosition();
 		parser.skipWhitespace();
 		if (parser.isNext(JsonString.JSON_STRING_IDENTIFIER, true)) {
-			// strip identifiers and create StringBuilder 
+			// strings without escape characters are taken from the data as they are
+			JsonString plainString = null;
+			if (symbols != null) {
+				plainString = parser.getUntil(JsonString.JSON_STRING_IDENTIFIER, JsonString.JSON_STRING_ESCAPE_CHARACTER, 
+						symbols);
+			} else {
+				String plainValue = parser.getUntil(JsonString.JSON_STRING_IDENTIFIER, 
+						JsonString.JSON_STRING_ESCAPE_CHARACTER);
+				if (plainValue != null) {
+					plainString = plainValue.isEmpty() ? JsonString.JSON_EMPTY_STRING : new JsonString(plainValue);
+				}
+			}
+			if (plainString != null) {
+				parser.skip(1);
+				return plainString;
+			}
+			// otherwise the plain sections between the escape sequences are copied in bulk
 			StringBuilder sb = new StringBuilder();
-			while (parser.hasNext()) {
-				// end condition
-				if (parser.isNext(JsonString.JSON_STRING_IDENTIFIER, true)) {
-					return new JsonString(sb.toString());
-				} else if (parser.isNext(JsonString.JSON_STRING_ESCAPE_CHARACTER, true)) { // escape characters
-					for (char[] escape : JsonString.JSON_STRING_ESCAPED_CHARACTERS) {
-						if (parser.isNext(escape[1], true)) {
-							sb.append(escape[0]);
-							/*
-							 * Exit the loop if the according character is found, so 
-							 * subsequent meaningful characters are not processed afterwards.
-							 */
-							break;
-						}
+			try {
+				while (true) {
+					String section = parser.getUntil(JsonString.JSON_STRING_ESCAPE_CHARACTER, 
+							JsonString.JSON_STRING_IDENTIFIER);
+					if (section != null) {
+						parser.skip(1);
+						JsonString.readEscape(parser, sb.append(section));
+						continue;
 					}
-				} else { // standard characters
-					sb.append(parser.get());
+					section = parser.getUntil(JsonString.JSON_STRING_IDENTIFIER, JsonString.JSON_STRING_ESCAPE_CHARACTER);
+					if (section != null) {
+						parser.skip(1);
+						return JsonString.create(sb.append(section), symbols);
+					}
+					// parsers, which cannot hand out sections, are read character by character
+					int next = parser.peek();
+					if (next == JsonString.JSON_STRING_IDENTIFIER) {
+						parser.skip(1);
+						return JsonString.create(sb, symbols);
+					} else if (next == JsonString.JSON_STRING_ESCAPE_CHARACTER) {
+						parser.skip(1);
+						JsonString.readEscape(parser, sb);
+					} else if (next >= 0) {
+						parser.skip(1);
+						sb.append((char) next);
+					} else {
+						throw new JsonParseException(parser, parser.getPosition(), "the end of a JSON string");
+					}
+				}
+			} catch (JsonParseException e) {
+				parser.resetPosition(startingPosition); // the parser should not be modified
+				throw e;
+			}
+		} else {
+			int failurePosition = parser.getPosition();
+			parser.resetPosition(startingPosition); // the parser should not be modified
+			throw new JsonParseException(parser, failurePosition, "a JSON string");
+		}
+	}
+	
+	/**
+	 * Create the JSON string of the specified characters, which is taken from the specified 
+	 * symbol table if present.
+	 * 
+	 * @param characters - the characters of the JSON string
+	 * @param symbols - the symbol table canonicalizing the string or null
+	 * @return the JSON string of the characters
+	 */
+	private static JsonString create(CharSequence characters, JsonSymbolTable<JsonString> symbols) {
+		return symbols != null ? symbols.get(characters) : new JsonString(characters.toString());
+	}
+	
+	/**
+	 * Read the escape sequence behind the escape character at the position mark of the 
+	 * specified parser and append the escaped character to the specified string builder.
+	 * Surrogate pairs are escaped as two unicode escape sequences, which are appended one 
+	 * after the other.
+	 * 
+	 * @param parser - the parser to read the escape sequence from
+	 * @param sb - the string builder to append the escaped character to
+	 * @throws JsonParseException if the escape sequence is invalid
+	 */
+	private static void readEscape(JsonParser parser, StringBuilder sb) throws JsonParseException {
+		int next = parser.peek();
+		if (next == JsonString.JSON_STRING_UNICODE_ESCAPE) {
+			int codeUnit = 0;
+			for (int i = 1; i <= 4; i++) {
+				int digit = Character.digit(parser.peek(i), 16);
+				if (digit < 0 || parser.peek(i) >= 128) { // only ASCII digits are hexadecimal digits
+					throw new JsonParseException(parser, parser.getPosition() + i, 
+							"a hexadecimal digit of a unicode escape sequence");
 				}
+				codeUnit = (codeUnit << 4) | digit;
 			}
-			// if the end condition has not been triggered throw an exception
-			parser.setPosition(startingPosition); // do not modify the parser
-			throw new JsonStandardException(String.format("The next element in the JSON parser "
-					+ "%s is not a JSON string.", parser));
+			parser.skip(5);
+			sb.append((char) codeUnit);
+		} else if (next > 0 && next < JsonString.UNESCAPED_CHARACTERS.length 
+				&& JsonString.UNESCAPED_CHARACTERS[next] != 0) {
+			parser.skip(1);
+			sb.append(JsonString.UNESCAPED_CHARACTERS[next]);
+		} else if (next < 0) {
+			throw new JsonParseException(parser, parser.getPosition(), "the end of a JSON string");
 		} else {
-			parser.setPosition(startingPosition); // the parser should not be modified
-			throw new JsonStandardException(String.format("The next element in the JSON parser "
-					+ "%s is not a JSON string.", parser));
+			throw new JsonParseException(parser, parser.getPosition(), "a valid escape sequence");
 		}
 	}
 	
@@ -1,8 +1,11 @@
 package hockey.mask.json.values;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Objects;
 
 import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.parser.JsonParseException;
 import hockey.mask.json.parser.JsonParser;
 import hockey.mask.json.parser.JsonStringParser;
 
@@ -32,6 +35,36 @@ public abstract class JsonValue {
 	 */
 	public abstract String toJson();
 	
+	/**
+	 * Append the JSON representation of this value to the specified appendable, which 
+	 * appends the same characters as {@link #toJson()} returns. Strings, arrays and objects 
+	 * append their representation piece by piece, so it can be written to a 
+	 * {@link java.io.Writer} without building intermediate strings.
+	 * 
+	 * @param out - the appendable to append the JSON representation to
+	 * @throws IOException if the appendable fails
+	 * @throws NullPointerException if null is passed as appendable
+	 */
+	public void appendJson(Appendable out) throws IOException {
+		Objects.requireNonNull(out, "The JSON representation cannot be appended to null.");
+		out.append(this.toJson());
+	}
+	
+	/**
+	 * Build the JSON representation of this value by appending it to a string builder.
+	 * 
+	 * @return this value in JSON format
+	 */
+	final String buildJson() {
+		StringBuilder sb = new StringBuilder();
+		try {
+			this.appendJson(sb);
+		} catch (IOException e) { // string builders do not throw
+			throw new UncheckedIOException(e);
+		}
+		return sb.toString();
+	}
+	
 	/**
 	 * Parse the specified JSON formatted value and return its internal representation.
 	 * 
@@ -48,8 +81,7 @@ public abstract class JsonValue {
 		if (!jp.hasNext()) {
 			return parsedValue;
 		} else { // the string should not contain any more garbage data
-			throw new JsonStandardException(String.format("The string \"%s\" is not a pure "
-					+ "JSON value.", jsonValue)); 
+			throw new JsonParseException(jp, jp.getPosition(), "the end of the data");
 		}
 	}
 	
@@ -64,61 +96,36 @@ public abstract class JsonValue {
 	 */
 	public static JsonValue parseNext(JsonParser parser) throws JsonStandardException {
 		Objects.requireNonNull(parser, "The JSON parser may not be null.");
+		int startingPosition = parser.getPosition();
+		parser.skipWhitespace();
 		try {
 			/*
-			 * Try parsing it as JSON string, which will fail if it is not a JSON 
-			 * formatted string.
+			 * The first non-whitespace character unambiguously identifies the type of 
+			 * the next value, so the according parser can be called directly instead 
+			 * of trying every type until one of them does not fail.
 			 */
-			return JsonString.parseNext(parser);
-		} catch (JsonStandardException stringException) {
-			try {
-				/*
-				 * Next, try parsing it as a JSON array, which may also fail if 
-				 * it is not a JSON formatted array.
-				 */
+			int next = parser.peek();
+			if (next == JsonString.JSON_STRING_IDENTIFIER) {
+				return JsonString.parseNext(parser);
+			} else if (next == JsonArray.JSON_ARRAY_START_IDENTIFIER.charAt(0)) {
 				return JsonArray.parseNext(parser);
-			} catch (JsonStandardException arrayException) {
-				try {
-					/*
-					 * Next, try parsing it as a JSON object, which may also fail if 
-					 * it is not a JSON formatted object.
-					 */
-					return JsonObject.parseNext(parser);
-				} catch (JsonStandardException ObjectException) {
-					try {
-						/*
-						 * Next, try parsing it as a JSON boolean, which may also fail if 
-						 * it is not a JSON formatted boolean.
-						 */
-						return JsonBoolean.parseNext(parser);
-					} catch (JsonStandardException booleanExcption) {
-						try {
-							/*
-							 * Next, try parsing it as a JSON null, which may also fail if 
-							 * it is not a JSON formatted null.
-							 */
-							return JsonNull.parseNext(parser);
-						} catch (JsonStandardException nullExcption) {
-							try {
-								/*
-								 * Last, parse it as a number. 
-								 */
-								return JsonNumber.parseNext(parser);
-							} catch (Exception lastException) {
-								/*
-								 * Catch every other exception, which might be thrown 
-								 * by trying to read in the string as number and throw 
-								 * a exception flagging it as not JSON formatted.
-								 */
-								throw new JsonStandardException(String.format(
-										"The JSON parser %s does not hold a JSON formatted value.", 
-										parser), lastException);
-							}
-						}
-					}
-				}
+			} else if (next == JsonObject.JSON_OBJECT_START_IDENTIFIER.charAt(0)) {
+				return JsonObject.parseNext(parser);
+			} else if (next == JsonBoolean.JSON_TRUE_VALUE.charAt(0) 
+					|| next == JsonBoolean.JSON_FALSE_VALUE.charAt(0)) {
+				return JsonBoolean.parseNext(parser);
+			} else if (next == JsonNull.JSON_NULL_VALUE.charAt(0)) {
+				return JsonNull.parseNext(parser);
+			} else if (next == JsonNumber.JSON_MINUS_VALUE || parser.isNextDigit()) {
+				return JsonNumber.parseNext(parser);
 			}
+		} catch (JsonStandardException e) {
+			parser.resetPosition(startingPosition); // the parser should not be modified
+			throw e;
 		}
+		int failurePosition = parser.getPosition();
+		parser.resetPosition(startingPosition); // the parser should not be modified
+		throw new JsonParseException(parser, failurePosition, "a JSON value");
 	}
 
 }
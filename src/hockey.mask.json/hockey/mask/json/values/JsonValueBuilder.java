@@ -0,0 +1,135 @@
+package hockey.mask.json.values;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.parser.JsonHandler;
+import hockey.mask.json.parser.JsonTokenizer;
+
+/**
+ * The JsonValueBuilder class assembles JSON values from the events of a JSON tokenizer.
+ * 
+ * <p>The partially assembled value is retained between calls, so values can be built
+ * incrementally from a {@link hockey.mask.json.parser.JsonFeedTokenizer}, which runs out of data
+ * in the middle of a value. A builder must only be used with a single tokenizer and all tokens
+ * of a value need to be passed to it.</p>
+ * 
+ * @author Planters
+ * 
+ */
+public class JsonValueBuilder implements JsonHandler {
+	
+	private final List<JsonValue> containers = new ArrayList<JsonValue>(); // the enclosing objects and arrays
+	private final List<JsonString> names = new ArrayList<JsonString>(); // the names of the pending object members
+	private JsonValue value = null; // the last completed value
+	
+	/**
+	 * Create a new builder without any partially assembled value.
+	 */
+	public JsonValueBuilder() {
+		// Empty constructor.
+	}
+	
+	/**
+	 * Read the next value from the specified tokenizer.
+	 * 
+	 * @param tokenizer - the tokenizer to read from
+	 * @return the next value or null if the tokenizer has no more values or not enough data
+	 * is available yet to complete the value
+	 * @throws JsonStandardException if the data violates the JSON standard
+	 * @throws NullPointerException if null is passed as tokenizer
+	 */
+	public JsonValue nextValue(JsonTokenizer tokenizer) throws JsonStandardException {
+		Objects.requireNonNull(tokenizer, "The JSON tokenizer may not be null.");
+		tokenizer.parse(this);
+		JsonValue completedValue = this.value;
+		this.value = null;
+		return completedValue;
+	}
+	
+	/**
+	 * Checks whether a value has been started, but not been completed yet.
+	 * 
+	 * @return true if a value is partially assembled
+	 */
+	public boolean isIncomplete() {
+		return !this.containers.isEmpty();
+	}
+	
+	@Override
+	public boolean startObject() {
+		this.containers.add(new JsonObject());
+		return true;
+	}
+	
+	@Override
+	public boolean endObject() {
+		return this.complete(this.containers.remove(this.containers.size() - 1));
+	}
+	
+	@Override
+	public boolean fieldName(JsonTokenizer tokenizer) {
+		// recurring names are looked up in the text buffer instead of creating new strings
+		this.names.add(JsonString.NAMES.get(tokenizer.getTextCharacters(), 0, tokenizer.getTextLength()));
+		return true;
+	}
+	
+	@Override
+	public boolean startArray() {
+		this.containers.add(new JsonArray());
+		return true;
+	}
+	
+	@Override
+	public boolean endArray() {
+		return this.complete(this.containers.remove(this.containers.size() - 1));
+	}
+	
+	@Override
+	public boolean stringValue(JsonTokenizer tokenizer) {
+		return this.complete(tokenizer.getTextLength() == 0 ? JsonString.JSON_EMPTY_STRING 
+				: new JsonString(tokenizer.getText()));
+	}
+	
+	@Override
+	public boolean numberValue(JsonTokenizer tokenizer) {
+		if (tokenizer.isIntegral() && tokenizer.getTextLength() < 19) { // cannot overflow
+			return this.complete(JsonNumber.valueOf(tokenizer.getLongValue()));
+		}
+		return this.complete(new JsonNumber(tokenizer.getDecimalValue()));
+	}
+	
+	@Override
+	public boolean booleanValue(boolean value) {
+		return this.complete(JsonBoolean.valueOf(value));
+	}
+	
+	@Override
+	public boolean nullValue() {
+		return this.complete(JsonNull.JSON_NULL);
+	}
+	
+	/**
+	 * Add the completed value to the enclosing container or provide it as result if there
+	 * is no enclosing container.
+	 * 
+	 * @param completedValue - the completed value
+	 * @return true to continue reading, false if the value has been completed at the root
+	 */
+	private boolean complete(JsonValue completedValue) {
+		if (this.containers.isEmpty()) {
+			this.value = completedValue;
+			return false;
+		}
+		JsonValue container = this.containers.get(this.containers.size() - 1);
+		if (container instanceof JsonObject) {
+			((JsonObject) container).add(this.names.remove(this.names.size() - 1), completedValue);
+		} else {
+			((JsonArray) container).add(completedValue);
+		}
+		return true;
+	}
+
+}
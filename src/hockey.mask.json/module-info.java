@@ -10,7 +10,10 @@ module hockey.mask.json {
 	exports hockey.mask.json.values;
 	exports hockey.mask.json.io;
 	exports hockey.mask.json.parser;
+	exports hockey.mask.json.query;
 	
 	requires java.base;
 	
+	uses hockey.mask.json.parser.JsonScanner;
+	
 }
\ No newline at end of file
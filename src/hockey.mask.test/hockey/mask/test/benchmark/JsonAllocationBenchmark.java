@@ -0,0 +1,120 @@
+package hockey.mask.test.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import com.sun.management.ThreadMXBean;
+
+import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.parser.JsonStringParser;
+import hockey.mask.json.parser.JsonStructuralIndex;
+import hockey.mask.json.parser.JsonTokenizer;
+import hockey.mask.json.values.JsonIndexBuilder;
+import hockey.mask.json.values.JsonValue;
+import hockey.mask.json.values.JsonValueBuilder;
+
+/**
+ * The JsonAllocationBenchmark class measures the memory allocated while parsing a document,
+ * which mostly consists of flags like booleans, nulls, small integers and empty strings. As
+ * these values are shared instead of being created for every occurrence, the allocated bytes
+ * per value should stay well below the size of a value object.
+ * 
+ * @author Planters
+ * 
+ */
+public class JsonAllocationBenchmark {
+	
+	private static final Random RANDOM = new Random(42); // fixed seed for comparable results
+	
+	/**
+	 * The number of objects of the parsed document.
+	 */
+	private static final int OBJECTS = 100000;
+	
+	/**
+	 * The number of measured runs, of which the median is reported.
+	 */
+	private static final int RUNS = 7;
+	
+	/**
+	 * Run the benchmark and print the results to the standard output.
+	 * 
+	 * @param args - the command line arguments, which are ignored
+	 * @throws JsonStandardException if the generated document cannot be parsed
+	 */
+	public static void main(String[] args) throws JsonStandardException {
+		ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		String document = JsonAllocationBenchmark.createDocument(JsonAllocationBenchmark.OBJECTS);
+		byte[] encodedDocument = document.getBytes(StandardCharsets.UTF_8);
+		int values = JsonAllocationBenchmark.OBJECTS * 10;
+		// warm up, so the measurements are not distorted by the just-in-time compiler
+		for (int i = 0; i < 5; i++) {
+			JsonValue.parse(document);
+			new JsonValueBuilder().nextValue(new JsonTokenizer(new JsonStringParser(document)));
+			JsonIndexBuilder.build(new JsonStructuralIndex(encodedDocument));
+		}
+		long[] stringBytes = new long[JsonAllocationBenchmark.RUNS];
+		long[] tokenizerBytes = new long[JsonAllocationBenchmark.RUNS];
+		long[] indexBytes = new long[JsonAllocationBenchmark.RUNS];
+		for (int i = 0; i < JsonAllocationBenchmark.RUNS; i++) {
+			long start = threads.getCurrentThreadAllocatedBytes();
+			JsonValue.parse(document);
+			stringBytes[i] = threads.getCurrentThreadAllocatedBytes() - start;
+			start = threads.getCurrentThreadAllocatedBytes();
+			new JsonValueBuilder().nextValue(new JsonTokenizer(new JsonStringParser(document)));
+			tokenizerBytes[i] = threads.getCurrentThreadAllocatedBytes() - start;
+			start = threads.getCurrentThreadAllocatedBytes();
+			JsonIndexBuilder.build(new JsonStructuralIndex(encodedDocument));
+			indexBytes[i] = threads.getCurrentThreadAllocatedBytes() - start;
+		}
+		System.out.println(String.format("%12s %12s %12s %12s %12s %12s %12s", "values", "string MB", "bytes/value",
+				"tokenizer MB", "bytes/value", "index MB", "bytes/value"));
+		long stringMedian = JsonAllocationBenchmark.median(stringBytes);
+		long tokenizerMedian = JsonAllocationBenchmark.median(tokenizerBytes);
+		long indexMedian = JsonAllocationBenchmark.median(indexBytes);
+		System.out.println(String.format("%12d %12.2f %12.2f %12.2f %12.2f %12.2f %12.2f", values,
+				stringMedian / 1e6d, stringMedian / (double) values,
+				tokenizerMedian / 1e6d, tokenizerMedian / (double) values,
+				indexMedian / 1e6d, indexMedian / (double) values));
+	}
+	
+	/**
+	 * Get the median of the specified allocations. The array will be sorted.
+	 * 
+	 * @param allocations - the measured allocations
+	 * @return the median allocation
+	 */
+	private static long median(long[] allocations) {
+		Arrays.sort(allocations);
+		return allocations[allocations.length / 2];
+	}
+	
+	/**
+	 * Create a JSON array of the specified number of objects, whose ten members are flags.
+	 * 
+	 * @param objects - the number of objects
+	 * @return the JSON formatted document
+	 */
+	public static String createDocument(int objects) {
+		StringBuilder sb = new StringBuilder(objects * 160);
+		sb.append('[');
+		for (int i = 0; i < objects; i++) {
+			if (i > 0) {
+				sb.append(",\n");
+			}
+			sb.append("{\"active\": ").append(JsonAllocationBenchmark.RANDOM.nextBoolean())
+			.append(", \"deleted\": ").append(JsonAllocationBenchmark.RANDOM.nextBoolean())
+			.append(", \"visible\": ").append(JsonAllocationBenchmark.RANDOM.nextBoolean())
+			.append(", \"locked\": ").append(JsonAllocationBenchmark.RANDOM.nextBoolean())
+			.append(", \"parent\": null, \"owner\": null")
+			.append(", \"status\": ").append(JsonAllocationBenchmark.RANDOM.nextInt(5))
+			.append(", \"retries\": ").append(JsonAllocationBenchmark.RANDOM.nextInt(1000))
+			.append(", \"priority\": ").append(JsonAllocationBenchmark.RANDOM.nextInt(3) - 1)
+			.append(", \"comment\": \"\"}");
+		}
+		return sb.append(']').toString();
+	}
+	
+}
@@ -0,0 +1,146 @@
+package hockey.mask.test.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.parser.JsonStreamParser;
+import hockey.mask.json.parser.JsonStructuralIndex;
+import hockey.mask.json.parser.JsonUtf8Parser;
+import hockey.mask.json.values.JsonIndexBuilder;
+import hockey.mask.json.values.JsonValue;
+
+/**
+ * The JsonParserBenchmark class measures the time needed to parse JSON documents of 
+ * increasing size from strings, streams and UTF-8 encoded bytes, which are also parsed by 
+ * walking their structural index. As parsing should scale linearly with the size of the input, 
+ * the time per character should stay roughly constant while the document size doubles.
+ * 
+ * @author Planters
+ *
+ */
+public class JsonParserBenchmark {
+
+	private static final Random RANDOM = new Random(42); // fixed seed for comparable results
+	
+	/**
+	 * The size of the smallest document in characters.
+	 */
+	private static final int INITIAL_SIZE = 1 << 16;
+	
+	/**
+	 * The number of times the document size is doubled.
+	 */
+	private static final int DOUBLINGS = 7;
+	
+	/**
+	 * The number of measured runs per document size, of which the median is reported.
+	 */
+	private static final int RUNS = 7;
+	
+	/**
+	 * Run the benchmark and print the results to the standard output.
+	 * 
+	 * @param args - the command line arguments, which are ignored
+	 * @throws JsonStandardException if a generated document cannot be parsed
+	 * @throws IOException if closing a stream parser fails
+	 */
+	public static void main(String[] args) throws JsonStandardException, IOException {
+		// warm up, so the measurements are not distorted by the just-in-time compiler
+		String warmUpDocument = JsonParserBenchmark.createDocument(JsonParserBenchmark.INITIAL_SIZE);
+		for (int i = 0; i < 20; i++) {
+			JsonValue.parse(warmUpDocument);
+			JsonParserBenchmark.parseStream(warmUpDocument.getBytes(StandardCharsets.UTF_8));
+			JsonValue.parseNext(new JsonUtf8Parser(warmUpDocument.getBytes(StandardCharsets.UTF_8)));
+			JsonIndexBuilder.build(new JsonStructuralIndex(warmUpDocument.getBytes(StandardCharsets.UTF_8)));
+		}
+		System.out.println(String.format("%12s %12s %12s %12s %12s %12s %12s %12s %12s", "characters", 
+				"string ms", "ns/character", "stream ms", "ns/character", "utf-8 ms", "ns/character", "index ms", 
+				"ns/character"));
+		for (int i = 0; i < JsonParserBenchmark.DOUBLINGS; i++) {
+			String document = JsonParserBenchmark.createDocument(JsonParserBenchmark.INITIAL_SIZE << i);
+			byte[] encodedDocument = document.getBytes(StandardCharsets.UTF_8);
+			long[] stringTimes = new long[JsonParserBenchmark.RUNS];
+			long[] streamTimes = new long[JsonParserBenchmark.RUNS];
+			long[] utf8Times = new long[JsonParserBenchmark.RUNS];
+			long[] indexTimes = new long[JsonParserBenchmark.RUNS];
+			for (int j = 0; j < JsonParserBenchmark.RUNS; j++) {
+				long start = System.nanoTime();
+				JsonValue.parse(document);
+				stringTimes[j] = System.nanoTime() - start;
+				start = System.nanoTime();
+				JsonParserBenchmark.parseStream(encodedDocument);
+				streamTimes[j] = System.nanoTime() - start;
+				start = System.nanoTime();
+				JsonValue.parseNext(new JsonUtf8Parser(encodedDocument));
+				utf8Times[j] = System.nanoTime() - start;
+				start = System.nanoTime();
+				JsonIndexBuilder.build(new JsonStructuralIndex(encodedDocument));
+				indexTimes[j] = System.nanoTime() - start;
+			}
+			long stringMedian = JsonParserBenchmark.median(stringTimes);
+			long streamMedian = JsonParserBenchmark.median(streamTimes);
+			long utf8Median = JsonParserBenchmark.median(utf8Times);
+			long indexMedian = JsonParserBenchmark.median(indexTimes);
+			System.out.println(String.format("%12d %12.2f %12.2f %12.2f %12.2f %12.2f %12.2f %12.2f %12.2f", 
+					document.length(), 
+					stringMedian / 1e6d, stringMedian / (double) document.length(), 
+					streamMedian / 1e6d, streamMedian / (double) document.length(), 
+					utf8Median / 1e6d, utf8Median / (double) document.length(), 
+					indexMedian / 1e6d, indexMedian / (double) document.length()));
+		}
+	}
+	
+	/**
+	 * Parse the specified UTF-8 encoded document with a stream parser.
+	 * 
+	 * @param document - the encoded document
+	 * @return the parsed value
+	 * @throws JsonStandardException if the document cannot be parsed
+	 * @throws IOException if closing the parser fails
+	 */
+	private static JsonValue parseStream(byte[] document) throws JsonStandardException, IOException {
+		try (JsonStreamParser jp = new JsonStreamParser(new ByteArrayInputStream(document), 
+				StandardCharsets.UTF_8)) {
+			return JsonValue.parseNext(jp);
+		}
+	}
+	
+	/**
+	 * Get the median of the specified times. The array will be sorted.
+	 * 
+	 * @param times - the measured times
+	 * @return the median time
+	 */
+	private static long median(long[] times) {
+		Arrays.sort(times);
+		return times[times.length / 2];
+	}
+	
+	/**
+	 * Create a JSON array of objects with mixed members, which holds at least the 
+	 * specified number of characters.
+	 * 
+	 * @param size - the minimum number of characters of the document
+	 * @return the JSON formatted document
+	 */
+	public static String createDocument(int size) {
+		StringBuilder sb = new StringBuilder(size + 256);
+		sb.append('[');
+		while (sb.length() < size) {
+			if (sb.length() > 1) {
+				sb.append(",\n");
+			}
+			sb.append("{\"id\": ").append(JsonParserBenchmark.RANDOM.nextInt(1000000))
+			.append(", \"name\": \"item ").append(JsonParserBenchmark.RANDOM.nextLong())
+			.append("\", \"price\": ").append(JsonParserBenchmark.RANDOM.nextInt(100000) / 100d)
+			.append(", \"available\": ").append(JsonParserBenchmark.RANDOM.nextBoolean())
+			.append(", \"tags\": [\"a\", \"b\\n\", null]}");
+		}
+		return sb.append(']').toString();
+	}
+
+}
@@ -0,0 +1,262 @@
+package hockey.mask.test.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.UncheckedJsonStandardException;
+import hockey.mask.json.io.JsonLineException;
+import hockey.mask.json.io.JsonLinesReader;
+import hockey.mask.json.values.JsonValue;
+import hockey.mask.test.values.JsonValueTesting;
+import koro.sensei.tester.TestFailureException;
+import koro.sensei.tester.TestSubject;
+
+/**
+ * The JsonLinesReaderTesting class tests the JsonLinesReader class for correct functionality.
+ * 
+ * @author Planters
+ * 
+ */
+public class JsonLinesReaderTesting implements TestSubject {
+	
+	private static final Random RANDOM = new Random();
+	
+	@Override
+	public void runAllTests() throws TestFailureException {
+		JsonLinesReaderTesting.testReading();
+		JsonLinesReaderTesting.testStreaming();
+		JsonLinesReaderTesting.testMalformedLines();
+		JsonLinesReaderTesting.testParallelStreaming();
+	}
+	
+	/**
+	 * Test reading random values from all supported sources.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testReading() throws TestFailureException {
+		Path testFile = null;
+		try {
+			testFile = Files.createTempFile("JsonLinesReaderTesting", ".jsonl");
+			for (int i = 0; i < 100; i++) {
+				List<JsonValue> testValues = new ArrayList<JsonValue>();
+				String testData = JsonLinesReaderTesting.createLines(testValues);
+				byte[] encodedData = testData.getBytes(StandardCharsets.UTF_8);
+				Files.write(testFile, encodedData);
+				JsonLinesReader[] readers = new JsonLinesReader[] {
+						new JsonLinesReader(new StringReader(testData)), 
+						new JsonLinesReader(new ByteArrayInputStream(encodedData), StandardCharsets.UTF_8), 
+						new JsonLinesReader(Channels.newChannel(new ByteArrayInputStream(encodedData)), 
+								StandardCharsets.UTF_8), 
+						new JsonLinesReader(testFile, StandardCharsets.UTF_8)};
+				for (JsonLinesReader reader : readers) {
+					try (reader) {
+						List<JsonValue> readValues = new ArrayList<JsonValue>();
+						for (JsonValue value = reader.read(); value != null; value = reader.read()) {
+							readValues.add(value);
+						}
+						TestSubject.assertTestCondition(testValues.equals(readValues), 
+								String.format("The values %s read from \"%s\" should be %s.", readValues, testData, 
+										testValues));
+						TestSubject.assertTestCondition(reader.getLineNumber() == testData.lines().count(), 
+								String.format("All %s lines should have been read, but only %s were read.", 
+										testData.lines().count(), reader.getLineNumber()));
+					}
+				}
+			}
+			// missing files
+			Path missingFile = testFile.resolveSibling(testFile.getFileName() + ".missing");
+			try (JsonLinesReader reader = new JsonLinesReader(missingFile)) {
+				throw new TestFailureException(String.format("Creating a reader for the missing file %s should fail.", 
+						missingFile));
+			} catch (FileNotFoundException e) {
+				/*
+				 * Do nothing as this is the expected behaviour.
+				 */
+			}
+		} catch (IOException | JsonLineException e) {
+			throw new TestFailureException("Reading the JSON lines failed.", e);
+		} finally {
+			if (testFile != null) {
+				try {
+					Files.deleteIfExists(testFile);
+				} catch (IOException e) {
+					throw new TestFailureException(String.format("Deleting the test file %s failed.", testFile), e);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Test iterating and streaming random values.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testStreaming() throws TestFailureException {
+		for (int i = 0; i < 100; i++) {
+			List<JsonValue> testValues = new ArrayList<JsonValue>();
+			String testData = JsonLinesReaderTesting.createLines(testValues);
+			JsonLinesReader reader = new JsonLinesReader(new StringReader(testData));
+			try (Stream<JsonValue> values = reader.stream()) {
+				List<JsonValue> readValues = values.collect(Collectors.toList());
+				TestSubject.assertTestCondition(testValues.equals(readValues), 
+						String.format("The values %s streamed from \"%s\" should be %s.", readValues, testData, 
+								testValues));
+			}
+			try {
+				reader.read();
+				throw new TestFailureException("Closing the stream should close the reader.");
+			} catch (IOException e) {
+				/*
+				 * Do nothing as this is the expected behaviour.
+				 */
+			} catch (JsonLineException e) {
+				throw new TestFailureException("Reading from a closed reader should throw an IOException.", e);
+			}
+			reader = new JsonLinesReader(new StringReader(testData));
+			List<JsonValue> iteratedValues = new ArrayList<JsonValue>();
+			for (Iterator<JsonValue> iterator = reader.iterator(); iterator.hasNext();) {
+				iteratedValues.add(iterator.next());
+			}
+			TestSubject.assertTestCondition(testValues.equals(iteratedValues), 
+					String.format("The values %s iterated from \"%s\" should be %s.", iteratedValues, testData, 
+							testValues));
+		}
+	}
+	
+	/**
+	 * Test reporting the numbers of malformed lines.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testMalformedLines() throws TestFailureException {
+		String testData = "{\"a\": 1}\r\n\r\n  \n[1, 2]\n{\"b\": }\n3";
+		try (JsonLinesReader reader = new JsonLinesReader(new StringReader(testData))) {
+			reader.read();
+			reader.read();
+			TestSubject.assertTestCondition(reader.getLineNumber() == 4, 
+					String.format("The second value should be read from line 4, but was read from line %s.", 
+							reader.getLineNumber()));
+			try {
+				reader.read();
+				throw new TestFailureException("Reading the malformed line 5 should fail.");
+			} catch (JsonLineException e) {
+				TestSubject.assertTestCondition(e.getLineNumber() == 5, 
+						String.format("The malformed line should be 5, but was reported as %s.", e.getLineNumber()));
+			}
+			TestSubject.assertTestCondition(reader.read().equals(JsonValue.parse("3")), 
+					"Reading should continue after a malformed line.");
+		} catch (IOException | JsonStandardException e) {
+			throw new TestFailureException(String.format("Reading \"%s\" failed.", testData), e);
+		}
+		// several values in a single line
+		try (Stream<JsonValue> values = new JsonLinesReader(new StringReader("1\n[2] 3\n")).stream()) {
+			values.count();
+			throw new TestFailureException("Streaming a line with two values should fail.");
+		} catch (UncheckedJsonStandardException e) {
+			TestSubject.assertTestCondition(e.getCause() instanceof JsonLineException 
+					&& ((JsonLineException) e.getCause()).getLineNumber() == 2, 
+					String.format("The line 2 should be reported as malformed, but the exception %s was thrown.", 
+							e.getCause()));
+		}
+	}
+	
+	/**
+	 * Test parsing files in parallel.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testParallelStreaming() throws TestFailureException {
+		Path testFile = null;
+		try {
+			testFile = Files.createTempFile("JsonLinesReaderTesting", ".jsonl");
+			// large enough to be split into several chunks
+			List<JsonValue> testValues = new ArrayList<JsonValue>();
+			StringBuilder testData = new StringBuilder();
+			while (testData.length() < 1 << 20) {
+				testData.append(JsonLinesReaderTesting.createLines(testValues));
+			}
+			Files.write(testFile, testData.toString().getBytes(StandardCharsets.UTF_8));
+			try (Stream<JsonValue> values = JsonLinesReader.parallelStream(testFile, StandardCharsets.UTF_8)) {
+				List<JsonValue> readValues = values.collect(Collectors.toList());
+				TestSubject.assertTestCondition(testValues.equals(readValues), 
+						String.format("The %s values read in parallel should equal the %s values in order.", 
+								readValues.size(), testValues.size()));
+			}
+			try (Stream<JsonValue> values = JsonLinesReader.parallelStream(testFile, StandardCharsets.UTF_8, false)) {
+				Map<JsonValue, Long> readCounts = values.collect(Collectors.groupingBy(Function.identity(), 
+						Collectors.counting()));
+				Map<JsonValue, Long> testCounts = testValues.stream().collect(Collectors.groupingBy(
+						Function.identity(), Collectors.counting()));
+				TestSubject.assertTestCondition(testCounts.equals(readCounts), 
+						"The values read in parallel without order should equal the written values.");
+			}
+			// malformed lines are reported with their number in the file
+			long lineNumber = testData.toString().lines().count() + 3;
+			testData.append("\n[1, 2]\n[1, 2,]\n");
+			Files.write(testFile, testData.toString().getBytes(StandardCharsets.ISO_8859_1));
+			try (Stream<JsonValue> values = JsonLinesReader.parallelStream(testFile, StandardCharsets.ISO_8859_1)) {
+				values.count();
+				throw new TestFailureException(String.format("Reading the malformed line %s should fail.", lineNumber));
+			} catch (UncheckedJsonStandardException e) {
+				TestSubject.assertTestCondition(e.getCause() instanceof JsonLineException 
+						&& ((JsonLineException) e.getCause()).getLineNumber() == lineNumber, 
+						String.format("The line %s should be reported as malformed, but the exception %s was thrown.", 
+								lineNumber, e.getCause()));
+			}
+			// the line feed needs to be a single byte
+			try (Stream<JsonValue> values = JsonLinesReader.parallelStream(testFile, StandardCharsets.UTF_16)) {
+				throw new TestFailureException("Reading UTF-16 encoded data in parallel should fail.");
+			} catch (IllegalArgumentException e) {
+				/*
+				 * Do nothing as this is the expected behaviour.
+				 */
+			}
+		} catch (IOException e) {
+			throw new TestFailureException("Reading the JSON lines in parallel failed.", e);
+		} finally {
+			if (testFile != null) {
+				try {
+					Files.deleteIfExists(testFile);
+				} catch (IOException e) {
+					throw new TestFailureException(String.format("Deleting the test file %s failed.", testFile), e);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Helper function to create JSON lines of random values.
+	 * 
+	 * @param values - the list to add the created values to
+	 * @return the JSON lines holding the values
+	 */
+	private static String createLines(List<JsonValue> values) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = JsonLinesReaderTesting.RANDOM.nextInt(20); i >= 0; i--) {
+			JsonValue value = JsonValueTesting.generateRandomValue();
+			values.add(value);
+			sb.append(value.toJson()).append(JsonLinesReaderTesting.RANDOM.nextBoolean() ? "\n" : "\r\n");
+			if (JsonLinesReaderTesting.RANDOM.nextInt(5) == 0) {
+				sb.append(" \t\n"); // blank lines are skipped
+			}
+		}
+		return sb.toString();
+	}
+	
+}
@@ -0,0 +1,236 @@
+package hockey.mask.test.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.parser.JsonFeedTokenizer;
+import hockey.mask.json.parser.JsonParseException;
+import hockey.mask.json.parser.JsonToken;
+import hockey.mask.json.values.JsonValue;
+import hockey.mask.json.values.JsonValueBuilder;
+import hockey.mask.test.values.JsonValueTesting;
+import koro.sensei.tester.TestFailureException;
+import koro.sensei.tester.TestSubject;
+
+/**
+ * The JsonFeedTokenizerTesting class tests the JsonFeedTokenizer class for correct functionality.
+ * 
+ * @author Planters
+ * 
+ */
+public class JsonFeedTokenizerTesting implements TestSubject {
+	
+	private static final Random RANDOM = new Random();
+	
+	@Override
+	public void runAllTests() throws TestFailureException {
+		JsonFeedTokenizerTesting.testTokens();
+		JsonFeedTokenizerTesting.testRandomValues();
+		JsonFeedTokenizerTesting.testInvalidData();
+		JsonFeedTokenizerTesting.testEndOfInput();
+	}
+	
+	/**
+	 * Test reading tokens from data fed byte by byte.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testTokens() throws TestFailureException {
+		String testString = " {\"a\u20AC\" : [10, -2.5e+3, \"x\\u0041\\n\", true], \"b\": {}, \"c\": null} 42 \"\uD83D\uDE00\"";
+		String expectedTokens = "START_OBJECT:{ FIELD_NAME:a\u20AC START_ARRAY:[ VALUE_NUMBER:10 VALUE_NUMBER:-2.5e+3 "
+				+ "VALUE_STRING:xA\n VALUE_TRUE:true END_ARRAY:] FIELD_NAME:b START_OBJECT:{ END_OBJECT:} FIELD_NAME:c "
+				+ "VALUE_NULL:null END_OBJECT:} VALUE_NUMBER:42 VALUE_STRING:\uD83D\uDE00 ";
+		byte[] testData = testString.getBytes(StandardCharsets.UTF_8);
+		try {
+			JsonFeedTokenizer tokenizer = new JsonFeedTokenizer();
+			StringBuilder readTokens = new StringBuilder();
+			int notAvailable = 0;
+			for (int i = 0; i <= testData.length; i++) {
+				if (i < testData.length) {
+					tokenizer.feed(testData, i, 1);
+				} else {
+					tokenizer.endOfInput();
+				}
+				JsonToken token = tokenizer.nextToken();
+				while (token != null && token != JsonToken.NOT_AVAILABLE) {
+					readTokens.append(token).append(':').append(tokenizer.getText()).append(' ');
+					token = tokenizer.nextToken();
+				}
+				if (token == JsonToken.NOT_AVAILABLE) {
+					notAvailable++;
+				}
+			}
+			TestSubject.assertTestCondition(expectedTokens.equals(readTokens.toString()),
+					String.format("The tokens \"%s\" fed byte by byte should be \"%s\".", readTokens, expectedTokens));
+			TestSubject.assertTestCondition(notAvailable == testData.length,
+					String.format("More data should have been requested after each of the %s bytes, but was %s times.",
+							testData.length, notAvailable));
+			TestSubject.assertTestCondition(tokenizer.nextToken() == null && tokenizer.getCurrentToken() == null,
+					"No more tokens should be read after the end of the input.");
+		} catch (JsonStandardException e) {
+			throw new TestFailureException(String.format("Reading the tokens of \"%s\" failed.", testString), e);
+		}
+	}
+	
+	/**
+	 * Test building random values from data fed in random chunks.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testRandomValues() throws TestFailureException {
+		for (int i = 0; i < 300; i++) {
+			List<JsonValue> testValues = new ArrayList<JsonValue>();
+			StringBuilder testString = new StringBuilder();
+			for (int j = JsonFeedTokenizerTesting.RANDOM.nextInt(10); j >= 0; j--) {
+				JsonValue testValue = JsonValueTesting.generateRandomValue();
+				testValues.add(testValue);
+				testString.append(testValue.toJson()).append(" \n");
+			}
+			byte[] testData = testString.toString().getBytes(StandardCharsets.UTF_8);
+			ByteBuffer chunk = ByteBuffer.allocate(64);
+			try {
+				JsonFeedTokenizer tokenizer = new JsonFeedTokenizer();
+				JsonValueBuilder builder = new JsonValueBuilder();
+				List<JsonValue> readValues = new ArrayList<JsonValue>();
+				int offset = 0;
+				while (offset < testData.length) {
+					int length = Math.min(testData.length - offset, JsonFeedTokenizerTesting.RANDOM.nextInt(64) + 1);
+					chunk.clear();
+					chunk.put(testData, offset, length).flip();
+					offset += length;
+					tokenizer.feed(chunk);
+					TestSubject.assertTestCondition(!chunk.hasRemaining(), "All fed bytes should be consumed.");
+					for (JsonValue value = builder.nextValue(tokenizer); value != null; value = builder.nextValue(tokenizer)) {
+						readValues.add(value);
+					}
+				}
+				tokenizer.endOfInput();
+				for (JsonValue value = builder.nextValue(tokenizer); value != null; value = builder.nextValue(tokenizer)) {
+					readValues.add(value);
+				}
+				TestSubject.assertTestCondition(testValues.equals(readValues) && !builder.isIncomplete(),
+						String.format("The values %s read from \"%s\" should be %s.", readValues, testString, testValues));
+			} catch (JsonStandardException e) {
+				throw new TestFailureException(String.format("Reading the values of \"%s\" failed.", testString), e);
+			}
+		}
+	}
+	
+	/**
+	 * Test reading data violating the JSON standard.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testInvalidData() throws TestFailureException {
+		String[] invalidStrings = new String[] {"[1 2]", "{\"a\" 1}", "{\"a\": 1,}", "[1,]", "{1: 2}", "[01]", "[1.]",
+				"[-]", "[1e]", "[\"\\x\"]", "[\"\\u12G4\"]", "[\"abc", "[tru]", "}", "[1}", "{\"a\": 1]", "+1", "[1, 2 3]",
+				"[1,", "{\"a\"", "{\"a\":", "tru", "-", "1.", "1e+", "\"\\u12", "truefalse", "[1]2", "\"a\"\"b\"", "{}[]",
+				"1 2x", "01", "-00.5", "0 01", "[\"a\nb\"]", "\"\t\"", "{\"a\u0000\": 1}"};
+		int[] failurePositions = new int[] {3, 5, 8, 3, 1, 2, 3, 2, 3, 3, 6, 5, 1, 0, 2, 7, 0, 6,
+				3, 4, 5, 0, 1, 2, 3, 5, 4, 3, 3, 2, 3, 1, 2, 3, 3, 1, 3};
+		for (int i = 0; i < invalidStrings.length; i++) {
+			byte[] invalidData = invalidStrings[i].getBytes(StandardCharsets.UTF_8);
+			// the data is fed at once and byte by byte
+			for (int chunkSize : new int[] {invalidData.length, 1}) {
+				JsonFeedTokenizer tokenizer = new JsonFeedTokenizer();
+				try {
+					for (int j = 0; j < invalidData.length; j += chunkSize) {
+						tokenizer.feed(invalidData, j, Math.min(chunkSize, invalidData.length - j));
+						JsonToken token = tokenizer.nextToken();
+						while (token != JsonToken.NOT_AVAILABLE) { // read all available tokens
+							token = tokenizer.nextToken();
+						}
+					}
+					tokenizer.endOfInput();
+					while (tokenizer.nextToken() != null) {
+						/*
+						 * Read all tokens.
+						 */
+					}
+					throw new TestFailureException(String.format("Reading the tokens of \"%s\" in chunks of %s "
+							+ "bytes should fail.", invalidStrings[i], chunkSize));
+				} catch (JsonParseException e) {
+					TestSubject.assertTestCondition(e.getPosition() == failurePositions[i],
+							String.format("Reading the tokens of \"%s\" in chunks of %s bytes should fail at position "
+									+ "%s, but failed at %s.", invalidStrings[i], chunkSize, failurePositions[i],
+									e.getPosition()));
+				} catch (JsonStandardException e) {
+					throw new TestFailureException(String.format("Reading the tokens of \"%s\" should throw a "
+							+ "JsonParseException.", invalidStrings[i]), e);
+				}
+			}
+		}
+		// root values fed in separate chunks need to be separated as well
+		JsonFeedTokenizer tokenizer = new JsonFeedTokenizer();
+		try {
+			tokenizer.feed(ByteBuffer.wrap("true".getBytes(StandardCharsets.UTF_8)));
+			TestSubject.assertTestCondition(tokenizer.nextToken() == JsonToken.VALUE_TRUE
+					&& tokenizer.nextToken() == JsonToken.NOT_AVAILABLE,
+					"The literal true should be read from the first chunk.");
+			tokenizer.feed(ByteBuffer.wrap("false".getBytes(StandardCharsets.UTF_8)));
+			tokenizer.nextToken();
+			throw new TestFailureException("Reading the chunks \"true\" and \"false\" should fail.");
+		} catch (JsonParseException e) {
+			TestSubject.assertTestCondition(e.getPosition() == 4,
+					String.format("Reading the chunks \"true\" and \"false\" should fail at position 4, but failed "
+							+ "at %s.", e.getPosition()));
+		} catch (JsonStandardException e) {
+			throw new TestFailureException("Reading the chunks \"true\" and \"false\" should throw a "
+					+ "JsonParseException.", e);
+		}
+	}
+	
+	/**
+	 * Test the handling of the end of the input.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testEndOfInput() throws TestFailureException {
+		try {
+			// a number can only be completed at the end of the input
+			JsonFeedTokenizer tokenizer = new JsonFeedTokenizer();
+			tokenizer.feed(ByteBuffer.wrap("123".getBytes(StandardCharsets.UTF_8)));
+			TestSubject.assertTestCondition(tokenizer.nextToken() == JsonToken.NOT_AVAILABLE,
+					"The number 123 should not be complete before the end of the input.");
+			tokenizer.endOfInput();
+			TestSubject.assertTestCondition(tokenizer.nextToken() == JsonToken.VALUE_NUMBER
+					&& tokenizer.getLongValue() == 123 && tokenizer.nextToken() == null,
+					"The number 123 should be complete at the end of the input.");
+			// no more data after the end of the input
+			try {
+				tokenizer.feed(ByteBuffer.allocate(1));
+				throw new TestFailureException("Feeding data after the end of the input should fail.");
+			} catch (IllegalStateException e) {
+				/*
+				 * Do nothing as this is the expected behaviour.
+				 */
+			}
+			// empty input
+			tokenizer = new JsonFeedTokenizer();
+			TestSubject.assertTestCondition(tokenizer.nextToken() == JsonToken.NOT_AVAILABLE,
+					"A token should not be available before any data has been fed.");
+			tokenizer.endOfInput();
+			TestSubject.assertTestCondition(tokenizer.nextToken() == null,
+					"No token should be read from empty input.");
+			// an incomplete multi-byte character is replaced
+			tokenizer = new JsonFeedTokenizer();
+			tokenizer.feed(new byte[] {'"', (byte) 0xE2, (byte) 0x82}, 0, 3);
+			tokenizer.endOfInput();
+			try {
+				tokenizer.nextToken();
+				throw new TestFailureException("An unterminated string should fail.");
+			} catch (JsonParseException e) {
+				TestSubject.assertTestCondition(e.getPosition() == 2,
+						String.format("The malformed character should count as a single character, but the "
+								+ "string failed at position %s.", e.getPosition()));
+			}
+		} catch (JsonStandardException e) {
+			throw new TestFailureException("Reading the tokens failed.", e);
+		}
+	}
+
+}
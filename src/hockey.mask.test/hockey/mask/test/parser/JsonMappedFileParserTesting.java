@@ -0,0 +1,174 @@
+package hockey.mask.test.parser;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.io.JsonReader;
+import hockey.mask.json.parser.JsonMappedFileParser;
+import hockey.mask.json.parser.JsonParseException;
+import hockey.mask.json.values.JsonValue;
+import hockey.mask.test.values.JsonValueTesting;
+import koro.sensei.tester.TestFailureException;
+import koro.sensei.tester.TestSubject;
+
+/**
+ * The JsonMappedFileParserTesting class tests the JsonMappedFileParser class for correct functionality.
+ * 
+ * @author Planters
+ *
+ */
+public class JsonMappedFileParserTesting implements TestSubject {
+
+	@Override
+	public void runAllTests() throws TestFailureException {
+		JsonMappedFileParserTesting.testConstructors();
+		JsonMappedFileParserTesting.testParsing();
+		JsonMappedFileParserTesting.testMalformedFile();
+	}
+	
+	/**
+	 * Test the creation of mapped file parsers.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testConstructors() throws TestFailureException {
+		// null
+		try (JsonMappedFileParser jp = new JsonMappedFileParser(null, StandardCharsets.UTF_8)) {
+			throw new TestFailureException("Creating a parser for null should fail.");
+		} catch (NullPointerException e) {
+			/*
+			 * Do nothing as this is the expected behaviour.
+			 */
+		} catch (IOException e) {
+			throw new TestFailureException("Creating a parser for null should throw a NullPointerException.", e);
+		}
+		Path testFile = null;
+		try {
+			testFile = Files.createTempFile("JsonMappedFileParserTesting", ".json");
+			// missing files
+			Path missingFile = testFile.resolveSibling(testFile.getFileName() + ".missing");
+			try (JsonMappedFileParser jp = new JsonMappedFileParser(missingFile, null)) {
+				throw new TestFailureException(String.format("Creating a parser for the missing file %s should fail.", 
+						missingFile));
+			} catch (FileNotFoundException e) {
+				/*
+				 * Do nothing as this is the expected behaviour.
+				 */
+			}
+			// invalid window sizes
+			try (JsonMappedFileParser jp = new JsonMappedFileParser(testFile, null, 1)) {
+				throw new TestFailureException("Creating a parser with a window size of 1 should fail.");
+			} catch (IllegalArgumentException e) {
+				/*
+				 * Do nothing as this is the expected behaviour.
+				 */
+			}
+			// empty files
+			try (JsonMappedFileParser jp = new JsonMappedFileParser(testFile, StandardCharsets.UTF_8)) {
+				TestSubject.assertTestCondition(!jp.hasNext(), "The parser of an empty file should not have any data.");
+			}
+		} catch (IOException e) {
+			throw new TestFailureException("Creating the test files failed.", e);
+		} finally {
+			JsonMappedFileParserTesting.delete(testFile);
+		}
+	}
+	
+	/**
+	 * Test parsing random values from files.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testParsing() throws TestFailureException {
+		Path testFile = null;
+		try {
+			testFile = Files.createTempFile("JsonMappedFileParserTesting", ".json");
+			for (int i = 0; i < 100; i++) {
+				List<JsonValue> testValues = new ArrayList<JsonValue>();
+				StringBuilder testString = new StringBuilder("\u20AC");
+				for (int j = 0; j < 20; j++) {
+					JsonValue testValue = JsonValueTesting.generateRandomValue();
+					testValues.add(testValue);
+					testString.append(testValue.toJson()).append(",\n");
+				}
+				Files.write(testFile, testString.toString().getBytes(StandardCharsets.UTF_8));
+				try (JsonMappedFileParser jp = new JsonMappedFileParser(testFile, StandardCharsets.UTF_8, 
+						100 + i * 10)) {
+					TestSubject.assertTestCondition(jp.isNext('\u20AC', true), 
+							"The multi-byte character at the start of the file should be decoded.");
+					List<JsonValue> parsedValues = new ArrayList<JsonValue>();
+					for (int j = 0; j < testValues.size(); j++) {
+						parsedValues.add(JsonValue.parseNext(jp));
+						jp.isNext(',', true);
+						jp.skipWhitespace();
+					}
+					TestSubject.assertTestCondition(testValues.equals(parsedValues) && !jp.hasNext(), 
+							String.format("The values %s parsed from the file should be %s.", parsedValues, testValues));
+				}
+			}
+		} catch (IOException | JsonStandardException e) {
+			throw new TestFailureException("Parsing the test file failed.", e);
+		} finally {
+			JsonMappedFileParserTesting.delete(testFile);
+		}
+	}
+	
+	/**
+	 * Test reading a malformed file, which is larger than the window of the parser, through a 
+	 * JSON reader. The failure has to be reported by a parse exception.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testMalformedFile() throws TestFailureException {
+		Path testFile = null;
+		try {
+			testFile = Files.createTempFile("JsonMappedFileParserTesting", ".json");
+			StringBuilder testString = new StringBuilder("[");
+			for (int i = 0; i < 100000; i++) {
+				testString.append("\"\u20AC\", ");
+			}
+			int failurePosition = testString.length();
+			testString.append("x]");
+			Files.write(testFile, testString.toString().getBytes(StandardCharsets.UTF_8));
+			try (JsonReader reader = new JsonReader(testFile, StandardCharsets.UTF_8)) {
+				reader.read();
+				throw new TestFailureException(String.format("Reading the malformed file %s should fail.", 
+						testFile));
+			} catch (JsonParseException e) {
+				TestSubject.assertTestCondition(e.getPosition() == failurePosition, 
+						String.format("The violation should be reported at position %s, but was reported at %s.", 
+								failurePosition, e.getPosition()));
+				TestSubject.assertTestCondition(e.getMessage().contains("x]"), 
+						String.format("The message \"%s\" should contain the data at the violation.", 
+								e.getMessage()));
+			}
+		} catch (IOException | JsonStandardException e) {
+			throw new TestFailureException("Reading the malformed test file should throw a JsonParseException.", e);
+		} finally {
+			JsonMappedFileParserTesting.delete(testFile);
+		}
+	}
+	
+	/**
+	 * Helper function to delete a temporary file.
+	 * 
+	 * @param file - the file to delete or null
+	 * @throws TestFailureException if the file could not be deleted
+	 */
+	private static void delete(Path file) throws TestFailureException {
+		if (file != null) {
+			try {
+				Files.deleteIfExists(file);
+			} catch (IOException e) {
+				throw new TestFailureException(String.format("Deleting the test file %s failed.", file), e);
+			}
+		}
+	}
+	
+}
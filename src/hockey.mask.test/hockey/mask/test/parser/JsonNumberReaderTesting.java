@@ -0,0 +1,150 @@
+package hockey.mask.test.parser;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Random;
+
+import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.parser.JsonNumberReader;
+import hockey.mask.json.parser.JsonParseException;
+import hockey.mask.json.parser.JsonStringParser;
+import koro.sensei.tester.TestFailureException;
+import koro.sensei.tester.TestSubject;
+
+/**
+ * The JsonNumberReaderTesting class tests the JsonNumberReader class for correct functionality.
+ * 
+ * @author Planters
+ * 
+ */
+public class JsonNumberReaderTesting implements TestSubject {
+	
+	private static final Random RANDOM = new Random();
+	
+	@Override
+	public void runAllTests() throws TestFailureException {
+		JsonNumberReaderTesting.testKnownNumbers();
+		JsonNumberReaderTesting.testInvalidNumbers();
+		JsonNumberReaderTesting.testRandomNumbers();
+	}
+	
+	/**
+	 * Test reading known numbers, which include the edge cases of the double conversion.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testKnownNumbers() throws TestFailureException {
+		String[] numbers = new String[] {"0", "-0", "-0.0", "1.50", "1E5", "1.5e+3", "2.5E-3", "9007199254740993",
+				"9223372036854775807", "-9223372036854775808", "123456789012345678901234567890", "1e23", "8.41e21",
+				"2.2250738585072014e-308", "2.2250738585072011e-308", "4.9e-324", "1.7976931348623157e308", "1e309",
+				"1e-400", "0.1", "0.30000000000000004", "7.2057594037927933e16", "1.00000000000000011102230246251565404236316680908203125",
+				"0.000000000000000000000000000000000000000000001e45", "1e2147483647"};
+		for (String number : numbers) {
+			JsonNumberReaderTesting.assertNumber(number);
+		}
+	}
+	
+	/**
+	 * Test reading invalid numbers.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testInvalidNumbers() throws TestFailureException {
+		String[] invalidNumbers = new String[] {"", "-", "+1", ".5", "-.5", "1.", "1.e5", "1e", "1e+", "-e5", "a"};
+		for (String invalidNumber : invalidNumbers) {
+			try {
+				new JsonNumberReader().read(new JsonStringParser(invalidNumber + " "));
+				throw new TestFailureException(String.format("Reading \"%s\" should fail.", invalidNumber));
+			} catch (JsonParseException e) {
+				/*
+				 * Do nothing as this is the expected behaviour.
+				 */
+			} catch (JsonStandardException e) {
+				throw new TestFailureException(String.format("Reading \"%s\" should throw a JsonParseException.",
+						invalidNumber), e);
+			}
+		}
+		// numbers end at the first character, which does not belong to them
+		String[][] truncatedNumbers = new String[][] {{"01", "0"}, {"1 2", "1"}, {"-1.5e3.2", "-1.5e3"}, {"12]", "12"}};
+		for (String[] truncatedNumber : truncatedNumbers) {
+			try {
+				JsonStringParser jp = new JsonStringParser(truncatedNumber[0]);
+				JsonNumberReader reader = new JsonNumberReader();
+				reader.read(jp);
+				TestSubject.assertTestCondition(jp.getPosition() == truncatedNumber[1].length(),
+						String.format("Reading \"%s\" should end behind \"%s\", but ended at %s.", truncatedNumber[0],
+								truncatedNumber[1], jp.getPosition()));
+			} catch (JsonStandardException e) {
+				throw new TestFailureException(String.format("Reading \"%s\" failed.", truncatedNumber[0]), e);
+			}
+		}
+	}
+	
+	/**
+	 * Test reading random numbers.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testRandomNumbers() throws TestFailureException {
+		for (int i = 0; i < 100000; i++) {
+			String number = null;
+			switch (i % 3) {
+			case 0:
+				double randomDouble = Double.longBitsToDouble(JsonNumberReaderTesting.RANDOM.nextLong());
+				number = Double.isFinite(randomDouble) ? Double.toString(randomDouble) : "0";
+				break;
+			case 1:
+				number = (JsonNumberReaderTesting.RANDOM.nextLong() >>> JsonNumberReaderTesting.RANDOM.nextInt(64)) + "e"
+						+ (JsonNumberReaderTesting.RANDOM.nextInt(700) - 350);
+				break;
+			default:
+				number = new BigDecimal(JsonNumberReaderTesting.RANDOM.nextDouble()
+						* Math.pow(10, JsonNumberReaderTesting.RANDOM.nextInt(40) - 20))
+						.round(new MathContext(JsonNumberReaderTesting.RANDOM.nextInt(25) + 1)).toString();
+			}
+			JsonNumberReaderTesting.assertNumber(number);
+		}
+	}
+	
+	/**
+	 * Assert that the specified number is read as the same BigDecimal and double as the ones
+	 * parsed from its text.
+	 * 
+	 * @param number - the text of the number
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void assertNumber(String number) throws TestFailureException {
+		try {
+			JsonStringParser jp = new JsonStringParser(number);
+			JsonNumberReader reader = new JsonNumberReader();
+			reader.read(jp);
+			TestSubject.assertTestCondition(!jp.hasNext(), String.format("The number %s should be read completely.",
+					number));
+			double expectedDouble = Double.parseDouble(number);
+			double readDouble = reader.toDouble();
+			TestSubject.assertTestCondition(Double.doubleToLongBits(expectedDouble) == Double.doubleToLongBits(readDouble),
+					String.format("The number %s should be read as double %s, but was read as %s.", number,
+							expectedDouble, readDouble));
+			BigDecimal expectedDecimal = null;
+			try {
+				expectedDecimal = new BigDecimal(number);
+			} catch (NumberFormatException e) {
+				/*
+				 * Do nothing as the exponent is out of range for both.
+				 */
+			}
+			try {
+				BigDecimal readDecimal = reader.toBigDecimal();
+				TestSubject.assertTestCondition(readDecimal.equals(expectedDecimal),
+						String.format("The number %s should be read as BigDecimal %s, but was read as %s.", number,
+								expectedDecimal, readDecimal));
+			} catch (NumberFormatException e) {
+				TestSubject.assertTestCondition(expectedDecimal == null,
+						String.format("The number %s should be read as BigDecimal %s.", number, expectedDecimal));
+			}
+		} catch (JsonStandardException e) {
+			throw new TestFailureException(String.format("Reading the number %s failed.", number), e);
+		}
+	}
+	
+}
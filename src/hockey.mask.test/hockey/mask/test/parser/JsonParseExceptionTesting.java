@@ -0,0 +1,145 @@
+package hockey.mask.test.parser;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.parser.JsonParseException;
+import hockey.mask.json.parser.JsonStreamParser;
+import hockey.mask.json.parser.JsonStringParser;
+import hockey.mask.json.values.JsonValue;
+import koro.sensei.tester.TestFailureException;
+import koro.sensei.tester.TestSubject;
+
+/**
+ * The JsonParseExceptionTesting class tests the JsonParseException class for correct functionality.
+ * 
+ * @author Planters
+ *
+ */
+public class JsonParseExceptionTesting implements TestSubject {
+
+	@Override
+	public void runAllTests() throws TestFailureException {
+		JsonParseExceptionTesting.testPosition();
+		JsonParseExceptionTesting.testMessage();
+		JsonParseExceptionTesting.testDetachedMessage();
+	}
+	
+	/**
+	 * Test the position recorded by exceptions thrown while parsing.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testPosition() throws TestFailureException {
+		String[][] invalidValues = new String[][] {
+			// the invalid JSON value and the position of the violation
+			{"[1, 2 true]", "6"},
+			{"{\"a\": true, \"b\" null}", "16"},
+			{"  [\"a\", {\"b\": [nul]}]", "15"},
+			{"\"unterminated", "13"},
+			{"[1, -]", "5"},
+			{"[1.]", "3"},
+			{"[1e+]", "4"},
+			{"[1] 2", "4"},
+		};
+		for (String[] invalidValue : invalidValues) {
+			try {
+				JsonStringParser jp = new JsonStringParser(invalidValue[0]);
+				try {
+					JsonValue.parseNext(jp);
+					jp.skipWhitespace();
+					if (jp.hasNext()) {
+						throw new JsonParseException(jp, jp.getPosition(), "the end of the data");
+					}
+					throw new TestFailureException(String.format("Parsing of the string \"%s\" as JSON "
+							+ "value should fail.", invalidValue[0]));
+				} catch (JsonParseException e) {
+					int expectedPosition = Integer.parseInt(invalidValue[1]);
+					TestSubject.assertTestCondition(e.getPosition() == expectedPosition, 
+							String.format("The violation in the string \"%s\" should be reported at position "
+									+ "%s, but was reported at %s.", invalidValue[0], expectedPosition, e.getPosition()));
+				} catch (JsonStandardException e) {
+					throw new TestFailureException(String.format("Parsing of the string \"%s\" should throw "
+							+ "a JsonParseException.", invalidValue[0]), e);
+				}
+			} catch (JsonStandardException e) {
+				throw new TestFailureException("Creating the JSON parser failed.", e);
+			}
+		}
+	}
+	
+	/**
+	 * Test the lazily built message containing line, column and an excerpt of the data.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testMessage() throws TestFailureException {
+		// test line and column
+		String multiLineValue = "{\n\t\"a\": 1,\n\t\"b\": tru\n}";
+		try {
+			JsonValue.parse(multiLineValue);
+			throw new TestFailureException(String.format("Parsing of the string \"%s\" as JSON "
+					+ "value should fail.", multiLineValue));
+		} catch (JsonParseException e) {
+			TestSubject.assertTestCondition(e.getMessage().contains("line 3, column 7"), 
+					String.format("The message \"%s\" should report line 3, column 7.", e.getMessage()));
+		} catch (JsonStandardException e) {
+			throw new TestFailureException(String.format("Parsing of the string \"%s\" should throw "
+					+ "a JsonParseException.", multiLineValue), e);
+		}
+		// test that the excerpt is bounded for large data
+		StringBuilder largeValue = new StringBuilder("[");
+		for (int i = 0; i < 1000; i++) {
+			largeValue.append(i).append(", ");
+		}
+		largeValue.append("x]");
+		try {
+			JsonValue.parse(largeValue.toString());
+			throw new TestFailureException("Parsing of a large invalid JSON array should fail.");
+		} catch (JsonParseException e) {
+			TestSubject.assertTestCondition(e.getPosition() == largeValue.length() - 2, 
+					String.format("The violation should be reported at position %s, but was reported "
+							+ "at %s.", largeValue.length() - 2, e.getPosition()));
+			TestSubject.assertTestCondition(e.getMessage().length() < 4 * JsonParseException.EXCERPT_RADIUS 
+					+ e.getExpected().length() + 100, 
+					String.format("The message \"%s\" should only contain an excerpt of the data.", e.getMessage()));
+			TestSubject.assertTestCondition(e.getMessage().contains("x]"), 
+					String.format("The message \"%s\" should contain the data at the violation.", e.getMessage()));
+		} catch (JsonStandardException e) {
+			throw new TestFailureException("Parsing of a large invalid JSON array should throw "
+					+ "a JsonParseException.", e);
+		}
+	}
+	
+	/**
+	 * Test that the message is built from the data recorded on creation, so it is available 
+	 * after the underlying stream has been closed.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testDetachedMessage() throws TestFailureException {
+		String multiLineValue = "{\n\t\"a\": 1,\n\t\"b\": tru\n}";
+		JsonParseException exception = null;
+		try (JsonStreamParser jp = new JsonStreamParser(new StringReader(multiLineValue))) {
+			JsonValue.parseNext(jp);
+			throw new TestFailureException(String.format("Parsing of the string \"%s\" as JSON "
+					+ "value should fail.", multiLineValue));
+		} catch (JsonParseException e) {
+			exception = e;
+		} catch (JsonStandardException | IOException e) {
+			throw new TestFailureException(String.format("Parsing of the string \"%s\" should throw "
+					+ "a JsonParseException.", multiLineValue), e);
+		}
+		TestSubject.assertTestCondition(exception.getLine() == 3 && exception.getColumn() == 7
+				&& exception.getExcerpt().contains("tru"), 
+				String.format("The exception should record line 3, column 7 and the excerpt, but recorded "
+						+ "line %s, column %s and \"%s\".", exception.getLine(), exception.getColumn(), 
+						exception.getExcerpt()));
+		TestSubject.assertTestCondition(exception.getMessage().contains("line 3, column 7") 
+				&& exception.getMessage().contains("tru"), 
+				String.format("The message \"%s\" of the closed stream should report line 3, column 7.", 
+						exception.getMessage()));
+	}
+	
+}
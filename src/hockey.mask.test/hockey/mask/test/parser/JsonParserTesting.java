@@ -1,5 +1,16 @@
 package hockey.mask.test.parser;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.parser.JsonParseException;
+import hockey.mask.json.parser.JsonParser;
+import hockey.mask.json.parser.JsonStaticStreamParser;
+import hockey.mask.json.parser.JsonStreamParser;
+import hockey.mask.json.parser.JsonStringParser;
+import hockey.mask.json.parser.JsonUtf8Parser;
+import hockey.mask.test.values.JsonValueTesting;
 import koro.sensei.tester.TestFailureException;
 import koro.sensei.tester.TestSubject;
 
@@ -14,8 +25,109 @@ public class JsonParserTesting implements TestSubject {
 	@Override
 	public void runAllTests() throws TestFailureException {
 		/*
-		 * Currently no tests as JsonParser is an abstract class.
+		 * As JsonParser is an abstract class, only the functions shared by all parsers are 
+		 * tested with each of them.
 		 */
+		JsonParserTesting.testSkipValue();
+		JsonParserTesting.testSkipLargeValue();
+	}
+	
+	/**
+	 * Test skipping values with all parsers.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testSkipValue() throws TestFailureException {
+		for (int i = 0; i < 1000; i++) {
+			String skippedValue = JsonValueTesting.generateRandomValue().toJson();
+			String testString = " \n" + skippedValue + " ,\"next\"";
+			try {
+				for (JsonParser jp : JsonParserTesting.createParsers(testString)) {
+					jp.skipValue();
+					TestSubject.assertTestCondition(jp.isNext(" ,\"next\""), 
+							String.format("The JSON parser %s should be positioned behind the value %s.", 
+									jp, skippedValue));
+				}
+			} catch (JsonStandardException e) {
+				throw new TestFailureException(String.format("Skipping the value of \"%s\" failed.", 
+						testString), e);
+			}
+		}
+		String[] invalidStrings = new String[] {"[1, 2", "{\"a\": [1}", "\"abc\\\"", "]", " , 1", "  "};
+		int[] failurePositions = new int[] {5, 8, 6, 0, 1, 2};
+		for (int i = 0; i < invalidStrings.length; i++) {
+			try {
+				for (JsonParser jp : JsonParserTesting.createParsers(invalidStrings[i])) {
+					try {
+						jp.skipValue();
+						throw new TestFailureException(String.format("Skipping the value of \"%s\" should fail.", 
+								invalidStrings[i]));
+					} catch (JsonParseException e) {
+						TestSubject.assertTestCondition(e.getPosition() == failurePositions[i] && jp.getPosition() == 0, 
+								String.format("Skipping the value of the JSON parser %s should fail at position %s "
+										+ "without moving the parser, but failed at %s.", jp, failurePositions[i], 
+										e.getPosition()));
+					}
+				}
+			} catch (JsonStandardException e) {
+				throw new TestFailureException(String.format("Skipping the value of \"%s\" should throw a "
+						+ "JsonParseException.", invalidStrings[i]), e);
+			}
+		}
+	}
+	
+	/**
+	 * Test skipping values, which are larger than the window of the stream parser, with all
+	 * parsers.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testSkipLargeValue() throws TestFailureException {
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < 100000; i++) {
+			sb.append("1,");
+		}
+		String testString = sb + "1] ,\"next\"";
+		try {
+			for (JsonParser jp : JsonParserTesting.createParsers(testString)) {
+				jp.skipValue();
+				TestSubject.assertTestCondition(jp.isNext(" ,\"next\""), 
+						String.format("The JSON parser %s should be positioned behind the large value.", jp));
+			}
+		} catch (JsonStandardException e) {
+			throw new TestFailureException("Skipping the large value failed.", e);
+		}
+		String malformedString = sb + "{";
+		try {
+			for (JsonParser jp : JsonParserTesting.createParsers(malformedString)) {
+				try {
+					jp.skipValue();
+					throw new TestFailureException(String.format("Skipping the large value of the JSON parser %s "
+							+ "should fail.", jp));
+				} catch (JsonParseException e) {
+					TestSubject.assertTestCondition(e.getPosition() == malformedString.length(), 
+							String.format("Skipping the large value of the JSON parser %s should fail at position "
+									+ "%s, but failed at %s.", jp, malformedString.length(), e.getPosition()));
+				}
+			}
+		} catch (JsonStandardException e) {
+			throw new TestFailureException("Skipping the large value should throw a JsonParseException.", e);
+		}
+	}
+	
+	/**
+	 * Create a parser of each kind for the specified ASCII string.
+	 * 
+	 * @param data - the data to parse
+	 * @return the parsers of the data
+	 * @throws JsonStandardException if the data is empty
+	 */
+	private static JsonParser[] createParsers(String data) throws JsonStandardException {
+		byte[] encodedData = data.getBytes(StandardCharsets.UTF_8);
+		return new JsonParser[] {new JsonStringParser(data), 
+				new JsonStaticStreamParser(new ByteArrayInputStream(encodedData), StandardCharsets.UTF_8), 
+				new JsonStreamParser(new ByteArrayInputStream(encodedData), StandardCharsets.UTF_8, 64), 
+				new JsonUtf8Parser(encodedData)};
 	}
 	
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+package hockey.mask.test.parser;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import hockey.mask.json.parser.JsonScanner;
+import koro.sensei.tester.TestFailureException;
+import koro.sensei.tester.TestSubject;
+
+/**
+ * The JsonScannerTesting class tests the JsonScanner class and the shared scanner provided by
+ * modules for correct functionality.
+ *
+ * @author Planters
+ *
+ */
+public class JsonScannerTesting implements TestSubject {
+
+	private static final Random RANDOM = new Random();
+	private static final byte[] CHARACTERS = " \t\n\r\"\\{}[]:,aZ09\u00e4".getBytes(StandardCharsets.UTF_8);
+
+	@Override
+	public void runAllTests() throws TestFailureException {
+		JsonScannerTesting.testKnownData();
+		JsonScannerTesting.testRandomData();
+	}
+
+	/**
+	 * Test the scanners with known data.
+	 *
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testKnownData() throws TestFailureException {
+		for (JsonScanner scanner : new JsonScanner[] {JsonScanner.getScalarInstance(), JsonScanner.getInstance()}) {
+			String text = " \t\r\n  {\"key\": \"val\\\"ue\u00e4\"}                                                ";
+			byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+			char[] characters = text.toCharArray();
+			TestSubject.assertTestCondition(scanner.skipWhitespace(bytes, 0, bytes.length) == 6,
+					String.format("The scanner %s should skip 6 whitespace bytes.", scanner));
+			TestSubject.assertTestCondition(scanner.skipWhitespace(characters, 0, characters.length) == 6,
+					String.format("The scanner %s should skip 6 whitespace characters.", scanner));
+			TestSubject.assertTestCondition(scanner.skipWhitespace(bytes, 30, bytes.length) == bytes.length,
+					String.format("The scanner %s should skip the trailing whitespace.", scanner));
+			TestSubject.assertTestCondition(scanner.indexOf(bytes, 16, bytes.length, (byte) '"', (byte) '\\') == 18,
+					String.format("The scanner %s should find the backslash at 18.", scanner));
+			TestSubject.assertTestCondition(scanner.indexOf(characters, 16, characters.length, '"', '\\') == 18,
+					String.format("The scanner %s should find the backslash at 18.", scanner));
+			TestSubject.assertTestCondition(scanner.indexOf(bytes, 26, bytes.length, (byte) '"', (byte) '\\') == -1,
+					String.format("The scanner %s should not find a quote after 26.", scanner));
+			TestSubject.assertTestCondition(scanner.skipAscii(bytes, 0, bytes.length) == 22,
+					String.format("The scanner %s should find the first non-ASCII byte at 22.", scanner));
+			long[] masks = new long[JsonScanner.MASKS];
+			scanner.classify(bytes, 0, masks);
+			long quotes = 1L << 7 | 1L << 11 | 1L << 14 | 1L << 19 | 1L << 24;
+			TestSubject.assertTestCondition(masks[JsonScanner.QUOTES] == quotes,
+					String.format("The scanner %s classified the quotes as %s.", scanner,
+							Long.toBinaryString(masks[JsonScanner.QUOTES])));
+			try {
+				scanner.classify(bytes, bytes.length - JsonScanner.BLOCK_SIZE + 1, masks);
+				throw new TestFailureException(String.format("The scanner %s should not classify a block "
+						+ "outside of the array.", scanner));
+			} catch (IndexOutOfBoundsException e) {
+				/*
+				 * Do nothing as this is the expected behaviour.
+				 */
+			}
+		}
+	}
+
+	/**
+	 * Test whether the shared scanner returns the same results as the scalar scanner for
+	 * random data.
+	 *
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testRandomData() throws TestFailureException {
+		JsonScanner scalar = JsonScanner.getScalarInstance();
+		JsonScanner shared = JsonScanner.getInstance();
+		long[] scalarMasks = new long[JsonScanner.MASKS];
+		long[] sharedMasks = new long[JsonScanner.MASKS];
+		for (int i = 0; i < 1000; i++) {
+			byte[] data = new byte[JsonScannerTesting.RANDOM.nextInt(300) + JsonScanner.BLOCK_SIZE];
+			// mostly whitespace, so the runs span multiple vectors
+			for (int j = 0; j < data.length; j++) {
+				data[j] = JsonScannerTesting.RANDOM.nextInt(8) == 0
+						? JsonScannerTesting.CHARACTERS[JsonScannerTesting.RANDOM.nextInt(JsonScannerTesting.CHARACTERS.length)]
+						: (byte) ' ';
+			}
+			char[] characters = new String(data, StandardCharsets.ISO_8859_1).toCharArray();
+			int from = JsonScannerTesting.RANDOM.nextInt(data.length);
+			int to = from + JsonScannerTesting.RANDOM.nextInt(data.length - from + 1);
+			String description = String.format("from %s to %s of %s", from, to, Arrays.toString(data));
+			TestSubject.assertTestCondition(scalar.skipWhitespace(data, from, to) == shared.skipWhitespace(data, from, to),
+					String.format("The scanners skipped different whitespace %s.", description));
+			TestSubject.assertTestCondition(scalar.skipWhitespace(characters, from, to)
+					== shared.skipWhitespace(characters, from, to),
+					String.format("The scanners skipped different whitespace characters %s.", description));
+			TestSubject.assertTestCondition(scalar.indexOf(data, from, to, (byte) '"', (byte) '\\')
+					== shared.indexOf(data, from, to, (byte) '"', (byte) '\\'),
+					String.format("The scanners found different quotes %s.", description));
+			TestSubject.assertTestCondition(scalar.skipAscii(data, from, to) == shared.skipAscii(data, from, to),
+					String.format("The scanners skipped different ASCII bytes %s.", description));
+			int offset = JsonScannerTesting.RANDOM.nextInt(data.length - JsonScanner.BLOCK_SIZE + 1);
+			scalar.classify(data, offset, scalarMasks);
+			shared.classify(data, offset, sharedMasks);
+			TestSubject.assertTestCondition(Arrays.equals(scalarMasks, sharedMasks),
+					String.format("The scanners classified the block at %s of %s differently.", offset,
+							Arrays.toString(data)));
+		}
+	}
+
+}
@@ -32,6 +32,7 @@ public class JsonStaticStreamParserTesting implements TestSubject {
 		JsonStaticStreamParserTesting.testSkipWhitespace();
 		JsonStaticStreamParserTesting.testIsNextDigit();
 		JsonStaticStreamParserTesting.testToStringParser();
+		JsonStaticStreamParserTesting.testPrimitives();
 	}
 	
 	/**
@@ -579,6 +580,88 @@ public class JsonStaticStreamParserTesting implements TestSubject {
 		}
 	}
 	
+	/**
+	 * Test peeking, region matching, searching and skipping.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testPrimitives() throws TestFailureException {
+		for (int i = 0; i < 3000; i++) {
+			InputStream is = JsonStaticStreamParserTesting.RANDOM.nextBoolean() 
+					? JsonStaticStreamParserTesting.createRandomDigitSequence() 
+					: JsonStaticStreamParserTesting.createRandomStream();
+			try (JsonStaticStreamParser jp = new JsonStaticStreamParser(is)) {
+				String testString = jp.getData();
+				int position = JsonStaticStreamParserTesting.RANDOM.nextInt(testString.length() + 1);
+				jp.setPosition(position);
+				// peeking
+				int expectedNext = position < testString.length() ? testString.charAt(position) : -1;
+				TestSubject.assertTestCondition(jp.peek() == expectedNext && jp.peek(0) == expectedNext, 
+						String.format("Peeking at the JSON parser %s should return %s, but returns %s.", 
+								jp, expectedNext, jp.peek()));
+				int offset = JsonStaticStreamParserTesting.RANDOM.nextInt(testString.length() * 2 + 1) - testString.length();
+				int expectedPeek = position + offset >= 0 && position + offset < testString.length() 
+						? testString.charAt(position + offset) : -1;
+				TestSubject.assertTestCondition(jp.peek(offset) == expectedPeek, 
+						String.format("Peeking at offset %s of the JSON parser %s should return %s, but "
+								+ "returns %s.", offset, jp, expectedPeek, jp.peek(offset)));
+				// region matching
+				int begin = JsonStaticStreamParserTesting.RANDOM.nextInt(testString.length() + 1);
+				String region = testString.substring(begin, 
+						begin + JsonStaticStreamParserTesting.RANDOM.nextInt(testString.length() - begin + 1));
+				TestSubject.assertTestCondition(jp.regionMatches(begin, region), 
+						String.format("The JSON parser %s should match \"%s\" at position %s.", 
+								jp, region, begin));
+				TestSubject.assertTestCondition(jp.regionMatches(begin, region + "\u0000\u0000") 
+						== testString.startsWith(region + "\u0000\u0000", begin), 
+						String.format("The JSON parser %s should match \"%s\" at position %s exactly if the test string starts with it there.", 
+								jp, region + "\u0000\u0000", begin));
+				// searching
+				char query = testString.charAt(JsonStaticStreamParserTesting.RANDOM.nextInt(testString.length()));
+				int expectedIndex = testString.indexOf(query, position);
+				TestSubject.assertTestCondition(jp.indexOf(query) == expectedIndex, 
+						String.format("The next position of %s in the JSON parser %s should be %s, but is %s.", 
+								query, jp, expectedIndex, jp.indexOf(query)));
+				TestSubject.assertTestCondition(jp.getPosition() == position, 
+						String.format("The position of the JSON parser %s should not be modified by peeking, "
+								+ "matching or searching, but is %s instead of %s.", jp, jp.getPosition(), position));
+				// skipping
+				int expectedDigits = 0;
+				while (position + expectedDigits < testString.length() 
+						&& Character.isDigit(testString.charAt(position + expectedDigits))) {
+					expectedDigits++;
+				}
+				int skippedDigits = jp.skipDigits();
+				TestSubject.assertTestCondition(skippedDigits == expectedDigits 
+						&& jp.getPosition() == position + expectedDigits, 
+						String.format("The JSON parser %s should skip %s digits, but skipped %s.", 
+								jp, expectedDigits, skippedDigits));
+				jp.setPosition(position);
+				int skipLength = JsonStaticStreamParserTesting.RANDOM.nextInt(testString.length() - position + 1);
+				jp.skip(skipLength);
+				TestSubject.assertTestCondition(jp.getPosition() == position + skipLength, 
+						String.format("The JSON parser %s should be at position %s after skipping %s "
+								+ "characters.", jp, position + skipLength, skipLength));
+				try {
+					jp.skip(testString.length() - jp.getPosition() + 1);
+					throw new TestFailureException(String.format("Skipping beyond the end of the JSON "
+							+ "parser %s should fail.", jp));
+				} catch (IndexOutOfBoundsException e) {
+					/*
+					 * Do nothing as this is the expected behaviour.
+					 */
+				}
+			} catch (JsonParserInternalException | IOException e) {
+				throw new TestFailureException("Creating  or closing the JSON parsers failed.", e);
+			} catch (JsonStandardException e1) {
+				if (JsonStaticStreamParserTesting.streamLength(is) != 0) { // empty strings should throw an exception
+					throw new TestFailureException(String.format("Parsing the stream %s"
+							+ "should not fail.", is), e1);
+				}
+			}
+		}
+	}
+	
 	/**
 	 * Test conversion to a JSON string parser.
 	 * 
@@ -2,13 +2,24 @@ package hockey.mask.test.parser;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.FilterInputStream;
 import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Random;
 
+import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.parser.JsonParseException;
 import hockey.mask.json.parser.JsonParserInternalException;
 import hockey.mask.json.parser.JsonStreamParser;
+import hockey.mask.json.parser.JsonTokenizer;
+import hockey.mask.json.values.JsonArray;
+import hockey.mask.json.values.JsonValue;
+import hockey.mask.test.values.JsonValueTesting;
 import koro.sensei.tester.TestFailureException;
 import koro.sensei.tester.TestSubject;
 
@@ -34,6 +45,8 @@ public class JsonStreamParserTesting implements TestSubject {
 		JsonStreamParserTesting.testGetRemaining();
 		JsonStreamParserTesting.testSkipWhitespace();
 		JsonStreamParserTesting.testIsNextDigit();		
+		JsonStreamParserTesting.testWindow();
+		JsonStreamParserTesting.testMalformedLargeData();
 	}
 	
 	/**
@@ -76,7 +89,7 @@ public class JsonStreamParserTesting implements TestSubject {
 				throw new TestFailureException("Creating  or closing the JSON parsers failed.", e);
 			}
 			// test null
-			try (JsonStreamParser jp = new JsonStreamParser(null);) {
+			try (JsonStreamParser jp = new JsonStreamParser((InputStream) null);) {
 				throw new TestFailureException("An exception should have been thrown as "
 						+ "null is no valid input for a JSON parser.");
 			} catch (NullPointerException e) {
@@ -86,7 +99,7 @@ public class JsonStreamParserTesting implements TestSubject {
 			} catch (JsonParserInternalException | IOException e1) {
 				throw new TestFailureException("Creating or closing the JSON parsers failed.", e1);
 			}
-			try (JsonStreamParser jp = new JsonStreamParser(null, Charset.defaultCharset());) {
+			try (JsonStreamParser jp = new JsonStreamParser((InputStream) null, Charset.defaultCharset());) {
 				throw new TestFailureException("An exception should have been thrown as "
 						+ "null is no valid input for a JSON parser.");
 			} catch (NullPointerException e) {
@@ -106,6 +119,50 @@ public class JsonStreamParserTesting implements TestSubject {
 			} catch (JsonParserInternalException | IOException e1) {
 				throw new TestFailureException("Creating or closing the JSON parsers failed.", e1);
 			} 
+			// streams without mark support, readers and channels
+			String expectedData = new String(randomString, StandardCharsets.UTF_8);
+			InputStream unmarkableStream = new FilterInputStream(new ByteArrayInputStream(randomString)) {
+				
+				@Override
+				public boolean markSupported() {
+					return false;
+				}
+				
+			};
+			try (
+					JsonStreamParser streamParser = new JsonStreamParser(unmarkableStream, StandardCharsets.UTF_8);
+					JsonStreamParser readerParser = new JsonStreamParser(new StringReader(expectedData));
+					JsonStreamParser channelParser = new JsonStreamParser(Channels.newChannel(
+							new ByteArrayInputStream(randomString)), StandardCharsets.UTF_8);
+				) {
+				for (JsonStreamParser jp : new JsonStreamParser[] {streamParser, readerParser, channelParser}) {
+					TestSubject.assertTestCondition(expectedData.equals(jp.getData()), 
+							String.format("The JSON parser %s should hold the data %s, but holds %s instead.",	
+									jp, expectedData, jp.getData()));
+				}
+			} catch (JsonParserInternalException | IOException e) {
+				throw new TestFailureException("Creating  or closing the JSON parsers failed.", e);
+			}
+			try (JsonStreamParser jp = new JsonStreamParser((Reader) null);) {
+				throw new TestFailureException("An exception should have been thrown as "
+						+ "null is no valid input for a JSON parser.");
+			} catch (NullPointerException e) {
+				/*
+				 * Do nothing as this is the expected behaviour.
+				 */
+			} catch (JsonParserInternalException | IOException e1) {
+				throw new TestFailureException("Creating or closing the JSON parsers failed.", e1);
+			}
+			try (JsonStreamParser jp = new JsonStreamParser((ReadableByteChannel) null, null);) {
+				throw new TestFailureException("An exception should have been thrown as "
+						+ "null is no valid input for a JSON parser.");
+			} catch (NullPointerException e) {
+				/*
+				 * Do nothing as this is the expected behaviour.
+				 */
+			} catch (JsonParserInternalException | IOException e1) {
+				throw new TestFailureException("Creating or closing the JSON parsers failed.", e1);
+			}
 		}
 	}
 	
@@ -474,6 +531,137 @@ public class JsonStreamParserTesting implements TestSubject {
 		}
 	}
 	
+	/**
+	 * Test parsing data, which does not fit into the window of the parser.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testWindow() throws TestFailureException {
+		for (int i = 0; i < 300; i++) {
+			int windowSize = JsonStreamParserTesting.RANDOM.nextInt(100) + JsonStreamParser.MINIMUM_WINDOW_SIZE;
+			JsonArray testArray = new JsonArray();
+			int arraySize = JsonStreamParserTesting.RANDOM.nextInt(50);
+			for (int j = 0; j < arraySize; j++) {
+				testArray.add(JsonValueTesting.generateRandomValue());
+			}
+			String testString = testArray.toJson();
+			try (JsonStreamParser jp = new JsonStreamParser(new ByteArrayInputStream(
+					testString.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, windowSize);) {
+				TestSubject.assertTestCondition(jp.getWindowSize() == windowSize, 
+						String.format("The JSON parser %s should have a window of size %s, but has %s.", 
+								jp, windowSize, jp.getWindowSize()));
+				JsonValue parsedArray = JsonValue.parseNext(jp);
+				TestSubject.assertTestCondition(testArray.equals(parsedArray), 
+						String.format("The JSON array %s parsed from a window of size %s should equal %s.", 
+								parsedArray, windowSize, testArray));
+				TestSubject.assertTestCondition(jp.getPosition() == testString.length() && !jp.hasNext(), 
+						String.format("The JSON parser %s should be at the end position %s, but is at %s.", 
+								jp, testString.length(), jp.getPosition()));
+				if (testString.length() > windowSize) {
+					// discarded characters cannot be retrieved anymore
+					try {
+						jp.rewind();
+						throw new TestFailureException(String.format("Rewinding the JSON parser %s should "
+								+ "fail as the first character has been discarded.", jp));
+					} catch (IndexOutOfBoundsException e) {
+						/*
+						 * Do nothing as this is the expected behaviour.
+						 */
+					}
+				}
+			} catch (JsonStandardException e) {
+				throw new TestFailureException(String.format("Parsing the JSON array %s from a window "
+						+ "of size %s failed.", testString, windowSize), e);
+			} catch (JsonParserInternalException | IOException e) {
+				throw new TestFailureException("Creating  or closing the JSON parsers failed.", e);
+			}
+		}
+		// test invalid window sizes
+		for (int windowSize : new int[] {Integer.MIN_VALUE, -1, 0, 1, 2, 5, JsonStreamParser.MINIMUM_WINDOW_SIZE - 1}) {
+			try (JsonStreamParser jp = new JsonStreamParser(JsonStreamParserTesting.createRandomStream(), 
+					null, windowSize);) {
+				throw new TestFailureException(String.format("Creating a JSON parser with a window of "
+						+ "size %s should fail.", windowSize));
+			} catch (IllegalArgumentException e) {
+				/*
+				 * Do nothing as this is the expected behaviour.
+				 */
+			} catch (JsonParserInternalException | IOException e) {
+				throw new TestFailureException("Creating  or closing the JSON parsers failed.", e);
+			}
+		}
+		// the smallest window holds the lookahead of all literals and escape sequences
+		String literals = "[true,false,null,\"\\u0041\",false,true,null,-0.5e-10]";
+		try (
+				JsonStreamParser jp = new JsonStreamParser(new StringReader(literals), 
+						JsonStreamParser.MINIMUM_WINDOW_SIZE);
+				JsonStreamParser tokenizedParser = new JsonStreamParser(new StringReader(literals), 
+						JsonStreamParser.MINIMUM_WINDOW_SIZE);
+			) {
+			JsonValue parsedValue = JsonValue.parseNext(jp);
+			TestSubject.assertTestCondition(parsedValue.equals(JsonValue.parse(literals)) && !jp.hasNext(), 
+					String.format("The value %s parsed from the smallest window should equal %s.", parsedValue, 
+							literals));
+			JsonTokenizer tokenizer = new JsonTokenizer(tokenizedParser);
+			int tokens = 0;
+			while (tokenizer.nextToken() != null) {
+				tokens++;
+			}
+			TestSubject.assertTestCondition(tokens == 10, 
+					String.format("Reading %s from the smallest window should return 10 tokens, but returned %s.", 
+							literals, tokens));
+		} catch (JsonStandardException e) {
+			throw new TestFailureException(String.format("Parsing %s from the smallest window failed.", literals), e);
+		} catch (IOException e) {
+			throw new TestFailureException("Creating  or closing the JSON parsers failed.", e);
+		}
+	}
+	
+	/**
+	 * Test parsing malformed data, which is larger than the window of the parser. The failure
+	 * has to be reported by a parse exception, even though the position the value started at
+	 * has already been discarded.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testMalformedLargeData() throws TestFailureException {
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < 100000; i++) {
+			sb.append("1,");
+		}
+		String[] malformedTails = new String[] {"x]", "{", "\"unterminated", "[1, 2 3]]", "1"};
+		for (String malformedTail : malformedTails) {
+			String testString = sb + malformedTail;
+			for (int windowSize : new int[] {JsonStreamParser.DEFAULT_WINDOW_SIZE, 64}) {
+				try (JsonStreamParser jp = new JsonStreamParser(new StringReader(testString), windowSize);) {
+					JsonValue.parseNext(jp);
+					throw new TestFailureException(String.format("Parsing the malformed tail \"%s\" from a "
+							+ "window of size %s should fail.", malformedTail, windowSize));
+				} catch (JsonParseException e) {
+					TestSubject.assertTestCondition(e.getPosition() >= sb.length() 
+							&& e.getPosition() <= testString.length(), 
+							String.format("The violation in the tail \"%s\" should be reported behind position "
+									+ "%s, but was reported at %s.", malformedTail, sb.length(), e.getPosition()));
+				} catch (JsonStandardException | IOException e) {
+					throw new TestFailureException(String.format("Parsing the malformed tail \"%s\" should "
+							+ "throw a JsonParseException.", malformedTail), e);
+				}
+			}
+		}
+		// the data of both parsers does not fit into their windows anymore
+		try (
+				JsonStreamParser jp = new JsonStreamParser(new StringReader(sb.toString()), 64);
+				JsonStreamParser jjp = new JsonStreamParser(new StringReader(sb.toString()), 64);
+			) {
+			jp.skip(1000);
+			jjp.skip(1000);
+			TestSubject.assertTestCondition(jp.equals(jp) && !jp.equals(jjp) && jp.hashCode() == jp.hashCode(), 
+					String.format("The JSON parser %s should only equal itself.", jp));
+		} catch (JsonParserInternalException | IOException e) {
+			throw new TestFailureException("Creating  or closing the JSON parsers failed.", e);
+		}
+	}
+	
 	/**
 	 * Create a random input stream from a random string.
 	 * 
@@ -24,6 +24,8 @@ public class JsonStringParserTesting implements TestSubject {
 		JsonStringParserTesting.testNext();
 		JsonStringParserTesting.testSkipWhitespace();
 		JsonStringParserTesting.testIsNextDigit();
+		JsonStringParserTesting.testGetSection();
+		JsonStringParserTesting.testPrimitives();
 	}
 	
 	/**
@@ -344,6 +346,134 @@ public class JsonStringParserTesting implements TestSubject {
 		}
 	}
 	
+	/**
+	 * Test getting sections and excerpts of the parsed data.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testGetSection() throws TestFailureException {
+		for (int i = 0; i < 10000; i++) {
+			String testString = JsonStringParserTesting.createRandomSequenceWithoutWhitespace();
+			if (testString.length() > 0) { // otherwise an exception will be thrown
+				try {
+					JsonStringParser jp = new JsonStringParser(testString);
+					int position = JsonStringParserTesting.RANDOM.nextInt(testString.length() + 1);
+					jp.setPosition(position);
+					int begin = JsonStringParserTesting.RANDOM.nextInt(testString.length() + 1);
+					int end = begin + JsonStringParserTesting.RANDOM.nextInt(testString.length() - begin + 1);
+					String section = jp.getSection(begin, end);
+					TestSubject.assertTestCondition(section.equals(testString.substring(begin, end)), 
+							String.format("The section from %s to %s of the JSON parser %s should be \"%s\", "
+									+ "but is \"%s\".", begin, end, jp, testString.substring(begin, end), section));
+					int radius = JsonStringParserTesting.RANDOM.nextInt(50);
+					String excerpt = jp.getExcerpt(begin, radius);
+					String expectedExcerpt = testString.substring(Math.max(0, begin - radius), 
+							Math.min(testString.length(), begin + radius));
+					TestSubject.assertTestCondition(excerpt.equals(expectedExcerpt), 
+							String.format("The excerpt with radius %s around %s of the JSON parser %s should "
+									+ "be \"%s\", but is \"%s\".", radius, begin, jp, expectedExcerpt, excerpt));
+					TestSubject.assertTestCondition(jp.getPosition() == position, 
+							String.format("The position of the JSON parser %s should not be modified by getting "
+									+ "sections, but is %s instead of %s.", jp, jp.getPosition(), position));
+					// test sections outside of the bounds
+					for (int[] invalidSection : new int[][] {{-1, end}, {begin, testString.length() + 1}, 
+						{end + 1, end}}) {
+						try {
+							jp.getSection(invalidSection[0], invalidSection[1]);
+							throw new TestFailureException(String.format("Getting the section from %s to %s "
+									+ "of the JSON parser %s should fail.", invalidSection[0], invalidSection[1], jp));
+						} catch (IndexOutOfBoundsException e) {
+							/*
+							 * Do nothing as this is the expected behaviour.
+							 */
+						}
+					}
+				} catch (JsonStandardException e) {
+					throw new TestFailureException("Creating the JSON parser failed.", e);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Test peeking, region matching, searching and skipping.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testPrimitives() throws TestFailureException {
+		for (int i = 0; i < 10000; i++) {
+			String testString = JsonStringParserTesting.RANDOM.nextBoolean() 
+					? JsonStringParserTesting.createRandomDigitSequence() + JsonStringParserTesting.createRandomSequenceWithoutDigits()
+					: JsonStringParserTesting.createRandomSequenceWithoutWhitespace();
+			if (testString.length() > 0) { // otherwise an exception will be thrown
+				try {
+					JsonStringParser jp = new JsonStringParser(testString);
+					int position = JsonStringParserTesting.RANDOM.nextInt(testString.length() + 1);
+					jp.setPosition(position);
+					// peeking
+					int expectedNext = position < testString.length() ? testString.charAt(position) : -1;
+					TestSubject.assertTestCondition(jp.peek() == expectedNext && jp.peek(0) == expectedNext, 
+							String.format("Peeking at the JSON parser %s should return %s, but returns %s.", 
+									jp, expectedNext, jp.peek()));
+					int offset = JsonStringParserTesting.RANDOM.nextInt(testString.length() * 2 + 1) - testString.length();
+					int expectedPeek = position + offset >= 0 && position + offset < testString.length() 
+							? testString.charAt(position + offset) : -1;
+					TestSubject.assertTestCondition(jp.peek(offset) == expectedPeek, 
+							String.format("Peeking at offset %s of the JSON parser %s should return %s, but "
+									+ "returns %s.", offset, jp, expectedPeek, jp.peek(offset)));
+					// region matching
+					int begin = JsonStringParserTesting.RANDOM.nextInt(testString.length() + 1);
+					String region = testString.substring(begin, 
+							begin + JsonStringParserTesting.RANDOM.nextInt(testString.length() - begin + 1));
+					TestSubject.assertTestCondition(jp.regionMatches(begin, region), 
+							String.format("The JSON parser %s should match \"%s\" at position %s.", 
+									jp, region, begin));
+					TestSubject.assertTestCondition(jp.regionMatches(begin, region + "\u0000\u0000") 
+							== testString.startsWith(region + "\u0000\u0000", begin), 
+							String.format("The JSON parser %s should match \"%s\" at position %s exactly if the test string starts with it there.", 
+									jp, region + "\u0000\u0000", begin));
+					// searching
+					char query = testString.charAt(JsonStringParserTesting.RANDOM.nextInt(testString.length()));
+					int expectedIndex = testString.indexOf(query, position);
+					TestSubject.assertTestCondition(jp.indexOf(query) == expectedIndex, 
+							String.format("The next position of %s in the JSON parser %s should be %s, but is %s.", 
+									query, jp, expectedIndex, jp.indexOf(query)));
+					TestSubject.assertTestCondition(jp.getPosition() == position, 
+							String.format("The position of the JSON parser %s should not be modified by peeking, "
+									+ "matching or searching, but is %s instead of %s.", jp, jp.getPosition(), position));
+					// skipping
+					int expectedDigits = 0;
+					while (position + expectedDigits < testString.length() 
+							&& Character.isDigit(testString.charAt(position + expectedDigits))) {
+						expectedDigits++;
+					}
+					int skippedDigits = jp.skipDigits();
+					TestSubject.assertTestCondition(skippedDigits == expectedDigits 
+							&& jp.getPosition() == position + expectedDigits, 
+							String.format("The JSON parser %s should skip %s digits, but skipped %s.", 
+									jp, expectedDigits, skippedDigits));
+					jp.setPosition(position);
+					int skipLength = JsonStringParserTesting.RANDOM.nextInt(testString.length() - position + 1);
+					jp.skip(skipLength);
+					TestSubject.assertTestCondition(jp.getPosition() == position + skipLength, 
+							String.format("The JSON parser %s should be at position %s after skipping %s "
+									+ "characters.", jp, position + skipLength, skipLength));
+					try {
+						jp.skip(testString.length() - jp.getPosition() + 1);
+						throw new TestFailureException(String.format("Skipping beyond the end of the JSON "
+								+ "parser %s should fail.", jp));
+					} catch (IndexOutOfBoundsException e) {
+						/*
+						 * Do nothing as this is the expected behaviour.
+						 */
+					}
+				} catch (JsonStandardException e) {
+					throw new TestFailureException("Creating the JSON parser failed.", e);
+				}
+			}
+		}
+	}
+	
 	/**
 	 * Helper function to create a string only containing random whitespaces.
 	 */
@@ -0,0 +1,177 @@
+package hockey.mask.test.parser;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.parser.JsonParseException;
+import hockey.mask.json.parser.JsonStructuralIndex;
+import hockey.mask.test.values.JsonValueTesting;
+import koro.sensei.tester.TestFailureException;
+import koro.sensei.tester.TestSubject;
+
+/**
+ * The JsonStructuralIndexTesting class tests the JsonStructuralIndex class for correct functionality.
+ * 
+ * @author Planters
+ * 
+ */
+public class JsonStructuralIndexTesting implements TestSubject {
+	
+	private static final Random RANDOM = new Random();
+	
+	@Override
+	public void runAllTests() throws TestFailureException {
+		JsonStructuralIndexTesting.testConstructors();
+		JsonStructuralIndexTesting.testPositions();
+		JsonStructuralIndexTesting.testRandomData();
+	}
+	
+	/**
+	 * Test the creation of structural indices.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testConstructors() throws TestFailureException {
+		try {
+			new JsonStructuralIndex(new byte[0]);
+			throw new TestFailureException("Indexing an empty array should fail.");
+		} catch (JsonStandardException e) {
+			/*
+			 * Do nothing as this is the expected behaviour.
+			 */
+		}
+		try {
+			new JsonStructuralIndex(null);
+			throw new TestFailureException("Indexing null should fail.");
+		} catch (NullPointerException e) {
+			/*
+			 * Do nothing as this is the expected behaviour.
+			 */
+		} catch (JsonStandardException e) {
+			throw new TestFailureException("Indexing null should throw a NullPointerException.", e);
+		}
+		// unterminated strings
+		String[] unterminatedStrings = new String[] {"\"abc", "[\"a\\\"]", "{\"a\": \"b\\\\\\\"}"};
+		for (String unterminatedString : unterminatedStrings) {
+			try {
+				new JsonStructuralIndex(unterminatedString.getBytes(StandardCharsets.UTF_8));
+				throw new TestFailureException(String.format("Indexing the unterminated string %s should fail.", 
+						unterminatedString));
+			} catch (JsonParseException e) {
+				TestSubject.assertTestCondition(e.getPosition() == unterminatedString.length(), 
+						String.format("Indexing \"%s\" should fail at the end of the data, but failed at %s.", 
+								unterminatedString, e.getPosition()));
+			} catch (JsonStandardException e) {
+				throw new TestFailureException(String.format("Indexing \"%s\" should throw a JsonParseException.", 
+						unterminatedString), e);
+			}
+		}
+	}
+	
+	/**
+	 * Test the positions of a known document.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testPositions() throws TestFailureException {
+		String testString = " {\"a\\\"{\": [1, -2.5, true,null], \"\u20AC\": \"\\\\\"}";
+		int[] expectedPositions = new int[] {1, 2, 7, 8, 10, 11, 12, 14, 18, 20, 24, 25, 29, 30, 32, 36, 37, 39, 42, 43};
+		try {
+			JsonStructuralIndex index = new JsonStructuralIndex(testString.getBytes(StandardCharsets.UTF_8));
+			int[] positions = new int[index.size()];
+			for (int i = 0; i < positions.length; i++) {
+				positions[i] = index.getPosition(i);
+			}
+			TestSubject.assertTestCondition(Arrays.equals(expectedPositions, positions), 
+					String.format("The structural positions of \"%s\" should be %s, but are %s.", testString, 
+							Arrays.toString(expectedPositions), Arrays.toString(positions)));
+			TestSubject.assertTestCondition(index.getCharacter(0) == '{' && index.getCharacter(5) == '1' 
+					&& index.getCharacter(11) == 'n', "The characters of the structural elements should be returned.");
+		} catch (JsonStandardException e) {
+			throw new TestFailureException(String.format("Indexing \"%s\" failed.", testString), e);
+		}
+	}
+	
+	/**
+	 * Test indexing random values and random data against a simple scan of each character.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testRandomData() throws TestFailureException {
+		char[] characters = new char[] {'"', '\\', '\\', '{', '}', '[', ']', ':', ',', ' ', '\n', 'a', '1', '\u20AC'};
+		for (int i = 0; i < 2000; i++) {
+			String testString;
+			if (i % 2 == 0) {
+				testString = JsonValueTesting.generateRandomValue().toJson();
+			} else {
+				StringBuilder sb = new StringBuilder();
+				for (int j = JsonStructuralIndexTesting.RANDOM.nextInt(300); j >= 0; j--) {
+					sb.append(characters[JsonStructuralIndexTesting.RANDOM.nextInt(characters.length)]);
+				}
+				testString = sb.toString();
+			}
+			byte[] testData = testString.getBytes(StandardCharsets.UTF_8);
+			List<Integer> expectedPositions = new ArrayList<Integer>();
+			boolean terminated = JsonStructuralIndexTesting.scan(testData, expectedPositions);
+			try {
+				JsonStructuralIndex index = new JsonStructuralIndex(testData);
+				List<Integer> positions = new ArrayList<Integer>();
+				for (int j = 0; j < index.size(); j++) {
+					positions.add(index.getPosition(j));
+				}
+				TestSubject.assertTestCondition(terminated && expectedPositions.equals(positions), 
+						String.format("The structural positions of \"%s\" should be %s, but are %s.", testString, 
+								expectedPositions, positions));
+			} catch (JsonParseException e) {
+				TestSubject.assertTestCondition(!terminated, String.format("Indexing \"%s\" should not fail.", 
+						testString));
+			} catch (JsonStandardException e) {
+				throw new TestFailureException(String.format("Indexing \"%s\" failed.", testString), e);
+			}
+		}
+	}
+	
+	/**
+	 * Helper function to find the structural positions one byte after the other. Like the
+	 * index, a backslash escapes a following quote even outside of strings, where it is invalid
+	 * anyway.
+	 * 
+	 * @param data - the data to scan
+	 * @param positions - the list to add the found positions to
+	 * @return true if all strings are terminated
+	 */
+	private static boolean scan(byte[] data, List<Integer> positions) {
+		boolean inString = false;
+		boolean inScalar = false;
+		boolean escaped = false;
+		for (int i = 0; i < data.length; i++) {
+			char c = (char) (data[i] & 0xFF);
+			boolean escapedQuote = escaped && c == '"';
+			escaped = !escaped && c == '\\';
+			if (inString) {
+				if (c == '"' && !escapedQuote) {
+					positions.add(i);
+					inString = false;
+				}
+			} else if (c == '"' && !escapedQuote) {
+				positions.add(i);
+				inString = true;
+				inScalar = false;
+			} else if ("{}[]:,".indexOf(c) >= 0) {
+				positions.add(i);
+				inScalar = false;
+			} else if (" \t\n\r".indexOf(c) >= 0) {
+				inScalar = false;
+			} else if (!inScalar) {
+				positions.add(i);
+				inScalar = true;
+			}
+		}
+		return !inString;
+	}
+	
+}
@@ -0,0 +1,228 @@
+package hockey.mask.test.parser;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.parser.JsonStringParser;
+import hockey.mask.json.parser.JsonSymbolTable;
+import hockey.mask.json.parser.JsonTokenizer;
+import hockey.mask.json.parser.JsonUtf8Parser;
+import hockey.mask.json.values.JsonObject;
+import hockey.mask.json.values.JsonString;
+import hockey.mask.json.values.JsonValueBuilder;
+import koro.sensei.tester.TestFailureException;
+import koro.sensei.tester.TestSubject;
+
+/**
+ * The JsonSymbolTableTesting class tests the JsonSymbolTable class for correct functionality.
+ * 
+ * @author Planters
+ * 
+ */
+public class JsonSymbolTableTesting implements TestSubject {
+	
+	@Override
+	public void runAllTests() throws TestFailureException {
+		JsonSymbolTableTesting.testConstructors();
+		JsonSymbolTableTesting.testCanonicalSymbols();
+		JsonSymbolTableTesting.testBoundedSymbols();
+		JsonSymbolTableTesting.testConcurrentSymbols();
+		JsonSymbolTableTesting.testParsedNames();
+	}
+	
+	/**
+	 * Test creating symbol tables.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testConstructors() throws TestFailureException {
+		int[][] capacities = new int[][] {{1, 1}, {2, 2}, {3, 4}, {1000, 1024}, {1024, 1024}};
+		for (int[] capacity : capacities) {
+			int tableCapacity = new JsonSymbolTable<String>(capacity[0], String::new).getCapacity();
+			TestSubject.assertTestCondition(tableCapacity == capacity[1],
+					String.format("The capacity %s should be rounded to %s, but was rounded to %s.", capacity[0],
+							capacity[1], tableCapacity));
+		}
+		for (int invalidCapacity : new int[] {0, -1, (1 << 30) + 1}) {
+			try {
+				new JsonSymbolTable<String>(invalidCapacity, String::new);
+				throw new TestFailureException(String.format("Creating a symbol table with the capacity %s should fail.",
+						invalidCapacity));
+			} catch (IllegalArgumentException e) {
+				/*
+				 * Do nothing as this is the expected behaviour.
+				 */
+			}
+		}
+		try {
+			new JsonSymbolTable<String>(16, null);
+			throw new TestFailureException("Creating a symbol table without factory should fail.");
+		} catch (NullPointerException e) {
+			/*
+			 * Do nothing as this is the expected behaviour.
+			 */
+		}
+	}
+	
+	/**
+	 * Test whether recurring sections are canonicalized.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testCanonicalSymbols() throws TestFailureException {
+		JsonSymbolTable<JsonString> symbols = new JsonSymbolTable<JsonString>(64, JsonString::new);
+		char[] data = "{\"timestamp\":1,\"timestamp\":2}".toCharArray();
+		JsonString first = symbols.get(data, 2, 9);
+		JsonString second = symbols.get(data, 16, 9);
+		JsonString third = symbols.get(new StringBuilder("timestamp"));
+		TestSubject.assertTestCondition(first.getValue().equals("timestamp") && first == second && first == third,
+				String.format("The symbols %s, %s and %s should be the same.", first, second, third));
+		byte[] bytes = "{\"timestamp\":1,\"caf\u00E9\":2}".getBytes(StandardCharsets.ISO_8859_1);
+		JsonString byteSymbol = symbols.get(bytes, 2, 9);
+		JsonString latinSymbol = symbols.get(bytes, 16, 4);
+		TestSubject.assertTestCondition(byteSymbol == first && latinSymbol == symbols.get("caf\u00E9"),
+				String.format("The symbols %s and %s of the bytes should equal the symbols of the characters.",
+						byteSymbol, latinSymbol));
+		JsonString empty = symbols.get(data, 0, 0);
+		TestSubject.assertTestCondition(empty.getValue().isEmpty() && empty == symbols.get(""),
+				"The empty section should have a single symbol.");
+		String longName = "a".repeat(JsonSymbolTable.MAXIMUM_SYMBOL_LENGTH + 1);
+		JsonString longSymbol = symbols.get(longName);
+		TestSubject.assertTestCondition(longSymbol.getValue().equals(longName) && longSymbol != symbols.get(longName),
+				"Sections longer than the maximum symbol length should not be stored.");
+		try {
+			symbols.get(data, 25, 10);
+			throw new TestFailureException("Getting the symbol of a section out of bounds should fail.");
+		} catch (IndexOutOfBoundsException e) {
+			/*
+			 * Do nothing as this is the expected behaviour.
+			 */
+		}
+	}
+	
+	/**
+	 * Test whether symbol tables hold no more symbols than their capacity, while still
+	 * returning the correct symbols.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testBoundedSymbols() throws TestFailureException {
+		List<String> created = new ArrayList<String>();
+		JsonSymbolTable<String> symbols = new JsonSymbolTable<String>(16, name -> {
+			created.add(name);
+			return name;
+		});
+		for (int i = 0; i < 10000; i++) {
+			String name = "name" + i;
+			TestSubject.assertTestCondition(symbols.get(name).equals(name),
+					String.format("The symbol of \"%s\" should equal the section.", name));
+		}
+		int cached = 0;
+		for (int i = 0; i < 10000; i++) {
+			int previouslyCreated = created.size();
+			symbols.get("name" + i);
+			cached += created.size() == previouslyCreated ? 1 : 0;
+		}
+		TestSubject.assertTestCondition(cached <= symbols.getCapacity(),
+				String.format("The symbol table of capacity %s should not hold %s symbols.", symbols.getCapacity(),
+						cached));
+	}
+	
+	/**
+	 * Test looking up symbols concurrently.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testConcurrentSymbols() throws TestFailureException {
+		JsonSymbolTable<JsonString> symbols = new JsonSymbolTable<JsonString>(32, JsonString::new);
+		ConcurrentLinkedQueue<String> failures = new ConcurrentLinkedQueue<String>();
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			threads[t] = new Thread(() -> {
+				for (int i = 0; i < 100000; i++) {
+					String name = "key" + (i % 100);
+					JsonString symbol = symbols.get(name.toCharArray(), 0, name.length());
+					if (!symbol.getValue().equals(name)) {
+						failures.add(name + " " + symbol);
+					}
+				}
+			});
+			threads[t].start();
+		}
+		try {
+			for (Thread thread : threads) {
+				thread.join();
+			}
+		} catch (InterruptedException e) {
+			throw new TestFailureException(e);
+		}
+		TestSubject.assertTestCondition(failures.isEmpty(),
+				String.format("Concurrent lookups returned the wrong symbols %s.", failures));
+	}
+	
+	/**
+	 * Test whether the names of parsed objects are shared across data.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testParsedNames() throws TestFailureException {
+		String testString = "{\"id\": 1, \"na\\u006De\": \"x\"}";
+		try {
+			JsonObject firstObject = JsonObject.parse(testString);
+			JsonObject secondObject = JsonObject.parse(testString);
+			JsonObject builtObject = (JsonObject) new JsonValueBuilder().nextValue(
+					new JsonTokenizer(new JsonStringParser(testString)));
+			JsonObject utf8Object = JsonObject.parseNext(new JsonUtf8Parser(testString.getBytes(StandardCharsets.UTF_8)));
+			for (JsonString name : new JsonString[] {new JsonString("id"), new JsonString("name")}) {
+				JsonString firstName = JsonSymbolTableTesting.getName(firstObject, name);
+				JsonString secondName = JsonSymbolTableTesting.getName(secondObject, name);
+				JsonString builtName = JsonSymbolTableTesting.getName(builtObject, name);
+				JsonString utf8Name = JsonSymbolTableTesting.getName(utf8Object, name);
+				TestSubject.assertTestCondition(firstName != null && firstName == secondName && firstName == builtName
+						&& firstName == utf8Name,
+						String.format("The name %s of the parsed objects %s, %s, %s and %s should be shared.", name,
+								firstObject, secondObject, builtObject, utf8Object));
+			}
+		} catch (JsonStandardException e) {
+			throw new TestFailureException(String.format("Parsing \"%s\" failed.", testString), e);
+		}
+		String utf8String = "{\"n\u00E4me\": 1, \"\uD83D\uDE00\": 2}";
+		try {
+			byte[] utf8Data = utf8String.getBytes(StandardCharsets.UTF_8);
+			JsonObject firstObject = JsonObject.parseNext(new JsonUtf8Parser(utf8Data));
+			JsonObject secondObject = JsonObject.parseNext(new JsonUtf8Parser(utf8Data));
+			TestSubject.assertTestCondition(firstObject.equals(JsonObject.parse(utf8String)),
+					String.format("The object %s parsed from UTF-8 encoded bytes should equal %s.", firstObject,
+							utf8String));
+			for (JsonString name : new JsonString[] {new JsonString("n\u00E4me"), new JsonString("\uD83D\uDE00")}) {
+				JsonString firstName = JsonSymbolTableTesting.getName(firstObject, name);
+				TestSubject.assertTestCondition(firstName != null
+						&& firstName == JsonSymbolTableTesting.getName(secondObject, name),
+						String.format("The name %s of the parsed objects %s and %s should be shared.", name,
+								firstObject, secondObject));
+			}
+		} catch (JsonStandardException e) {
+			throw new TestFailureException(String.format("Parsing \"%s\" failed.", utf8String), e);
+		}
+	}
+	
+	/**
+	 * Get the name of the specified object, which equals the specified name.
+	 * 
+	 * @param object - the object holding the name
+	 * @param name - the name to search for
+	 * @return the name held by the object or null if there is none
+	 */
+	private static JsonString getName(JsonObject object, JsonString name) {
+		for (JsonString objectName : object.getNames()) {
+			if (objectName.equals(name)) {
+				return objectName;
+			}
+		}
+		return null;
+	}
+	
+}
@@ -0,0 +1,398 @@
+package hockey.mask.test.parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.parser.JsonHandler;
+import hockey.mask.json.parser.JsonParseException;
+import hockey.mask.json.parser.JsonParser;
+import hockey.mask.json.parser.JsonStaticStreamParser;
+import hockey.mask.json.parser.JsonStreamParser;
+import hockey.mask.json.parser.JsonStringParser;
+import hockey.mask.json.parser.JsonToken;
+import hockey.mask.json.parser.JsonTokenizer;
+import hockey.mask.json.parser.JsonUtf8Parser;
+import hockey.mask.json.values.JsonArray;
+import hockey.mask.json.values.JsonBoolean;
+import hockey.mask.json.values.JsonNull;
+import hockey.mask.json.values.JsonNumber;
+import hockey.mask.json.values.JsonObject;
+import hockey.mask.json.values.JsonString;
+import hockey.mask.json.values.JsonValue;
+import hockey.mask.test.values.JsonValueTesting;
+import koro.sensei.tester.TestFailureException;
+import koro.sensei.tester.TestSubject;
+
+/**
+ * The JsonTokenizerTesting class tests the JsonTokenizer class for correct functionality.
+ * 
+ * @author Planters
+ *
+ */
+public class JsonTokenizerTesting implements TestSubject {
+
+	@Override
+	public void runAllTests() throws TestFailureException {
+		JsonTokenizerTesting.testTokens();
+		JsonTokenizerTesting.testRandomValues();
+		JsonTokenizerTesting.testUtf8Text();
+		JsonTokenizerTesting.testAccessors();
+		JsonTokenizerTesting.testInvalidData();
+		JsonTokenizerTesting.testHandler();
+	}
+	
+	/**
+	 * Test the sequence of tokens read from a fixed value.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testTokens() throws TestFailureException {
+		String testString = " {\"a\" : [1, -2.5e3, \"x\\u0041\\n\"], \"b\": {}, \"c\": [true, false, null, []]} 42";
+		JsonToken[] expectedTokens = new JsonToken[] {JsonToken.START_OBJECT, JsonToken.FIELD_NAME, 
+				JsonToken.START_ARRAY, JsonToken.VALUE_NUMBER, JsonToken.VALUE_NUMBER, JsonToken.VALUE_STRING, 
+				JsonToken.END_ARRAY, JsonToken.FIELD_NAME, JsonToken.START_OBJECT, JsonToken.END_OBJECT, 
+				JsonToken.FIELD_NAME, JsonToken.START_ARRAY, JsonToken.VALUE_TRUE, JsonToken.VALUE_FALSE, 
+				JsonToken.VALUE_NULL, JsonToken.START_ARRAY, JsonToken.END_ARRAY, JsonToken.END_ARRAY, 
+				JsonToken.END_OBJECT};
+		String[] expectedTexts = new String[] {"{", "a", "[", "1", "-2.5e3", "xA\n", "]", "b", "{", "}", "c", 
+				"[", "true", "false", "null", "[", "]", "]", "}"};
+		try {
+			JsonStringParser jp = new JsonStringParser(testString);
+			JsonTokenizer tokenizer = new JsonTokenizer(jp);
+			JsonToken[] readTokens = new JsonToken[expectedTokens.length];
+			String[] readTexts = new String[expectedTexts.length];
+			for (int i = 0; i < readTokens.length; i++) {
+				readTokens[i] = tokenizer.nextToken();
+				readTexts[i] = tokenizer.getText();
+			}
+			TestSubject.assertTestCondition(Arrays.equals(expectedTokens, readTokens), 
+					String.format("The tokens %s read from \"%s\" should be %s.", 
+							Arrays.toString(readTokens), testString, Arrays.toString(expectedTokens)));
+			TestSubject.assertTestCondition(Arrays.equals(expectedTexts, readTexts), 
+					String.format("The texts %s read from \"%s\" should be %s.", 
+							Arrays.toString(readTexts), testString, Arrays.toString(expectedTexts)));
+			TestSubject.assertTestCondition(tokenizer.nextToken() == null && tokenizer.getCurrentToken() == null, 
+					String.format("No more tokens should be read from \"%s\".", testString));
+			TestSubject.assertTestCondition(jp.getPosition() == testString.length() - 3, 
+					String.format("The JSON parser %s should be positioned directly behind the value.", jp));
+		} catch (JsonStandardException e) {
+			throw new TestFailureException(String.format("Reading the tokens of \"%s\" failed.", testString), e);
+		}
+	}
+	
+	/**
+	 * Test reading random values from all kinds of parsers.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testRandomValues() throws TestFailureException {
+		for (int i = 0; i < 3000; i++) {
+			JsonValue testValue = JsonValueTesting.generateRandomValue();
+			String testString = testValue.toJson();
+			byte[] encodedString = testString.getBytes(StandardCharsets.UTF_8);
+			try (
+					JsonStaticStreamParser staticStreamParser = new JsonStaticStreamParser(
+							new ByteArrayInputStream(encodedString), StandardCharsets.UTF_8);
+					JsonStreamParser streamParser = new JsonStreamParser(
+							new ByteArrayInputStream(encodedString), StandardCharsets.UTF_8);
+				) {
+				for (JsonParser jp : new JsonParser[] {new JsonStringParser(testString), staticStreamParser, streamParser, 
+						new JsonUtf8Parser(encodedString)}) {
+					JsonTokenizer tokenizer = new JsonTokenizer(jp);
+					JsonValue tokenizedValue = JsonTokenizerTesting.readValue(tokenizer, tokenizer.nextToken());
+					TestSubject.assertTestCondition(testValue.equals(tokenizedValue), 
+							String.format("The value %s read from the tokens of the JSON parser %s should "
+									+ "equal %s.", tokenizedValue, jp, testValue));
+					TestSubject.assertTestCondition(tokenizer.nextToken() == null && !jp.hasNext(), 
+							String.format("The JSON parser %s should be read completely.", jp));
+				}
+			} catch (JsonStandardException | IOException e) {
+				throw new TestFailureException(String.format("Reading the tokens of \"%s\" failed.", testString), e);
+			}
+		}
+	}
+	
+	/**
+	 * Test reading names and strings with multi-byte and supplementary characters from UTF-8
+	 * encoded bytes.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testUtf8Text() throws TestFailureException {
+		String testString = "{\"n\u00E4me\": [\"caf\u00E9\", \"\uD83D\uDE00 \u65E5\u672C\", \"\u20AC\\n\uD834\uDD1E\"]}";
+		String[] expectedTexts = new String[] {"{", "n\u00E4me", "[", "caf\u00E9", "\uD83D\uDE00 \u65E5\u672C", 
+				"\u20AC\n\uD834\uDD1E", "]", "}"};
+		try {
+			JsonUtf8Parser jp = new JsonUtf8Parser(testString.getBytes(StandardCharsets.UTF_8));
+			JsonTokenizer tokenizer = new JsonTokenizer(jp);
+			String[] readTexts = new String[expectedTexts.length];
+			for (int i = 0; i < readTexts.length; i++) {
+				tokenizer.nextToken();
+				readTexts[i] = tokenizer.getText();
+			}
+			TestSubject.assertTestCondition(Arrays.equals(expectedTexts, readTexts), 
+					String.format("The texts %s read from \"%s\" should be %s.", 
+							Arrays.toString(readTexts), testString, Arrays.toString(expectedTexts)));
+			TestSubject.assertTestCondition(tokenizer.nextToken() == null && !jp.hasNext(), 
+					String.format("The JSON parser %s should be read completely.", jp));
+		} catch (JsonStandardException e) {
+			throw new TestFailureException(String.format("Reading the tokens of \"%s\" failed.", testString), e);
+		}
+	}
+	
+	/**
+	 * Test the accessors of the current token and skipping.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testAccessors() throws TestFailureException {
+		String testString = "[{\"skipped\": [1, {\"x\": [2]}]}, 9007199254740993, -12, 1.5, \"text\"]";
+		try {
+			JsonTokenizer tokenizer = new JsonTokenizer(new JsonStringParser(testString));
+			tokenizer.nextToken();
+			TestSubject.assertTestCondition(tokenizer.nextToken() == JsonToken.START_OBJECT 
+					&& tokenizer.getDepth() == 2, "The tokenizer should be inside the object at depth 2.");
+			tokenizer.skipChildren();
+			TestSubject.assertTestCondition(tokenizer.getCurrentToken() == JsonToken.END_OBJECT 
+					&& tokenizer.getDepth() == 1, "The tokenizer should have skipped the object.");
+			tokenizer.nextToken();
+			TestSubject.assertTestCondition(tokenizer.isIntegral() && tokenizer.getLongValue() == 9007199254740993L, 
+					String.format("The number should be read as long 9007199254740993, but is %s.", 
+							tokenizer.getText()));
+			tokenizer.nextToken();
+			TestSubject.assertTestCondition(tokenizer.getLongValue() == -12 && tokenizer.getDoubleValue() == -12d, 
+					String.format("The number should be read as -12, but is %s.", tokenizer.getText()));
+			tokenizer.nextToken();
+			TestSubject.assertTestCondition(!tokenizer.isIntegral() && tokenizer.getDoubleValue() == 1.5d, 
+					String.format("The number should be read as 1.5, but is %s.", tokenizer.getText()));
+			try {
+				tokenizer.getLongValue();
+				throw new TestFailureException("The number 1.5 should not be convertible to long.");
+			} catch (ArithmeticException e) {
+				/*
+				 * Do nothing as this is the expected behaviour.
+				 */
+			}
+			tokenizer.nextToken();
+			TestSubject.assertTestCondition(tokenizer.isText("text") && !tokenizer.isText("test") 
+					&& tokenizer.getTextLength() == 4, 
+					String.format("The string should be read as \"text\", but is %s.", tokenizer.getText()));
+			try {
+				tokenizer.getDecimalValue();
+				throw new TestFailureException("A string should not be convertible to a number.");
+			} catch (IllegalStateException e) {
+				/*
+				 * Do nothing as this is the expected behaviour.
+				 */
+			}
+		} catch (JsonStandardException e) {
+			throw new TestFailureException(String.format("Reading the tokens of \"%s\" failed.", testString), e);
+		}
+	}
+	
+	/**
+	 * Test reading data violating the JSON standard.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testInvalidData() throws TestFailureException {
+		for (String invalidString : new String[] {"[1 2]", "{\"a\" 1}", "{\"a\": 1,}", "[1,]", "{1: 2}", 
+				"[01]", "[1.]", "[-]", "[1e]", "[\"\\x\"]", "[\"\\u12G4\"]", "[\"abc", "[tru]", "}", "[1}", 
+				"{\"a\": 1]", "+1", "[1, 2 3]", "[\"a\nb\"]", "{\"a\u0000\": 1}", "\"\t\"", "[\"\u001F\"]"}) {
+			try {
+				JsonTokenizer tokenizer = new JsonTokenizer(new JsonStringParser(invalidString));
+				try {
+					while (tokenizer.nextToken() != null) {
+						/*
+						 * Read all tokens.
+						 */
+					}
+					throw new TestFailureException(String.format("Reading the tokens of \"%s\" should fail.", 
+							invalidString));
+				} catch (JsonParseException e) {
+					/*
+					 * Do nothing as this is the expected behaviour.
+					 */
+				}
+			} catch (JsonStandardException e) {
+				throw new TestFailureException("Creating the JSON parser failed.", e);
+			}
+		}
+	}
+	
+	/**
+	 * Test pushing the tokens to a handler.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testHandler() throws TestFailureException {
+		String testString = "{\"a\": [1, \"b\", true, false, null], \"c\": {\"d\": -2.5}, \"e\": 3}";
+		String expectedEvents = "{ a: [ 1 b true false null ] c: { d: -2.5 } e: 3 } ";
+		try {
+			// read everything
+			JsonStringParser jp = new JsonStringParser(testString);
+			StringBuilder events = new StringBuilder();
+			boolean completed = new JsonTokenizer(jp).parse(new JsonTokenizerTesting.RecordingHandler(events, -1));
+			TestSubject.assertTestCondition(completed && expectedEvents.equals(events.toString()) && !jp.hasNext(), 
+					String.format("The events \"%s\" received from \"%s\" should be \"%s\".", 
+							events, testString, expectedEvents));
+			// stop after the second field name and continue afterwards
+			jp = new JsonStringParser(testString);
+			events = new StringBuilder();
+			JsonTokenizer tokenizer = new JsonTokenizer(jp);
+			completed = tokenizer.parse(new JsonTokenizerTesting.RecordingHandler(events, 2));
+			TestSubject.assertTestCondition(!completed && "{ a: [ 1 b true false null ] c: ".equals(events.toString()), 
+					String.format("The events \"%s\" received from \"%s\" should stop at the second name.", 
+							events, testString));
+			TestSubject.assertTestCondition(tokenizer.getCurrentToken() == JsonToken.FIELD_NAME 
+					&& tokenizer.isText("c") && jp.getPosition() == testString.indexOf(':', 30), 
+					String.format("The JSON parser %s should be positioned behind the second name.", jp));
+			completed = tokenizer.parse(new JsonTokenizerTesting.RecordingHandler(events, -1));
+			TestSubject.assertTestCondition(completed && expectedEvents.equals(events.toString()), 
+					String.format("The events \"%s\" received from \"%s\" should be \"%s\" after continuing.", 
+							events, testString, expectedEvents));
+			// default handler
+			TestSubject.assertTestCondition(new JsonTokenizer(new JsonStringParser(testString)).parse(new JsonHandler() {}), 
+					String.format("The value \"%s\" should be read completely by an empty handler.", testString));
+		} catch (JsonStandardException e) {
+			throw new TestFailureException(String.format("Reading the events of \"%s\" failed.", testString), e);
+		}
+		// invalid data
+		try {
+			new JsonTokenizer(new JsonStringParser("[1, 2 true]")).parse(new JsonHandler() {});
+			throw new TestFailureException("Reading the events of \"[1, 2 true]\" should fail.");
+		} catch (JsonParseException e) {
+			/*
+			 * Do nothing as this is the expected behaviour.
+			 */
+		} catch (JsonStandardException e) {
+			throw new TestFailureException("Creating the JSON parser failed.", e);
+		}
+	}
+	
+	/**
+	 * Helper function to build a JSON value from the tokens of the tokenizer.
+	 * 
+	 * @param tokenizer - the tokenizer to read from
+	 * @param token - the current token
+	 * @return the JSON value starting with the current token
+	 * @throws JsonStandardException if reading the tokens fails
+	 */
+	private static JsonValue readValue(JsonTokenizer tokenizer, JsonToken token) throws JsonStandardException {
+		switch (token) {
+		
+			case START_OBJECT:
+				JsonObject object = new JsonObject();
+				while (tokenizer.nextToken() == JsonToken.FIELD_NAME) {
+					JsonString name = new JsonString(tokenizer.getText());
+					object.add(name, JsonTokenizerTesting.readValue(tokenizer, tokenizer.nextToken()));
+				}
+				return object;
+				
+			case START_ARRAY:
+				JsonArray array = new JsonArray();
+				JsonToken next = tokenizer.nextToken();
+				while (next != JsonToken.END_ARRAY) {
+					array.add(JsonTokenizerTesting.readValue(tokenizer, next));
+					next = tokenizer.nextToken();
+				}
+				return array;
+				
+			case VALUE_STRING:
+				return new JsonString(tokenizer.getText());
+				
+			case VALUE_NUMBER:
+				return new JsonNumber(tokenizer.getDecimalValue());
+				
+			case VALUE_TRUE:
+				return JsonBoolean.JSON_TRUE;
+				
+			case VALUE_FALSE:
+				return JsonBoolean.JSON_FALSE;
+				
+			default:
+				return JsonNull.JSON_NULL;
+				
+		}
+	}
+	
+	/**
+	 * The RecordingHandler class writes all received events in a compact form to a string 
+	 * builder and stops after a specified number of field names.
+	 */
+	private static class RecordingHandler implements JsonHandler {
+		
+		private final StringBuilder events;
+		private int remainingNames;
+		
+		/**
+		 * Create a new handler recording to the specified builder.
+		 * 
+		 * @param events - the builder to record the events to
+		 * @param stopAfterNames - the number of field names after which to stop or -1 to never stop
+		 */
+		private RecordingHandler(StringBuilder events, int stopAfterNames) {
+			this.events = events;
+			this.remainingNames = stopAfterNames;
+		}
+
+		@Override
+		public boolean startObject() {
+			this.events.append("{ ");
+			return true;
+		}
+
+		@Override
+		public boolean endObject() {
+			this.events.append("} ");
+			return true;
+		}
+
+		@Override
+		public boolean fieldName(JsonTokenizer tokenizer) {
+			this.events.append(tokenizer.getTextCharacters(), 0, tokenizer.getTextLength()).append(": ");
+			return --this.remainingNames != 0;
+		}
+
+		@Override
+		public boolean startArray() {
+			this.events.append("[ ");
+			return true;
+		}
+
+		@Override
+		public boolean endArray() {
+			this.events.append("] ");
+			return true;
+		}
+
+		@Override
+		public boolean stringValue(JsonTokenizer tokenizer) {
+			this.events.append(tokenizer.getText()).append(' ');
+			return true;
+		}
+
+		@Override
+		public boolean numberValue(JsonTokenizer tokenizer) {
+			this.events.append(tokenizer.getText()).append(' ');
+			return true;
+		}
+
+		@Override
+		public boolean booleanValue(boolean value) {
+			this.events.append(value).append(' ');
+			return true;
+		}
+
+		@Override
+		public boolean nullValue() {
+			this.events.append("null ");
+			return true;
+		}
+		
+	}
+	
+}
@@ -0,0 +1,212 @@
+package hockey.mask.test.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.parser.JsonUtf8Parser;
+import hockey.mask.json.values.JsonString;
+import hockey.mask.json.values.JsonValue;
+import hockey.mask.test.values.JsonValueTesting;
+import koro.sensei.tester.TestFailureException;
+import koro.sensei.tester.TestSubject;
+
+/**
+ * The JsonUtf8ParserTesting class tests the JsonUtf8Parser class for correct functionality.
+ * 
+ * @author Planters
+ * 
+ */
+public class JsonUtf8ParserTesting implements TestSubject {
+	
+	@Override
+	public void runAllTests() throws TestFailureException {
+		JsonUtf8ParserTesting.testConstructors();
+		JsonUtf8ParserTesting.testCharacters();
+		JsonUtf8ParserTesting.testMatching();
+		JsonUtf8ParserTesting.testParsing();
+	}
+	
+	/**
+	 * Test the creation of UTF-8 parsers.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testConstructors() throws TestFailureException {
+		byte[] testData = "[1, \"\u20AC\"]".getBytes(StandardCharsets.UTF_8);
+		try {
+			// ranges of arrays
+			JsonUtf8Parser jp = new JsonUtf8Parser(testData, 4, testData.length - 5);
+			TestSubject.assertTestCondition(jp.getData().equals("\"\u20AC\""),
+					String.format("The parser of a range should hold \"%s\", but holds \"%s\".", "\"\u20AC\"",
+							jp.getData()));
+			// heap, read-only and direct buffers
+			ByteBuffer heapBuffer = ByteBuffer.wrap(testData);
+			heapBuffer.position(1);
+			ByteBuffer directBuffer = ByteBuffer.allocateDirect(testData.length);
+			directBuffer.put(testData).flip().position(1);
+			for (ByteBuffer buffer : new ByteBuffer[] {heapBuffer, heapBuffer.asReadOnlyBuffer(), directBuffer}) {
+				jp = new JsonUtf8Parser(buffer);
+				TestSubject.assertTestCondition(jp.getData().equals("1, \"\u20AC\"]") && buffer.position() == 1,
+						String.format("The parser of the buffer %s should hold the remaining bytes without "
+								+ "modifying the buffer, but holds \"%s\".", buffer, jp.getData()));
+			}
+		} catch (JsonStandardException e) {
+			throw new TestFailureException("Creating the JSON parser failed.", e);
+		}
+		// empty data
+		for (Object emptyData : new Object[] {new byte[0], ByteBuffer.allocate(0)}) {
+			try {
+				if (emptyData instanceof byte[]) {
+					new JsonUtf8Parser((byte[]) emptyData);
+				} else {
+					new JsonUtf8Parser((ByteBuffer) emptyData);
+				}
+				throw new TestFailureException(String.format("An exception should have been thrown as %s "
+						+ "is no valid input for a JSON parser.", emptyData));
+			} catch (JsonStandardException e) {
+				/*
+				 * Do nothing as this is the expected behaviour.
+				 */
+			}
+		}
+		// null and invalid ranges
+		try {
+			new JsonUtf8Parser((byte[]) null);
+			throw new TestFailureException("An exception should have been thrown as "
+					+ "null is no valid input for a JSON parser.");
+		} catch (NullPointerException e) {
+			/*
+			 * Do nothing as this is the expected behaviour.
+			 */
+		} catch (JsonStandardException e) {
+			throw new TestFailureException("A NullPointerException should be thrown upon "
+					+ "passing null to a JSON parser.", e);
+		}
+		try {
+			new JsonUtf8Parser(testData, 2, testData.length);
+			throw new TestFailureException("An exception should have been thrown as the range is "
+					+ "outside of the array.");
+		} catch (IndexOutOfBoundsException e) {
+			/*
+			 * Do nothing as this is the expected behaviour.
+			 */
+		} catch (JsonStandardException e) {
+			throw new TestFailureException("An IndexOutOfBoundsException should be thrown upon "
+					+ "passing an invalid range to a JSON parser.", e);
+		}
+	}
+	
+	/**
+	 * Test the decoding of single characters and the byte positions.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testCharacters() throws TestFailureException {
+		String testString = "a\u00E9\u20AC\uD83D\uDE00z";
+		int[] positions = new int[] {1, 3, 6, 8, 10, 11};
+		try {
+			JsonUtf8Parser jp = new JsonUtf8Parser(testString.getBytes(StandardCharsets.UTF_8));
+			for (int i = 0; i < testString.length(); i++) {
+				TestSubject.assertTestCondition(jp.peek() == testString.charAt(i),
+						String.format("The peeked character %s should be %s.", jp.peek(), (int) testString.charAt(i)));
+				char c = jp.get();
+				TestSubject.assertTestCondition(c == testString.charAt(i) && jp.getPosition() == positions[i],
+						String.format("The character %s should be %s at position %s, but is at position %s.",
+								(int) c, (int) testString.charAt(i), positions[i], jp.getPosition()));
+			}
+			TestSubject.assertTestCondition(!jp.hasNext() && jp.peek() == -1,
+					"The parser should have reached the end of the data.");
+			jp.setPosition(3);
+			TestSubject.assertTestCondition(jp.get(7).equals("\u20AC\uD83D\uDE00"),
+					String.format("The seven bytes at position 3 should be decoded to \"%s\".", "\u20AC\uD83D\uDE00"));
+			TestSubject.assertTestCondition(jp.peek(-2) == '\uDE00' && jp.peek(-4) == '\uD83D' && jp.peek(-7) == '\u20AC'
+					&& jp.peek(-10) == 'a',
+					"Peeking backwards should decode the characters at the byte offsets.");
+			// malformed sequences are replaced character by character
+			jp = new JsonUtf8Parser(new byte[] {(byte) 0xE2, (byte) 0x82, 'x', (byte) 0xFF});
+			String decoded = "";
+			while (jp.hasNext()) {
+				decoded += jp.get();
+			}
+			TestSubject.assertTestCondition(decoded.equals("\uFFFD\uFFFDx\uFFFD"),
+					String.format("The malformed bytes should be decoded to \"%s\", but are decoded to \"%s\".",
+							"\uFFFD\uFFFDx\uFFFD", decoded));
+		} catch (JsonStandardException e) {
+			throw new TestFailureException("Creating the JSON parser failed.", e);
+		}
+	}
+	
+	/**
+	 * Test matching and searching characters in the bytes.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testMatching() throws TestFailureException {
+		String testString = "  \u00E9\u20AC\uD83D\uDE00 \"plain\" 123\u0661 \"esc\\\"aped\"";
+		try {
+			JsonUtf8Parser jp = new JsonUtf8Parser(testString.getBytes(StandardCharsets.UTF_8));
+			jp.skipWhitespace();
+			TestSubject.assertTestCondition(jp.getPosition() == 2 && jp.isNext('\u00E9'),
+					String.format("The whitespace should be skipped to position 2, but was skipped to %s.",
+							jp.getPosition()));
+			TestSubject.assertTestCondition(jp.regionMatches(4, "\u20AC\uD83D") && !jp.isNext("\u00E9\u20AD"),
+					"The multi-byte characters should be matched in place.");
+			TestSubject.assertTestCondition(jp.isNext("\u00E9\u20AC\uD83D\uDE00", true) && jp.getPosition() == 11,
+					String.format("Matching the multi-byte characters should move the position to 11, but moved it "
+							+ "to %s.", jp.getPosition()));
+			TestSubject.assertTestCondition(jp.indexOf('"') == 12 && jp.indexOf('\u0661') == 23
+					&& jp.indexOf('\u20AC') == -1, "The characters should be found at their byte positions.");
+			jp.skipWhitespace();
+			TestSubject.assertTestCondition(jp.isNext('"', true) && jp.getUntil('"', '\\').equals("plain")
+					&& jp.getPosition() == 18, "The plain string should be returned as a whole.");
+			jp.skip(2);
+			TestSubject.assertTestCondition(jp.skipDigits() == 4 && jp.getPosition() == 25,
+					String.format("Four digits should be skipped to position 25, but were skipped to %s.",
+							jp.getPosition()));
+			jp.skip(2);
+			TestSubject.assertTestCondition(jp.getUntil('"', '\\') == null && jp.getPosition() == 27,
+					"The escaped string should not be returned as a whole.");
+			jp.setPosition(26);
+			JsonString escaped = JsonString.parseNext(jp);
+			TestSubject.assertTestCondition(escaped.getValue().equals("esc\"aped") && !jp.hasNext(),
+					String.format("The escaped string should be parsed to \"%s\", but was parsed to \"%s\".",
+							"esc\"aped", escaped.getValue()));
+		} catch (JsonStandardException e) {
+			throw new TestFailureException(String.format("Parsing \"%s\" failed.", testString), e);
+		}
+	}
+	
+	/**
+	 * Test parsing random values from bytes.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testParsing() throws TestFailureException {
+		for (int i = 0; i < 300; i++) {
+			List<JsonValue> testValues = new ArrayList<JsonValue>();
+			StringBuilder testString = new StringBuilder();
+			for (int j = 0; j < 10; j++) {
+				JsonValue testValue = JsonValueTesting.generateRandomValue();
+				testValues.add(testValue);
+				testString.append(testValue.toJson()).append(",\n");
+			}
+			try {
+				JsonUtf8Parser jp = new JsonUtf8Parser(testString.toString().getBytes(StandardCharsets.UTF_8));
+				List<JsonValue> parsedValues = new ArrayList<JsonValue>();
+				for (int j = 0; j < testValues.size(); j++) {
+					parsedValues.add(JsonValue.parseNext(jp));
+					jp.isNext(',', true);
+					jp.skipWhitespace();
+				}
+				TestSubject.assertTestCondition(testValues.equals(parsedValues) && !jp.hasNext(),
+						String.format("The values %s parsed from the bytes should be %s.", parsedValues, testValues));
+			} catch (JsonStandardException e) {
+				throw new TestFailureException(String.format("Parsing \"%s\" failed.", testString), e);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,119 @@
+package hockey.mask.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.parser.JsonStringParser;
+import hockey.mask.json.query.JsonPath;
+import hockey.mask.json.values.JsonArray;
+import hockey.mask.json.values.JsonValue;
+import koro.sensei.tester.TestFailureException;
+import koro.sensei.tester.TestSubject;
+
+/**
+ * The JsonPathTesting class tests the JsonPath class for correct functionality.
+ * 
+ * @author Planters
+ * 
+ */
+public class JsonPathTesting implements TestSubject {
+	
+	private static final String TEST_DOCUMENT = "{\"orders\": [{\"id\": 1, \"lines\": [{\"sku\": \"a\", \"qty\": 5}, "
+			+ "{\"sku\": \"b\", \"qty\": 12}]}, {\"id\": 2, \"lines\": [{\"sku\": \"c\", \"qty\": 11.0}, "
+			+ "{\"sku\": \"d\"}], \"note\": {\"sku\": \"e\"}}], \"odd name\": [true, null, \"x\"]}";
+	
+	@Override
+	public void runAllTests() throws TestFailureException {
+		JsonPathTesting.testCompilation();
+		JsonPathTesting.testKnownSelection();
+	}
+	
+	/**
+	 * Test compiling valid and invalid expressions.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testCompilation() throws TestFailureException {
+		String[] validExpressions = new String[] {"$", "$.a", "$['a b']", "$[\"a\\\"\"]", "$.*", "$[*]", "$[12]",
+				"$..a", "$..*", "$..[0]", "$[?(@.a)]", "$[?(@.a.b[0] == 'x')]", "$[?( @['a'] >= -1.5e3 )]",
+				"$[?(@ != null)]", "$.a-b_c$"};
+		for (String validExpression : validExpressions) {
+			JsonPath path = JsonPath.compile(validExpression);
+			TestSubject.assertTestCondition(path.getExpression().equals(validExpression)
+					&& path.equals(JsonPath.compile(validExpression)),
+					String.format("The path \"%s\" should keep its expression.", validExpression));
+		}
+		String[] invalidExpressions = new String[] {"", "a", "$.", "$a", "$[", "$[]", "$[-1]", "$['a]", "$[a]",
+				"$..", "$[?(a)]", "$[?(@.a == )]", "$[?(@.a == {})]", "$[?(@.a == 1]", "$.a[*", "$ .a"};
+		for (String invalidExpression : invalidExpressions) {
+			try {
+				JsonPath.compile(invalidExpression);
+				throw new TestFailureException(String.format("Compiling \"%s\" should fail.", invalidExpression));
+			} catch (IllegalArgumentException e) {
+				/*
+				 * Do nothing as this is the expected behaviour.
+				 */
+			}
+		}
+		try {
+			JsonPath.compile(null);
+			throw new TestFailureException("Compiling null should fail.");
+		} catch (NullPointerException e) {
+			/*
+			 * Do nothing as this is the expected behaviour.
+			 */
+		}
+	}
+	
+	/**
+	 * Test selecting values from a known document in memory and while parsing.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testKnownSelection() throws TestFailureException {
+		String[][] selections = new String[][] {
+			{"$", JsonPathTesting.TEST_DOCUMENT},
+			{"$.orders[*].lines[?(@.qty > 10)].sku", "\"b\", \"c\""},
+			{"$.orders[1].lines[0].qty", "11.0"},
+			{"$.orders[*].lines[?(@.qty == 11)].sku", "\"c\""},
+			{"$.orders[?(@.note)].id", "2"},
+			{"$.orders[*].lines[?(@.qty != 5)].sku", "\"b\", \"c\", \"d\""},
+			{"$..sku", "\"a\", \"b\", \"c\", \"d\", \"e\""},
+			{"$['odd name'][2]", "\"x\""},
+			{"$['odd name'][?(@ == null)]", "null"},
+			{"$['odd name'][?(@ < 'y')]", "\"x\""},
+			{"$.orders[5]", ""},
+			{"$.missing..sku", ""},
+			{"$.orders[0].*", "1, [{\"sku\": \"a\", \"qty\": 5}, {\"sku\": \"b\", \"qty\": 12}]"}};
+		for (String[] selection : selections) {
+			JsonPath path = JsonPath.compile(selection[0]);
+			try {
+				List<JsonValue> expectedValues = new ArrayList<JsonValue>((JsonArray) JsonValue.parse("[" + selection[1] + "]"));
+				List<JsonValue> selectedValues = path.select(JsonValue.parse(JsonPathTesting.TEST_DOCUMENT));
+				// the members of objects in memory are not ordered
+				TestSubject.assertTestCondition(JsonPathTesting.sort(expectedValues).equals(JsonPathTesting.sort(selectedValues)),
+						String.format("The path \"%s\" should select %s in memory, but selected %s.", path,
+								expectedValues, selectedValues));
+				selectedValues = path.selectNext(new JsonStringParser(JsonPathTesting.TEST_DOCUMENT));
+				TestSubject.assertTestCondition(expectedValues.equals(selectedValues),
+						String.format("The path \"%s\" should select %s while parsing, but selected %s.", path,
+								expectedValues, selectedValues));
+			} catch (JsonStandardException e) {
+				throw new TestFailureException(String.format("Selecting \"%s\" failed.", path), e);
+			}
+		}
+	}
+	
+	/**
+	 * Sort the specified values by their JSON representation.
+	 * 
+	 * @param values - the values to sort
+	 * @return the sorted JSON representations
+	 */
+	private static List<String> sort(List<JsonValue> values) {
+		return values.stream().map(JsonValue::toJson).sorted().collect(Collectors.toList());
+	}
+	
+}
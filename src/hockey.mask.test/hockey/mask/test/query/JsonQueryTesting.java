@@ -0,0 +1,167 @@
+package hockey.mask.test.query;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.io.JsonReader;
+import hockey.mask.json.parser.JsonParseException;
+import hockey.mask.json.parser.JsonStreamParser;
+import hockey.mask.json.parser.JsonStringParser;
+import hockey.mask.json.query.JsonPath;
+import hockey.mask.json.query.JsonQuery;
+import hockey.mask.json.values.JsonValue;
+import hockey.mask.test.values.JsonValueTesting;
+import koro.sensei.tester.TestFailureException;
+import koro.sensei.tester.TestSubject;
+
+/**
+ * The JsonQueryTesting class tests the JsonQuery class for correct functionality.
+ * 
+ * @author Planters
+ * 
+ */
+public class JsonQueryTesting implements TestSubject {
+	
+	@Override
+	public void runAllTests() throws TestFailureException {
+		JsonQueryTesting.testMultiplePaths();
+		JsonQueryTesting.testStopping();
+		JsonQueryTesting.testInvalidData();
+		JsonQueryTesting.testRandomQueries();
+	}
+	
+	/**
+	 * Test evaluating multiple paths during a single pass.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testMultiplePaths() throws TestFailureException {
+		String testString = "{\"a\": [{\"b\": 1, \"c\": {\"b\": 2}}, {\"b\": 3}], \"b\": 4} [{\"b\": 5}]";
+		JsonQuery query = JsonQuery.compile("$.a[*].b", "$..b", "$.a[?(@.c)]");
+		JsonPath[] paths = query.getPaths();
+		List<String> matches = new ArrayList<String>();
+		try (JsonReader reader = new JsonReader(testString)) {
+			while (reader.readMatches(query, (path, value) -> matches.add(path + " " + value))) {
+				/*
+				 * Do nothing as only the matches are tested.
+				 */
+			}
+		} catch (Exception e) {
+			throw new TestFailureException(String.format("Querying \"%s\" failed.", testString), e);
+		}
+		List<String> expectedMatches = List.of(paths[0] + " 1", paths[1] + " 1", paths[2] + " {\"b\":1,\"c\":{\"b\":2}}",
+				paths[1] + " 2", paths[0] + " 3", paths[1] + " 3", paths[1] + " 4", paths[1] + " 5");
+		// the members of values tested by filters are evaluated in memory, where they are not ordered
+		TestSubject.assertTestCondition(matches.size() == expectedMatches.size() && matches.containsAll(expectedMatches)
+				&& matches.indexOf(paths[1] + " 5") == 7,
+				String.format("The matches of \"%s\" should be %s, but are %s.", testString, expectedMatches, matches));
+	}
+	
+	/**
+	 * Test stopping a query from the handler.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testStopping() throws TestFailureException {
+		String testString = "[1, [2, 3], {\"a\": 4}, 5] 6";
+		JsonPath path = JsonPath.compile("$..*");
+		List<JsonValue> matches = new ArrayList<JsonValue>();
+		try {
+			JsonStringParser jp = new JsonStringParser(testString);
+			boolean completed = new JsonQuery(path).evaluateNext(jp, (matchedPath, value) -> matches.add(value)
+					&& matches.size() < 3);
+			TestSubject.assertTestCondition(!completed && matches.size() == 3 && JsonValue.parseNext(jp).toJson().equals("6"),
+					String.format("The query of \"%s\" should stop after 3 matches and read the entire value, but "
+							+ "matched %s.", testString, matches));
+		} catch (JsonStandardException e) {
+			throw new TestFailureException(String.format("Querying \"%s\" failed.", testString), e);
+		}
+	}
+	
+	/**
+	 * Test querying invalid data.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testInvalidData() throws TestFailureException {
+		String[] invalidStrings = new String[] {"{\"a\": 1, \"b\": [1}, \"c\": 2}", "{\"a\" 1}", "[\"a\" 2]", "{\"a\": [1,}",
+				"[{\"b\": x}]"};
+		JsonQuery query = JsonQuery.compile("$.c", "$[?(@.b)]");
+		for (String invalidString : invalidStrings) {
+			JsonStringParser jp = null;
+			try {
+				jp = new JsonStringParser(invalidString);
+				query.evaluateNext(jp, (path, value) -> true);
+				throw new TestFailureException(String.format("Querying \"%s\" should fail.", invalidString));
+			} catch (JsonParseException e) {
+				TestSubject.assertTestCondition(jp.getPosition() == 0,
+						String.format("Querying \"%s\" should not move the parser.", invalidString));
+			} catch (JsonStandardException e) {
+				throw new TestFailureException(String.format("Querying \"%s\" should throw a JsonParseException.",
+						invalidString), e);
+			}
+		}
+		try {
+			query.evaluate("{} {}", (path, value) -> true);
+			throw new TestFailureException("Querying multiple values as one should fail.");
+		} catch (JsonParseException e) {
+			/*
+			 * Do nothing as this is the expected behaviour.
+			 */
+		} catch (JsonStandardException e) {
+			throw new TestFailureException("Querying multiple values as one should throw a JsonParseException.", e);
+		}
+		// malformed data larger than the window of a stream parser
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < 100000; i++) {
+			sb.append("{\"b\": 1},");
+		}
+		for (String malformedTail : new String[] {"x]", "{\"b\": [1}]", "{"}) {
+			String testString = sb + malformedTail;
+			try (JsonStreamParser jsp = new JsonStreamParser(new StringReader(testString), 64);) {
+				query.evaluateNext(jsp, (path, value) -> true);
+				throw new TestFailureException(String.format("Querying the large array with the malformed tail "
+						+ "\"%s\" should fail.", malformedTail));
+			} catch (JsonParseException e) {
+				TestSubject.assertTestCondition(e.getPosition() >= sb.length(),
+						String.format("Querying the large array with the malformed tail \"%s\" should fail in the "
+								+ "tail, but failed at %s.", malformedTail, e.getPosition()));
+			} catch (JsonStandardException | IOException e) {
+				throw new TestFailureException(String.format("Querying the large array with the malformed tail "
+						+ "\"%s\" should throw a JsonParseException.", malformedTail), e);
+			}
+		}
+	}
+	
+	/**
+	 * Test whether queries of random values select the same values while parsing and in memory.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testRandomQueries() throws TestFailureException {
+		JsonQuery query = JsonQuery.compile("$..*", "$.*[0]", "$..[?(@[1])]", "$..*[?(@ > 0)]", "$[*].*");
+		for (int i = 0; i < 1000; i++) {
+			JsonValue testValue = JsonValueTesting.generateRandomValue();
+			List<List<Object>> parsedMatches = new ArrayList<List<Object>>();
+			List<List<Object>> memoryMatches = new ArrayList<List<Object>>();
+			try {
+				query.evaluate(testValue.toJson(), (path, value) -> parsedMatches.add(List.of(path, value)));
+			} catch (JsonStandardException e) {
+				throw new TestFailureException(String.format("Querying %s failed.", testValue), e);
+			}
+			query.evaluate(testValue, (path, value) -> memoryMatches.add(List.of(path, value)));
+			// the members of objects in memory are not ordered
+			TestSubject.assertTestCondition(parsedMatches.stream().collect(Collectors.groupingBy(Function.identity(),
+					Collectors.counting())).equals(memoryMatches.stream().collect(Collectors.groupingBy(Function.identity(),
+					Collectors.counting()))),
+					String.format("Querying %s while parsing matched %s, but in memory %s.", testValue, parsedMatches,
+							memoryMatches));
+		}
+	}
+	
+}
@@ -124,8 +124,9 @@ public class JsonBooleanTesting implements TestSubject {
 		// test parsing the correct strings
 		try {
 			JsonBoolean testBool = JsonBoolean.parse(JsonBoolean.JSON_TRUE_VALUE);
-			TestSubject.assertTestCondition(testBool.getValue(), 
-					String.format("Parsing \"%s\" should result in a JSON %s, but restulted in %s.", 
+			TestSubject.assertTestCondition(testBool.getValue() && testBool == JsonBoolean.JSON_TRUE
+					&& JsonBoolean.valueOf(true) == JsonBoolean.JSON_TRUE, 
+					String.format("Parsing \"%s\" should result in the shared JSON %s, but restulted in %s.", 
 							JsonBoolean.JSON_TRUE_VALUE, true, testBool));
 		} catch (JsonStandardException e) {
 			throw new TestFailureException(String.format("Parsing \"%s\" should result in a "
@@ -133,8 +134,9 @@ public class JsonBooleanTesting implements TestSubject {
 		}
 		try {
 			JsonBoolean testBool = JsonBoolean.parse(JsonBoolean.JSON_FALSE_VALUE);
-			TestSubject.assertTestCondition(!testBool.getValue(), 
-					String.format("Parsing \"%s\" should result in a JSON %s, but restulted in %s.", 
+			TestSubject.assertTestCondition(!testBool.getValue() && testBool == JsonBoolean.JSON_FALSE
+					&& JsonBoolean.valueOf(false) == JsonBoolean.JSON_FALSE, 
+					String.format("Parsing \"%s\" should result in the shared JSON %s, but restulted in %s.", 
 							JsonBoolean.JSON_FALSE_VALUE, false, testBool));
 		} catch (JsonStandardException e) {
 			throw new TestFailureException(String.format("Parsing \"%s\" should result in a "
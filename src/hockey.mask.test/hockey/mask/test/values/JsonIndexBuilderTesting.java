@@ -0,0 +1,183 @@
+package hockey.mask.test.values;
+
+import java.nio.charset.StandardCharsets;
+
+import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.UncheckedJsonStandardException;
+import hockey.mask.json.parser.JsonParseException;
+import hockey.mask.json.parser.JsonStructuralIndex;
+import hockey.mask.json.values.JsonArray;
+import hockey.mask.json.values.JsonIndexBuilder;
+import hockey.mask.json.values.JsonObject;
+import hockey.mask.json.values.JsonString;
+import hockey.mask.json.values.JsonValue;
+import koro.sensei.tester.TestFailureException;
+import koro.sensei.tester.TestSubject;
+
+/**
+ * The JsonIndexBuilderTesting class tests the JsonIndexBuilder class for correct functionality.
+ * 
+ * @author Planters
+ * 
+ */
+public class JsonIndexBuilderTesting implements TestSubject {
+	
+	@Override
+	public void runAllTests() throws TestFailureException {
+		JsonIndexBuilderTesting.testRandomValues();
+		JsonIndexBuilderTesting.testParallelBuilding();
+		JsonIndexBuilderTesting.testInvalidData();
+		JsonIndexBuilderTesting.testLazyBuilding();
+	}
+	
+	/**
+	 * Test building random values.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testRandomValues() throws TestFailureException {
+		for (int i = 0; i < 3000; i++) {
+			JsonValue testValue = JsonValueTesting.generateRandomValue();
+			String testString = " " + testValue.toJson() + "\n";
+			try {
+				JsonValue builtValue = JsonIndexBuilder.build(new JsonStructuralIndex(
+						testString.getBytes(StandardCharsets.UTF_8)));
+				TestSubject.assertTestCondition(testValue.equals(builtValue), 
+						String.format("The value %s built from \"%s\" should be %s.", builtValue, testString, testValue));
+			} catch (JsonStandardException e) {
+				throw new TestFailureException(String.format("Building the value of \"%s\" failed.", testString), e);
+			}
+		}
+	}
+	
+	/**
+	 * Test building large arrays in parallel.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testParallelBuilding() throws TestFailureException {
+		for (int i = 0; i < 10; i++) {
+			JsonArray testArray = new JsonArray();
+			while (testArray.toJson().length() < JsonIndexBuilder.MINIMUM_PARALLEL_SIZE * 4) {
+				for (int j = 0; j < 100; j++) {
+					testArray.add(JsonValueTesting.generateRandomValue());
+				}
+			}
+			String testString = testArray.toJson();
+			try {
+				JsonValue builtValue = JsonIndexBuilder.buildParallel(new JsonStructuralIndex(
+						testString.getBytes(StandardCharsets.UTF_8)));
+				TestSubject.assertTestCondition(testArray.equals(builtValue), 
+						String.format("The array of %s values should be built in parallel.", testArray.size()));
+				// a missing separator in the middle of the array
+				int separator = testString.indexOf("}, {", testString.length() / 2);
+				if (separator > 0) {
+					String invalidString = testString.substring(0, separator + 1) + testString.substring(separator + 2);
+					try {
+						JsonIndexBuilder.buildParallel(new JsonStructuralIndex(
+								invalidString.getBytes(StandardCharsets.UTF_8)));
+						throw new TestFailureException("Building an array with a missing separator should fail.");
+					} catch (JsonParseException e) {
+						TestSubject.assertTestCondition(e.getPosition() == separator + 2, 
+								String.format("Building the array should fail at position %s, but failed at %s.", 
+										separator + 2, e.getPosition()));
+					}
+				}
+			} catch (JsonStandardException e) {
+				throw new TestFailureException("Building the array in parallel failed.", e);
+			}
+		}
+	}
+	
+	/**
+	 * Test building data violating the JSON standard.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testInvalidData() throws TestFailureException {
+		String[] invalidStrings = new String[] {"[1 true]", "{\"a\" 1}", "{\"a\": 1,}", "[1,]", "{1: 2}", "[1}", 
+				"{\"a\": 1]", "[1, 2] 3", "truex", "[\"a\" \"b\"]", "   ", "[", "{\"a\": 1", "[tru]", ":"};
+		int[] failurePositions = new int[] {3, 5, 8, 3, 1, 2, 7, 7, 4, 5, 3, 1, 7, 1, 0};
+		for (int i = 0; i < invalidStrings.length; i++) {
+			try {
+				JsonIndexBuilder.build(new JsonStructuralIndex(invalidStrings[i].getBytes(StandardCharsets.UTF_8)));
+				throw new TestFailureException(String.format("Building the value of \"%s\" should fail.", 
+						invalidStrings[i]));
+			} catch (JsonParseException e) {
+				TestSubject.assertTestCondition(e.getPosition() == failurePositions[i], 
+						String.format("Building the value of \"%s\" should fail at position %s, but failed at %s.", 
+								invalidStrings[i], failurePositions[i], e.getPosition()));
+			} catch (JsonStandardException e) {
+				throw new TestFailureException(String.format("Building the value of \"%s\" should throw a "
+						+ "JsonParseException.", invalidStrings[i]), e);
+			}
+		}
+	}
+	
+	/**
+	 * Test building values lazily.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testLazyBuilding() throws TestFailureException {
+		for (int i = 0; i < 3000; i++) {
+			JsonValue testValue = JsonValueTesting.generateRandomValue();
+			String testString = " " + testValue.toJson() + "\n";
+			try {
+				JsonValue builtValue = JsonIndexBuilder.buildLazy(new JsonStructuralIndex(
+						testString.getBytes(StandardCharsets.UTF_8)));
+				if (builtValue instanceof JsonObject || builtValue instanceof JsonArray) {
+					TestSubject.assertTestCondition(builtValue.toJson().equals(testString.strip()), 
+							String.format("The lazily built value of \"%s\" should keep its data, but is %s.", 
+									testString, builtValue.toJson()));
+				}
+				TestSubject.assertTestCondition(testValue.equals(builtValue), 
+						String.format("The value %s lazily built from \"%s\" should be %s.", builtValue, testString, 
+								testValue));
+			} catch (JsonStandardException e) {
+				throw new TestFailureException(String.format("Lazily building the value of \"%s\" failed.", 
+						testString), e);
+			}
+		}
+		// only the accessed containers are checked
+		String testString = "{\"a\": [1, 2], \"b\": {\"c\" 1}}";
+		try {
+			JsonObject builtObject = (JsonObject) JsonIndexBuilder.buildLazy(new JsonStructuralIndex(
+					testString.getBytes(StandardCharsets.UTF_8)));
+			JsonValue builtArray = builtObject.get(new JsonString("a"));
+			TestSubject.assertTestCondition(builtArray.equals(JsonValue.parse("[1,2]")), 
+					String.format("The member a of \"%s\" should be [1, 2], but is %s.", testString, builtArray));
+			JsonObject invalidObject = (JsonObject) builtObject.get(new JsonString("b"));
+			try {
+				invalidObject.size();
+				throw new TestFailureException(String.format("Accessing the member b of \"%s\" should fail.", 
+						testString));
+			} catch (UncheckedJsonStandardException e) {
+				TestSubject.assertTestCondition(e.getCause() instanceof JsonParseException 
+						&& ((JsonParseException) e.getCause()).getPosition() == 24, 
+						String.format("Accessing the member b of \"%s\" should fail at position 24.", testString));
+			}
+		} catch (JsonStandardException e) {
+			throw new TestFailureException(String.format("Lazily building the value of \"%s\" failed.", 
+					testString), e);
+		}
+		// the bounds of the containers are checked in advance
+		String[] invalidStrings = new String[] {"[1, 2] 3", "{\"a\": [1}", "[[1]"};
+		int[] failurePositions = new int[] {7, 9, 4};
+		for (int i = 0; i < invalidStrings.length; i++) {
+			try {
+				JsonIndexBuilder.buildLazy(new JsonStructuralIndex(invalidStrings[i].getBytes(StandardCharsets.UTF_8)));
+				throw new TestFailureException(String.format("Lazily building the value of \"%s\" should fail.", 
+						invalidStrings[i]));
+			} catch (JsonParseException e) {
+				TestSubject.assertTestCondition(e.getPosition() == failurePositions[i], 
+						String.format("Lazily building the value of \"%s\" should fail at position %s, but failed "
+								+ "at %s.", invalidStrings[i], failurePositions[i], e.getPosition()));
+			} catch (JsonStandardException e) {
+				throw new TestFailureException(String.format("Lazily building the value of \"%s\" should throw a "
+						+ "JsonParseException.", invalidStrings[i]), e);
+			}
+		}
+	}
+	
+}
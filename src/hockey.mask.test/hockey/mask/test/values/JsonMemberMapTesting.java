@@ -0,0 +1,183 @@
+package hockey.mask.test.values;
+
+import java.util.Arrays;
+
+import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.values.JsonNumber;
+import hockey.mask.json.values.JsonObject;
+import hockey.mask.json.values.JsonString;
+import hockey.mask.json.values.JsonValue;
+import koro.sensei.tester.TestFailureException;
+import koro.sensei.tester.TestSubject;
+
+/**
+ * The JsonMemberMapTesting class tests the JsonMemberMap class, which holds the members of
+ * JSON objects, for correct functionality. As the map is internal, it is tested through the
+ * JSON objects using it.
+ * 
+ * @author Planters
+ * 
+ */
+public class JsonMemberMapTesting implements TestSubject {
+	
+	/**
+	 * The numbers of members tested, which include maps searched linearly and hashed maps.
+	 */
+	private static final int[] SIZES = new int[] {1, 5, 7, 8, 9, 100};
+	
+	@Override
+	public void runAllTests() throws TestFailureException {
+		JsonMemberMapTesting.testInsertionOrder();
+		JsonMemberMapTesting.testDuplicates();
+		JsonMemberMapTesting.testRemovingSetting();
+		JsonMemberMapTesting.testEquality();
+	}
+	
+	/**
+	 * Test whether members are found and kept in the order they were added.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testInsertionOrder() throws TestFailureException {
+		for (int size : JsonMemberMapTesting.SIZES) {
+			JsonObject object = JsonMemberMapTesting.createObject(size);
+			JsonString[] names = object.getNames();
+			TestSubject.assertTestCondition(object.size() == size && names.length == size,
+					String.format("The JSON object %s should have %s members.", object, size));
+			for (int i = 0; i < size; i++) {
+				JsonString name = new JsonString("m" + (size - i));
+				TestSubject.assertTestCondition(names[i].equals(name),
+						String.format("The name %s should be at position %s of %s.", name, i, Arrays.toString(names)));
+				TestSubject.assertTestCondition(object.hasMember(name) && object.get(name).equals(JsonNumber.valueOf(i)),
+						String.format("The member %s of the JSON object %s should be %s.", name, object, i));
+			}
+			JsonString missingName = new JsonString("m0");
+			TestSubject.assertTestCondition(!object.hasMember(missingName) && object.get(missingName) == null
+					&& object.getValues(missingName).length == 0 && object.get(null) == null,
+					String.format("The JSON object %s should not have a member %s.", object, missingName));
+			try {
+				String json = object.toJson();
+				TestSubject.assertTestCondition(JsonObject.parse(json).toJson().equals(json),
+						String.format("The JSON object %s should keep its order when parsed again.", json));
+			} catch (JsonStandardException e) {
+				throw new TestFailureException(String.format("Parsing %s failed.", object), e);
+			}
+		}
+	}
+	
+	/**
+	 * Test whether duplicate names keep their values in order between the other members.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testDuplicates() throws TestFailureException {
+		String testString = "{\"a\":1,\"b\":2,\"a\":3,\"c\":4,\"d\":5,\"e\":6,\"f\":7,\"g\":8,\"a\":9,\"b\":10}";
+		try {
+			JsonObject object = JsonObject.parse(testString);
+			TestSubject.assertTestCondition(object.toJson().equals(testString),
+					String.format("The JSON object %s should equal %s.", object, testString));
+			TestSubject.assertTestCondition(object.size() == 7,
+					String.format("The JSON object %s should have 7 unique members.", object));
+			JsonValue[] expectedValues = new JsonValue[] {JsonNumber.valueOf(1), JsonNumber.valueOf(3),
+					JsonNumber.valueOf(9)};
+			JsonValue[] values = object.getValues(new JsonString("a"));
+			TestSubject.assertTestCondition(Arrays.equals(values, expectedValues),
+					String.format("The values %s should equal %s.", Arrays.toString(values),
+							Arrays.toString(expectedValues)));
+			TestSubject.assertTestCondition(object.get(new JsonString("b")).equals(JsonNumber.valueOf(2)),
+					String.format("The first value of b in %s should be 2.", object));
+			String names = Arrays.toString(object.getNames());
+			TestSubject.assertTestCondition(names.equals("[a, b, c, d, e, f, g]"),
+					String.format("The names %s should be in the order of their first members.", names));
+			object.add(new JsonString("c"), JsonNumber.valueOf(11));
+			String expected = testString.substring(0, testString.length() - 1) + ",\"c\":11}";
+			TestSubject.assertTestCondition(object.toJson().equals(expected) && object.size() == 7,
+					String.format("The JSON object %s should equal %s.", object, expected));
+		} catch (JsonStandardException e) {
+			throw new TestFailureException(String.format("Parsing %s failed.", testString), e);
+		}
+	}
+	
+	/**
+	 * Test removing and setting members of JSON objects of different sizes.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testRemovingSetting() throws TestFailureException {
+		for (int size : JsonMemberMapTesting.SIZES) {
+			JsonObject object = JsonMemberMapTesting.createObject(size);
+			JsonString duplicate = new JsonString("m" + size);
+			object.add(duplicate, JsonNumber.valueOf(-1));
+			// remove every other name
+			for (int i = size; i > 0; i -= 2) {
+				object.remove(new JsonString("m" + i));
+			}
+			object.remove(new JsonString("m0"));
+			TestSubject.assertTestCondition(object.size() == size / 2 && object.getValues(duplicate).length == 0,
+					String.format("The JSON object %s should have %s members.", object, size / 2));
+			for (int i = size - 1; i > 0; i -= 2) {
+				JsonString name = new JsonString("m" + i);
+				TestSubject.assertTestCondition(object.get(name).equals(JsonNumber.valueOf(size - i)),
+						String.format("The member %s of the JSON object %s should be %s.", name, object, size - i));
+				JsonValue previous = object.set(name, JsonNumber.valueOf(i));
+				TestSubject.assertTestCondition(previous.equals(JsonNumber.valueOf(size - i))
+						&& object.get(name).equals(JsonNumber.valueOf(i)),
+						String.format("Setting the member %s of the JSON object %s failed.", name, object));
+			}
+			JsonString added = new JsonString("added");
+			TestSubject.assertTestCondition(object.set(added, JsonNumber.valueOf(0)) == null
+					&& object.getNames()[object.size() - 1].equals(added),
+					String.format("Setting the missing member %s should add it to the end of %s.", added, object));
+			object.clear();
+			TestSubject.assertTestCondition(!object.hasMembers() && !object.hasMember(added)
+					&& object.toJson().equals("{}"),
+					String.format("The JSON object %s should be empty.", object));
+		}
+	}
+	
+	/**
+	 * Test whether the equality of JSON objects does not depend on the order of their names,
+	 * but on the order of duplicate values.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testEquality() throws TestFailureException {
+		for (int size : JsonMemberMapTesting.SIZES) {
+			JsonObject object = JsonMemberMapTesting.createObject(size);
+			JsonObject reversedObject = new JsonObject();
+			for (int i = 1; i <= size; i++) {
+				reversedObject.add(new JsonString("m" + i), JsonNumber.valueOf(size - i));
+			}
+			TestSubject.assertTestCondition(object.equals(reversedObject) && object.hashCode() == reversedObject.hashCode(),
+					String.format("The JSON object %s should equal %s.", object, reversedObject));
+			object.add(new JsonString("m1"), JsonNumber.valueOf(-1));
+			object.add(new JsonString("m1"), JsonNumber.valueOf(-2));
+			reversedObject.add(new JsonString("m1"), JsonNumber.valueOf(-2));
+			reversedObject.add(new JsonString("m1"), JsonNumber.valueOf(-1));
+			TestSubject.assertTestCondition(!object.equals(reversedObject),
+					String.format("The JSON object %s should not equal %s.", object, reversedObject));
+			reversedObject.remove(new JsonString("m1"));
+			reversedObject.add(new JsonString("m1"), JsonNumber.valueOf(size - 1));
+			reversedObject.add(new JsonString("m1"), JsonNumber.valueOf(-1));
+			reversedObject.add(new JsonString("m1"), JsonNumber.valueOf(-2));
+			TestSubject.assertTestCondition(object.equals(reversedObject) && object.hashCode() == reversedObject.hashCode(),
+					String.format("The JSON object %s should equal %s.", object, reversedObject));
+		}
+	}
+	
+	/**
+	 * Create a JSON object with the specified number of members, whose names are added in
+	 * descending order, so they are neither sorted nor in the order of their hashes.
+	 * 
+	 * @param size - the number of members
+	 * @return the created JSON object
+	 */
+	private static JsonObject createObject(int size) {
+		JsonObject object = new JsonObject();
+		for (int i = 0; i < size; i++) {
+			object.add(new JsonString("m" + (size - i)), JsonNumber.valueOf(i));
+		}
+		return object;
+	}
+	
+}
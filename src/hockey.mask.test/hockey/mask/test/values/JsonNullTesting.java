@@ -84,7 +84,8 @@ public class JsonNullTesting implements TestSubject {
 		}
 		// test parsing the correct string
 		try {
-			JsonNull.parse(JsonNull.JSON_NULL_VALUE);
+			TestSubject.assertTestCondition(JsonNull.parse(JsonNull.JSON_NULL_VALUE) == JsonNull.JSON_NULL, 
+					String.format("Parsing \"%s\" should result in the shared JSON null.", JsonNull.JSON_NULL_VALUE));
 		} catch (JsonStandardException e) {
 			throw new TestFailureException(String.format("Parsing \"%s\" should result in a "
 					+ " Json null", JsonNull.JSON_NULL_VALUE), e);
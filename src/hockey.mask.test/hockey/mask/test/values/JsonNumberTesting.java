@@ -19,6 +19,7 @@ public class JsonNumberTesting implements TestSubject {
 		JsonNumberTesting.testConstructors();
 		JsonNumberTesting.testGetValue();
 		JsonNumberTesting.testToJson();
+		JsonNumberTesting.testConversions();
 		JsonNumberTesting.testParsing();
 		JsonNumberTesting.testParsingNext();
 	}
@@ -233,6 +234,92 @@ public class JsonNumberTesting implements TestSubject {
 		}
 	}
 	
+	/**
+	 * Test the conversion of numbers, which are stored in different representations, to Java 
+	 * values and their comparison.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testConversions() throws TestFailureException {
+		String[] testStrings = new String[] {"0", "-0", "42", "-1.50", "1E3", "2.5e-3", "9223372036854775807", 
+				"-9223372036854775808", "123456789012345678901234567890.5", "1e400", "0.1"};
+		for (String testString : testStrings) {
+			try {
+				BigDecimal testValue = new BigDecimal(testString);
+				JsonNumber parsedNumber = JsonNumber.parse(testString);
+				JsonNumber decimalNumber = new JsonNumber(testValue);
+				TestSubject.assertTestCondition(parsedNumber.getValue().equals(testValue) 
+						&& parsedNumber.equals(decimalNumber) && parsedNumber.hashCode() == decimalNumber.hashCode()
+						&& parsedNumber.toJson().equals(testValue.toString()),
+						String.format("The JSON number %s parsed from \"%s\" should equal %s.", 
+								parsedNumber, testString, testValue));
+				TestSubject.assertTestCondition(parsedNumber.longValue() == testValue.longValue() 
+						&& Double.compare(parsedNumber.doubleValue(), testValue.doubleValue()) == 0
+						&& parsedNumber.isIntegral() == (testValue.signum() == 0 
+						|| testValue.stripTrailingZeros().scale() <= 0),
+						String.format("The JSON number %s should be converted like %s.", parsedNumber, testValue));
+			} catch (JsonStandardException e) {
+				throw new TestFailureException(String.format("Parsing the number \"%s\" failed.", testString), e);
+			}
+		}
+		// small integers are shared
+		try {
+			for (long testLong : new long[] {-128, -1, 0, 1, 1023}) {
+				JsonNumber sharedNumber = JsonNumber.valueOf(testLong);
+				TestSubject.assertTestCondition(sharedNumber == JsonNumber.valueOf(testLong) 
+						&& sharedNumber == JsonNumber.parse(Long.toString(testLong)) && sharedNumber.longValue() == testLong,
+						String.format("The JSON number %s should be shared.", sharedNumber));
+			}
+			for (long testLong : new long[] {-129, 1024, Long.MAX_VALUE}) {
+				JsonNumber number = JsonNumber.valueOf(testLong);
+				TestSubject.assertTestCondition(number.equals(new JsonNumber(testLong)) && number != JsonNumber.valueOf(testLong),
+						String.format("The JSON number %s should equal %s, but not be shared.", number, testLong));
+			}
+			TestSubject.assertTestCondition(JsonNumber.parse("-0") == JsonNumber.valueOf(0) 
+					&& JsonNumber.parse("1.0") != JsonNumber.valueOf(1) && JsonNumber.parse("1e0") != JsonNumber.valueOf(1),
+					"Only integers written without fraction and exponent should be shared.");
+		} catch (JsonStandardException e) {
+			throw new TestFailureException(e);
+		}
+		// the scale of numbers matters for equality, but not for comparison
+		try {
+			JsonNumber firstNumber = JsonNumber.parse("1.5");
+			JsonNumber secondNumber = JsonNumber.parse("1.50");
+			TestSubject.assertTestCondition(!firstNumber.equals(secondNumber) && firstNumber.compareTo(secondNumber) == 0,
+					String.format("The JSON number %s should not equal %s, but compare as equal.", 
+							firstNumber, secondNumber));
+			firstNumber = new JsonNumber(0.5d);
+			TestSubject.assertTestCondition(firstNumber.equals(JsonNumber.parse("0.5")) 
+					&& firstNumber.compareTo(new JsonNumber(1)) < 0 && new JsonNumber(-0d).equals(new JsonNumber(0d))
+					&& new JsonNumber(-0d).compareTo(new JsonNumber(0d)) == 0,
+					String.format("The JSON number %s should be compared by value.", firstNumber));
+		} catch (JsonStandardException e) {
+			throw new TestFailureException(e);
+		}
+		for (int i = 0; i < 10000; i++) {
+			long testLong = JsonNumberTesting.RANDOM.nextLong();
+			double testDouble = (JsonNumberTesting.RANDOM.nextDouble() - 0.5d) * 1e20d;
+			try {
+				JsonNumber longNumber = new JsonNumber(testLong);
+				JsonNumber doubleNumber = new JsonNumber(testDouble);
+				TestSubject.assertTestCondition(longNumber.longValue() == testLong && longNumber.isIntegral()
+						&& doubleNumber.doubleValue() == testDouble 
+						&& doubleNumber.longValue() == doubleNumber.getValue().longValue()
+						&& Double.compare(longNumber.doubleValue(), (double) testLong) == 0,
+						String.format("The JSON numbers %s and %s should hold %s and %s.", longNumber, doubleNumber, 
+								testLong, testDouble));
+				TestSubject.assertTestCondition(Integer.signum(longNumber.compareTo(doubleNumber)) 
+						== longNumber.getValue().compareTo(doubleNumber.getValue())
+						&& longNumber.equals(JsonNumber.parse(longNumber.toJson())) 
+						&& doubleNumber.equals(JsonNumber.parse(doubleNumber.toJson())),
+						String.format("The JSON numbers %s and %s should be compared by value.", longNumber, 
+								doubleNumber));
+			} catch (JsonStandardException e) {
+				throw new TestFailureException(e);
+			}
+		}
+	}
+	
 	/**
 	 * Test parsing JSON formatted numbers.
 	 * 
@@ -260,6 +347,18 @@ public class JsonNumberTesting implements TestSubject {
 			 * Do nothing as this is expected behaviour.
 			 */
 		}
+		// test whitespace between digits
+		for (String whitespaceString : new String[] {"1 2", "- 1", "1 .5", "1. 5", "1 e5", "1e 5", "1e- 5"}) {
+			try {
+				JsonNumber.parse(whitespaceString);
+				throw new TestFailureException(String.format("Parsing the number \"%s\" containing whitespace "
+						+ "should fail.", whitespaceString));
+			} catch (JsonStandardException e) {
+				/*
+				 * Do nothing as this is expected behaviour.
+				 */
+			}
+		}
 		// test random numbers
 		for (int i = 0; i < 10000; i++) {
 			// test correct numbers
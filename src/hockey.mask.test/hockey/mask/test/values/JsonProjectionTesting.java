@@ -0,0 +1,173 @@
+package hockey.mask.test.values;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.parser.JsonParseException;
+import hockey.mask.json.parser.JsonStreamParser;
+import hockey.mask.json.parser.JsonStringParser;
+import hockey.mask.json.values.JsonArray;
+import hockey.mask.json.values.JsonObject;
+import hockey.mask.json.values.JsonProjection;
+import hockey.mask.json.values.JsonString;
+import hockey.mask.json.values.JsonValue;
+import koro.sensei.tester.TestFailureException;
+import koro.sensei.tester.TestSubject;
+
+/**
+ * The JsonProjectionTesting class tests the JsonProjection class for correct functionality.
+ * 
+ * @author Planters
+ * 
+ */
+public class JsonProjectionTesting implements TestSubject {
+	
+	private static final Random RANDOM = new Random();
+	
+	@Override
+	public void runAllTests() throws TestFailureException {
+		JsonProjectionTesting.testConstructors();
+		JsonProjectionTesting.testKnownProjection();
+		JsonProjectionTesting.testRandomProjection();
+	}
+	
+	/**
+	 * Test the creation of projections.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testConstructors() throws TestFailureException {
+		String[] invalidDeclarations = new String[] {"{\"a\": false}", "{\"a\": 1}", "{\"a\": [true, true]}"};
+		for (String invalidDeclaration : invalidDeclarations) {
+			try {
+				new JsonProjection(JsonObject.parse(invalidDeclaration));
+				throw new TestFailureException(String.format("Creating the projection %s should fail.",
+						invalidDeclaration));
+			} catch (IllegalArgumentException e) {
+				/*
+				 * Do nothing as this is the expected behaviour.
+				 */
+			} catch (JsonStandardException e) {
+				throw new TestFailureException(String.format("Parsing %s failed.", invalidDeclaration), e);
+			}
+		}
+		try {
+			new JsonProjection("a/b");
+			throw new TestFailureException("Creating a projection of a pointer without leading slash should fail.");
+		} catch (IllegalArgumentException e) {
+			/*
+			 * Do nothing as this is the expected behaviour.
+			 */
+		}
+		try {
+			new JsonProjection((JsonObject) null);
+			throw new TestFailureException("Creating a projection of null should fail.");
+		} catch (NullPointerException e) {
+			/*
+			 * Do nothing as this is the expected behaviour.
+			 */
+		}
+	}
+	
+	/**
+	 * Test projecting a known document.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testKnownProjection() throws TestFailureException {
+		String testString = "{\"user\": {\"id\": 7, \"name\": \"n\\\"a}me\", \"tags\": [\"x\", {\"y\": []}]}, "
+				+ "\"items\": [{\"sku\": \"a\", \"price\": 1}, {\"price\": 2}, 3], \"a/b~\": null, \"other\": [[{}]]}";
+		try {
+			JsonValue expectedValue = JsonValue.parse("{\"user\": {\"id\": 7}, \"items\": [{\"sku\": \"a\"}, {}, 3]}");
+			JsonProjection[] projections = new JsonProjection[] {
+					new JsonProjection(JsonObject.parse("{\"user\": {\"id\": true}, \"items\": [{\"sku\": true}]}")),
+					new JsonProjection("/user/id", "/items/sku", "/user/id/unused")};
+			for (JsonProjection projection : projections) {
+				JsonValue projectedValue = projection.parse(testString);
+				TestSubject.assertTestCondition(expectedValue.equals(projectedValue),
+						String.format("The projection of \"%s\" should be %s, but is %s.", testString, expectedValue,
+								projectedValue));
+			}
+			JsonValue escapedValue = new JsonProjection("/a~1b~0").parse(testString);
+			TestSubject.assertTestCondition(escapedValue.equals(JsonValue.parse("{\"a/b~\": null}")),
+					String.format("The escaped pointer should project %s.", escapedValue));
+			TestSubject.assertTestCondition(new JsonProjection("").parse(testString).equals(JsonValue.parse(testString)),
+					"The empty pointer should project the entire value.");
+		} catch (JsonStandardException e) {
+			throw new TestFailureException(String.format("Projecting \"%s\" failed.", testString), e);
+		}
+		// skipped members are checked for balanced brackets
+		String invalidString = "{\"a\": 1, \"b\": [1}, \"c\": 2}";
+		JsonStringParser jp = null;
+		try {
+			jp = new JsonStringParser(invalidString);
+			new JsonProjection("/a").parseNext(jp);
+			throw new TestFailureException(String.format("Projecting \"%s\" should fail.", invalidString));
+		} catch (JsonParseException e) {
+			TestSubject.assertTestCondition(e.getPosition() == 16 && jp.getPosition() == 0,
+					String.format("Projecting \"%s\" should fail at position 16 without moving the parser, but "
+							+ "failed at %s.", invalidString, e.getPosition()));
+		} catch (JsonStandardException e) {
+			throw new TestFailureException(String.format("Projecting \"%s\" should throw a JsonParseException.",
+					invalidString), e);
+		}
+		// malformed data larger than the window of a stream parser
+		StringBuilder sb = new StringBuilder("{\"a\": 1, \"b\": [");
+		for (int i = 0; i < 100000; i++) {
+			sb.append("1,");
+		}
+		String largeString = sb.toString();
+		try (JsonStreamParser jsp = new JsonStreamParser(new StringReader(largeString), 64);) {
+			new JsonProjection("/a").parseNext(jsp);
+			throw new TestFailureException("Projecting the unterminated large object should fail.");
+		} catch (JsonParseException e) {
+			TestSubject.assertTestCondition(e.getPosition() == largeString.length(),
+					String.format("Projecting the unterminated large object should fail at position %s, but "
+							+ "failed at %s.", largeString.length(), e.getPosition()));
+		} catch (JsonStandardException | IOException e) {
+			throw new TestFailureException("Projecting the unterminated large object should throw a "
+					+ "JsonParseException.", e);
+		}
+	}
+	
+	/**
+	 * Test projecting random objects onto random members.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testRandomProjection() throws TestFailureException {
+		for (int i = 0; i < 1000; i++) {
+			JsonObject testObject = new JsonObject();
+			for (int j = 0; j < 10; j++) {
+				testObject.set(new JsonString("m" + j), JsonValueTesting.generateRandomValue());
+			}
+			JsonObject expectedObject = new JsonObject();
+			List<String> pointers = new ArrayList<String>();
+			for (JsonString name : testObject.getNames()) {
+				if (JsonProjectionTesting.RANDOM.nextInt(4) == 0) {
+					expectedObject.add(name, testObject.get(name));
+					pointers.add("/" + name.getValue());
+				}
+			}
+			JsonArray testArray = new JsonArray();
+			testArray.add(testObject);
+			testArray.add(testObject);
+			JsonArray expectedArray = new JsonArray();
+			expectedArray.add(expectedObject);
+			expectedArray.add(expectedObject);
+			try {
+				JsonValue projectedArray = new JsonProjection(pointers.toArray(String[]::new)).parse(testArray.toJson());
+				TestSubject.assertTestCondition(expectedArray.equals(projectedArray),
+						String.format("The projection of %s onto %s should be %s, but is %s.", testArray, pointers,
+								expectedArray, projectedArray));
+			} catch (JsonStandardException e) {
+				throw new TestFailureException(String.format("Projecting %s failed.", testArray), e);
+			}
+		}
+	}
+	
+}
@@ -1,9 +1,14 @@
 package hockey.mask.test.values;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.Random;
 
 import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.parser.JsonParser;
+import hockey.mask.json.parser.JsonStreamParser;
 import hockey.mask.json.parser.JsonStringParser;
 import hockey.mask.json.values.JsonString;
 import koro.sensei.tester.TestFailureException;
@@ -25,6 +30,7 @@ public class JsonStringTesting implements TestSubject {
 		JsonStringTesting.testToJson();
 		JsonStringTesting.testParsing();
 		JsonStringTesting.testParsingNext();
+		JsonStringTesting.testEscapes();
 	}
 	
 	/**
@@ -51,6 +57,15 @@ public class JsonStringTesting implements TestSubject {
 			 * Do nothing as this is expected behaviour.
 			 */
 		}
+		// test empty JSON strings, which are shared
+		try {
+			JsonString emptyString = JsonString.parse("\"\"");
+			TestSubject.assertTestCondition(emptyString == JsonString.JSON_EMPTY_STRING && emptyString.getValue().isEmpty(),
+					String.format("Parsing an empty JSON string should result in the shared empty string, but resulted "
+							+ "in \"%s\".", emptyString));
+		} catch (JsonStandardException e) {
+			throw new TestFailureException("Parsing an empty JSON string failed.", e);
+		}
 		// test JSON string
 		for (int i = 0; i < 10000; i++) {
 			// create random strings
@@ -102,6 +117,22 @@ public class JsonStringTesting implements TestSubject {
 							testString, perfectString, jsonTestString.toJson()));
 			
 		}
+		// test control characters, which have no short escape sequence, and non-ASCII characters
+		String[][] controlStrings = new String[][] {{"\u0000a\u001f", "\"\\u0000a\\u001f\""}, 
+				{"\u0001\n\u007f\u00e9\uD83D\uDE00", "\"\\u0001\\n\u007f\u00e9\uD83D\uDE00\""}, {"", "\"\""}};
+		for (String[] controlString : controlStrings) {
+			JsonString jsonTestString = new JsonString(controlString[0]);
+			StringWriter writer = new StringWriter();
+			try {
+				jsonTestString.appendJson(writer);
+			} catch (IOException e) {
+				throw new TestFailureException(String.format("Writing the JSON string %s failed.", controlString[1]), e);
+			}
+			TestSubject.assertTestCondition(jsonTestString.toJson().equals(controlString[1]) 
+					&& writer.toString().equals(controlString[1]),
+					String.format("The JSON representation of the Java string \"%s\" should equal %s, but is %s and "
+							+ "was written as %s.", controlString[0], controlString[1], jsonTestString.toJson(), writer));
+		}
 	}
 	
 	/**
@@ -225,4 +256,50 @@ public class JsonStringTesting implements TestSubject {
 		}
 	}
 	
+	/**
+	 * Test parsing escape sequences including unicode escape sequences with parsers, which 
+	 * hand out plain sections, and parsers, which are read character by character.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testEscapes() throws TestFailureException {
+		String[][] escapedStrings = new String[][] {{"\"caf\\u00e9\"", "caf\u00e9"}, 
+				{"\"\\uD83D\\uDE00 smile\"", "\uD83D\uDE00 smile"}, {"\"C:\\\\temp\\\\\"", "C:\\temp\\"},
+				{"\"\\u0041\\u00aF\\/\\b\\f\\n\\r\\t\\\"\"", "A\u00af/\b\f\n\r\t\""}, {"\"\\u0000\"", "\u0000"}};
+		for (String[] escapedString : escapedStrings) {
+			try {
+				JsonParser[] parsers = new JsonParser[] {new JsonStringParser(escapedString[0]), 
+						new JsonStreamParser(new StringReader(escapedString[0]))};
+				for (JsonParser parser : parsers) {
+					JsonString parsedString = JsonString.parseNext(parser);
+					TestSubject.assertTestCondition(parsedString.getValue().equals(escapedString[1]) && !parser.hasNext(),
+							String.format("The JSON string %s should be parsed as \"%s\" by %s, but was parsed as \"%s\".", 
+									escapedString[0], escapedString[1], parser, parsedString));
+				}
+			} catch (JsonStandardException e) {
+				throw new TestFailureException(String.format("Parsing the JSON string %s failed.", escapedString[0]), e);
+			}
+		}
+		String[] invalidStrings = new String[] {"\"\\x\"", "\"\\u00g0\"", "\"\\u12\"", "\"\\u\uFF11234\"", "\"abc\\", "\"abc\\u00"};
+		for (String invalidString : invalidStrings) {
+			try {
+				JsonParser[] parsers = new JsonParser[] {new JsonStringParser(invalidString), 
+						new JsonStreamParser(new StringReader(invalidString))};
+				for (JsonParser parser : parsers) {
+					try {
+						JsonString.parseNext(parser);
+						throw new TestFailureException(String.format("Parsing the JSON string %s should fail.", 
+								invalidString));
+					} catch (JsonStandardException e) {
+						TestSubject.assertTestCondition(parser.getPosition() == 0,
+								String.format("The JSON parser %s should be reset after failing to parse %s.", parser, 
+										invalidString));
+					}
+				}
+			} catch (JsonStandardException e) {
+				throw new TestFailureException("Creating the JSON parser failed.", e);
+			}
+		}
+	}
+	
 }
@@ -0,0 +1,106 @@
+package hockey.mask.test.values;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import hockey.mask.json.JsonStandardException;
+import hockey.mask.json.parser.JsonFeedTokenizer;
+import hockey.mask.json.parser.JsonParser;
+import hockey.mask.json.parser.JsonStringParser;
+import hockey.mask.json.parser.JsonTokenizer;
+import hockey.mask.json.parser.JsonUtf8Parser;
+import hockey.mask.json.values.JsonValue;
+import hockey.mask.json.values.JsonValueBuilder;
+import koro.sensei.tester.TestFailureException;
+import koro.sensei.tester.TestSubject;
+
+/**
+ * The JsonValueBuilderTesting class tests the JsonValueBuilder class for correct functionality.
+ * 
+ * @author Planters
+ *
+ */
+public class JsonValueBuilderTesting implements TestSubject {
+
+	@Override
+	public void runAllTests() throws TestFailureException {
+		JsonValueBuilderTesting.testBuilding();
+		JsonValueBuilderTesting.testIncompleteValues();
+	}
+	
+	/**
+	 * Test building random values from a tokenizer.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testBuilding() throws TestFailureException {
+		JsonValueBuilder builder = new JsonValueBuilder();
+		try {
+			builder.nextValue(null);
+			throw new TestFailureException("Building a value from null should fail.");
+		} catch (NullPointerException e) {
+			/*
+			 * Do nothing as this is expected behaviour.
+			 */
+		} catch (JsonStandardException e) {
+			throw new TestFailureException("Building a value from null should throw a NullPointerException.", e);
+		}
+		for (int i = 0; i < 3000; i++) {
+			JsonValue testValue = JsonValueTesting.generateRandomValue();
+			try {
+				String testString = testValue.toJson();
+				for (JsonParser jp : new JsonParser[] {new JsonStringParser(testString), 
+						new JsonUtf8Parser(testString.getBytes(StandardCharsets.UTF_8))}) {
+					JsonTokenizer tokenizer = new JsonTokenizer(jp);
+					JsonValue builtValue = builder.nextValue(tokenizer);
+					TestSubject.assertTestCondition(testValue.equals(builtValue), 
+							String.format("The value %s built from the JSON parser %s should equal %s.", 
+									builtValue, jp, testValue));
+					TestSubject.assertTestCondition(builder.nextValue(tokenizer) == null && !builder.isIncomplete(), 
+							String.format("No more values should be built from %s.", testValue));
+				}
+			} catch (JsonStandardException e) {
+				throw new TestFailureException(String.format("Building the value %s failed.", testValue), e);
+			}
+		}
+		String testString = "{\"n\u00E4me\": [\"caf\u00E9\", \"\uD83D\uDE00\", \"\u65E5\u672C\"]}";
+		try {
+			JsonValue builtValue = builder.nextValue(new JsonTokenizer(
+					new JsonUtf8Parser(testString.getBytes(StandardCharsets.UTF_8))));
+			TestSubject.assertTestCondition(JsonValue.parse(testString).equals(builtValue), 
+					String.format("The value %s built from UTF-8 encoded bytes should equal %s.", builtValue, 
+							testString));
+		} catch (JsonStandardException e) {
+			throw new TestFailureException(String.format("Building the value %s failed.", testString), e);
+		}
+	}
+	
+	/**
+	 * Test building values, which are not completely available yet.
+	 * 
+	 * @throws TestFailureException the test did fail
+	 */
+	private static void testIncompleteValues() throws TestFailureException {
+		try {
+			JsonFeedTokenizer tokenizer = new JsonFeedTokenizer();
+			JsonValueBuilder builder = new JsonValueBuilder();
+			tokenizer.feed(ByteBuffer.wrap("{\"a\": [1, {\"b\": tr".getBytes(StandardCharsets.UTF_8)));
+			TestSubject.assertTestCondition(builder.nextValue(tokenizer) == null && builder.isIncomplete(), 
+					"The partially fed value should not be built yet.");
+			tokenizer.feed(ByteBuffer.wrap("ue}]} 7".getBytes(StandardCharsets.UTF_8)));
+			JsonValue expectedValue = JsonValue.parse("{\"a\": [1, {\"b\": true}]}");
+			JsonValue builtValue = builder.nextValue(tokenizer);
+			TestSubject.assertTestCondition(expectedValue.equals(builtValue) && !builder.isIncomplete(), 
+					String.format("The built value %s should equal %s.", builtValue, expectedValue));
+			TestSubject.assertTestCondition(builder.nextValue(tokenizer) == null, 
+					"The number 7 should not be built before the end of the input.");
+			tokenizer.endOfInput();
+			builtValue = builder.nextValue(tokenizer);
+			TestSubject.assertTestCondition(JsonValue.parse("7").equals(builtValue), 
+					String.format("The built value %s should equal 7.", builtValue));
+		} catch (JsonStandardException e) {
+			throw new TestFailureException("Building the values failed.", e);
+		}
+	}
+	
+}
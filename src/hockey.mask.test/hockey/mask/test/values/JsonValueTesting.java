@@ -141,6 +141,24 @@ public class JsonValueTesting implements TestSubject {
 				throw new TestFailureException("Creating the JSON parser failed.", e);
 			}
 		}
+		// test values starting with a character no JSON value can start with
+		for (String invalidValue : new String[] {"  +1", "x", " ]", "}", ",true", ":null", "\t.5", "True", "  "}) {
+			try {
+				JsonStringParser jp = new JsonStringParser(invalidValue);
+				try {
+					JsonValue parsedValue = JsonValue.parseNext(jp);
+					throw new TestFailureException(String.format("Parsing of the string \"%s\" as JSON "
+							+ "value should fail, but resulted in %s.", invalidValue, parsedValue));
+				} catch (JsonStandardException e) {
+					TestSubject.assertTestCondition(jp.getPosition() == 0,
+							String.format("The JSON parser %s should be reset to position %s after "
+									+ "failing to parse, but is at %s.",
+									jp, 0, jp.getPosition()));
+				}
+			} catch (JsonStandardException e) {
+				throw new TestFailureException("Creating the JSON parser failed.", e);
+			}
+		}
 	}
 	
 	/**
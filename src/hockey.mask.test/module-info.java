@@ -9,10 +9,13 @@ module hockey.mask.test {
 	exports hockey.mask.test;
 	exports hockey.mask.test.parser;
 	exports hockey.mask.test.values;
-//	exports hockey.mask.test.io;
+	exports hockey.mask.test.benchmark;
+	exports hockey.mask.test.io;
+	exports hockey.mask.test.query;
 	
 	requires transitive hockey.mask.json;
 	requires java.base;
+	requires jdk.management;
 	requires koro.sensei.tester;
 	
 }
\ No newline at end of file